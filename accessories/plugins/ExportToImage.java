@@ -28,17 +28,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
 
 import javax.imageio.ImageIO;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import freemind.extensions.ExportHook;
+import freemind.main.Tools;
 
 /**
  * @author foltin
@@ -62,16 +62,48 @@ public class ExportToImage extends ExportHook {
 	 */
 	public void startupMapHook() {
 		super.startupMapHook();
+		String imageType = getResourceString("image_type");
+		if ("png".equals(imageType)) {
+			// large maps don't fit into a single image:
+			exportToTiledImage(imageType,
+					getResourceString("image_description"),
+					Tools.safeEquals(getResourceString("tile_pyramid"), "true"));
+			return;
+		}
 		BufferedImage image = createBufferedImage();
 		if (image != null) {
-			String imageType = getResourceString("image_type");
-
 			exportToImage(image, imageType,
 					getResourceString("image_description"));
 		}
 
 	}
 
+	/**
+	 * Export the map as png that is painted in bands or, if pTilePyramid is
+	 * set, as pyramid of png tiles into the directory "&lt;name&gt;_tiles".
+	 */
+	public boolean exportToTiledImage(String type, String description,
+			boolean pTilePyramid) {
+		File chosenFile = chooseFile(type, description, null);
+		if (chosenFile == null) {
+			return false;
+		}
+		try {
+			getController().getFrame().setWaitingCursor(true);
+			if (pTilePyramid) {
+				writeTilePyramid(new File(chosenFile.getParentFile(), chosenFile
+						.getName().replaceFirst("\\.[^.]*?$", "") + "_tiles"));
+			} else {
+				writePng(chosenFile);
+			}
+		} catch (IOException e1) {
+			freemind.main.Resources.getInstance().logException(e1);
+		} finally {
+			getController().getFrame().setWaitingCursor(false);
+		}
+		return true;
+	}
+
 	/**
 	 * Export image.
 	 */
@@ -96,19 +128,19 @@ public class ExportToImage extends ExportHook {
 		return true;
 	}
 
-	public void transForm(Source xmlSource, InputStream xsltStream,
-			File resultFile, String areaCode) throws FileNotFoundException {
-		// System.out.println("set xsl");
-		Source xsltSource = new StreamSource(xsltStream);
+	/**
+	 * @param xmlSource
+	 *            usually {@link #getMapSource()}.
+	 */
+	public void transForm(Source xmlSource, URL xsltUrl, File resultFile,
+			String areaCode) throws FileNotFoundException {
 		// System.out.println("set result");
-		Result result = new StreamResult(new FileOutputStream(resultFile));
+		OutputStream outputStream = new FileOutputStream(resultFile);
+		Result result = new StreamResult(outputStream);
 
-		// create an instance of TransformerFactory
 		try {
 			// System.out.println("make transform instance");
-			TransformerFactory transFact = TransformerFactory.newInstance();
-
-			Transformer trans = transFact.newTransformer(xsltSource);
+			Transformer trans = getTemplates(xsltUrl).newTransformer();
 			// set parameter:
 			// relative directory <filename>_files
 			trans.setParameter("destination_dir", resultFile.getName()
@@ -120,6 +152,12 @@ public class ExportToImage extends ExportHook {
 		} catch (Exception e) {
 			// System.err.println("error applying the xslt file "+e);
 			freemind.main.Resources.getInstance().logException(e);
+		} finally {
+			try {
+				outputStream.close();
+			} catch (IOException e) {
+				freemind.main.Resources.getInstance().logException(e);
+			}
 		}
 	}
 
@@ -23,13 +23,12 @@
  */
 package accessories.plugins;
 
+import java.awt.EventQueue;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.net.URL;
 import java.text.DateFormat;
 import java.util.Date;
@@ -38,11 +37,8 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import javax.xml.transform.Result;
-import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import freemind.extensions.ExportHook;
 import freemind.main.Tools;
@@ -82,54 +78,62 @@ public class ExportToOoWriter extends ExportHook {
 		if (chosenFile == null) {
 			return;
 		}
+		final File file = chosenFile;
+		final String xslts = getResourceString("files");
 		getController().getFrame().setWaitingCursor(true);
-		try {
-			exportToOoWriter(chosenFile);
-		} catch (IOException e) {
-			freemind.main.Resources.getInstance().logException(e);
-		}
-		getController().getFrame().setWaitingCursor(false);
+		new ExportTask(getNumberOfXsltFiles(xslts)) {
+			protected void export() throws Exception {
+				try {
+					exportToOoWriter(file, xslts);
+					if (isInterrupted()) {
+						file.delete();
+					}
+				} finally {
+					EventQueue.invokeLater(() -> getController().getFrame()
+							.setWaitingCursor(false));
+				}
+			}
+		}.start();
 	}
 
 	public boolean exportToOoWriter(File chosenFile) throws IOException {
-		// get output:
-		StringWriter writer = new StringWriter();
-		// get XML
-		getController().getMap().getFilteredXml(writer);
 		String xslts = getResourceString("files");
-		return exportToOoWriter(chosenFile, writer, xslts);
+		return exportToOoWriter(chosenFile, xslts);
+	}
+
+	private int getNumberOfXsltFiles(String xslts) {
+		int number = 0;
+		StringTokenizer tokenizer = new StringTokenizer(xslts, ",");
+		while (tokenizer.hasMoreTokens()) {
+			if (tokenizer.nextToken().split("->")[0].endsWith(".xsl")) {
+				number++;
+			}
+		}
+		return number;
 	}
 
 	/**
 	 * @return true, if successful.
 	 */
-	private boolean applyXsltFile(String xsltFileName, StringWriter writer,
-			Result result) throws IOException {
+	private boolean applyXsltFile(String xsltFileName, Result result)
+			throws IOException {
 		URL xsltUrl = getResource(xsltFileName);
 		if (xsltUrl == null) {
 			logger.severe("Can't find " + xsltFileName + " as resource.");
 			throw new IllegalArgumentException("Can't find " + xsltFileName
 					+ " as resource.");
 		}
-		InputStream xsltStream = xsltUrl.openStream();
-		// System.out.println("set xsl");
-		Source xsltSource = new StreamSource(xsltStream);
-
-		// create an instance of TransformerFactory
 		try {
-			StringReader reader = new StringReader(writer.getBuffer()
-					.toString());
-
 			// System.out.println("make transform instance");
-			TransformerFactory transFact = TransformerFactory.newInstance();
-
-			Transformer trans = transFact.newTransformer(xsltSource);
+			Transformer trans = getTemplates(xsltUrl).newTransformer();
 			trans.setParameter(
 					"date",
 					DateFormat.getDateInstance(DateFormat.SHORT).format(
 							new Date()));
 
-			trans.transform(new StreamSource(reader), result);
+			// each stylesheet reads the map again, but it is not kept as a
+			// string in between:
+			trans.transform(getMapSource(), result);
 			return true;
 		} catch (Exception e) {
 			// System.err.println("error applying the xslt file "+e);
@@ -138,7 +142,7 @@ public class ExportToOoWriter extends ExportHook {
 		}
 	}
 
-	public boolean exportToOoWriter(File file, StringWriter writer, String xslts)
+	public boolean exportToOoWriter(File file, String xslts)
 			throws IOException {
 		boolean resultValue = true;
 		ZipOutputStream zipout = new ZipOutputStream(new FileOutputStream(file));
@@ -154,7 +158,7 @@ public class ExportToOoWriter extends ExportHook {
 				if (files[0].endsWith(".xsl")) {
 					logger.info("Transforming with xslt " + files[0]
 							+ " to file " + files[1]);
-					resultValue &= applyXsltFile(files[0], writer, result);
+					resultValue &= applyXsltFile(files[0], result);
 				} else {
 					logger.info("Copying resource from " + files[0]
 							+ " to file " + files[1]);
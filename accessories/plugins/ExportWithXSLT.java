@@ -25,6 +25,7 @@
  */
 package accessories.plugins;
 
+import java.awt.EventQueue;
 import java.awt.image.BufferedImage;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -32,10 +33,8 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.net.URL;
 import java.util.StringTokenizer;
 import java.util.Vector;
@@ -45,9 +44,7 @@ import javax.swing.JOptionPane;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import accessories.plugins.util.html.ClickableImageCreator;
 import accessories.plugins.util.xslt.ExportDialog;
@@ -110,29 +107,53 @@ public class ExportWithXSLT extends ExportHook {
 			} else
 				export(model.getFile());
 		} else {
-			File saveFile = chooseFile();
+			final File saveFile = chooseFile();
 			if (saveFile == null) {
 				// no file.
 				return;
 			}
-			try {
-				mTransformResultWithoutError = true;
-				String transformErrors = transform(saveFile);
-				if (transformErrors != null) {
-					JOptionPane.showMessageDialog(null,
-							getResourceString(transformErrors), "Freemind",
-							JOptionPane.ERROR_MESSAGE);
-					mTransformResultWithoutError = false;
-				} else {
-					if (Tools
-							.safeEquals(getResourceString("load_file"), "true")) {
-						getController().getFrame().openDocument(
-								Tools.fileToUrl(saveFile));
+			// the view is used in the event dispatch thread only:
+			boolean create_image = Tools.safeEquals(
+					getResourceString("create_html_linked_image"), "true");
+			final String areaCode = getAreaCode(create_image);
+			final BufferedImage image = createImageFromMap(create_image);
+			mTransformResultWithoutError = true;
+			new ExportTask(1) {
+				protected void export() throws Exception {
+					String transformErrors = null;
+					try {
+						transformErrors = transform(saveFile, areaCode, image);
+					} catch (Exception e) {
+						freemind.main.Resources.getInstance().logException(e);
+						mTransformResultWithoutError = false;
+						return;
 					}
+					if (isInterrupted()) {
+						saveFile.delete();
+						return;
+					}
+					final String errors = transformErrors;
+					EventQueue.invokeLater(() -> showTransformResult(saveFile,
+							errors));
+				}
+			}.start();
+		}
+	}
+
+	private void showTransformResult(File saveFile, String transformErrors) {
+		if (transformErrors != null) {
+			JOptionPane.showMessageDialog(null,
+					getResourceString(transformErrors), "Freemind",
+					JOptionPane.ERROR_MESSAGE);
+			mTransformResultWithoutError = false;
+		} else {
+			if (Tools.safeEquals(getResourceString("load_file"), "true")) {
+				try {
+					getController().getFrame().openDocument(
+							Tools.fileToUrl(saveFile));
+				} catch (Exception e) {
+					freemind.main.Resources.getInstance().logException(e);
 				}
-			} catch (Exception e) {
-				freemind.main.Resources.getInstance().logException(e);
-				mTransformResultWithoutError = false;
 			}
 		}
 	}
@@ -148,7 +169,19 @@ public class ExportWithXSLT extends ExportHook {
 		// create HTML image?
 		boolean create_image = Tools.safeEquals(
 				getResourceString("create_html_linked_image"), "true");
-		String areaCode = getAreaCode(create_image);
+		return transform(saveFile, getAreaCode(create_image),
+				createImageFromMap(create_image));
+	}
+
+	/**
+	 * Can be called outside of the event dispatch thread, as long as the map
+	 * doesn't change.
+	 * 
+	 * @param image
+	 *            to be saved in the directory, if the html image is created.
+	 */
+	private String transform(File saveFile, String areaCode,
+			BufferedImage image) throws Exception {
 		// XSLT Transformation
 		String xsltFileName = getResourceString("xslt_file");
 		boolean success = transformMapWithXslt(xsltFileName, saveFile, areaCode);
@@ -180,8 +213,8 @@ public class ExportWithXSLT extends ExportHook {
 					&& Tools.safeEquals(getResourceString("copy_map"), "true")) {
 				success = copyMap(directoryName);
 			}
-			if (success && create_image) {
-				createImageFromMap(directoryName);
+			if (success && image != null) {
+				saveImage(directoryName, image);
 			}
 		}
 		if (!success) {
@@ -199,7 +232,11 @@ public class ExportWithXSLT extends ExportHook {
 		BufferedWriter fileout = new BufferedWriter(
 				new OutputStreamWriter(new FileOutputStream(pDirectoryName
 						+ File.separator + "map.mm")));
-		getController().getMap().getFilteredXml(fileout);
+		try {
+			writeMapXml(fileout);
+		} finally {
+			fileout.close();
+		}
 		return success;
 	}
 
@@ -217,13 +254,20 @@ public class ExportWithXSLT extends ExportHook {
 	}
 
 	/**
-     */
-	private void createImageFromMap(String directoryName) {
+	 * @return null, if no image is needed.
+	 */
+	private BufferedImage createImageFromMap(boolean create_image) {
 		// in the test case, we don't have a viewer and skip the image.
-		if (getController().getView() == null)
-			return;
+		if (!create_image || getController().getView() == null
+				|| !Tools.safeEquals(getResourceString("create_dir"), "true"))
+			return null;
 		// create image:
-		BufferedImage image = createBufferedImage();
+		return createBufferedImage();
+	}
+
+	/**
+     */
+	private void saveImage(String directoryName, BufferedImage image) {
 		try {
 			FileOutputStream out = new FileOutputStream(directoryName
 					+ File.separator + "image.png");
@@ -291,8 +335,6 @@ public class ExportWithXSLT extends ExportHook {
 	 */
 	private boolean transformMapWithXslt(String xsltFileName, File saveFile,
 			String areaCode) throws IOException {
-		StringWriter writer = getMapXml();
-		StringReader reader = new StringReader(writer.getBuffer().toString());
 		// search for xslt file:
 		URL xsltUrl = getResource(xsltFileName);
 		if (xsltUrl == null) {
@@ -300,19 +342,7 @@ public class ExportWithXSLT extends ExportHook {
 			throw new IllegalArgumentException("Can't find " + xsltFileName
 					+ " as resource.");
 		}
-		InputStream xsltFile = xsltUrl.openStream();
-		return transform(new StreamSource(reader), xsltFile, saveFile, areaCode);
-	}
-
-	/**
-	 * @throws IOException
-	 */
-	private StringWriter getMapXml() throws IOException {
-		// get output:
-		StringWriter writer = new StringWriter();
-		// get XML
-		getController().getMap().getFilteredXml(writer);
-		return writer;
+		return transform(getMapSource(), xsltUrl, saveFile, areaCode);
 	}
 
 	/**
@@ -335,19 +365,15 @@ public class ExportWithXSLT extends ExportHook {
 		exp.setVisible(true);
 	}
 
-	public boolean transform(Source xmlSource, InputStream xsltStream,
-			File resultFile, String areaCode) throws FileNotFoundException {
-		// System.out.println("set xsl");
-		Source xsltSource = new StreamSource(xsltStream);
+	public boolean transform(Source xmlSource, URL xsltUrl, File resultFile,
+			String areaCode) throws FileNotFoundException {
 		// System.out.println("set result");
-		Result result = new StreamResult(new FileOutputStream(resultFile));
+		OutputStream outputStream = new FileOutputStream(resultFile);
+		Result result = new StreamResult(outputStream);
 
-		// create an instance of TransformerFactory
 		try {
 			// System.out.println("make transform instance");
-			TransformerFactory transFact = TransformerFactory.newInstance();
-
-			Transformer trans = transFact.newTransformer(xsltSource);
+			Transformer trans = getTemplates(xsltUrl).newTransformer();
 			// set parameter:
 			// relative directory <filename>_files
 			trans.setParameter("destination_dir", Tools.fileToRelativeUrlString(new File(resultFile.getAbsolutePath()
@@ -360,8 +386,13 @@ public class ExportWithXSLT extends ExportHook {
 			// System.err.println("error applying the xslt file "+e);
 			freemind.main.Resources.getInstance().logException(e);
 			return false;
+		} finally {
+			try {
+				outputStream.close();
+			} catch (IOException e) {
+				freemind.main.Resources.getInstance().logException(e);
+			}
 		}
-		;
 		return true;
 	}
 
@@ -22,32 +22,57 @@ package accessories.plugins;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.TreeSet;
 
 import freemind.extensions.UndoEventReceiver;
+import freemind.main.Tools;
 import freemind.modes.MindIcon;
 import freemind.modes.MindMapNode;
 import freemind.modes.mindmapmode.hooks.PermanentMindMapNodeHookAdapter;
 import freemind.view.mindmapview.MultipleImage;
 
-/** */
+/**
+ * Shows the icons of the descendants of a node in little format. For each
+ * node, the number of descendants with a certain icon is kept, thus a change
+ * only updates the counts along the path to the root.
+ */
 public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 		implements UndoEventReceiver {
 
-	private HashMap /* of MindMapNode to a TreeSet */nodeIconSets = new HashMap();
+	/** Node -> the names of its own icons, if it has some. */
+	private HashMap<MindMapNode, TreeSet<String>> mOwnIcons = new HashMap<>();
+
+	/**
+	 * Node -> icon name -> number of descendants with this icon, if there are
+	 * some.
+	 */
+	private HashMap<MindMapNode, HashMap<String, Integer>> mDescendantIcons = new HashMap<>();
+
+	/** Node -> the names of the icons it shows. */
+	private HashMap<MindMapNode, String> mShownIcons = new HashMap<>();
+
+	/** Names of the icons -> image, shared by the nodes that show them. */
+	private HashMap<String, MultipleImage> mImages = new HashMap<>();
 
 	public void shutdownMapHook() {
 		// remove all icons:
 		MindMapNode root = getMindMapController().getRootNode();
 		removeIcons(root);
+		mOwnIcons.clear();
+		mDescendantIcons.clear();
+		mShownIcons.clear();
+		mImages.clear();
 		super.shutdownMapHook();
 	}
 
 	/**
      */
 	private void removeIcons(MindMapNode node) {
-		node.setStateIcon(getName(), null);
-		getMindMapController().nodeRefresh(node);
+		if (mShownIcons.containsKey(node)) {
+			node.setStateIcon(getName(), null);
+			getMindMapController().nodeRefresh(node);
+		}
 		for (Iterator i = node.childrenUnfolded(); i.hasNext();) {
 			MindMapNode child = (MindMapNode) i.next();
 			removeIcons(child);
@@ -62,64 +87,191 @@ public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 
 	}
 
+	/**
+	 * Shows the icons of the descendants that the node doesn't have itself.
+	 */
 	private void setStyle(MindMapNode node) {
-		// precondition: all children are contained in nodeIconSets
+		TreeSet<String> iconSet = new TreeSet<>();
+		HashMap<String, Integer> descendantIcons = mDescendantIcons.get(node);
+		if (descendantIcons != null) {
+			iconSet.addAll(descendantIcons.keySet());
+			TreeSet<String> ownIcons = mOwnIcons.get(node);
+			if (ownIcons != null) {
+				iconSet.removeAll(ownIcons);
+			}
+		}
+		String shownIcons = iconSet.isEmpty() ? null : iconSet.toString();
+		// look for a change:
+		if (Tools.safeEquals(shownIcons, mShownIcons.get(node))) {
+			return;
+		}
+		if (shownIcons != null) {
+			mShownIcons.put(node, shownIcons);
+			MultipleImage image = mImages.get(shownIcons);
+			if (image == null) {
+				// create multiple image:
+				image = new MultipleImage(0.75f);
+				for (String iconName : iconSet) {
+					MindIcon icon = MindIcon.factory(iconName);
+					image.addImage(icon.getIcon());
+				}
+				mImages.put(shownIcons, image);
+			}
+			node.setStateIcon(getName(), image);
+		} else {
+			mShownIcons.remove(node);
+			node.setStateIcon(getName(), null);
+		}
+		getMindMapController().nodeRefresh(node);
+	}
 
-		// gather all icons of my children and of me here:
-		TreeSet iconSet = new TreeSet();
+	/**
+	 * Counts the icons of the subtree of the node and sets the styles of its
+	 * nodes.
+	 */
+	private void addSubtree(MindMapNode node) {
+		HashMap<String, Integer> descendantIcons = new HashMap<>();
 		for (Iterator i = node.childrenUnfolded(); i.hasNext();) {
 			MindMapNode child = (MindMapNode) i.next();
-			addAccumulatedIconsToTreeSet(child, iconSet,
-					(TreeSet) nodeIconSets.get(child));
+			addSubtree(child);
+			addIcons(descendantIcons, child, 1);
 		}
-		// remove my icons from the treeset:
-		for (Iterator i = node.getIcons().iterator(); i.hasNext();) {
-			MindIcon icon = (MindIcon) i.next();
-			iconSet.remove(icon.getName());
+		setDescendantIcons(node, descendantIcons);
+		setOwnIcons(node, getOwnIcons(node));
+		setStyle(node);
+	}
+
+	/**
+	 * Forgets the counts of the subtree of the node.
+	 */
+	private void removeSubtree(MindMapNode node) {
+		mDescendantIcons.remove(node);
+		mOwnIcons.remove(node);
+		mShownIcons.remove(node);
+		for (Iterator i = node.childrenUnfolded(); i.hasNext();) {
+			removeSubtree((MindMapNode) i.next());
 		}
-		boolean dirty = true;
-		// look for a change:
-		if (nodeIconSets.containsKey(node)) {
-			TreeSet storedIconSet = (TreeSet) nodeIconSets.get(node);
-			if (storedIconSet.equals(iconSet)) {
-				dirty = false;
+	}
+
+	/**
+	 * Adds the icons of the node and its descendants to the counts.
+	 *
+	 * @param pSign
+	 *            1 to add, -1 to subtract.
+	 */
+	private void addIcons(HashMap<String, Integer> pCounts, MindMapNode node,
+			int pSign) {
+		TreeSet<String> ownIcons = mOwnIcons.get(node);
+		if (ownIcons != null) {
+			for (String iconName : ownIcons) {
+				addCount(pCounts, iconName, pSign);
 			}
 		}
-		nodeIconSets.put(node, iconSet);
+		HashMap<String, Integer> descendantIcons = mDescendantIcons.get(node);
+		if (descendantIcons != null) {
+			for (Map.Entry<String, Integer> entry : descendantIcons.entrySet()) {
+				addCount(pCounts, entry.getKey(), pSign * entry.getValue());
+			}
+		}
+	}
 
-		if (dirty) {
-			if (iconSet.size() > 0) {
-				// create multiple image:
-				MultipleImage image = new MultipleImage(0.75f);
-				for (Iterator i = iconSet.iterator(); i.hasNext();) {
-					String iconName = (String) i.next();
-					// logger.info("Adding icon "+iconName + " to node "+
-					// node.toString());
-					MindIcon icon = MindIcon.factory(iconName);
-					image.addImage(icon.getIcon());
-				}
-				node.setStateIcon(getName(), image);
-			} else {
-				node.setStateIcon(getName(), null);
+	/**
+	 * @return true, if the icon appeared or disappeared.
+	 */
+	private boolean addCount(HashMap<String, Integer> pCounts,
+			String pIconName, int pDelta) {
+		Integer count = pCounts.get(pIconName);
+		int newCount = (count == null ? 0 : count) + pDelta;
+		if (newCount == 0) {
+			pCounts.remove(pIconName);
+		} else {
+			pCounts.put(pIconName, newCount);
+		}
+		return count == null || newCount == 0;
+	}
+
+	/**
+	 * Applies the change of the counts to the node and its ancestors.
+	 */
+	private void addToAncestors(MindMapNode node, HashMap<String, Integer> pDelta) {
+		if (pDelta.isEmpty()) {
+			return;
+		}
+		for (; node != null; node = node.getParentNode()) {
+			HashMap<String, Integer> descendantIcons = mDescendantIcons
+					.get(node);
+			if (descendantIcons == null) {
+				descendantIcons = new HashMap<>();
+			}
+			boolean changed = false;
+			for (Map.Entry<String, Integer> entry : pDelta.entrySet()) {
+				changed |= addCount(descendantIcons, entry.getKey(),
+						entry.getValue());
+			}
+			setDescendantIcons(node, descendantIcons);
+			if (changed) {
+				setStyle(node);
 			}
-			getMindMapController().nodeRefresh(node);
 		}
+	}
 
+	/**
+	 * Takes changes of the own icons of the node into account.
+	 */
+	private void updateOwnIcons(MindMapNode node) {
+		TreeSet<String> ownIcons = getOwnIcons(node);
+		TreeSet<String> oldOwnIcons = mOwnIcons.get(node);
+		if (Tools.safeEquals(ownIcons.isEmpty() ? null : ownIcons,
+				oldOwnIcons)) {
+			return;
+		}
+		if (!isIndexed(node)) {
+			// e.g. removed in the same transaction:
+			return;
+		}
+		HashMap<String, Integer> delta = new HashMap<>();
+		addIcons(delta, node, -1);
+		setOwnIcons(node, ownIcons);
+		addIcons(delta, node, 1);
+		setStyle(node);
+		addToAncestors(node.getParentNode(), delta);
 	}
 
 	/**
-     */
-	private void addAccumulatedIconsToTreeSet(MindMapNode child,
-			TreeSet iconSet, TreeSet childsTreeSet) {
-		for (Iterator i = child.getIcons().iterator(); i.hasNext();) {
+	 * @return true, if the node belongs to the nodes of this hook.
+	 */
+	private boolean isIndexed(MindMapNode node) {
+		for (; node != null; node = node.getParentNode()) {
+			if (node == getNode()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TreeSet<String> getOwnIcons(MindMapNode node) {
+		TreeSet<String> ownIcons = new TreeSet<>();
+		for (Iterator i = node.getIcons().iterator(); i.hasNext();) {
 			MindIcon icon = (MindIcon) i.next();
-			iconSet.add(icon.getName());
+			ownIcons.add(icon.getName());
 		}
-		if (childsTreeSet == null)
-			return;
-		for (Iterator i = childsTreeSet.iterator(); i.hasNext();) {
-			String iconName = (String) i.next();
-			iconSet.add(iconName);
+		return ownIcons;
+	}
+
+	private void setOwnIcons(MindMapNode node, TreeSet<String> pOwnIcons) {
+		if (pOwnIcons.isEmpty()) {
+			mOwnIcons.remove(node);
+		} else {
+			mOwnIcons.put(node, pOwnIcons);
+		}
+	}
+
+	private void setDescendantIcons(MindMapNode node,
+			HashMap<String, Integer> pDescendantIcons) {
+		if (pDescendantIcons.isEmpty()) {
+			mDescendantIcons.remove(node);
+		} else {
+			mDescendantIcons.put(node, pDescendantIcons);
 		}
 	}
 
@@ -133,13 +285,19 @@ public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 	public void onAddChildren(MindMapNode newChildNode) {
 		logger.finest("onAddChildren " + newChildNode);
 		super.onAddChild(newChildNode);
-		setStyleRecursive(newChildNode);
+		addSubtree(newChildNode);
+		HashMap<String, Integer> delta = new HashMap<>();
+		addIcons(delta, newChildNode, 1);
+		addToAncestors(newChildNode.getParentNode(), delta);
 	}
 
 	public void onRemoveChildren(MindMapNode removedChild, MindMapNode oldDad) {
 		logger.finest("onRemoveChildren " + removedChild);
 		super.onRemoveChildren(removedChild, oldDad);
-		setStyleRecursive(oldDad);
+		HashMap<String, Integer> delta = new HashMap<>();
+		addIcons(delta, removedChild, -1);
+		removeSubtree(removedChild);
+		addToAncestors(oldDad, delta);
 	}
 
 	/*
@@ -151,7 +309,7 @@ public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 	 */
 	public void onUpdateChildrenHook(MindMapNode updatedNode) {
 		super.onUpdateChildrenHook(updatedNode);
-		setStyleRecursive(updatedNode);
+		updateOwnIcons(updatedNode);
 	}
 
 	/*
@@ -161,7 +319,7 @@ public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 	 */
 	public void onUpdateNodeHook() {
 		super.onUpdateNodeHook();
-		setStyle(getNode());
+		updateOwnIcons(getNode());
 	}
 
 	/*
@@ -171,49 +329,7 @@ public class HierarchicalIcons extends PermanentMindMapNodeHookAdapter
 	 */
 	public void invoke(MindMapNode node) {
 		super.invoke(node);
-		gatherLeavesAndSetStyle(node);
-		gatherLeavesAndSetParentsStyle(node);
-	}
-
-	/**
-     */
-	private void gatherLeavesAndSetStyle(MindMapNode node) {
-		if (node.getChildCount() == 0) {
-			// call setStyle for all leaves:
-			setStyle(node);
-			return;
-		}
-		for (Iterator i = node.childrenUnfolded(); i.hasNext();) {
-			MindMapNode child = (MindMapNode) i.next();
-			gatherLeavesAndSetStyle(child);
-		}
-	}
-
-	/**
-     */
-	private void gatherLeavesAndSetParentsStyle(MindMapNode node) {
-		if (node.getChildCount() == 0) {
-			// call setStyleRecursive for all parents:
-			if (node.getParentNode() != null) {
-				setStyleRecursive(node.getParentNode());
-			}
-			return;
-		}
-		for (Iterator i = node.childrenUnfolded(); i.hasNext();) {
-			MindMapNode child = (MindMapNode) i.next();
-			gatherLeavesAndSetParentsStyle(child);
-		}
-	}
-
-	/**
-     */
-	private void setStyleRecursive(MindMapNode node) {
-		// logger.finest("setStyle " + node);
-		setStyle(node);
-		// recurse:
-		if (node.getParentNode() != null) {
-			setStyleRecursive(node.getParentNode());
-		}
+		addSubtree(node);
 	}
 
 }
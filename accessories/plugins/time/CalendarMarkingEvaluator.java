@@ -21,6 +21,8 @@
 package accessories.plugins.time;
 
 import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Set;
@@ -30,13 +32,22 @@ import freemind.controller.actions.generated.instance.CalendarMarking;
 import freemind.controller.actions.generated.instance.CalendarMarkings;
 
 /**
+ * The marked days are evaluated month by month: on the first request of a
+ * day of a month, the occurrences of all markings in this month are put into
+ * an index that is used until the markings are changed.
+ * 
  * @author foltin
  * @date 05.07.2015
  */
 public class CalendarMarkingEvaluator implements ICalendarMarkingEvaluator {
 
+	private static final long DAY_MILLIS = 24l * 60 * 60 * 1000;
+
 	private CalendarMarkings mCalendarMarkings;
-	private HashMap<Long, CalendarMarking> mCache = new HashMap<>();
+	/** year * 12 + month -> marking per day of the month (index 1..31). */
+	private HashMap<Integer, CalendarMarking[]> mMonths = new HashMap<>();
+	/** The occurrences of the markings, created on demand. */
+	private ArrayList<Occurrences> mOccurrences = null;
 
 	private static interface RepetitionHandler {
 
@@ -276,6 +287,138 @@ public class CalendarMarkingEvaluator implements ICalendarMarkingEvaluator {
 	}
 	
 	
+	/**
+	 * The occurrences of a marking. They are walked with the handler only
+	 * once and remembered, apart from the daily and weekly ones that are
+	 * computed directly for the requested month.
+	 */
+	private static class Occurrences {
+		private final CalendarMarking mMarking;
+		private final RepetitionHandler mHandler;
+		/** null, if there is no occurrence at all. */
+		private final Calendar mFirst;
+		/** The next occurrence to be walked, null after the last one. */
+		private Calendar mNext;
+		private long[] mTimes = new long[16];
+		/** See {@link CalendarMarkingEvaluator#getDayKey(Calendar)}. */
+		private int[] mDays = new int[16];
+		private int mSize = 0;
+
+		public Occurrences(CalendarMarking pMarking, RepetitionHandler pHandler) {
+			mMarking = pMarking;
+			mHandler = pHandler;
+			Calendar first = Calendar.getInstance();
+			first.setTimeInMillis(pMarking.getStartDate());
+			first = pHandler.getFirst(first, pMarking);
+			mFirst = (first == null) ? null : (Calendar) first.clone();
+			mNext = first;
+		}
+
+		private void walk() {
+			if (mSize == mTimes.length) {
+				mTimes = Arrays.copyOf(mTimes, 2 * mSize);
+				mDays = Arrays.copyOf(mDays, 2 * mSize);
+			}
+			long time = mNext.getTimeInMillis();
+			mTimes[mSize] = time;
+			mDays[mSize] = getDayKey(mNext);
+			mSize++;
+			mNext = mHandler.getNext(mNext, mMarking);
+			if (mNext != null && mNext.getTimeInMillis() <= time) {
+				logger.severe("Next doesn't work for " + mMarking.getName()
+						+ ": " + mNext.getTime());
+				mNext = null;
+			}
+		}
+
+		/**
+		 * Adds the first pCount occurrences (or less, if there aren't as
+		 * many).
+		 */
+		public void addFirst(int pCount, Set<Calendar> pResult) {
+			while (mSize < pCount && mNext != null) {
+				walk();
+			}
+			for (int i = 0; i < Math.min(pCount, mSize); i++) {
+				Calendar day = Calendar.getInstance();
+				day.setTimeInMillis(mTimes[i]);
+				pResult.add(day);
+			}
+		}
+
+		/**
+		 * Sets the marking to the days of the month that have an occurrence
+		 * and aren't marked, yet.
+		 */
+		public void mark(Calendar pMonthStart, int pFirstDay, int pLastDay,
+				CalendarMarking[] pDays) {
+			if (mFirst == null) {
+				return;
+			}
+			int step;
+			String repeatType = mMarking.getRepeatType();
+			if (CalendarMarking.DAILY.equals(repeatType)) {
+				step = mMarking.getRepeatEachNOccurence();
+			} else if (CalendarMarking.WEEKLY.equals(repeatType)) {
+				step = 7 * mMarking.getRepeatEachNOccurence();
+			} else {
+				while (mNext != null
+						&& (mSize == 0 || mDays[mSize - 1] <= pLastDay)) {
+					walk();
+				}
+				int index = Arrays.binarySearch(mDays, 0, mSize, pFirstDay);
+				if (index < 0) {
+					index = -index - 1;
+				} else {
+					// the first occurrence on that day:
+					while (index > 0 && mDays[index - 1] == pFirstDay) {
+						index--;
+					}
+				}
+				for (; index < mSize && mDays[index] <= pLastDay; index++) {
+					markDay(mDays[index], pDays);
+				}
+				return;
+			}
+			// jump to an occurrence shortly before the month, one step less
+			// because of daylight saving time:
+			long steps = (pMonthStart.getTimeInMillis() - mFirst
+					.getTimeInMillis()) / (step * DAY_MILLIS) - 1;
+			Calendar day = (Calendar) mFirst.clone();
+			if (steps > 0) {
+				day.add(Calendar.DAY_OF_YEAR, (int) (steps * step));
+				day = ((BasicRepetitionHandler) mHandler).compareIfStillBefore(
+						day, mMarking);
+			}
+			while (day != null) {
+				int dayKey = getDayKey(day);
+				if (dayKey > pLastDay) {
+					break;
+				}
+				if (dayKey >= pFirstDay) {
+					markDay(dayKey, pDays);
+				}
+				day = mHandler.getNext(day, mMarking);
+			}
+		}
+
+		private void markDay(int pDayKey, CalendarMarking[] pDays) {
+			int dayOfMonth = pDayKey % 32;
+			if (pDays[dayOfMonth] == null) {
+				pDays[dayOfMonth] = mMarking;
+			}
+		}
+	}
+
+	/**
+	 * @return a number that increases with the day and contains the day of
+	 *         the month in its lower five bits.
+	 */
+	private static int getDayKey(Calendar pDay) {
+		return (pDay.get(Calendar.YEAR) * 12 + pDay.get(Calendar.MONTH)) * 32
+				+ pDay.get(Calendar.DAY_OF_MONTH);
+	}
+
 	private static HashMap<String, RepetitionHandler> sHandlerMap;
 	protected static java.util.logging.Logger logger = null;
 
@@ -303,92 +446,61 @@ public class CalendarMarkingEvaluator implements ICalendarMarkingEvaluator {
 
 	public Set<Calendar> getAtLeastTheFirstNEntries(int n){
 		Set<Calendar> retValue = new TreeSet<>();
-		for (int i = 0; i < mCalendarMarkings.sizeCalendarMarkingList(); i++) {
-			int count = 0;
-			CalendarMarking marking = mCalendarMarkings.getCalendarMarking(i);
-			// common error for self written entries:
-			if(marking.getRepeatEachNOccurence()==0){
-				marking.setRepeatEachNOccurence(1);
-			}
-			// get first occurrence:
-			Calendar firstDay = Calendar.getInstance();
-			firstDay.setTimeInMillis(marking.getStartDate());
-			String repeatType = marking.getRepeatType();
-			if(!sHandlerMap.containsKey(repeatType)){
-				logger.severe("Repeat type " + repeatType + " unknown.");
-				continue;
-			}
-			RepetitionHandler handler = sHandlerMap
-					.get(repeatType);
-			firstDay = handler.getFirst(firstDay, marking);
-			if(firstDay == null){
-				continue;
-			}
-			while(count<n){
-				retValue.add((Calendar) firstDay.clone());
-				firstDay = handler.getNext(firstDay, marking);
-				if(firstDay == null){
-					break;
+		for (Occurrences occurrences : getOccurrences()) {
+			occurrences.addFirst(n, retValue);
+		}
+		return retValue;
+	}
+
+	private ArrayList<Occurrences> getOccurrences() {
+		if (mOccurrences == null) {
+			mOccurrences = new ArrayList<>();
+			for (int i = 0; i < mCalendarMarkings.sizeCalendarMarkingList(); i++) {
+				CalendarMarking marking = mCalendarMarkings.getCalendarMarking(i);
+				// common error for self written entries:
+				if(marking.getRepeatEachNOccurence()==0){
+					marking.setRepeatEachNOccurence(1);
+				}
+				String repeatType = marking.getRepeatType();
+				if(!sHandlerMap.containsKey(repeatType)){
+					logger.severe("Repeat type " + repeatType + " unknown.");
+					continue;
 				}
-				count++;
+				mOccurrences.add(new Occurrences(marking, sHandlerMap
+						.get(repeatType)));
 			}
 		}
-		return retValue;
+		return mOccurrences;
 	}
 	
-	
 	/* (non-Javadoc)
 	 * @see accessories.plugins.time.ICalenderMarkingEvaluator#isMarked(java.util.Calendar)
 	 */
 	@Override
 	public CalendarMarking isMarked(Calendar pCalendar) {
-		long millies = pCalendar.getTimeInMillis();
-		if(mCache.containsKey(millies)) {
-			return mCache.get(millies);
-		}
-		pCalendar = (Calendar) pCalendar.clone();
-		for (int i = 0; i < mCalendarMarkings.sizeCalendarMarkingList(); i++) {
-			CalendarMarking marking = mCalendarMarkings.getCalendarMarking(i);
-			// common error for self written entries:
-			if(marking.getRepeatEachNOccurence()==0){
-				marking.setRepeatEachNOccurence(1);
-			}
-			// get first occurrence:
-			Calendar firstDay = Calendar.getInstance();
-			firstDay.setTimeInMillis(marking.getStartDate());
-			RepetitionHandler handler = sHandlerMap
-					.get(marking.getRepeatType());
-			firstDay = handler.getFirst(firstDay, marking);
-			if(firstDay == null){
-				continue;
-			}
-			if (equal(pCalendar, firstDay)) {
-				mCache.put(millies, marking);
-				return marking;
-			}
-			while(pCalendar.compareTo(firstDay)>=0){
-				firstDay = handler.getNext(firstDay, marking);
-				if(firstDay == null){
-					break;
-				}
-				if (equal(pCalendar, firstDay)) {
-					mCache.put(millies, marking);
-					return marking;
-				}
+		int month = pCalendar.get(Calendar.YEAR) * 12
+				+ pCalendar.get(Calendar.MONTH);
+		CalendarMarking[] days = mMonths.get(month);
+		if (days == null) {
+			Calendar monthStart = (Calendar) pCalendar.clone();
+			monthStart.set(Calendar.DAY_OF_MONTH, 1);
+			monthStart.set(Calendar.HOUR_OF_DAY, 0);
+			monthStart.set(Calendar.MINUTE, 0);
+			monthStart.set(Calendar.SECOND, 0);
+			monthStart.set(Calendar.MILLISECOND, 0);
+			int firstDay = getDayKey(monthStart);
+			int lastDay = firstDay - 1
+					+ monthStart.getActualMaximum(Calendar.DAY_OF_MONTH);
+			days = new CalendarMarking[32];
+			// the first marking wins:
+			for (Occurrences occurrences : getOccurrences()) {
+				occurrences.mark(monthStart, firstDay, lastDay, days);
 			}
+			mMonths.put(month, days);
 		}
-		mCache.put(millies, null);
-		return null;
+		return days[pCalendar.get(Calendar.DAY_OF_MONTH)];
 	}
 
-	private boolean equal(Calendar pCalendar, Calendar pOtherDay) {
-		return pCalendar.get(Calendar.YEAR) == pOtherDay.get(Calendar.YEAR)
-				&& pCalendar.get(Calendar.MONTH) == pOtherDay
-						.get(Calendar.MONTH)
-				&& pCalendar.get(Calendar.DAY_OF_MONTH) == pOtherDay
-						.get(Calendar.DAY_OF_MONTH);
-	}
-	
 	/**
 	 * Don't use for endless repetitions!
 	 */
@@ -419,6 +531,7 @@ public class CalendarMarkingEvaluator implements ICalendarMarkingEvaluator {
 	@Override
 	public void changeMarkings(CalendarMarkings pMarkings) {
 		mCalendarMarkings = pMarkings;
-		mCache.clear();
+		mMonths.clear();
+		mOccurrences = null;
 	}
 }
@@ -49,6 +49,8 @@ public abstract class FreeMindTask extends Thread {
 	private RootPaneContainer mFrame;
 	private JPanel mGlass;
 	private Component mOldGlassPane;
+	private long mStartTime;
+	private boolean mProgressMonitorShown = false;
 
 	protected class ProgressDescription {
 		/**
@@ -103,7 +105,7 @@ public abstract class FreeMindTask extends Thread {
 	 * @see java.lang.Thread#run()
 	 */
 	public void run() {
-		long startTime = System.currentTimeMillis();
+		mStartTime = System.currentTimeMillis();
 		mRounds = 0;
 		boolean again = true;
 		while (again) {
@@ -124,24 +126,8 @@ public abstract class FreeMindTask extends Thread {
 			if (isInterrupted()) {
 				again = false;
 			}
-			if (System.currentTimeMillis() - startTime > TIME_TO_DISPLAY_PROGRESS_BAR_IN_MILLIS) {
-				// mProgressMonitor.setModal(true);
-				EventQueue.invokeLater(() -> mProgressMonitor.setVisible(true));
-			}
-			if (mProgressMonitor.isVisible()) {
-				ProgressDescription progressDescription = mProgressDescription;
-				if (mProgressDescription == null) {
-					progressDescription = new ProgressDescription(
-							"FreeMindTask.Default", new Object[] { new Integer(
-									mRounds) });
-				}
-				boolean canceled = mProgressMonitor.showProgress(mRounds,
-						mAmountOfSteps, progressDescription.mProgressString,
-						progressDescription.mProgressParameters);
-				if (canceled) {
-					mInterrupted = true;
-					again = false;
-				}
+			if (showProgress(mRounds)) {
+				again = false;
 			}
 		}
 		setFinished(true);
@@ -152,6 +138,37 @@ public abstract class FreeMindTask extends Thread {
         });
 	}
 
+	/**
+	 * Displays the progress, if the task takes longer than
+	 * TIME_TO_DISPLAY_PROGRESS_BAR_IN_MILLIS. Tasks that do all of their work
+	 * in one action can call it from {@link #processAction()}.
+	 * 
+	 * @return true, if the task was canceled.
+	 */
+	protected boolean showProgress(int pCurrent) {
+		if (!mProgressMonitorShown
+				&& System.currentTimeMillis() - mStartTime > TIME_TO_DISPLAY_PROGRESS_BAR_IN_MILLIS) {
+			// mProgressMonitor.setModal(true);
+			mProgressMonitorShown = true;
+			EventQueue.invokeLater(() -> mProgressMonitor.setVisible(true));
+		}
+		if (mProgressMonitor.isVisible()) {
+			ProgressDescription progressDescription = mProgressDescription;
+			if (mProgressDescription == null) {
+				progressDescription = new ProgressDescription(
+						"FreeMindTask.Default", new Object[] { new Integer(
+								pCurrent) });
+			}
+			boolean canceled = mProgressMonitor.showProgress(pCurrent,
+					mAmountOfSteps, progressDescription.mProgressString,
+					progressDescription.mProgressParameters);
+			if (canceled) {
+				mInterrupted = true;
+			}
+		}
+		return mInterrupted;
+	}
+
 	/**
 	 * Subclasses should process one single action out of the set of its actions
 	 * and then return. The method is directly called again by the task
@@ -0,0 +1,138 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.common;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+import freemind.controller.actions.generated.instance.XmlAction;
+
+/**
+ * Copies the generated xml actions field by field, instead of marshalling and
+ * unmarshalling them. The strings are immutable and thus shared with the
+ * original, only the action objects and their lists are new. On the way, the
+ * memory of the copies is estimated, see {@link #getSize()}.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class XmlActionCopier {
+
+	private static final String GENERATED_PACKAGE = XmlAction.class
+			.getPackage().getName() + ".";
+
+	/** Estimated bytes of an object without its fields. */
+	private static final int OBJECT_SIZE = 16;
+
+	/** Estimated bytes of a field or a list element. */
+	private static final int FIELD_SIZE = 8;
+
+	/**
+	 * The constructor and the fields of a generated class.
+	 */
+	private static class ClassInfo {
+		private final Constructor mConstructor;
+		private final Field[] mFields;
+
+		ClassInfo(Class pClass) throws NoSuchMethodException {
+			mConstructor = pClass.getDeclaredConstructor();
+			mConstructor.setAccessible(true);
+			ArrayList<Field> fields = new ArrayList<>();
+			for (Class c = pClass; c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			mFields = fields.toArray(new Field[fields.size()]);
+		}
+	}
+
+	private static final ConcurrentHashMap<Class, ClassInfo> sClassInfos = new ConcurrentHashMap<>();
+
+	private long mSize = 0;
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if the action contains objects that aren't generated from
+	 *             the xml schema.
+	 */
+	public XmlAction copy(XmlAction pAction) {
+		try {
+			return (XmlAction) copyValue(pAction);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * @return the estimated bytes of all copies made by this copier,
+	 *         including the shared strings.
+	 */
+	public long getSize() {
+		return mSize;
+	}
+
+	private Object copyValue(Object pValue)
+			throws ReflectiveOperationException {
+		if (pValue == null) {
+			return null;
+		}
+		if (pValue instanceof String) {
+			mSize += OBJECT_SIZE + 2L * ((String) pValue).length();
+			return pValue;
+		}
+		if (pValue instanceof ArrayList) {
+			ArrayList list = (ArrayList) pValue;
+			ArrayList copy = new ArrayList(list.size());
+			mSize += OBJECT_SIZE + FIELD_SIZE * list.size();
+			for (Object element : list) {
+				copy.add(copyValue(element));
+			}
+			return copy;
+		}
+		Class valueClass = pValue.getClass();
+		if (!valueClass.getName().startsWith(GENERATED_PACKAGE)) {
+			throw new IllegalArgumentException("Can't copy " + valueClass);
+		}
+		ClassInfo info = sClassInfos.get(valueClass);
+		if (info == null) {
+			info = new ClassInfo(valueClass);
+			sClassInfos.put(valueClass, info);
+		}
+		Object copy = info.mConstructor.newInstance();
+		mSize += OBJECT_SIZE;
+		for (Field field : info.mFields) {
+			mSize += FIELD_SIZE;
+			if (field.getType().isPrimitive()) {
+				field.set(copy, field.get(pValue));
+			} else {
+				field.set(copy, copyValue(field.get(pValue)));
+			}
+		}
+		return copy;
+	}
+}
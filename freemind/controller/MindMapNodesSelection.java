@@ -28,10 +28,19 @@ import java.awt.datatransfer.DataFlavor;
 import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.ByteArrayInputStream;
+import java.util.HashMap;
 import java.util.List;
 
 public class MindMapNodesSelection implements Transferable, ClipboardOwner {
 
+	/**
+	 * Creates the content of a flavor, when it is requested for the first
+	 * time. It may be called outside of the event dispatch thread.
+	 */
+	public interface LazyContent {
+		String create();
+	}
+
 	private String nodesContent;
 	private String stringContent;
 	private String imageContent;
@@ -40,6 +49,8 @@ public class MindMapNodesSelection implements Transferable, ClipboardOwner {
 	private String dropActionContent;
 	private final List fileList;
 	private List nodeIdsContent;
+	/** DataFlavor -> LazyContent, removed when the content is created. */
+	private final HashMap lazyContents = new HashMap();
 	public static DataFlavor mindMapNodesFlavor = null;
 	public static DataFlavor rtfFlavor = null;
 	public static DataFlavor htmlFlavor = null;
@@ -86,8 +97,37 @@ public class MindMapNodesSelection implements Transferable, ClipboardOwner {
 		this.nodeIdsContent = nodeIdsContent;
 	}
 
+	/**
+	 * The content of the flavor (nodes, string, image, rtf or html) is created on
+	 * demand and kept afterwards.
+	 */
+	public synchronized void setLazyContent(DataFlavor flavor,
+			LazyContent content) {
+		lazyContents.put(flavor, content);
+	}
+
+	private synchronized void createLazyContent(DataFlavor flavor) {
+		LazyContent content = (LazyContent) lazyContents.remove(flavor);
+		if (content == null) {
+			return;
+		}
+		String created = content.create();
+		if (flavor.equals(mindMapNodesFlavor)) {
+			nodesContent = created;
+		} else if (flavor.equals(DataFlavor.imageFlavor)) {
+			imageContent = created;
+		} else if (flavor.equals(DataFlavor.stringFlavor)) {
+			stringContent = created;
+		} else if (flavor.equals(rtfFlavor)) {
+			rtfContent = created;
+		} else if (flavor.equals(htmlFlavor)) {
+			htmlContent = created;
+		}
+	}
+
 	public Object getTransferData(DataFlavor flavor)
 			throws UnsupportedFlavorException {
+		createLazyContent(flavor);
 		if (flavor.equals(DataFlavor.imageFlavor)) {
 			return imageContent;
 		}
@@ -124,6 +164,11 @@ public class MindMapNodesSelection implements Transferable, ClipboardOwner {
 	}
 
 	public boolean isDataFlavorSupported(DataFlavor flavor) {
+		synchronized (this) {
+			if (lazyContents.containsKey(flavor)) {
+				return true;
+			}
+		}
 		return flavor.equals(DataFlavor.imageFlavor) && imageContent != null ||
 				flavor.equals(DataFlavor.stringFlavor) && stringContent != null ||
 				flavor.equals(mindMapNodesFlavor) && nodesContent != null ||
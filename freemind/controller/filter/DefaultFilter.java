@@ -23,8 +23,12 @@
  */
 package freemind.controller.filter;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import freemind.controller.Controller;
 import freemind.controller.filter.condition.Condition;
@@ -67,11 +71,7 @@ public class DefaultFilter implements Filter {
 				c.getFrame().setWaitingCursor(true);
 				MindMap map = c.getModel();
 				MapView mapView = c.getView();
-				MindMapNode root = map.getRootNode();
-				resetFilter(root);
-				if (filterChildren(root, c, condition.checkNode(c, root), false)) {
-					addFilterResult(root, FILTER_SHOW_ANCESTOR);
-				}
+				applyFilter(c, map.getRootNode());
 				selectVisibleNode(mapView);
 			} finally {
 				c.getFrame().setWaitingCursor(false);
@@ -79,6 +79,29 @@ public class DefaultFilter implements Filter {
 		}
 	}
 
+	/**
+	 * Sets the filter infos of all nodes below the root. The subtrees are
+	 * filtered in parallel, the results are shown by the caller after all of
+	 * them have finished. Conditions that read the node views are checked
+	 * on the calling thread only.
+	 */
+	public void applyFilter(final Controller c, final MindMapNode root) {
+		resetFilter(root);
+		final boolean isRootSelected = condition.checkNode(c, root);
+		boolean isDescendantSelected;
+		if (condition.isViewDependent()) {
+			isDescendantSelected = filterChildren(root, c, isRootSelected,
+					false, false);
+		} else {
+			isDescendantSelected = ForkJoinPool.commonPool().invoke(
+					ForkJoinTask.adapt(() -> filterChildren(root, c,
+							isRootSelected, false, true)));
+		}
+		if (isDescendantSelected) {
+			addFilterResult(root, FILTER_SHOW_ANCESTOR);
+		}
+	}
+
 	static public void selectVisibleNode(MapView mapView) {
 		LinkedList selectedNodes = mapView.getSelecteds();
 		final int lastSelectedIndex = selectedNodes.size() - 1;
@@ -107,28 +130,81 @@ public class DefaultFilter implements Filter {
 	}
 
 	/**
-	 * @param c
-	 *            TODO
+	 * Filters the subtree below a node. The subtrees of the children are
+	 * filtered in parallel, as each node's filter info is only written by the
+	 * task of its subtree.
+	 */
+	private class FilterTask extends RecursiveTask<Boolean> {
+		private final MindMapNode mNode;
+		private final Controller mController;
+		private final boolean mIsAncestorSelected;
+		private final boolean mIsAncestorEclipsed;
+
+		FilterTask(MindMapNode pNode, Controller pController,
+				boolean pIsAncestorSelected, boolean pIsAncestorEclipsed) {
+			mNode = pNode;
+			mController = pController;
+			mIsAncestorSelected = pIsAncestorSelected;
+			mIsAncestorEclipsed = pIsAncestorEclipsed;
+		}
+
+		protected Boolean compute() {
+			return applyFilter(mNode, mController, mIsAncestorSelected,
+					mIsAncestorEclipsed, true);
+		}
+	}
+
+	/**
+	 * @param inParallel
+	 *            if true, the subtrees of the children are filtered as fork
+	 *            join tasks.
+	 * @return true, if one of the children or their descendants satisfies the
+	 *         condition.
 	 */
 	private boolean filterChildren(MindMapNode parent, Controller c,
-			boolean isAncestorSelected, boolean isAncestorEclipsed) {
+			boolean isAncestorSelected, boolean isAncestorEclipsed,
+			boolean inParallel) {
 		ListIterator iterator = parent.childrenUnfolded();
 		boolean isDescendantSelected = false;
+		ArrayList<FilterTask> tasks = null;
 		while (iterator.hasNext()) {
 			MindMapNode node = (MindMapNode) iterator.next();
-			isDescendantSelected = applyFilter(node, c, isAncestorSelected,
-					isAncestorEclipsed, isDescendantSelected);
+			if (inParallel && node.hasChildren()) {
+				FilterTask task = new FilterTask(node, c, isAncestorSelected,
+						isAncestorEclipsed);
+				task.fork();
+				if (tasks == null) {
+					tasks = new ArrayList<>();
+				}
+				tasks.add(task);
+			} else if (applyFilter(node, c, isAncestorSelected,
+					isAncestorEclipsed, inParallel)) {
+				isDescendantSelected = true;
+			}
+		}
+		if (tasks != null) {
+			// the last forked task is on top of the queue:
+			for (int i = tasks.size() - 1; i >= 0; i--) {
+				if (tasks.get(i).join()) {
+					isDescendantSelected = true;
+				}
+			}
 		}
 		return isDescendantSelected;
 	}
 
+	/**
+	 * @return true, if the node or one of its descendants satisfies the
+	 *         condition.
+	 */
 	private boolean applyFilter(MindMapNode node, Controller c,
 			boolean isAncestorSelected, boolean isAncestorEclipsed,
-			boolean isDescendantSelected) {
+			boolean inParallel) {
 		resetFilter(node);
 		if (isAncestorSelected)
 			addFilterResult(node, FILTER_SHOW_DESCENDANT);
 		boolean conditionSatisfied = condition.checkNode(c, node);
+		boolean isDescendantSelected = false;
 		if (conditionSatisfied) {
 			isDescendantSelected = true;
 			addFilterResult(node, FILTER_SHOW_MATCHED);
@@ -139,7 +215,7 @@ public class DefaultFilter implements Filter {
 			addFilterResult(node, FILTER_SHOW_ECLIPSED);
 		}
 		if (filterChildren(node, c, conditionSatisfied || isAncestorSelected,
-				!conditionSatisfied || isAncestorEclipsed)) {
+				!conditionSatisfied || isAncestorEclipsed, inParallel)) {
 			addFilterResult(node, FILTER_SHOW_ANCESTOR);
 			isDescendantSelected = true;
 		}
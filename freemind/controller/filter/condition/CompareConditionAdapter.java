@@ -33,29 +33,65 @@ abstract class CompareConditionAdapter extends NodeCondition {
 	static final String VALUE = "value";
 	private String conditionValue;
 	private boolean ignoreCase;
+	/** The condition value as number, parsed once for all nodes. */
+	private Integer conditionInteger = null;
+	private Double conditionDouble = null;
 
 	CompareConditionAdapter(String value, boolean ignoreCase) {
 		super();
 		this.conditionValue = value;
 		this.ignoreCase = ignoreCase;
-	}
-
-	protected int compareTo(String nodeValue) throws NumberFormatException {
 		try {
-			int i2 = Integer.parseInt(conditionValue);
-			int i1 = Integer.parseInt(nodeValue);
-			return i1 < i2 ? -1 : (i1 == i2 ? 0 : 1);
+			conditionInteger = Integer.valueOf(value);
 		} catch (NumberFormatException fne) {
 		}
-		double d2;
 		try {
-			d2 = Double.parseDouble(conditionValue);
+			conditionDouble = Double.valueOf(value);
 		} catch (NumberFormatException fne) {
+		}
+	}
+
+	protected int compareTo(String nodeValue) throws NumberFormatException {
+		if (conditionDouble == null) {
 			return ignoreCase ? nodeValue.compareToIgnoreCase(conditionValue)
 					: nodeValue.compareTo(conditionValue);
 		}
+		if (conditionInteger != null) {
+			try {
+				int i1 = Integer.parseInt(nodeValue);
+				return Integer.compare(i1, conditionInteger);
+			} catch (NumberFormatException fne) {
+			}
+		}
 		double d1 = Double.parseDouble(nodeValue);
-		return Double.compare(d1, d2);
+		return Double.compare(d1, conditionDouble);
+	}
+
+	/**
+	 * @return false, if {@link #compareTo(String)} would surely fail, as a
+	 *         number is compared with a text. Is much faster than the
+	 *         exception.
+	 */
+	protected boolean canCompareTo(String nodeValue) {
+		return conditionDouble == null || mayBeNumber(nodeValue);
+	}
+
+	/**
+	 * @return false, if the value can't be parsed as a number (see
+	 *         Double.valueOf(String)).
+	 */
+	private static boolean mayBeNumber(String pValue) {
+		int length = pValue.length();
+		int i = 0;
+		while (i < length && pValue.charAt(i) <= ' ') {
+			i++;
+		}
+		if (i == length) {
+			return false;
+		}
+		char first = pValue.charAt(i);
+		return Character.isDigit(first) || first == '-' || first == '+'
+				|| first == '.' || first == 'N' || first == 'I';
 	}
 
 	public void saveAttributes(XMLElement child) {
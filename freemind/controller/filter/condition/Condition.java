@@ -32,6 +32,13 @@ import freemind.modes.MindMapNode;
 public interface Condition {
 	boolean checkNode(Controller c, MindMapNode node);
 
+	/**
+	 * @return true, if the condition reads the state of the node views (like
+	 *         the selection). Such conditions must be checked on the event
+	 *         dispatch thread, thus the nodes are not filtered in parallel.
+	 */
+	boolean isViewDependent();
+
 	public JComponent getListCellRendererComponent();
 
 	void save(XMLElement element);
@@ -59,7 +59,11 @@ public class ConditionNotSatisfiedDecorator implements Condition {
 	 * .MindMapNode)
 	 */
 	public boolean checkNode(Controller c, MindMapNode node) {
-		return !originalCondition.checkNode(null, node);
+		return !originalCondition.checkNode(c, node);
+	}
+
+	public boolean isViewDependent() {
+		return originalCondition.isViewDependent();
 	}
 
 	/*
@@ -67,6 +67,15 @@ public class ConjunctConditions implements Condition {
 		return true;
 	}
 
+	public boolean isViewDependent() {
+		for (int i = 0; i < conditions.length; i++) {
+			if (((Condition) conditions[i]).isViewDependent()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
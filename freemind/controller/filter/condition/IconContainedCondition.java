@@ -50,6 +50,10 @@ public class IconContainedCondition implements Condition {
 				|| isStateIconContained(node, iconName);
 	}
 
+	public boolean isViewDependent() {
+		return false;
+	}
+
 	private static boolean isStateIconContained(MindMapNode node,
 			String iconName) {
 		Set stateIcons = node.getStateIcons().keySet();
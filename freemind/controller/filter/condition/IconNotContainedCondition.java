@@ -49,6 +49,10 @@ public class IconNotContainedCondition implements Condition {
 		return iconFirstIndex(node, iconName) == -1 && !isStateIconContained(node, iconName);
 	}
 
+	public boolean isViewDependent() {
+		return false;
+	}
+
 	static public int iconFirstIndex(MindMapNode node, String iconName) {
 		List icons = node.getIcons();
 		for (ListIterator i=icons.listIterator(); i.hasNext(); ) {
@@ -54,6 +54,10 @@ public class NoFilteringCondition implements Condition {
 		return true;
 	}
 
+	public boolean isViewDependent() {
+		return false;
+	}
+
 	public JComponent getListCellRendererComponent() {
 		if (renderer == null) {
 			renderer = new JLabel(description);
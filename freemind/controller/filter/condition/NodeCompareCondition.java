@@ -45,8 +45,12 @@ class NodeCompareCondition extends CompareConditionAdapter {
 	}
 
 	public boolean checkNode(Controller c, MindMapNode node) {
+		final String text = node.getText();
+		if (!canCompareTo(text)) {
+			return false;
+		}
 		try {
-			return succeed == (compareTo(node.getText()) == comparationResult);
+			return succeed == (compareTo(text) == comparationResult);
 		} catch (NumberFormatException fne) {
 			return false;
 		}
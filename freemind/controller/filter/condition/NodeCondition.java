@@ -53,6 +53,10 @@ public abstract class NodeCondition implements Condition {
 
 	abstract protected String createDesctiption();
 
+	public boolean isViewDependent() {
+		return false;
+	}
+
 	public void saveAttributes(XMLElement child) {
 	}
 
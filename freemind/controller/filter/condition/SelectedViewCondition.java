@@ -55,6 +55,10 @@ public class SelectedViewCondition implements Condition {
 		return viewer != null && viewer.isSelected();
 	}
 
+	public boolean isViewDependent() {
+		return true;
+	}
+
 	public JComponent getListCellRendererComponent() {
 		if (renderer == null) {
 			renderer = ConditionFactory
@@ -27,29 +27,61 @@ import java.awt.Container;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Iterator;
 
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
 import javax.swing.filechooser.FileFilter;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
 
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import freemind.common.FreeMindTask;
 import freemind.main.Tools;
 import freemind.modes.FreeMindFileDialog;
+import freemind.modes.MapSnapshot;
+import freemind.modes.MapXmlReader;
+import freemind.modes.MindMapNode;
+import freemind.modes.XMLElementAdapter;
 import freemind.modes.ModeController;
 import freemind.view.mindmapview.MapView;
+import freemind.view.mindmapview.TiledMapImage;
 
 /**
  * @author foltin
  * 
  */
 public class ExportHook extends ModeControllerHookAdapter {
+	private static final String EXPORT_PROGRESS_MESSAGE = "ExportHook.progressMessage";
+	private static final String EXPORT_PROGRESS_NODES = "ExportHook.exportedNodes";
+	/** The progress is shown after this number of nodes. */
+	private static final int PROGRESS_INTERVAL = 256;
+	/** Url of the stylesheet -> compiled stylesheet. */
+	private static final HashMap<String, Templates> sTemplates = new HashMap<>();
 	private MapView view;
+	/** The running export, only set in its thread. */
+	private ExportTask mExportTask = null;
 
 	/**
 	 * @param type
@@ -134,6 +166,164 @@ public class ExportHook extends ModeControllerHookAdapter {
 		return returnValue;
 	}
 
+	/**
+	 * The stylesheets are compiled only once, as the compilation often takes
+	 * longer than the transformation itself.
+	 */
+	protected static Templates getTemplates(URL pXsltUrl) throws IOException,
+			TransformerConfigurationException {
+		String key = pXsltUrl.toExternalForm();
+		synchronized (sTemplates) {
+			Templates templates = sTemplates.get(key);
+			if (templates == null) {
+				InputStream xsltStream = pXsltUrl.openStream();
+				try {
+					templates = TransformerFactory.newInstance().newTemplates(
+							new StreamSource(xsltStream, key));
+				} finally {
+					xsltStream.close();
+				}
+				sTemplates.put(key, templates);
+			}
+			return templates;
+		}
+	}
+
+	/**
+	 * @return the filtered xml of the map as source for a transformation. In
+	 *         an {@link ExportTask}, this is the snapshot taken when the task
+	 *         was created. Otherwise, the nodes are read during the
+	 *         transformation, thus this must be called in the event dispatch
+	 *         thread.
+	 */
+	protected Source getMapSource() {
+		if (mExportTask != null) {
+			return mExportTask.getMapSource();
+		}
+		firePreSaveEventForSelection();
+		return MapXmlReader.createSource(getController().getMap(), null);
+	}
+
+	/**
+	 * Writes the filtered xml of the map, in an {@link ExportTask} the one of
+	 * its snapshot (see {@link #getMapSource()}).
+	 */
+	protected void writeMapXml(Writer pWriter) throws IOException {
+		if (mExportTask != null) {
+			mExportTask.mSnapshot.writeTo(pWriter);
+			pWriter.flush();
+			return;
+		}
+		getController().getMap().getFilteredXml(pWriter);
+	}
+
+	/**
+	 * The xml of the map is read without pre save events (see
+	 * {@link MapXmlReader}), thus the editors of the selected node store
+	 * their contents here, in the event dispatch thread.
+	 */
+	private void firePreSaveEventForSelection() {
+		MindMapNode selected = getController().getSelected();
+		if (selected != null) {
+			getController().firePreSaveEvent(selected);
+		}
+	}
+
+	/**
+	 * Runs an export in the background and shows the number of exported
+	 * nodes. The map is written to a {@link MapSnapshot} in the constructor,
+	 * thus in the event dispatch thread, and the export reads the snapshot
+	 * only. The map can be changed (e.g. by the automatic save or by
+	 * accelerators) during the export.
+	 */
+	protected abstract class ExportTask extends FreeMindTask {
+		private final MapSnapshot mSnapshot = new MapSnapshot();
+
+		private int mExportedNodes = 0;
+
+		/**
+		 * Must be called in the event dispatch thread.
+		 * 
+		 * @param pPasses
+		 *            the number of transformations of the map.
+		 */
+		public ExportTask(int pPasses) {
+			super(getController().getFrame().getJFrame(), pPasses
+					* countNodes(getController().getMap().getRootNode()),
+					EXPORT_PROGRESS_MESSAGE);
+			try (Writer writer = mSnapshot.getWriter()) {
+				getController().getMap().getFilteredXml(writer);
+			} catch (IOException e) {
+				// the snapshot is in memory.
+				throw new IllegalStateException(e);
+			}
+		}
+
+		protected boolean processAction() throws Exception {
+			mExportTask = this;
+			try {
+				export();
+			} finally {
+				mExportTask = null;
+			}
+			return false;
+		}
+
+		/**
+		 * Does the export using {@link ExportHook#getMapSource()}. The
+		 * results have to be shown in the event dispatch thread.
+		 */
+		protected abstract void export() throws Exception;
+
+		/**
+		 * @return a new source of the snapshot, which shows the progress.
+		 */
+		Source getMapSource() {
+			XMLFilterImpl progressFilter = new XMLFilterImpl() {
+				public void startElement(String pUri, String pLocalName,
+						String pQName, Attributes pAttributes)
+						throws SAXException {
+					if (XMLElementAdapter.XML_NODE.equals(pQName)
+							&& nodeWritten()) {
+						throw new SAXException("Export canceled.");
+					}
+					super.startElement(pUri, pLocalName, pQName, pAttributes);
+				}
+			};
+			try {
+				SAXParserFactory factory = SAXParserFactory.newInstance();
+				factory.setNamespaceAware(true);
+				progressFilter.setParent(factory.newSAXParser().getXMLReader());
+			} catch (ParserConfigurationException | SAXException e) {
+				throw new IllegalStateException(e);
+			}
+			return new SAXSource(progressFilter, new InputSource(
+					mSnapshot.getReader()));
+		}
+
+		/**
+		 * @return true, if the export should be canceled.
+		 */
+		private boolean nodeWritten() {
+			if (++mExportedNodes % PROGRESS_INTERVAL != 0) {
+				return isInterrupted();
+			}
+			mProgressDescription = new ProgressDescription(
+					EXPORT_PROGRESS_NODES, new Object[] {
+							Integer.valueOf(mExportedNodes),
+							Integer.valueOf(getAmountOfSteps()) });
+			return showProgress(mExportedNodes);
+		}
+	}
+
+	private static int countNodes(MindMapNode pNode) {
+		int count = 1;
+		for (Iterator it = pNode.childrenUnfolded(); it.hasNext();) {
+			count += countNodes((MindMapNode) it.next());
+		}
+		return count;
+	}
+
 	public BufferedImage createBufferedImage() {
 		view = getController().getView();
 		if (view == null)
@@ -177,6 +367,52 @@ public class ExportHook extends ModeControllerHookAdapter {
 		// return image;
 	}
 
+	/**
+	 * Writes the map as png. In contrast to {@link #createBufferedImage()},
+	 * the map is painted in bands into a buffer of a fixed size, such that
+	 * maps of any size can be exported.
+	 *
+	 * @return false, if there is no map view.
+	 */
+	public boolean writePng(File pFile) throws IOException {
+		view = getController().getView();
+		if (view == null)
+			return false;
+		view.preparePrinting();
+		try {
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(
+					pFile));
+			try {
+				new TiledMapImage(view, view.getInnerBounds()).writePng(out);
+			} finally {
+				out.close();
+			}
+		} finally {
+			view.endPrinting();
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the map as zoomable pyramid of png tiles into the directory (see
+	 * {@link TiledMapImage#writeTilePyramid(MapView, Rectangle, File)}).
+	 *
+	 * @return false, if there is no map view.
+	 */
+	public boolean writeTilePyramid(File pDirectory) throws IOException {
+		view = getController().getView();
+		if (view == null)
+			return false;
+		view.preparePrinting();
+		try {
+			TiledMapImage.writeTilePyramid(view, view.getInnerBounds(),
+					pDirectory);
+		} finally {
+			view.endPrinting();
+		}
+		return true;
+	}
+
 	/**
      */
 	protected void copyFromResource(String prefix, String fileName,
@@ -139,6 +139,8 @@ public class FreeMindCommon {
 	public static final String LOAD_EVENT_DURING_STARTUP = "loadEventDuringStartup";
 	public static final String MINDMAP_LAST_STATE_MAP_STORAGE = "mindmap_last_state_map_storage";
 	public static final String CREATE_THUMBNAIL_ON_SAVE = "create_thumbnail_on_save";
+	public static final String JOURNAL_FOR_AUTOMATIC_SAVE = "journal_for_automatic_save";
+	public static final String JOURNAL_COMPACTION_SIZE = "journal_compaction_size";
 	public static final String TIME_MANAGEMENT_MARKING_XML = "time_management_marking_xml";
 	private static Logger logger = null;
 
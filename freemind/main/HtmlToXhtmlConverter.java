@@ -0,0 +1,340 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.main;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * Converts html to xhtml in a single pass without building a document. This
+ * works for html that is nested properly, like the html written by the html
+ * editor or converted back from xhtml by {@link HtmlTools#toHtml(String)}.
+ * For other html, null is returned and {@link XHTMLWriter} has to be used.
+ *
+ * In contrast to {@link XHTMLWriter}, the formatting of the html is kept. As
+ * there, empty elements are closed with " /&gt;" and characters beyond ascii
+ * are written as character references. Thus, html written by the
+ * {@link XHTMLWriter} and converted back gives the same xhtml.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class HtmlToXhtmlConverter {
+
+	private static final HashSet<String> EMPTY_ELEMENTS = new HashSet<>(
+			Arrays.asList("br", "img", "hr", "input", "meta", "link",
+					"area", "base", "basefont", "col"));
+
+	/** Elements whose content isn't html. */
+	private static final HashSet<String> UNSUPPORTED_ELEMENTS = new HashSet<>(
+			Arrays.asList("script", "style", "frame", "iframe"));
+
+	private final String mHtml;
+
+	private final StringBuilder mResult;
+
+	private int mIndex = 0;
+
+	private String[] mOpenElements = new String[16];
+
+	private int mDepth = 0;
+
+	private HtmlToXhtmlConverter(String pHtml) {
+		mHtml = pHtml;
+		mResult = new StringBuilder(pHtml.length() + pHtml.length() / 16);
+	}
+
+	/**
+	 * @return the xhtml or null, if the html can't be converted directly.
+	 */
+	public static String convert(String pHtml) {
+		return new HtmlToXhtmlConverter(pHtml).convert();
+	}
+
+	private String convert() {
+		boolean htmlSeen = false;
+		int length = mHtml.length();
+		while (mIndex < length) {
+			char c = mHtml.charAt(mIndex);
+			if (c == '<') {
+				if (mDepth == 0 && htmlSeen) {
+					// only a single html element:
+					return null;
+				}
+				if (!convertTag()) {
+					return null;
+				}
+				htmlSeen = true;
+			} else if (mDepth <= 1) {
+				// outside of html, head and body:
+				if (!Character.isWhitespace(c)) {
+					return null;
+				}
+				mResult.append(c);
+				mIndex++;
+			} else if (!convertCharacter(c)) {
+				return null;
+			}
+		}
+		if (!htmlSeen || mDepth != 0) {
+			return null;
+		}
+		return mResult.toString();
+	}
+
+	/**
+	 * Converts the tag at mIndex.
+	 *
+	 * @return false, if it can't be converted.
+	 */
+	private boolean convertTag() {
+		mIndex++;
+		boolean endTag = mIndex < mHtml.length() && mHtml.charAt(mIndex) == '/';
+		if (endTag) {
+			mIndex++;
+		}
+		String name = readName();
+		if (name == null || name.indexOf(':') >= 0
+				|| UNSUPPORTED_ELEMENTS.contains(name)) {
+			return false;
+		}
+		boolean isEmpty = EMPTY_ELEMENTS.contains(name);
+		if (endTag) {
+			skipWhitespace();
+			if (isEmpty || mDepth == 0 || !name.equals(mOpenElements[mDepth - 1])
+					|| !isAt('>')) {
+				return false;
+			}
+			mIndex++;
+			mDepth--;
+			mResult.append("</").append(name).append('>');
+			return true;
+		}
+		if (mDepth == 0 ? !"html".equals(name) : mDepth == 1
+				&& !"head".equals(name) && !"body".equals(name)) {
+			return false;
+		}
+		mResult.append('<').append(name);
+		HashSet<String> attributes = null;
+		while (true) {
+			boolean whitespace = skipWhitespace();
+			if (isAt('>')) {
+				mIndex++;
+				break;
+			}
+			if (isEmpty && isAt('/') && mIndex + 1 < mHtml.length()
+					&& mHtml.charAt(mIndex + 1) == '>') {
+				mIndex += 2;
+				break;
+			}
+			String attribute = readName();
+			if (!whitespace || attribute == null) {
+				return false;
+			}
+			if (attributes == null) {
+				attributes = new HashSet<>();
+			}
+			if (!attributes.add(attribute) || !convertValue(attribute)) {
+				return false;
+			}
+		}
+		if (isEmpty) {
+			mResult.append(" />");
+			return true;
+		}
+		mResult.append('>');
+		if (mDepth == mOpenElements.length) {
+			mOpenElements = Arrays.copyOf(mOpenElements, 2 * mDepth);
+		}
+		mOpenElements[mDepth++] = name;
+		return true;
+	}
+
+	/**
+	 * Converts '=' and the value of an attribute.
+	 */
+	private boolean convertValue(String pAttribute) {
+		skipWhitespace();
+		if (!isAt('=')) {
+			// attributes without value aren't supported.
+			return false;
+		}
+		mIndex++;
+		skipWhitespace();
+		if (mIndex >= mHtml.length()) {
+			return false;
+		}
+		char quote = mHtml.charAt(mIndex);
+		if (quote == '"' || quote == '\'') {
+			mIndex++;
+		} else {
+			quote = 0;
+		}
+		mResult.append(' ').append(pAttribute).append("=\"");
+		while (true) {
+			if (mIndex >= mHtml.length()) {
+				return false;
+			}
+			char c = mHtml.charAt(mIndex);
+			if (quote != 0 ? c == quote : (Character.isWhitespace(c)
+					|| c == '>')) {
+				if (quote != 0) {
+					mIndex++;
+				}
+				break;
+			}
+			if (quote == 0 && (c == '/' || c == '\'' || c == '"' || c == '<')) {
+				return false;
+			}
+			if (c == '"') {
+				mResult.append("&quot;");
+				mIndex++;
+			} else if (c == '<') {
+				mResult.append("&lt;");
+				mIndex++;
+			} else if (!convertCharacter(c)) {
+				return false;
+			}
+		}
+		mResult.append('"');
+		return true;
+	}
+
+	/**
+	 * Converts the character at mIndex that is part of a text or an
+	 * attribute value.
+	 */
+	private boolean convertCharacter(char pChar) {
+		if (pChar == '&') {
+			return convertReference();
+		}
+		if (pChar == '>') {
+			mResult.append("&gt;");
+		} else if (pChar > 127) {
+			int codePoint = mHtml.codePointAt(mIndex);
+			mResult.append("&#").append(codePoint).append(';');
+			mIndex += Character.charCount(codePoint);
+			return true;
+		} else if (pChar < ' ' && pChar != '\n' && pChar != '\r'
+				&& pChar != '\t') {
+			return false;
+		} else if (pChar == '<') {
+			return false;
+		} else {
+			mResult.append(pChar);
+		}
+		mIndex++;
+		return true;
+	}
+
+	/**
+	 * Converts the entity or character reference at mIndex. A single '&' is
+	 * escaped.
+	 */
+	private boolean convertReference() {
+		int start = mIndex + 1;
+		int end = start;
+		int length = mHtml.length();
+		if (end < length && mHtml.charAt(end) == '#') {
+			end++;
+			boolean hex = end < length
+					&& (mHtml.charAt(end) == 'x' || mHtml.charAt(end) == 'X');
+			if (hex) {
+				end++;
+			}
+			int digits = end;
+			while (end < length
+					&& Character.digit(mHtml.charAt(end), hex ? 16 : 10) >= 0) {
+				end++;
+			}
+			if (end == digits || end >= length || mHtml.charAt(end) != ';') {
+				return false;
+			}
+			mResult.append(mHtml, mIndex, end + 1);
+			mIndex = end + 1;
+			return true;
+		}
+		while (end < length && Character.isLetterOrDigit(mHtml.charAt(end))) {
+			end++;
+		}
+		if (end == start) {
+			mResult.append("&amp;");
+			mIndex++;
+			return true;
+		}
+		if (end >= length || mHtml.charAt(end) != ';') {
+			return false;
+		}
+		String entity = mHtml.substring(start, end);
+		if ("nbsp".equals(entity)) {
+			mResult.append("&#160;");
+		} else if ("amp".equals(entity) || "lt".equals(entity)
+				|| "gt".equals(entity) || "quot".equals(entity)) {
+			mResult.append(mHtml, mIndex, end + 1);
+		} else {
+			return false;
+		}
+		mIndex = end + 1;
+		return true;
+	}
+
+	/**
+	 * @return the lower case name at mIndex or null, if there is none.
+	 */
+	private String readName() {
+		int start = mIndex;
+		int length = mHtml.length();
+		if (start >= length || !isAsciiLetter(mHtml.charAt(start))) {
+			return null;
+		}
+		while (mIndex < length) {
+			char c = mHtml.charAt(mIndex);
+			if (!isAsciiLetter(c) && !(c >= '0' && c <= '9') && c != '-'
+					&& c != '_' && c != ':' && c != '.') {
+				break;
+			}
+			mIndex++;
+		}
+		return mHtml.substring(start, mIndex).toLowerCase(Locale.ENGLISH);
+	}
+
+	private boolean isAsciiLetter(char pChar) {
+		return (pChar >= 'a' && pChar <= 'z') || (pChar >= 'A' && pChar <= 'Z');
+	}
+
+	private boolean isAt(char pChar) {
+		return mIndex < mHtml.length() && mHtml.charAt(mIndex) == pChar;
+	}
+
+	/**
+	 * @return true, if whitespace was skipped.
+	 */
+	private boolean skipWhitespace() {
+		int start = mIndex;
+		while (mIndex < mHtml.length()
+				&& Character.isWhitespace(mHtml.charAt(mIndex))) {
+			mIndex++;
+		}
+		return mIndex > start;
+	}
+
+}
@@ -87,6 +87,11 @@ public class HtmlTools {
 			return null;
 		}
 		logger.fine("Enter toXhtml with " + htmlText);
+		// most html is nested properly and converted without a document:
+		String xhtml = HtmlToXhtmlConverter.convert(htmlText);
+		if (xhtml != null) {
+			return xhtml;
+		}
 		StringReader reader = new StringReader(htmlText);
 		StringWriter writer = new StringWriter();
 		try {
@@ -614,56 +619,21 @@ public class HtmlTools {
 	   pass on only XML-valid characters.
 	
 	   This method uses the method isXMLValidCharacter, which makes use
-	   of http://www.w3.org/TR/2000/REC-xml-20001006#NT-Char. */
+	   of http://www.w3.org/TR/2000/REC-xml-20001006#NT-Char.
+	
+	   See {@link InvalidXmlCharacterFilterReader} for streams. */
 	public static String removeInvalidXmlCharacters(String text) {
 		StringBuilder result = new StringBuilder(text.length());
-		StringBuilder entity = new StringBuilder();
-		boolean readingEntity = false;
-		char myChar;
-		char entityChar;
-		for (int i = 0; i < text.length(); ++i) {
-			myChar = text.charAt(i);
-			if (readingEntity) {
-				if (myChar == ';') {
-					if (entity.charAt(0) == '#') {
-						try {
-							if (entity.charAt(1) == 'x') {
-								// Hexadecimal
-								entityChar = (char) Integer.parseInt(
-										entity.substring(2), 16);
-							} else {
-								// Decimal
-								entityChar = (char) Integer.parseInt(
-										entity.substring(1), 10);
-							}
-							if (isXMLValidCharacter(entityChar))
-								result.append('&').append(entity).append(';');
-						} catch (NumberFormatException e) {
-							result.append('&').append(entity).append(';');
-						}
-					} else {
-						result.append('&').append(entity).append(';');
-					}
-					entity.setLength(0);
-					readingEntity = false;
-				} else {
-					entity.append(myChar);
-				}
-			} else {
-				if (myChar == '&') {
-					readingEntity = true;
-				} else {
-					// The following test is superfluous under the assumption
-					// that the string only contains unicode in XML entities.
-					// Removing this test could significantly speed up this
-					// method; maybe.
-					if (isXMLValidCharacter(myChar))
-						result.append(myChar);
-				}
+		char[] buffer = new char[1024];
+		try (InvalidXmlCharacterFilterReader reader = new InvalidXmlCharacterFilterReader(
+				new StringReader(text))) {
+			int read;
+			while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+				result.append(buffer, 0, read);
 			}
-		}
-		if (entity.length() > 0) {
-			result.append('&').append(entity).append(';');
+		} catch (IOException e) {
+			// can't happen with a string reader.
+			freemind.main.Resources.getInstance().logException(e);
 		}
 		return result.toString();
 	}
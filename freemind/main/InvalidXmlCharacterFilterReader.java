@@ -0,0 +1,168 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.main;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Removes the characters that are not allowed in xml, both as plain
+ * characters and as character references (like &amp;#0;). Thus, it does the
+ * same as {@link HtmlTools#removeInvalidXmlCharacters(String)}, but without
+ * reading everything into memory.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class InvalidXmlCharacterFilterReader extends FilterReader {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final char[] mInput = new char[BUFFER_SIZE];
+
+	private final StringBuilder mOutput = new StringBuilder(BUFFER_SIZE);
+
+	private int mOutputPosition = 0;
+
+	/** The entity that is read, if mReadingEntity is set. */
+	private final StringBuilder mEntity = new StringBuilder();
+
+	private boolean mReadingEntity = false;
+
+	private boolean mEndOfInput = false;
+
+	public InvalidXmlCharacterFilterReader(Reader pReader) {
+		super(pReader);
+	}
+
+	public int read() throws IOException {
+		char[] character = new char[1];
+		if (read(character, 0, 1) == -1) {
+			return -1;
+		}
+		return character[0];
+	}
+
+	public int read(char[] pBuffer, int pOffset, int pLength)
+			throws IOException {
+		if (pLength == 0) {
+			return 0;
+		}
+		while (mOutputPosition == mOutput.length()) {
+			if (mEndOfInput) {
+				return -1;
+			}
+			mOutput.setLength(0);
+			mOutputPosition = 0;
+			fill();
+		}
+		int length = Math.min(pLength, mOutput.length() - mOutputPosition);
+		mOutput.getChars(mOutputPosition, mOutputPosition + length, pBuffer,
+				pOffset);
+		mOutputPosition += length;
+		return length;
+	}
+
+	public long skip(long pNumber) throws IOException {
+		char[] buffer = new char[BUFFER_SIZE];
+		long skipped = 0;
+		while (skipped < pNumber) {
+			int read = read(buffer, 0,
+					(int) Math.min(buffer.length, pNumber - skipped));
+			if (read == -1) {
+				break;
+			}
+			skipped += read;
+		}
+		return skipped;
+	}
+
+	public boolean ready() throws IOException {
+		return mOutputPosition < mOutput.length();
+	}
+
+	public boolean markSupported() {
+		return false;
+	}
+
+	public void mark(int pReadAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	private void fill() throws IOException {
+		int read = in.read(mInput, 0, mInput.length);
+		if (read == -1) {
+			mEndOfInput = true;
+			if (mEntity.length() > 0) {
+				mOutput.append('&').append(mEntity).append(';');
+			}
+			return;
+		}
+		for (int i = 0; i < read; ++i) {
+			char myChar = mInput[i];
+			if (mReadingEntity) {
+				if (myChar == ';') {
+					appendEntity();
+					mEntity.setLength(0);
+					mReadingEntity = false;
+				} else {
+					mEntity.append(myChar);
+				}
+			} else if (myChar == '&') {
+				mReadingEntity = true;
+			} else if (HtmlTools.isXMLValidCharacter(myChar)) {
+				mOutput.append(myChar);
+			}
+		}
+	}
+
+	/**
+	 * Character references are only kept, if they denote a valid character.
+	 */
+	private void appendEntity() {
+		if (mEntity.length() > 1 && mEntity.charAt(0) == '#') {
+			try {
+				char entityChar;
+				if (mEntity.charAt(1) == 'x') {
+					// Hexadecimal
+					entityChar = (char) Integer.parseInt(
+							mEntity.substring(2), 16);
+				} else {
+					// Decimal
+					entityChar = (char) Integer.parseInt(
+							mEntity.substring(1), 10);
+				}
+				if (!HtmlTools.isXMLValidCharacter(entityChar)) {
+					return;
+				}
+			} catch (NumberFormatException e) {
+				// kept as it is.
+			}
+		}
+		mOutput.append('&').append(mEntity).append(';');
+	}
+
+}
@@ -44,19 +44,24 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.print.Paper;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PipedReader;
+import java.io.PipedWriter;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.net.InetAddress;
@@ -72,6 +77,7 @@ import java.nio.file.attribute.DosFileAttributes;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.KeySpec;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
@@ -92,14 +98,17 @@ import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.UIManager;
-import javax.xml.transform.Result;
-import javax.xml.transform.Source;
+import javax.xml.transform.ErrorListener;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import freemind.common.UnicodeReader;
+import freemind.common.XmlActionCopier;
 import freemind.common.XmlBindingTools;
 import freemind.controller.MindMapNodesSelection;
 import freemind.controller.actions.generated.instance.CompoundAction;
@@ -169,6 +178,8 @@ public class Tools {
 		return "#" + red + green + blue;
 	}
 
+	private static final Map<Integer, Color> sColors = new ConcurrentHashMap<>();
+
 	public static Color xmlToColor(String string) {
 		if (string == null)
 			return null;
@@ -178,7 +189,16 @@ public class Tools {
 			int red = Integer.parseInt(string.substring(1, 3), 16);
 			int green = Integer.parseInt(string.substring(3, 5), 16);
 			int blue = Integer.parseInt(string.substring(5, 7), 16);
-			return new Color(red, green, blue);
+			// colors are shared, as most maps use only a few:
+			Integer rgb = ((red & 0xff) << 16) | ((green & 0xff) << 8)
+					| (blue & 0xff);
+			Color color = sColors.get(rgb);
+			if (color == null) {
+				// checks the range:
+				color = new Color(red, green, blue);
+				sColors.put(rgb, color);
+			}
+			return color;
 		} else {
 			throw new IllegalArgumentException("No xml color given by '"
 					+ string + "'.");
@@ -992,99 +1012,162 @@ public class Tools {
 		dialog.setLocation(dx, dy);
 	}
 
+	/** Name of the script -> compiled script, see {@link #getUpdateReader(Reader, String)}. */
+	private static final HashMap<String, Templates> sUpdaterTemplates = new HashMap<>();
+
+	private static final int UPDATE_PIPE_SIZE = 65536;
+
 	/**
 	 * Creates a reader that pipes the input file through a XSLT-Script that
-	 * updates the version to the current.
+	 * updates the version to the current. The script is compiled only once.
+	 * The transformation runs in its own thread and its result is read while
+	 * it is produced. Errors during the transformation are thrown by the
+	 * reader.
 	 * 
 	 * @throws IOException
 	 */
 	public static Reader getUpdateReader(Reader pReader, String xsltScript) throws IOException {
-		StringWriter writer = null;
-		InputStream inputStream = null;
 		final java.util.logging.Logger logger = Resources.getInstance().getLogger(Tools.class
 				.getName());
 		logger.info("Updating the reader " + pReader
 				+ " to the current version.");
-		boolean successful = false;
-		String errorMessage = null;
 		try {
-			// try to convert map with xslt:
-			URL updaterUrl = null;
-			updaterUrl = Resources.getInstance().getResource(xsltScript);
-			if (updaterUrl == null) {
-				throw new IllegalArgumentException(xsltScript + " not found.");
-			}
-			inputStream = updaterUrl.openStream();
-			final Source xsltSource = new StreamSource(inputStream);
-			// get output:
-			writer = new StringWriter();
-			final Result result = new StreamResult(writer);
-
-			String fileContents = getFile(pReader);
-			if (fileContents.length() > 10) {
-				logger.info("File start before UTF8 replacement: '"
-						+ fileContents.substring(0, 9) + "'");
-			}
-			fileContents = replaceUtf8AndIllegalXmlChars(fileContents);
-			if (fileContents.length() > 10) {
-				logger.info("File start after UTF8 replacement: '"
-						+ fileContents.substring(0, 9) + "'");
+			Transformer trans = getUpdaterTemplates(xsltScript)
+					.newTransformer();
+			UpdateReader updateReader = new UpdateReader(trans,
+					new InvalidXmlCharacterFilterReader(pReader));
+			Thread transformerThread = new Thread(updateReader, "XSLT");
+			transformerThread.setDaemon(true);
+			transformerThread.start();
+			return new InvalidXmlCharacterFilterReader(updateReader);
+		} catch (Exception ex) {
+			Resources.getInstance().logException(ex, xsltScript);
+			pReader.close();
+			return new StringReader("<map><node TEXT='" + HtmlTools.toXMLEscapedText(ex.getLocalizedMessage()) + "'/></map>");
+		}
+	}
+
+	private static Templates getUpdaterTemplates(String xsltScript)
+			throws IOException, TransformerConfigurationException {
+		synchronized (sUpdaterTemplates) {
+			Templates templates = sUpdaterTemplates.get(xsltScript);
+			if (templates == null) {
+				URL updaterUrl = Resources.getInstance().getResource(xsltScript);
+				if (updaterUrl == null) {
+					throw new IllegalArgumentException(xsltScript + " not found.");
+				}
+				// create an instance of TransformerFactory
+				TransformerFactory transFact = TransformerFactory.newInstance();
+				Resources.getInstance().getLogger(Tools.class.getName())
+						.info("TransformerFactory class: " + transFact.getClass());
+				InputStream inputStream = updaterUrl.openStream();
+				try {
+					templates = transFact.newTemplates(new StreamSource(
+							inputStream));
+				} finally {
+					inputStream.close();
+				}
+				sUpdaterTemplates.put(xsltScript, templates);
 			}
-			final StreamSource sr = new StreamSource(new StringReader(fileContents));
-
-			class TransformerRunnable implements Runnable {
-				private boolean successful = false;
-				private String errorMessage;
-
-				public void run() {
-					// create an instance of TransformerFactory
-					TransformerFactory transFact = TransformerFactory
-							.newInstance();
-					logger.info("TransformerFactory class: "
-							+ transFact.getClass());
-					Transformer trans;
-					try {
-						trans = transFact.newTransformer(xsltSource);
-						trans.transform(sr, result);
-						successful = true;
-					} catch (Exception ex) {
-						freemind.main.Resources.getInstance().logException(ex);
-						errorMessage = ex.toString();
-					}
+			return templates;
+		}
+	}
+
+	/**
+	 * Transforms the input into a pipe and reads from it.
+	 */
+	private static class UpdateReader extends FilterReader implements Runnable {
+		private final Transformer mTransformer;
+		private final Reader mInput;
+		private final PipedWriter mPipe;
+		private volatile String mErrorMessage = null;
+		/** Set, if the reader is closed before everything is read. */
+		private volatile boolean mClosed = false;
+
+		UpdateReader(Transformer pTransformer, Reader pInput)
+				throws IOException {
+			super(new PipedReader(UPDATE_PIPE_SIZE));
+			mTransformer = pTransformer;
+			mInput = pInput;
+			mPipe = new PipedWriter((PipedReader) in);
+			// xalan only reports some errors, but the loader must know them:
+			mTransformer.setErrorListener(new ErrorListener() {
+				public void warning(TransformerException pException) {
+					Resources.getInstance().getLogger(Tools.class.getName())
+							.warning(pException.getMessageAndLocation());
 				}
 
-				public boolean isSuccessful() {
-					return successful;
+				public void error(TransformerException pException)
+						throws TransformerException {
+					throw pException;
 				}
 
-				public String getErrorMessage() {
-					return errorMessage;
+				public void fatalError(TransformerException pException)
+						throws TransformerException {
+					throw pException;
+				}
+			});
+		}
+
+		public void run() {
+			Writer writer = new BufferedWriter(mPipe, UPDATE_PIPE_SIZE);
+			try {
+				mTransformer.transform(new StreamSource(mInput),
+						new StreamResult(writer));
+			} catch (Exception ex) {
+				if (!mClosed) {
+					freemind.main.Resources.getInstance().logException(ex);
+					// before the pipe is closed, see checkError():
+					mErrorMessage = ex.toString();
+				}
+			} finally {
+				try {
+					writer.close();
+				} catch (IOException e) {
+					if (!mClosed) {
+						freemind.main.Resources.getInstance().logException(e);
+					}
+				}
+				try {
+					mInput.close();
+				} catch (IOException e) {
+					freemind.main.Resources.getInstance().logException(e);
 				}
 			}
-			final TransformerRunnable transformer = new TransformerRunnable();
-			Thread transformerThread = new Thread(transformer, "XSLT");
-			transformerThread.start();
-			transformerThread.join();
-			logger.info("Updating the reader " + pReader + " to the current version. Done.");
-			successful = transformer.isSuccessful();
-			errorMessage = transformer.getErrorMessage();
-		} catch (Exception ex) {
-			Resources.getInstance().logException(ex, xsltScript);
-			errorMessage = ex.getLocalizedMessage();
-		} finally {
-			if (inputStream != null) {
-				inputStream.close();
+		}
+
+		/**
+		 * The parser may close the reader after the end of the map, while the
+		 * rest (e.g. whitespace) is still written into the pipe.
+		 */
+		public void close() throws IOException {
+			mClosed = true;
+			super.close();
+		}
+
+		public int read(char[] pBuffer, int pOffset, int pLength)
+				throws IOException {
+			int read = super.read(pBuffer, pOffset, pLength);
+			if (read == -1) {
+				checkError();
+				Resources.getInstance().getLogger(Tools.class.getName())
+						.info("Updating the reader to the current version. Done.");
 			}
-			if (writer != null) {
-				writer.close();
+			return read;
+		}
+
+		public int read() throws IOException {
+			int read = super.read();
+			if (read == -1) {
+				checkError();
 			}
+			return read;
 		}
-		if (successful) {
-			String content = writer.getBuffer().toString();
-			String replacedContent = Tools.replaceUtf8AndIllegalXmlChars(content);
-			return new StringReader(replacedContent);
-		} else {
-			return new StringReader("<map><node TEXT='" + HtmlTools.toXMLEscapedText(errorMessage) + "'/></map>");
+
+		private void checkError() throws IOException {
+			if (mErrorMessage != null) {
+				throw new IOException(mErrorMessage);
+			}
 		}
 	}
 
@@ -1966,8 +2049,17 @@ public class Tools {
 		return classString;
 	}
 
+	/**
+	 * Copies the action without the detour over its xml, if possible, see
+	 * {@link XmlActionCopier}.
+	 */
 	public static XmlAction deepCopy(XmlAction action) {
-		return (XmlAction) unMarshall(marshall(action));
+		try {
+			return new XmlActionCopier().copy(action);
+		} catch (IllegalArgumentException e) {
+			Resources.getInstance().logException(e);
+			return (XmlAction) unMarshall(marshall(action));
+		}
 	}
 
 	public static String generateID(String proposedID, HashMap hashMap,
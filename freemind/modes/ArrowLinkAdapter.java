@@ -21,9 +21,9 @@
 package freemind.modes;
 
 import java.awt.Point;
+import java.io.IOException;
 
 import freemind.main.Tools;
-import freemind.main.XMLElement;
 
 public abstract class ArrowLinkAdapter extends LinkAdapter implements
 		MindMapArrowLink {
@@ -124,38 +124,35 @@ public abstract class ArrowLinkAdapter extends LinkAdapter implements
 		return showControlPointsFlag;
 	}
 
-	public XMLElement save() {
-		XMLElement arrowLink = new XMLElement();
-		arrowLink.setName("arrowlink");
-
-		if (style != null) {
-			arrowLink.setAttribute("STYLE", style);
-		}
-		if (getUniqueId() != null) {
-			arrowLink.setAttribute("ID", getUniqueId());
-		}
+	public void save(MapStreamWriter pWriter) throws IOException {
+		pWriter.startElement(getXmlName());
+		// alphabetical order:
 		if (color != null) {
-			arrowLink.setAttribute("COLOR", Tools.colorToXml(color));
-		}
-		if (getDestinationLabel() != null) {
-			arrowLink.setAttribute("DESTINATION", getDestinationLabel());
+			pWriter.addAttribute("COLOR", Tools.colorToXml(color));
 		}
-		if (getReferenceText() != null) {
-			arrowLink.setAttribute("REFERENCETEXT", getReferenceText());
+		pWriter.addAttribute("DESTINATION", getDestinationLabel());
+		pWriter.addAttribute("ENDARROW", getEndArrow());
+		if (getEndInclination() != null) {
+			pWriter.addAttribute("ENDINCLINATION",
+					Tools.PointToXml(getEndInclination()));
 		}
+		pWriter.addAttribute("ID", getUniqueId());
+		pWriter.addAttribute("REFERENCETEXT", getReferenceText());
+		saveSourceLabel(pWriter);
+		pWriter.addAttribute("STARTARROW", getStartArrow());
 		if (getStartInclination() != null) {
-			arrowLink.setAttribute("STARTINCLINATION",
+			pWriter.addAttribute("STARTINCLINATION",
 					Tools.PointToXml(getStartInclination()));
 		}
-		if (getEndInclination() != null) {
-			arrowLink.setAttribute("ENDINCLINATION",
-					Tools.PointToXml(getEndInclination()));
-		}
-		if (getStartArrow() != null)
-			arrowLink.setAttribute("STARTARROW", (getStartArrow()));
-		if (getEndArrow() != null)
-			arrowLink.setAttribute("ENDARROW", (getEndArrow()));
-		return arrowLink;
+		pWriter.addAttribute("STYLE", style);
+		pWriter.endElement();
+	}
+
+	protected String getXmlName() {
+		return "arrowlink";
+	}
+
+	protected void saveSourceLabel(MapStreamWriter pWriter) throws IOException {
 	}
 	
 	public ArrowLinkTarget createArrowLinkTarget(MindMapLinkRegistry pRegistry) {
@@ -20,7 +20,8 @@
 
 package freemind.modes;
 
-import freemind.main.XMLElement;
+import java.io.IOException;
+
 import freemind.modes.mindmapmode.MindMapArrowLinkModel;
 import freemind.view.mindmapview.MapView;
 
@@ -52,13 +53,12 @@ public class ArrowLinkTarget extends ArrowLinkAdapter {
 		mSourceLabel = sourceLabel;
 	}
 
-	public XMLElement save() {
-		XMLElement arrowLink = super.save();
-		arrowLink.setName("linktarget");
-		if (getSourceLabel() != null) {
-			arrowLink.setAttribute("SOURCE", getSourceLabel());
-		}
-		return arrowLink;
+	protected String getXmlName() {
+		return "linktarget";
+	}
+
+	protected void saveSourceLabel(MapStreamWriter pWriter) throws IOException {
+		pWriter.addAttribute("SOURCE", getSourceLabel());
 	}
 
 	/* (non-Javadoc)
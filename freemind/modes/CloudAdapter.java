@@ -23,11 +23,11 @@ package freemind.modes;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Stroke;
+import java.io.IOException;
 
 import freemind.controller.Controller;
 import freemind.main.FreeMind;
 import freemind.main.Tools;
-import freemind.main.XMLElement;
 import freemind.preferences.FreemindPropertyListener;
 
 public abstract class CloudAdapter extends LineAdapter implements MindMapCloud {
@@ -96,20 +96,16 @@ public abstract class CloudAdapter extends LineAdapter implements MindMapCloud {
 
 	private int iterativeLevel;
 
-	public XMLElement save() {
-		XMLElement cloud = new XMLElement();
-		cloud.setName("cloud");
-
-		if (style != null) {
-			cloud.setAttribute("STYLE", style);
-		}
+	public void save(MapStreamWriter pWriter) throws IOException {
+		pWriter.startElement("cloud");
 		if (color != null) {
-			cloud.setAttribute("COLOR", Tools.colorToXml(color));
+			pWriter.addAttribute("COLOR", Tools.colorToXml(color));
 		}
+		pWriter.addAttribute("STYLE", style);
 		if (width != DEFAULT_WIDTH) {
-			cloud.setAttribute("WIDTH", Integer.toString(width));
+			pWriter.addAttribute("WIDTH", Integer.toString(width));
 		}
-		return cloud;
+		pWriter.endElement();
 	}
 
 	protected Color getStandardColor() {
@@ -2,6 +2,7 @@ package freemind.modes;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.EventQueue;
 import java.awt.Font;
 import java.awt.Point;
 import java.awt.datatransfer.DataFlavor;
@@ -18,12 +19,16 @@ import java.awt.event.MouseEvent;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -70,6 +75,7 @@ import freemind.main.Tools;
 import freemind.main.XMLParseException;
 import freemind.modes.FreeMindFileDialog.DirectoryResultListener;
 import freemind.modes.common.listeners.MindMapMouseWheelEventHandler;
+import freemind.modes.mindmapmode.MindMapMapModel;
 import freemind.view.MapModule;
 import freemind.view.mindmapview.*;
 
@@ -316,11 +322,18 @@ public abstract class ControllerAdapter extends MapFeedbackAdapter implements Mo
 			((ControllerAdapter) newModeController).loadInternally(file, model);
 			newMap(model, newModeController);
 			newModeController.setSaved(true);
+			((ControllerAdapter) newModeController).mapLoaded();
 			restoreMapsLastState(newModeController, model);
 			return newModeController;
 		}
 	}
 
+	/**
+	 * Called after a map was loaded and its view is created.
+	 */
+	protected void mapLoaded() {
+	}
+
 	/**
 	 * @param model 
 	 * @param pFile
@@ -1033,17 +1046,31 @@ public abstract class ControllerAdapter extends MapFeedbackAdapter implements Mo
 		return copy(selectedNodes, false);
 	}
 
+	/**
+	 * The nodes are written to a compressed {@link CopiedNodes} at once. All
+	 * their flavors apart from the ids are created from it when they are
+	 * requested.
+	 */
 	public Transferable copy(List selectedNodes, boolean copyInvisible) {
 		try {
-			String forNodesFlavor = createForNodesFlavor(selectedNodes,
-					copyInvisible);
+			final CopiedNodes copiedNodes = new CopiedNodes();
+			try (Writer writer = copiedNodes.mSnapshot.getWriter()) {
+				writeNodesFlavor(selectedNodes, copyInvisible, writer);
+			}
 			List createForNodeIdsFlavor = createForNodeIdsFlavor(selectedNodes,
 					copyInvisible);
 
-			String plainText = getMap().getAsPlainText(selectedNodes);
-			return new MindMapNodesSelection(forNodesFlavor, null, plainText,
-					getMap().getAsRTF(selectedNodes), getMap().getAsHTML(
-							selectedNodes), null, null, createForNodeIdsFlavor);
+			MindMapNodesSelection selection = new MindMapNodesSelection(null,
+					null, null, null, null, null, null, createForNodeIdsFlavor);
+			selection.setLazyContent(MindMapNodesSelection.mindMapNodesFlavor,
+					copiedNodes::getNodesFlavor);
+			selection.setLazyContent(DataFlavor.stringFlavor,
+					() -> copiedNodes.createFlavor(MindMap::getAsPlainText));
+			selection.setLazyContent(MindMapNodesSelection.rtfFlavor,
+					() -> copiedNodes.createFlavor(MindMap::getAsRTF));
+			selection.setLazyContent(MindMapNodesSelection.htmlFlavor,
+					() -> copiedNodes.createFlavor(MindMap::getAsHTML));
+			return selection;
 		}
 
 		catch (UnsupportedFlavorException | IOException ex) {
@@ -1052,22 +1079,93 @@ public abstract class ControllerAdapter extends MapFeedbackAdapter implements Mo
 		return null;
 	}
 
+	/**
+	 * The xml of the nodes of a copy, separated by {@link #NODESEPARATOR}.
+	 * The flavors created from it show the nodes at the time of the copy,
+	 * even if the map has been changed in the meantime. As they may be
+	 * requested outside of the event dispatch thread, the nodes are read
+	 * into a detached map, without this controller.
+	 */
+	private static class CopiedNodes {
+		private interface Export {
+			String export(MindMap pMap, List pNodes);
+		}
+
+		private final MapSnapshot mSnapshot = new MapSnapshot();
+
+		String getNodesFlavor() {
+			StringWriter writer = new StringWriter();
+			try {
+				mSnapshot.writeTo(writer);
+			} catch (IOException e) {
+				freemind.main.Resources.getInstance().logException(e);
+				return null;
+			}
+			return writer.toString();
+		}
+
+		/**
+		 * Each flavor reads the nodes again, as the detached map is destroyed
+		 * afterwards.
+		 */
+		String createFlavor(Export pExport) {
+			ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+			MindMapMapModel map = new MindMapMapModel(mapFeedback);
+			mapFeedback.setMap(map);
+			try {
+				List nodes = new Vector();
+				for (String node : getNodesFlavor().split(NODESEPARATOR)) {
+					MindMapNode copy = new MapStreamLoader(mapFeedback,
+							new HashMap()).load(new StringReader(node));
+					if (copy != null) {
+						nodes.add(copy);
+					}
+				}
+				return pExport.export(map, nodes);
+			} catch (Exception e) {
+				freemind.main.Resources.getInstance().logException(e);
+				return null;
+			} finally {
+				// the map starts its automatic save in the event dispatch
+				// thread, thus it is stopped there, too:
+				EventQueue.invokeLater(map::destroy);
+			}
+		}
+	}
+
+	/**
+	 * Writes the xml of the nodes, separated by {@link #NODESEPARATOR}.
+	 */
+	protected void writeNodesFlavor(List selectedNodes, boolean copyInvisible,
+			Writer pWriter) throws IOException {
+		boolean firstLoop = true;
+		for (Object selectedNode : selectedNodes) {
+			if (firstLoop) {
+				firstLoop = false;
+			} else {
+				pWriter.write(NODESEPARATOR);
+			}
+			((MindMapNode) selectedNode).save(pWriter, getMap()
+					.getLinkRegistry(), copyInvisible, true);
+		}
+	}
+
 	public String createForNodesFlavor(List selectedNodes, boolean copyInvisible)
 			throws UnsupportedFlavorException, IOException {
-		String forNodesFlavor = "";
+		StringBuilder forNodesFlavor = new StringBuilder();
 		boolean firstLoop = true;
 		for (Object selectedNode : selectedNodes) {
 			MindMapNode tmpNode = (MindMapNode) selectedNode;
 			if (firstLoop) {
 				firstLoop = false;
 			} else {
-				forNodesFlavor += NODESEPARATOR;
+				forNodesFlavor.append(NODESEPARATOR);
 			}
 
-			forNodesFlavor += copy(tmpNode, copyInvisible).getTransferData(
-					MindMapNodesSelection.mindMapNodesFlavor);
+			forNodesFlavor.append(copy(tmpNode, copyInvisible).getTransferData(
+					MindMapNodesSelection.mindMapNodesFlavor));
 		}
-		return forNodesFlavor;
+		return forNodesFlavor.toString();
 	}
 
 	public List createForNodeIdsFlavor(List selectedNodes, boolean copyInvisible)
@@ -21,11 +21,11 @@
 package freemind.modes;
 
 import java.awt.Color;
+import java.io.IOException;
 
 import freemind.controller.Controller;
 import freemind.main.FreeMind;
 import freemind.main.Tools;
-import freemind.main.XMLElement;
 import freemind.preferences.FreemindPropertyListener;
 
 public abstract class EdgeAdapter extends LineAdapter implements MindMapEdge {
@@ -119,26 +119,21 @@ public abstract class EdgeAdapter extends LineAdapter implements MindMapEdge {
 		return target.getParentNode();
 	}
 
-	public XMLElement save() {
+	public void save(MapStreamWriter pWriter) throws IOException {
 		if (style != null || color != null || width != WIDTH_PARENT) {
-			XMLElement edge = new XMLElement();
-			edge.setName("edge");
-
-			if (style != null) {
-				edge.setAttribute("STYLE", style);
-			}
+			pWriter.startElement("edge");
 			if (color != null) {
-				edge.setAttribute("COLOR", Tools.colorToXml(color));
+				pWriter.addAttribute("COLOR", Tools.colorToXml(color));
 			}
+			pWriter.addAttribute("STYLE", style);
 			if (width != WIDTH_PARENT) {
 				if (width == WIDTH_THIN)
-					edge.setAttribute("WIDTH", EDGE_WIDTH_THIN_STRING);
+					pWriter.addAttribute("WIDTH", EDGE_WIDTH_THIN_STRING);
 				else
-					edge.setAttribute("WIDTH", Integer.toString(width));
+					pWriter.addAttribute("WIDTH", Integer.toString(width));
 			}
-			return edge;
+			pWriter.endElement();
 		}
-		return null;
 	}
 
 	protected Color getStandardColor() {
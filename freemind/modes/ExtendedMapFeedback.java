@@ -77,6 +77,12 @@ public interface ExtendedMapFeedback extends MapFeedback, MindMapActions {
 	 */
 	void insertNodeInto(MindMapNode pNewNode, MindMapNode pParent, int pIndex);
 
+	/**
+	 * Inserts the new (detached) nodes with a single event, see
+	 * {@link MindMap#insertNodesInto(List, MindMapNode, int)}.
+	 */
+	void insertNodesInto(List pNewNodes, MindMapNode pParent, int pIndex);
+
 	/**
 	 * @param pUserObject is the string/html of the new node
 	 * @param pMap
@@ -116,6 +116,12 @@ public abstract class ExtendedMapFeedbackAdapter extends MapFeedbackAdapter
 		getMap().insertNodeInto(pNewNode, pParent, pIndex);
 	}
 
+	@Override
+	public void insertNodesInto(List pNewNodes, MindMapNode pParent,
+			int pIndex) {
+		getMap().insertNodesInto(pNewNodes, pParent, pIndex);
+	}
+
 	@Override
 	public MindMapNode newNode(Object pUserObject, MindMap pMap) {
 		return null;
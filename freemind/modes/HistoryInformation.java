@@ -47,6 +47,11 @@ public class HistoryInformation {
 		lastModifiedAt = now;
 	}
 
+	protected HistoryInformation(long pCreatedAt, long pLastModifiedAt) {
+		createdAt = pCreatedAt;
+		lastModifiedAt = pLastModifiedAt;
+	}
+
 	public HistoryInformation(Date createdAt, Date lastModifiedAt) {
 		this.createdAt = createdAt.getTime();
 		this.lastModifiedAt = lastModifiedAt.getTime();
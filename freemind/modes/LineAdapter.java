@@ -115,7 +115,8 @@ public abstract class LineAdapter implements MindMapLine {
 	}
 
 	public void setStyle(String style) {
-		this.style = style;
+		// only a few different styles exist:
+		this.style = (style != null) ? style.intern() : null;
 	}
 
 	public String toString() {
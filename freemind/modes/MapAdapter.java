@@ -339,6 +339,26 @@ public abstract class MapAdapter extends DefaultTreeModel implements MindMap {
 
 	}
 
+	/* (non-Javadoc)
+	 * @see freemind.modes.MindMap#insertNodesInto(java.util.List, freemind.modes.MindMapNode, int)
+	 */
+	@Override
+	public void insertNodesInto(List pNodes, MindMapNode pParent, int pIndex) {
+		if (pNodes.isEmpty()) {
+			return;
+		}
+		int[] childIndices = new int[pNodes.size()];
+		for (int i = 0; i < childIndices.length; i++) {
+			childIndices[i] = pIndex + i;
+			pParent.insert((MindMapNode) pNodes.get(i), childIndices[i]);
+		}
+		nodesWereInserted(pParent, childIndices);
+		// call hooks
+		for (Object node : pNodes) {
+			mMapFeedback.fireRecursiveNodeCreateEvent((MindMapNode) node);
+		}
+	}
+
 	/**
 	 * This method should not be called directly!
 	 */
@@ -549,10 +569,9 @@ public abstract class MapAdapter extends DefaultTreeModel implements MindMap {
 	@Override
 	public MindMapNode createNodeTreeFromXml(Reader pReader, HashMap pIDToTarget)
 			throws XMLParseException, IOException {
-		XMLElementAdapter xmlAdapter = new XMLElementAdapter(mMapFeedback, new Vector(), pIDToTarget);
-		xmlAdapter.parseFromReader(pReader);
-		xmlAdapter.processUnfinishedLinks(getLinkRegistry());
-		MindMapNode node = xmlAdapter.getMapChild();
+		MapStreamLoader loader = new MapStreamLoader(mMapFeedback, pIDToTarget);
+		MindMapNode node = loader.load(pReader);
+		loader.processUnfinishedLinks(getLinkRegistry());
 		return node;
 	}
 	
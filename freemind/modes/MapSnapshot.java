@@ -0,0 +1,112 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The xml of a map, compressed in memory. It is written in the event dispatch
+ * thread, where the nodes are changed, and can be read afterwards by any
+ * thread (e.g. to write it to disk or to export it), while the map is edited
+ * again. The xml is streamed into the snapshot, thus the map is never held as
+ * one string.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapSnapshot {
+
+	/** Gives access to the buffer without copying it. */
+	private static class Buffer extends ByteArrayOutputStream {
+		InputStream getInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+	}
+
+	private final Buffer mBuffer = new Buffer();
+
+	private volatile boolean mWritten = false;
+
+	/**
+	 * @return the writer the xml of the map is written to. It has to be
+	 *         closed, before the snapshot is read.
+	 */
+	public Writer getWriter() {
+		OutputStream compressed = new DeflaterOutputStream(mBuffer,
+				new Deflater(Deflater.BEST_SPEED)) {
+			public void close() throws IOException {
+				super.close();
+				// the deflater isn't created by the stream, thus not ended:
+				def.end();
+				mWritten = true;
+			}
+		};
+		return new BufferedWriter(new OutputStreamWriter(compressed,
+				StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return a new reader of the xml. Can be called from any thread and
+	 *         more than once.
+	 */
+	public Reader getReader() {
+		if (!mWritten) {
+			throw new IllegalStateException("The snapshot is not written yet.");
+		}
+		return new BufferedReader(new InputStreamReader(
+				new InflaterInputStream(mBuffer.getInputStream()),
+				StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Copies the xml to the writer.
+	 */
+	public void writeTo(Writer pWriter) throws IOException {
+		try (Reader reader = getReader()) {
+			char[] buffer = new char[8192];
+			int read;
+			while ((read = reader.read(buffer)) >= 0) {
+				pWriter.write(buffer, 0, read);
+			}
+		}
+	}
+
+	/**
+	 * @return the size of the compressed xml in bytes.
+	 */
+	public int getSize() {
+		return mBuffer.size();
+	}
+}
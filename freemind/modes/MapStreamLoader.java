@@ -0,0 +1,363 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes;
+
+import java.awt.Font;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Vector;
+
+import org.xmlpull.mxp1.MXParser;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import freemind.main.XMLElement;
+import freemind.main.XMLParseException;
+import freemind.modes.attributes.Attribute;
+
+/**
+ * Creates the node tree of a map directly from the events of a pull parser.
+ *
+ * In contrast to {@link XMLElementAdapter}, no intermediate XMLElement is
+ * created per tag (only hooks get their XMLElement, as they are loaded from
+ * it). The semantics are the same: attributes are applied in the same way, and
+ * arrow links are collected and completed by
+ * {@link XMLElementAdapter#processUnfinishedLinks(MindMapLinkRegistry)}.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapStreamLoader {
+
+	private static final String XML_ROUNDTRIP_FEATURE = "http://xmlpull.org/v1/doc/features.html#xml-roundtrip";
+
+	private final MapFeedback mMapFeedback;
+	private final Vector mArrowLinkAdapters = new Vector();
+	private final HashMap /* id -> target */mIdToTarget;
+	private XmlPullParser mParser;
+
+	public MapStreamLoader(MapFeedback pMapFeedback, HashMap pIDToTarget) {
+		mMapFeedback = pMapFeedback;
+		mIdToTarget = pIDToTarget;
+	}
+
+	/**
+	 * Reads a &lt;map&gt; or a single &lt;node&gt; tree from the reader.
+	 *
+	 * @return the (first) node found or null, if there is none.
+	 */
+	public MindMapNode load(Reader pReader) throws XMLParseException,
+			IOException {
+		try {
+			mParser = new MXParser();
+			mParser.setFeature(XML_ROUNDTRIP_FEATURE, true);
+			mParser.setInput(pReader);
+			int eventType = mParser.next();
+			while (eventType != XmlPullParser.START_TAG) {
+				if (eventType == XmlPullParser.END_DOCUMENT) {
+					return null;
+				}
+				eventType = mParser.next();
+			}
+			String name = mParser.getName();
+			if (XMLElementAdapter.XML_NODE.equals(name)) {
+				return readNode();
+			}
+			if (!"map".equals(name)) {
+				skipElement();
+				return null;
+			}
+			NodeAdapter mapChild = null;
+			while (nextChildTag() == XmlPullParser.START_TAG) {
+				if (XMLElementAdapter.XML_NODE.equals(mParser.getName())) {
+					mapChild = readNode();
+				} else {
+					skipElement();
+				}
+			}
+			return mapChild;
+		} catch (XmlPullParserException e) {
+			throw new XMLParseException(mParser.getName(),
+					e.getLineNumber(), e.getMessage());
+		} finally {
+			mParser = null;
+		}
+	}
+
+	/**
+	 * Completes the links within the map. See
+	 * {@link XMLElementAdapter#processUnfinishedLinks(MindMapLinkRegistry)}.
+	 */
+	public void processUnfinishedLinks(MindMapLinkRegistry registry) {
+		new XMLElementAdapter(mMapFeedback, mArrowLinkAdapters, mIdToTarget)
+				.processUnfinishedLinks(registry);
+	}
+
+	private MindMap getMap() {
+		return mMapFeedback.getMap();
+	}
+
+	/**
+	 * Precondition: the parser is at the start tag of the node. Postcondition:
+	 * it is at its end tag.
+	 */
+	private NodeAdapter readNode() throws XmlPullParserException, IOException {
+		NodeAdapter node = getMap().createNodeAdapter(getMap(), null);
+		for (int i = 0; i < mParser.getAttributeCount(); i++) {
+			XMLElementAdapter.setNodeAttribute(getAttributeName(i),
+					mParser.getAttributeValue(i), node, mIdToTarget);
+		}
+		while (nextChildTag() == XmlPullParser.START_TAG) {
+			String name = mParser.getName();
+			switch (name) {
+			case XMLElementAdapter.XML_NODE:
+				// to the end without preferable... (PN)
+				node.insert(readNode(), -1);
+				break;
+			case "edge":
+				EdgeAdapter edge = getMap().createEdgeAdapter(null);
+				for (int i = 0; i < mParser.getAttributeCount(); i++) {
+					XMLElementAdapter.setEdgeAttribute(edge,
+							getAttributeName(i), mParser.getAttributeValue(i));
+				}
+				skipElement();
+				edge.setTarget(node);
+				node.setEdge(edge);
+				break;
+			case "cloud":
+				CloudAdapter cloud = getMap().createCloudAdapter(null);
+				for (int i = 0; i < mParser.getAttributeCount(); i++) {
+					XMLElementAdapter.setCloudAttribute(cloud,
+							getAttributeName(i), mParser.getAttributeValue(i));
+				}
+				skipElement();
+				cloud.setTarget(node);
+				node.setCloud(cloud);
+				break;
+			case "arrowlink":
+				ArrowLinkAdapter arrowLink = getMap().createArrowLinkAdapter(
+						null, null);
+				readArrowLinkAttributes(arrowLink);
+				arrowLink.setSource(node);
+				// annotate this link: (later processed by caller.).
+				mArrowLinkAdapters.add(arrowLink);
+				break;
+			case "linktarget":
+				ArrowLinkTarget arrowLinkTarget = getMap()
+						.createArrowLinkTarget(null, null);
+				readArrowLinkAttributes(arrowLinkTarget);
+				arrowLinkTarget.setTarget(node);
+				mArrowLinkAdapters.add(arrowLinkTarget);
+				break;
+			case "font":
+				node.setFont(readFont());
+				break;
+			case "icon":
+				String iconName = getAttributeValue("BUILTIN");
+				skipElement();
+				node.addIcon(MindIcon.factory(iconName), MindIcon.LAST);
+				break;
+			case XMLElementAdapter.XML_NODE_ATTRIBUTE:
+				Attribute attribute = new Attribute(getAttributeValue("NAME"),
+						getAttributeValue("VALUE"));
+				skipElement();
+				node.addAttribute(attribute);
+				break;
+			case XMLElement.XML_NODE_XHTML_CONTENT_TAG:
+				String type = getAttributeValue(XMLElementAdapter.XML_NODE_XHTML_TYPE_TAG);
+				XMLElementAdapter.setRichContent(node, readRawContent(), type);
+				break;
+			case "hook":
+				XMLElementAdapter.addHook(mMapFeedback, node, readXmlElement());
+				break;
+			default:
+				// attribute_layout and unknown tags.
+				skipElement();
+				break;
+			}
+		}
+		return node;
+	}
+
+	private void readArrowLinkAttributes(ArrowLinkAdapter pArrowLink)
+			throws XmlPullParserException, IOException {
+		for (int i = 0; i < mParser.getAttributeCount(); i++) {
+			XMLElementAdapter.setArrowLinkAttribute(pArrowLink,
+					getAttributeName(i), mParser.getAttributeValue(i));
+		}
+		skipElement();
+	}
+
+	private Font readFont() throws XmlPullParserException, IOException {
+		String fontName = null;
+		int fontStyle = 0;
+		int fontSize = 0;
+		boolean strikethrough = false;
+		for (int i = 0; i < mParser.getAttributeCount(); i++) {
+			String name = getAttributeName(i);
+			String value = mParser.getAttributeValue(i);
+			if (name.equals("SIZE")) {
+				fontSize = Integer.parseInt(value);
+			} else if (name.equals("NAME")) {
+				fontName = value;
+			} else if (value.equals("true")) {
+				switch (name) {
+				case "BOLD":
+					fontStyle += Font.BOLD;
+					break;
+				case "ITALIC":
+					fontStyle += Font.ITALIC;
+					break;
+				case "STRIKETHROUGH":
+					strikethrough = true;
+					break;
+				}
+			}
+		}
+		skipElement();
+		return XMLElementAdapter.createFont(mMapFeedback, fontName, fontStyle,
+				fontSize, strikethrough);
+	}
+
+	/**
+	 * Collects the unparsed content of the current element (used for the
+	 * xhtml inside &lt;richcontent&gt;), like the collection mode of
+	 * {@link XMLElement} does.
+	 */
+	private String readRawContent() throws XmlPullParserException,
+			IOException {
+		StringBuilder content = new StringBuilder();
+		int depth = mParser.getDepth();
+		boolean skipEndTag = false;
+		for (;;) {
+			int token = mParser.nextToken();
+			switch (token) {
+			case XmlPullParser.START_TAG:
+				content.append(mParser.getText());
+				skipEndTag = mParser.isEmptyElementTag();
+				break;
+			case XmlPullParser.END_TAG:
+				if (mParser.getDepth() == depth) {
+					return content.toString().trim();
+				}
+				if (!skipEndTag) {
+					content.append(mParser.getText());
+				}
+				skipEndTag = false;
+				break;
+			case XmlPullParser.ENTITY_REF:
+				content.append('&').append(mParser.getName()).append(';');
+				break;
+			case XmlPullParser.CDSECT:
+				content.append("<![CDATA[").append(mParser.getText())
+						.append("]]>");
+				break;
+			case XmlPullParser.COMMENT:
+				content.append("<!--").append(mParser.getText()).append("-->");
+				break;
+			case XmlPullParser.PROCESSING_INSTRUCTION:
+				content.append("<?").append(mParser.getText()).append("?>");
+				break;
+			case XmlPullParser.END_DOCUMENT:
+				throw new XmlPullParserException("Unexpected end of data in "
+						+ XMLElement.XML_NODE_XHTML_CONTENT_TAG, mParser, null);
+			default:
+				content.append(mParser.getText());
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Reads the current element with all its children into an XMLElement
+	 * (used for hooks).
+	 */
+	private XMLElement readXmlElement() throws XmlPullParserException,
+			IOException {
+		XMLElement element = new XMLElement();
+		element.setName(mParser.getName());
+		for (int i = 0; i < mParser.getAttributeCount(); i++) {
+			element.setAttribute(mParser.getAttributeName(i),
+					mParser.getAttributeValue(i));
+		}
+		StringBuilder content = new StringBuilder();
+		boolean hasChildren = false;
+		for (;;) {
+			int eventType = mParser.next();
+			if (eventType == XmlPullParser.START_TAG) {
+				hasChildren = true;
+				element.addChild(readXmlElement());
+			} else if (eventType == XmlPullParser.TEXT) {
+				content.append(mParser.getText());
+			} else if (eventType == XmlPullParser.END_TAG) {
+				break;
+			}
+		}
+		if (!hasChildren && content.toString().trim().length() > 0) {
+			element.setContent(content.toString());
+		}
+		return element;
+	}
+
+	/**
+	 * Moves to the next child element or to the end tag of the current
+	 * element. Text between the elements (e.g. in hand edited maps) is
+	 * ignored, as {@link XMLElement} did.
+	 */
+	private int nextChildTag() throws XmlPullParserException, IOException {
+		int eventType = mParser.next();
+		while (eventType == XmlPullParser.TEXT) {
+			eventType = mParser.next();
+		}
+		return eventType;
+	}
+
+	private void skipElement() throws XmlPullParserException, IOException {
+		int depth = 1;
+		while (depth > 0) {
+			switch (mParser.next()) {
+			case XmlPullParser.START_TAG:
+				depth++;
+				break;
+			case XmlPullParser.END_TAG:
+				depth--;
+				break;
+			}
+		}
+	}
+
+	/** Attribute names are case insensitive, as in {@link XMLElement}. */
+	private String getAttributeName(int pIndex) {
+		return mParser.getAttributeName(pIndex).toUpperCase(Locale.ENGLISH);
+	}
+
+	private String getAttributeValue(String pName) {
+		for (int i = 0; i < mParser.getAttributeCount(); i++) {
+			if (getAttributeName(i).equals(pName)) {
+				return mParser.getAttributeValue(i);
+			}
+		}
+		return null;
+	}
+
+}
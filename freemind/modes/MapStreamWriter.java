@@ -0,0 +1,195 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+
+import freemind.main.XMLElement;
+
+/**
+ * Writes map elements directly to a writer, without building an
+ * {@link XMLElement} per element first.
+ *
+ * The output is the same as the one of {@link XMLElement#write(Writer)}: the
+ * same encoding of attribute values and contents, empty elements as
+ * &lt;name/&gt;, every element followed by a newline. As XMLElement writes the
+ * attributes sorted by their names, the callers have to add them in
+ * alphabetical order.
+ *
+ * Subclasses may generate other output from the same calls, see
+ * {@link MapXmlReader}.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapStreamWriter {
+
+	private final Writer mWriter;
+
+	private final ArrayList<String> mOpenElements = new ArrayList<>();
+
+	/** true, if the start tag of the innermost element is not closed yet. */
+	private boolean mStartTagOpen = false;
+
+	private boolean mFirePreSaveEvents = true;
+
+	public MapStreamWriter(Writer pWriter) {
+		mWriter = pWriter;
+	}
+
+	/**
+	 * The nodes fire a pre save event before they are written (see
+	 * {@link MapFeedback#firePreSaveEvent(MindMapNode)}). The listeners read
+	 * and change the editors of the node, thus a writer that is used outside
+	 * of the event dispatch thread has to switch the events off. Only the
+	 * editors of the selected node may hold unsaved contents, thus it is
+	 * enough to fire the event for this node on the event dispatch thread
+	 * before.
+	 */
+	public void setFirePreSaveEvents(boolean pFirePreSaveEvents) {
+		mFirePreSaveEvents = pFirePreSaveEvents;
+	}
+
+	public boolean isFirePreSaveEvents() {
+		return mFirePreSaveEvents;
+	}
+
+	public void startElement(String pName) throws IOException {
+		closeStartTag(true);
+		mWriter.write('<');
+		mWriter.write(pName);
+		mOpenElements.add(pName);
+		mStartTagOpen = true;
+	}
+
+	/**
+	 * Must be called directly after {@link #startElement(String)} or another
+	 * addAttribute. Null values are ignored.
+	 */
+	public void addAttribute(String pName, String pValue) throws IOException {
+		if (pValue == null) {
+			return;
+		}
+		mWriter.write(' ');
+		mWriter.write(pName);
+		mWriter.write("=\"");
+		writeEncoded(pValue);
+		mWriter.write('"');
+	}
+
+	/**
+	 * Writes already encoded content (see
+	 * {@link XMLElement#setEncodedContent(String)}). Empty content is ignored.
+	 */
+	public void addEncodedContent(String pContent) throws IOException {
+		if (pContent == null || pContent.length() == 0) {
+			return;
+		}
+		closeStartTag(false);
+		mWriter.write(pContent);
+	}
+
+	public void endElement() throws IOException {
+		String name = mOpenElements.remove(mOpenElements.size() - 1);
+		if (mStartTagOpen) {
+			mStartTagOpen = false;
+			mWriter.write("/>\n");
+			return;
+		}
+		mWriter.write("</");
+		mWriter.write(name);
+		mWriter.write(">\n");
+	}
+
+	/**
+	 * Writes an element that is only available as {@link XMLElement} (like
+	 * hooks).
+	 */
+	public void writeElement(XMLElement pElement) throws IOException {
+		closeStartTag(true);
+		pElement.write(mWriter);
+	}
+
+	/**
+	 * Ends the start tag of the current element, even if no content or child
+	 * element follows. Thus, the element is closed by an end tag.
+	 */
+	public void closeStartTag() throws IOException {
+		closeStartTag(true);
+	}
+
+	private void closeStartTag(boolean pWithNewline) throws IOException {
+		if (mStartTagOpen) {
+			mStartTagOpen = false;
+			mWriter.write('>');
+			if (pWithNewline) {
+				mWriter.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Same encoding as XMLElement.writeEncoded, but unescaped parts are written
+	 * in one go.
+	 */
+	private void writeEncoded(String pString) throws IOException {
+		int length = pString.length();
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			char ch = pString.charAt(i);
+			String replacement;
+			switch (ch) {
+			case '<':
+				replacement = "&lt;";
+				break;
+			case '>':
+				replacement = "&gt;";
+				break;
+			case '&':
+				replacement = "&amp;";
+				break;
+			case '"':
+				replacement = "&quot;";
+				break;
+			case '\'':
+				replacement = "&apos;";
+				break;
+			default:
+				if (ch >= 32 && ch <= 126) {
+					continue;
+				}
+				replacement = "&#x" + Integer.toString(ch, 16) + ";";
+				break;
+			}
+			if (i > start) {
+				mWriter.write(pString, start, i - start);
+			}
+			mWriter.write(replacement);
+			start = i + 1;
+		}
+		if (length > start) {
+			mWriter.write(pString, start, length - start);
+		}
+	}
+
+}
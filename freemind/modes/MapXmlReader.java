@@ -0,0 +1,379 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.sax.SAXSource;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.DTDHandler;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.DefaultHandler2;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+import freemind.main.XMLElement;
+
+/**
+ * Generates the SAX events of the filtered xml of a map directly from the
+ * nodes (see {@link MindMap#getFilteredXml(MapStreamWriter)}). Thus, an xslt
+ * transformation of a map doesn't need the map as a string first. As the
+ * nodes are read while the events are generated, the map must not be changed
+ * during a parse.
+ *
+ * The events are the same as the ones of parsing the filtered xml, apart from
+ * the comment at the beginning.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapXmlReader implements XMLReader {
+
+	private static final String LEXICAL_HANDLER = "http://xml.org/sax/properties/lexical-handler";
+
+	/**
+	 * Is informed about each written node.
+	 */
+	public interface ProgressListener {
+		/**
+		 * @return true, if the parse should be canceled.
+		 */
+		boolean nodeWritten();
+	}
+
+	private final MindMap mMap;
+
+	private final ProgressListener mProgressListener;
+
+	private ContentHandler mContentHandler = null;
+
+	private DTDHandler mDTDHandler = null;
+
+	private EntityResolver mEntityResolver = null;
+
+	private ErrorHandler mErrorHandler = null;
+
+	private final HashMap<String, Boolean> mFeatures = new HashMap<>();
+
+	private final HashMap<String, Object> mProperties = new HashMap<>();
+
+	public MapXmlReader(MindMap pMap, ProgressListener pProgressListener) {
+		mMap = pMap;
+		mProgressListener = pProgressListener;
+	}
+
+	/**
+	 * @return a source for transformations of the filtered xml of the map.
+	 */
+	public static Source createSource(MindMap pMap,
+			ProgressListener pProgressListener) {
+		return new SAXSource(new MapXmlReader(pMap, pProgressListener),
+				new InputSource());
+	}
+
+	/**
+	 * The input source is ignored, the map is the input.
+	 */
+	public void parse(InputSource pInput) throws IOException, SAXException {
+		if (mContentHandler == null) {
+			mContentHandler = new DefaultHandler();
+		}
+		mContentHandler.startDocument();
+		try {
+			mMap.getFilteredXml(new SaxWriter());
+		} catch (SaxWrapperException e) {
+			throw e.getSAXException();
+		}
+		mContentHandler.endDocument();
+	}
+
+	public void parse(String pSystemId) throws IOException, SAXException {
+		parse(new InputSource(pSystemId));
+	}
+
+	/**
+	 * The {@link MapStreamWriter} methods can only throw IOExceptions.
+	 */
+	private static class SaxWrapperException extends IOException {
+		SaxWrapperException(SAXException pCause) {
+			super(pCause);
+		}
+
+		SAXException getSAXException() {
+			return (SAXException) getCause();
+		}
+	}
+
+	/**
+	 * Generates the events instead of writing the xml. Encoded contents and
+	 * elements given as {@link XMLElement} are parsed as xml fragments.
+	 */
+	private class SaxWriter extends MapStreamWriter {
+
+		private final char[] mNewline = new char[] { '\n' };
+
+		private final ArrayList<String> mOpenElements = new ArrayList<>();
+
+		private AttributesImpl mAttributes = null;
+
+		private SAXParser mFragmentParser = null;
+
+		private FragmentHandler mFragmentHandler = null;
+
+		SaxWriter() {
+			super(null);
+			// the map may be read outside of the event dispatch thread.
+			setFirePreSaveEvents(false);
+		}
+
+		public void startElement(String pName) throws IOException {
+			closeStartTag(true);
+			mOpenElements.add(pName);
+			mAttributes = new AttributesImpl();
+			if (XMLElementAdapter.XML_NODE.equals(pName)
+					&& mProgressListener != null
+					&& mProgressListener.nodeWritten()) {
+				throw new SaxWrapperException(new SAXException(
+						"Parse canceled."));
+			}
+		}
+
+		public void addAttribute(String pName, String pValue) {
+			if (pValue == null) {
+				return;
+			}
+			mAttributes.addAttribute("", pName, pName, "CDATA", pValue);
+		}
+
+		public void addEncodedContent(String pContent) throws IOException {
+			if (pContent == null || pContent.length() == 0) {
+				return;
+			}
+			closeStartTag(false);
+			parseFragment(pContent);
+		}
+
+		public void endElement() throws IOException {
+			closeStartTag(false);
+			String name = mOpenElements.remove(mOpenElements.size() - 1);
+			try {
+				mContentHandler.endElement("", name, name);
+				if (!mOpenElements.isEmpty()) {
+					mContentHandler.characters(mNewline, 0, 1);
+				}
+			} catch (SAXException e) {
+				throw new SaxWrapperException(e);
+			}
+		}
+
+		public void writeElement(XMLElement pElement) throws IOException {
+			closeStartTag(true);
+			StringWriter writer = new StringWriter();
+			pElement.write(writer);
+			parseFragment(writer.toString());
+		}
+
+		public void closeStartTag() throws IOException {
+			closeStartTag(true);
+		}
+
+		private void closeStartTag(boolean pWithNewline) throws IOException {
+			if (mAttributes == null) {
+				return;
+			}
+			String name = mOpenElements.get(mOpenElements.size() - 1);
+			try {
+				mContentHandler.startElement("", name, name, mAttributes);
+				if (pWithNewline) {
+					mContentHandler.characters(mNewline, 0, 1);
+				}
+			} catch (SAXException e) {
+				throw new SaxWrapperException(e);
+			}
+			mAttributes = null;
+		}
+
+		private void parseFragment(String pFragment) throws IOException {
+			try {
+				if (mFragmentParser == null) {
+					SAXParserFactory factory = SAXParserFactory.newInstance();
+					factory.setNamespaceAware(true);
+					mFragmentParser = factory.newSAXParser();
+					mFragmentHandler = new FragmentHandler();
+					// comments and cdata sections:
+					mFragmentParser.setProperty(LEXICAL_HANDLER,
+							mFragmentHandler);
+				}
+				mFragmentHandler.mDepth = 0;
+				// the html contents may contain &nbsp;.
+				mFragmentParser.parse(new InputSource(new StringReader(
+						"<!DOCTYPE fragment [<!ENTITY nbsp \"&#160;\">]><fragment>"
+								+ pFragment + "</fragment>")), mFragmentHandler);
+			} catch (SAXException e) {
+				throw new SaxWrapperException(e);
+			} catch (ParserConfigurationException e) {
+				throw new SaxWrapperException(new SAXException(e));
+			}
+		}
+	}
+
+	/**
+	 * Passes the events of a fragment without the surrounding element and the
+	 * doctype on.
+	 */
+	private class FragmentHandler extends DefaultHandler2 {
+		private int mDepth = 0;
+
+		public void startElement(String pUri, String pLocalName,
+				String pQName, Attributes pAttributes) throws SAXException {
+			if (mDepth++ > 0) {
+				mContentHandler.startElement(pUri, pLocalName, pQName,
+						pAttributes);
+			}
+		}
+
+		public void endElement(String pUri, String pLocalName, String pQName)
+				throws SAXException {
+			if (--mDepth > 0) {
+				mContentHandler.endElement(pUri, pLocalName, pQName);
+			}
+		}
+
+		public void characters(char[] pCh, int pStart, int pLength)
+				throws SAXException {
+			mContentHandler.characters(pCh, pStart, pLength);
+		}
+
+		public void ignorableWhitespace(char[] pCh, int pStart, int pLength)
+				throws SAXException {
+			mContentHandler.ignorableWhitespace(pCh, pStart, pLength);
+		}
+
+		public void processingInstruction(String pTarget, String pData)
+				throws SAXException {
+			mContentHandler.processingInstruction(pTarget, pData);
+		}
+
+		public void startPrefixMapping(String pPrefix, String pUri)
+				throws SAXException {
+			mContentHandler.startPrefixMapping(pPrefix, pUri);
+		}
+
+		public void endPrefixMapping(String pPrefix) throws SAXException {
+			mContentHandler.endPrefixMapping(pPrefix);
+		}
+
+		public void comment(char[] pCh, int pStart, int pLength)
+				throws SAXException {
+			LexicalHandler handler = getLexicalHandler();
+			if (handler != null && mDepth > 0) {
+				handler.comment(pCh, pStart, pLength);
+			}
+		}
+
+		public void startCDATA() throws SAXException {
+			LexicalHandler handler = getLexicalHandler();
+			if (handler != null) {
+				handler.startCDATA();
+			}
+		}
+
+		public void endCDATA() throws SAXException {
+			LexicalHandler handler = getLexicalHandler();
+			if (handler != null) {
+				handler.endCDATA();
+			}
+		}
+	}
+
+	private LexicalHandler getLexicalHandler() {
+		Object handler = mProperties.get(LEXICAL_HANDLER);
+		if (handler instanceof LexicalHandler) {
+			return (LexicalHandler) handler;
+		}
+		return null;
+	}
+
+	public boolean getFeature(String pName) {
+		Boolean value = mFeatures.get(pName);
+		return value != null && value.booleanValue();
+	}
+
+	public void setFeature(String pName, boolean pValue) {
+		mFeatures.put(pName, Boolean.valueOf(pValue));
+	}
+
+	public Object getProperty(String pName) {
+		return mProperties.get(pName);
+	}
+
+	public void setProperty(String pName, Object pValue) {
+		mProperties.put(pName, pValue);
+	}
+
+	public void setEntityResolver(EntityResolver pResolver) {
+		mEntityResolver = pResolver;
+	}
+
+	public EntityResolver getEntityResolver() {
+		return mEntityResolver;
+	}
+
+	public void setDTDHandler(DTDHandler pHandler) {
+		mDTDHandler = pHandler;
+	}
+
+	public DTDHandler getDTDHandler() {
+		return mDTDHandler;
+	}
+
+	public void setContentHandler(ContentHandler pHandler) {
+		mContentHandler = pHandler;
+	}
+
+	public ContentHandler getContentHandler() {
+		return mContentHandler;
+	}
+
+	public void setErrorHandler(ErrorHandler pHandler) {
+		mErrorHandler = pHandler;
+	}
+
+	public ErrorHandler getErrorHandler() {
+		return mErrorHandler;
+	}
+
+}
@@ -87,6 +87,14 @@ public interface MindMap extends TreeModel {
 	 */
 	void getFilteredXml(Writer fileout) throws IOException;
 
+	/**
+	 * writes the content of the map without the hidden nodes to a stream
+	 * writer (see {@link MapXmlReader}).
+	 * 
+	 * @throws IOException
+	 */
+	void getFilteredXml(MapStreamWriter pWriter) throws IOException;
+
 	/**
 	 * Returns a string that may be given to the modes restore() to get this map
 	 * again. The Mode must take care that two different maps don't give the
@@ -212,6 +220,13 @@ public interface MindMap extends TreeModel {
 
 	void insertNodeInto(MindMapNode pNode,
 			MindMapNode pParentNode, int pIndex);
+
+	/**
+	 * Inserts the nodes one after the other at the index, like
+	 * {@link #insertNodeInto(MindMapNode, MindMapNode, int)}, but informs
+	 * the listeners with a single event.
+	 */
+	void insertNodesInto(List pNodes, MindMapNode pParentNode, int pIndex);
 	
 	void removeNodeFromParent(MindMapNode node);
 
@@ -21,8 +21,8 @@
 package freemind.modes;
 
 import java.awt.Point;
+import java.io.IOException;
 
-import freemind.main.XMLElement;
 import freemind.view.mindmapview.MapView;
 
 public interface MindMapArrowLink extends MindMapLink {
@@ -63,6 +63,6 @@ public interface MindMapArrowLink extends MindMapLink {
 
 	public boolean getShowControlPointsFlag();
 
-	public XMLElement save();
+	public void save(MapStreamWriter pWriter) throws IOException;
 
 }
@@ -21,8 +21,7 @@
 package freemind.modes;
 
 import java.awt.Color;
-
-import freemind.main.XMLElement;
+import java.io.IOException;
 
 public interface MindMapCloud extends MindMapLine {
 
@@ -53,5 +52,5 @@ public interface MindMapCloud extends MindMapLine {
 	 */
 	public void changeIterativeLevel(int deltaLevel);
 
-	public XMLElement save();
+	public void save(MapStreamWriter pWriter) throws IOException;
 }
@@ -20,7 +20,7 @@
 
 package freemind.modes;
 
-import freemind.main.XMLElement;
+import java.io.IOException;
 
 public interface MindMapEdge extends MindMapLine {
 
@@ -30,7 +30,7 @@ public interface MindMapEdge extends MindMapLine {
 	// public int getWidth();
 	// public String toString();
 	// public void setTarget(MindMapNode node);
-	public XMLElement save();
+	public void save(MapStreamWriter pWriter) throws IOException;
 
 	// returns false if and only if the style is inherited from parent
 	boolean hasStyle();
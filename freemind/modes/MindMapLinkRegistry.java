@@ -20,9 +20,11 @@
 
 package freemind.modes;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Vector;
 
@@ -34,66 +36,25 @@ import freemind.main.Tools;
  * maps have a different registry.
  */
 public class MindMapLinkRegistry {
-	/**
-	 * All elements put into this sort of vectors are put into the
-	 * SourceToLinks, too. This structure is kept synchronous to the IDToLinks
-	 * structure, but reversed.
-	 * 
-	 * @author foltin
-	 * @date 23.01.2012
-	 */
-	private class SynchronousVector extends Vector {
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see java.util.Vector#add(java.lang.Object)
-		 */
-		public synchronized boolean add(Object pE) {
-			boolean add = super.add(pE);
-			if (pE instanceof MindMapLink) {
-				MindMapLink link = (MindMapLink) pE;
-				MindMapNode source = link.getSource();
-				if (!mSourceToLinks.containsKey(source)) {
-					mSourceToLinks.put(source, new Vector());
-				}
-				((Vector) mSourceToLinks.get(source)).add(pE);
-			}
-			return add;
-		}
-
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see java.util.Vector#removeElementAt(int)
-		 */
-		public synchronized void removeElementAt(int pIndex) {
-			MindMapLink link = (MindMapLink) get(pIndex);
-			MindMapNode source = link.getSource();
-			Vector vector = (Vector) mSourceToLinks.get(source);
-			if (vector != null) {
-				vector.remove(link);
-				if (vector.isEmpty()) {
-					mSourceToLinks.remove(source);
-				}
-			}
-			super.removeElementAt(pIndex);
-		}
-
-	}
-
-	/** source -> vector of links with same source */
-	protected HashMap mSourceToLinks = new HashMap();
 
 	// //////////////////////////////////////////////////////////////////////////////////////
 	// // Attributes /////
 	// //////////////////////////////////////////////////////////////////////////////////////
 
 	/** MindMapNode = Target -> ID. */
-	protected HashMap mTargetToId;
-	/** MindMapNode-> ID. */
-	protected HashMap mIdToTarget;
-	/** id -> vector of links whose TargetToID.get(target) == id. */
-	protected HashMap mIdToLinks;
+	protected HashMap<MindMapNode, String> mTargetToId;
+	/** ID -> MindMapNode. */
+	protected HashMap<String, MindMapNode> mIdToTarget;
+	/**
+	 * id -> list of links whose TargetToID.get(target) == id. Only present,
+	 * if there are such links.
+	 */
+	protected HashMap<String, ArrayList<MindMapLink>> mIdToLinks;
+	/**
+	 * source -> list of links with same source. This structure is kept
+	 * synchronous to the IDToLinks structure, but reversed.
+	 */
+	protected HashMap<MindMapNode, ArrayList<MindMapLink>> mSourceToLinks;
 	/** id -> link */
 	protected HashMap mIdToLink;
 	/** id */
@@ -101,6 +62,13 @@ public class MindMapLinkRegistry {
 
 	protected static java.util.logging.Logger logger = null;
 
+	/** Is informed about ids that are newly assigned to nodes. */
+	public interface IdRegistrationListener {
+		void idRegistered(MindMapNode pTarget, String pId);
+	}
+
+	private IdRegistrationListener mIdRegistrationListener = null;
+
 	// //////////////////////////////////////////////////////////////////////////////////////
 	// // Methods /////
 	// //////////////////////////////////////////////////////////////////////////////////////
@@ -109,9 +77,10 @@ public class MindMapLinkRegistry {
 			logger = freemind.main.Resources.getInstance().getLogger(
 					this.getClass().getName());
 		}
-		mTargetToId = new HashMap();
-		mIdToTarget = new HashMap();
-		mIdToLinks = new HashMap();
+		mTargetToId = new HashMap<>();
+		mIdToTarget = new HashMap<>();
+		mIdToLinks = new HashMap<>();
+		mSourceToLinks = new HashMap<>();
 		mIdToLink = new HashMap();
 		mLocallyLinkedIds = new HashSet();
 	}
@@ -121,7 +90,7 @@ public class MindMapLinkRegistry {
 	 * labeled.
 	 */
 	public String generateUniqueID(String proposedID) {
-		return Tools.generateID(proposedID, mIdToLinks, "ID_");
+		return Tools.generateID(proposedID, mIdToTarget, "ID_");
 	}
 
 	/**
@@ -153,12 +122,9 @@ public class MindMapLinkRegistry {
 
 	public String _registerLinkTarget(MindMapNode target, String proposedID) {
 		// id already exists?
-		if (mTargetToId.containsKey(target)) {
-			String id = (String) mTargetToId.get(target);
-			if (id != null)
-				return id;
-			// blank state.
-			// is equal to no state.
+		String id = mTargetToId.get(target);
+		if (id != null) {
+			return id;
 		}
 		// generate new id:
 		String newId = generateUniqueID(proposedID);
@@ -166,21 +132,22 @@ public class MindMapLinkRegistry {
 		mIdToTarget.put(newId, target);
 
 		// logger.fine("Register target node:"+target+", with ID="+newID);
-		/*
-		 * This is to allocate the link target in the IDToLinks map!.
-		 */
-		getAssignedLinksVector(newId);
+		if (mIdRegistrationListener != null) {
+			mIdRegistrationListener.idRegistered(target, newId);
+		}
 		return newId;
 	}
 
+	public void setIdRegistrationListener(IdRegistrationListener pListener) {
+		mIdRegistrationListener = pListener;
+	}
+
 	/**
 	 * @param node
 	 * @return null, if not registered.
 	 */
 	public String getState(MindMapNode node) {
-		if (mTargetToId.containsKey(node))
-			return (String) mTargetToId.get(node);
-		return null;
+		return mTargetToId.get(node);
 	}
 
 	/**
@@ -188,50 +155,76 @@ public class MindMapLinkRegistry {
 	 * the argument.
 	 */
 	public MindMapNode getTargetForId(String ID) {
-		final Object target = mIdToTarget.get(ID);
-		return (MindMapNode) target;
+		return mIdToTarget.get(ID);
+	}
+
+	private static void addToIndex(HashMap pIndex, Object pKey,
+			MindMapLink pLink) {
+		ArrayList<MindMapLink> links = (ArrayList<MindMapLink>) pIndex
+				.get(pKey);
+		if (links == null) {
+			links = new ArrayList<>(2);
+			pIndex.put(pKey, links);
+		}
+		links.add(pLink);
 	}
 
-	/** @return a Vector of {@link MindMapLink}s */
-	private Vector getAssignedLinksVector(String newId) {
-		String id = newId;
-		// look, if target is already present:
-		Vector vec;
-		if (mIdToLinks.containsKey(id)) {
-			vec = (Vector) mIdToLinks.get(id);
-		} else {
-			vec = new SynchronousVector();
-			mIdToLinks.put(id, vec);
+	private static void removeFromIndex(HashMap pIndex, Object pKey,
+			MindMapLink pLink) {
+		ArrayList<MindMapLink> links = (ArrayList<MindMapLink>) pIndex
+				.get(pKey);
+		if (links != null) {
+			links.remove(pLink);
+			if (links.isEmpty()) {
+				pIndex.remove(pKey);
+			}
 		}
+	}
 
-		// Dimitry : logger is a performance killer here
-		// //logger.fine("getAssignedLinksVector "+vec);
-		return vec;
+	private static List<MindMapLink> getFromIndex(HashMap pIndex, Object pKey) {
+		ArrayList<MindMapLink> links = (ArrayList<MindMapLink>) pIndex
+				.get(pKey);
+		if (links == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(links);
 	}
 
 	/** If there are still targets registered, they are removed, too. */
 	public void deregisterLinkTarget(MindMapNode target)
 			throws java.lang.IllegalArgumentException {
 		// deregister all links :
-		Vector links = getAllLinks(target);
+		List<MindMapLink> links = new ArrayList<>(getAllLinks(target));
 		for (int i = links.size() - 1; i >= 0; --i) {
-			MindMapLink link = (MindMapLink) links.get(i);
-			deregisterLink(link);
+			deregisterLink(links.get(i));
 		}
 		// and process my sons:
 		for (ListIterator e = target.childrenUnfolded(); e.hasNext();) {
 			MindMapNode child = (MindMapNode) e.next();
 			deregisterLinkTarget(child);
 		}
-		String id = getState(target);
+		String id = mTargetToId.remove(target);
 		if (id != null) {
 			// logger.fine("Deregister target node:"+target);
-			mTargetToId.remove(target);
 			mIdToTarget.remove(id);
 			mIdToLinks.remove(id);
 		}
 	}
 
+	/**
+	 * Gives the target another id, e.g. the one it had in a former session.
+	 * The links of the old id are dropped, thus only for targets without
+	 * links.
+	 */
+	public void replaceLinkTargetId(MindMapNode pTarget, String pId) {
+		String id = mTargetToId.remove(pTarget);
+		if (id != null) {
+			mIdToTarget.remove(id);
+			mIdToLinks.remove(id);
+		}
+		_registerLinkTarget(pTarget, pId);
+	}
+
 	/**
 	 * Method to keep track of the sources associated to a target node. This
 	 * method also sets the new id to the target. Moreover, it is not required
@@ -248,13 +241,12 @@ public class MindMapLinkRegistry {
 		logger.fine("Register link (" + link + ") from source node:" + source
 				+ " to target " + target);
 		String id = _registerLinkTarget(target);
-		Vector vec = getAssignedLinksVector(id);
 		// already present?
-		for (Object aVec : vec) {
-			if (aVec == link)
-				return;
+		if (getFromIndex(mIdToLinks, id).contains(link)) {
+			return;
 		}
-		vec.add(link);
+		addToIndex(mIdToLinks, id, link);
+		addToIndex(mSourceToLinks, source, link);
 		String uniqueId = link.getUniqueId();
 		if (uniqueId == null) {
 			((LinkAdapter) link).setUniqueId(generateUniqueLinkId(uniqueId));
@@ -273,16 +265,12 @@ public class MindMapLinkRegistry {
 
 	public void deregisterLink(MindMapLink link) {
 		MindMapNode target = link.getTarget();
-		String id = _registerLinkTarget(target);
-		Vector vec = getAssignedLinksVector(id);
-		for (int i = vec.size() - 1; i >= 0; --i) {
-			// logger.fine("Test for equal node:"+source+" to vector(i) " +
-			// vec.get(i));
-			if (vec.get(i) == link) {
-				vec.removeElementAt(i);
-				logger.info("Deregister link  (" + link + ") from source node:"
-						+ link.getSource() + " to target " + target);
-			}
+		String id = getState(target);
+		if (getFromIndex(mIdToLinks, id).contains(link)) {
+			removeFromIndex(mIdToLinks, id, link);
+			removeFromIndex(mSourceToLinks, link.getSource(), link);
+			logger.info("Deregister link  (" + link + ") from source node:"
+					+ link.getSource() + " to target " + target);
 		}
 		mIdToLink.remove(link.getUniqueId());
 	}
@@ -303,48 +291,47 @@ public class MindMapLinkRegistry {
 	 *         target node.
 	 */
 	public Vector /* of MindMapNode s */getAllSources(MindMapNode target) {
-		Vector returnValue;
-		returnValue = new Vector();
-		String id = getState(target);
-		if (id != null) {
-			Vector vec = getAssignedLinksVector(id);
-			for (Object aVec : vec) {
-				returnValue.add(((MindMapLink) aVec).getSource());
-			}
+		Vector returnValue = new Vector();
+		for (MindMapLink link : getAllLinksIntoMe(target)) {
+			returnValue.add(link.getSource());
 		}
 		return returnValue;
 	}
 
-	/** @return returns all links from or to this node. */
-	public Vector /* of MindMapLink s */getAllLinks(MindMapNode node) {
-		Vector returnValue = new Vector();
-		returnValue.addAll(getAllLinksIntoMe(node));
-		returnValue.addAll(getAllLinksFromMe(node));
-		// Dimitry : logger is a performance killer here
-		// //logger.fine("All links  ("+returnValue+") from  node:"+node);
-		return returnValue;
+	/**
+	 * @return returns all links from or to this node. Like the other link
+	 *         getters, the list is unmodifiable and must not be kept, as it is
+	 *         backed by the registry. Only if there are links in both
+	 *         directions, a new list is created.
+	 */
+	public List<MindMapLink> getAllLinks(MindMapNode node) {
+		List<MindMapLink> into = getAllLinksIntoMe(node);
+		List<MindMapLink> from = getAllLinksFromMe(node);
+		if (from.isEmpty()) {
+			return into;
+		}
+		if (into.isEmpty()) {
+			return from;
+		}
+		ArrayList<MindMapLink> returnValue = new ArrayList<>(into.size()
+				+ from.size());
+		returnValue.addAll(into);
+		returnValue.addAll(from);
+		return Collections.unmodifiableList(returnValue);
 	}
 
-	/** @return returns all links to this node as {@link MindMapLink} vector. */
-	public Vector<MindMapLink> getAllLinksIntoMe(MindMapNode target) {
-		Vector<MindMapLink> returnValue = new Vector<>();
+	/** @return returns all links to this node. See {@link #getAllLinks(MindMapNode)}. */
+	public List<MindMapLink> getAllLinksIntoMe(MindMapNode target) {
 		String id = getState(target);
-		if (id != null) {
-			Vector vec = getAssignedLinksVector(id);
-			/* "clone" */
-			returnValue.addAll(vec);
+		if (id == null) {
+			return Collections.emptyList();
 		}
-		return returnValue;
+		return getFromIndex(mIdToLinks, id);
 	}
 
-	/** @return returns all links from this node as {@link MindMapLink} vector. */
-	public Vector<MindMapLink> getAllLinksFromMe(MindMapNode source) {
-		Vector<MindMapLink> returnValue = new Vector<>();
-		Collection vec = (Collection) mSourceToLinks.get(source);
-		if (vec != null) {
-			returnValue.addAll(vec);
-		}
-		return returnValue;
+	/** @return returns all links from this node. See {@link #getAllLinks(MindMapNode)}. */
+	public List<MindMapLink> getAllLinksFromMe(MindMapNode source) {
+		return getFromIndex(mSourceToLinks, source);
 	}
 
 	public String getLabel(MindMapNode target) {
@@ -39,7 +39,6 @@ import javax.swing.tree.TreePath;
 import freemind.controller.filter.FilterInfo;
 import freemind.extensions.NodeHook;
 import freemind.extensions.PermanentNodeHook;
-import freemind.main.XMLElement;
 import freemind.modes.attributes.Attribute;
 import freemind.modes.mindmapmode.actions.MindMapActions;
 
@@ -58,6 +57,12 @@ public interface MindMapNode extends MutableTreeNode {
 	 */
 	String getText();
 
+	/**
+	 * @return getText() in lower case. It is kept until the text changes, thus
+	 *         filtering the map doesn't convert the text of each node again.
+	 */
+	String getLowerCaseText();
+
 	/**
 	 * Sets both text and xmlText.
 	 */
@@ -326,7 +331,7 @@ public interface MindMapNode extends MutableTreeNode {
 	 * @param saveChildren
 	 *            if true, the save recurses to all of the nodes children.
 	 */
-	public XMLElement save(Writer writer, MindMapLinkRegistry registry,
+	public void save(Writer writer, MindMapLinkRegistry registry,
 			boolean saveHidden, boolean saveChildren) throws IOException;
 
 	// fc, 10.2.2005:
@@ -28,9 +28,11 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +44,7 @@ import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 
 import javax.swing.ImageIcon;
@@ -64,6 +67,7 @@ import freemind.main.Resources;
 import freemind.main.Tools;
 import freemind.main.XMLElement;
 import freemind.modes.attributes.Attribute;
+import freemind.modes.mindmapmode.actions.xml.ActionRegistry;
 import freemind.preferences.FreemindPropertyListener;
 
 /**
@@ -84,8 +88,56 @@ public abstract class NodeAdapter implements MindMapNode {
 
 	private HashSet activatedHooks;
 	private List hooks;
-	protected Object userObject = "no text";
-	private String xmlText = "no text";
+	/**
+	 * Marks the form of a {@link Text} that is created from the other on
+	 * demand.
+	 */
+	private static final String CREATE_ON_DEMAND = new String("create on demand");
+
+	/**
+	 * A text in its html form and in its xml form. One of them is created
+	 * from the other on demand. The nodes are read by other threads, too
+	 * (e.g. the automatic save, the export and the search), thus a text is
+	 * never changed. A created form is stored by replacing the text, but only
+	 * if it wasn't changed meanwhile.
+	 */
+	private static final class Text {
+		final String mHtml;
+		final String mXml;
+		/** The html in lower case or null, if not created yet. */
+		final String mLowerCase;
+
+		Text(String pHtml, String pXml, String pLowerCase) {
+			mHtml = pHtml;
+			mXml = pXml;
+			mLowerCase = pLowerCase;
+		}
+
+		String getHtml() {
+			if (mHtml == CREATE_ON_DEMAND) {
+				return HtmlTools.getInstance().toHtml(mXml);
+			}
+			return mHtml;
+		}
+
+		String getXml() {
+			if (mXml == CREATE_ON_DEMAND) {
+				return HtmlTools.getInstance().toXhtml(mHtml);
+			}
+			return mXml;
+		}
+	}
+
+	private static final Text NO_TEXT = new Text(null, null, null);
+
+	private static final AtomicReferenceFieldUpdater<NodeAdapter, Text> sTextUpdater = AtomicReferenceFieldUpdater
+			.newUpdater(NodeAdapter.class, Text.class, "mText");
+
+	private static final AtomicReferenceFieldUpdater<NodeAdapter, Text> sNoteUpdater = AtomicReferenceFieldUpdater
+			.newUpdater(NodeAdapter.class, Text.class, "mNote");
+
+	private volatile Text mText = NO_TEXT;
+	private volatile Text mNote = NO_TEXT;
 	private String link = null; // Change this to vector in future for full
 								// graph support
 	private static final String TOOLTIP_PREVIEW_KEY = "preview";
@@ -123,7 +175,8 @@ public abstract class NodeAdapter implements MindMapNode {
 	protected Font font;
 	protected boolean underlined = false;
 
-	private FilterInfo filterInfo = new FilterInfo();
+	/** Created on demand, i.e. when a filter is applied. */
+	private FilterInfo filterInfo = null;
 
 	private MindMapNode parent;
 	/**
@@ -131,16 +184,27 @@ public abstract class NodeAdapter implements MindMapNode {
 	 * hold more than one view, maybe with a Vector in which the index specifies
 	 * the MapView which contains the NodeViews
 	 */
-	private MindMapEdge edge;
+	private volatile MindMapEdge edge; // lazy, see createEdge().
+
+	private static final AtomicReferenceFieldUpdater<NodeAdapter, MindMapEdge> sEdgeUpdater = AtomicReferenceFieldUpdater
+			.newUpdater(NodeAdapter.class, MindMapEdge.class, "edge");
 
 	private static final boolean ALLOWSCHILDREN = true;
 	private static final boolean ISLEAF = false; // all nodes may have children
-	private HistoryInformation historyInformation = null;
+	/**
+	 * The times of the history information, as long as it isn't requested or
+	 * set (see {@link #getHistoryInformation()}).
+	 */
+	private long mCreatedAt;
+	private long mLastModifiedAt;
+	/** Null, as long as the times are kept in the fields above. */
+	private volatile HistoryInformation mHistoryInformation = null;
+	/** Marks a history information that was set to null. */
+	private static final HistoryInformation NO_HISTORY_INFORMATION = new HistoryInformation(
+			0, 0);
 	// Logging:
 	static protected java.util.logging.Logger logger;
 	private MindMap map = null;
-	private String noteText;
-	private String xmlNoteText;
 	private static FreemindPropertyListener sSaveIdPropertyChangeListener;
 	private static boolean sSaveOnlyIntrinsicallyNeededIds = false;
 	private Vector<Attribute> mAttributeVector = null;
@@ -157,7 +221,8 @@ public abstract class NodeAdapter implements MindMapNode {
 		if (logger == null)
 			logger = Resources.getInstance().getLogger(this.getClass().getName());
 		// create creation time:
-		setHistoryInformation(new HistoryInformation());
+		mCreatedAt = System.currentTimeMillis();
+		mLastModifiedAt = mCreatedAt;
 		if (sSaveIdPropertyChangeListener == null) {
 			sSaveIdPropertyChangeListener = (propertyName, newValue, oldValue) -> {
                 if (propertyName
@@ -179,30 +244,50 @@ public abstract class NodeAdapter implements MindMapNode {
 	}
 
 	public String getText() {
-		String string = "";
-		if (userObject != null) {
-			string = userObject.toString();
+		Text text = mText;
+		String html = text.mHtml;
+		if (html == CREATE_ON_DEMAND) {
+			html = text.getHtml();
+			sTextUpdater.compareAndSet(this, text, new Text(html, text.mXml,
+					text.mLowerCase));
 		}
-		return string;
+		return (html == null) ? "" : html;
 	}
 
 	public final void setText(String text) {
 		if (text == null) {
-			userObject = null;
-			xmlText = null;
+			mText = NO_TEXT;
 			return;
 		}
-		userObject = HtmlTools.makeValidXml(text);
-		xmlText = HtmlTools.getInstance().toXhtml((String) userObject);
+		mText = new Text(HtmlTools.makeValidXml(text), CREATE_ON_DEMAND, null);
 	}
 
 	public final String getXmlText() {
-		return xmlText;
+		Text text = mText;
+		String xml = text.mXml;
+		if (xml == CREATE_ON_DEMAND) {
+			xml = text.getXml();
+			sTextUpdater.compareAndSet(this, text, new Text(text.mHtml, xml,
+					text.mLowerCase));
+		}
+		return xml;
 	}
 
 	public final void setXmlText(String pXmlText) {
-		this.xmlText = HtmlTools.makeValidXml(pXmlText);
-		userObject = HtmlTools.getInstance().toHtml(xmlText);
+		mText = new Text(CREATE_ON_DEMAND, HtmlTools.makeValidXml(pXmlText),
+				null);
+	}
+
+	public String getLowerCaseText() {
+		Text text = mText;
+		String lowerCase = text.mLowerCase;
+		if (lowerCase == null) {
+			String html = text.getHtml();
+			lowerCase = ((html == null) ? "" : html).toLowerCase();
+			sTextUpdater.compareAndSet(this, text, new Text(html, text.mXml,
+					lowerCase));
+		}
+		return lowerCase;
 	}
 
 	/* ************************************************************
@@ -211,32 +296,43 @@ public abstract class NodeAdapter implements MindMapNode {
 	 */
 
 	public final String getXmlNoteText() {
-		return xmlNoteText;
+		Text note = mNote;
+		String xml = note.mXml;
+		if (xml == CREATE_ON_DEMAND) {
+			xml = note.getXml();
+			sNoteUpdater.compareAndSet(this, note, new Text(note.mHtml, xml,
+					null));
+		}
+		return xml;
 	}
 
 	public final String getNoteText() {
-		// logger.info("Note html: " + noteText);
-		return noteText;
+		Text note = mNote;
+		String html = note.mHtml;
+		if (html == CREATE_ON_DEMAND) {
+			html = note.getHtml();
+			sNoteUpdater.compareAndSet(this, note, new Text(html, note.mXml,
+					null));
+		}
+		return html;
 	}
 
 	public final void setXmlNoteText(String pXmlNoteText) {
 		if (pXmlNoteText == null) {
-			xmlNoteText = null;
-			noteText = null;
+			mNote = NO_TEXT;
 			return;
 		}
-		this.xmlNoteText = HtmlTools.makeValidXml(pXmlNoteText);
-		noteText = HtmlTools.getInstance().toHtml(xmlNoteText);
+		mNote = new Text(CREATE_ON_DEMAND,
+				HtmlTools.makeValidXml(pXmlNoteText), null);
 	}
 
 	public final void setNoteText(String pNoteText) {
 		if (pNoteText == null) {
-			xmlNoteText = null;
-			noteText = null;
+			mNote = NO_TEXT;
 			return;
 		}
-		this.noteText = HtmlTools.makeValidXml(pNoteText);
-		this.xmlNoteText = HtmlTools.getInstance().toXhtml(noteText);
+		mNote = new Text(HtmlTools.makeValidXml(pNoteText), CREATE_ON_DEMAND,
+				null);
 	}
 
 	public String getPlainTextContent() {
@@ -265,6 +361,9 @@ public abstract class NodeAdapter implements MindMapNode {
 	}
 
 	public FilterInfo getFilterInfo() {
+		if (filterInfo == null) {
+			filterInfo = new FilterInfo();
+		}
 		return filterInfo;
 	}
 
@@ -286,7 +385,25 @@ public abstract class NodeAdapter implements MindMapNode {
 	}
 
 	public MindMapEdge getEdge() {
-		return edge;
+		MindMapEdge result = edge;
+		if (result == null) {
+			result = createEdge();
+			// another thread may have set it meanwhile:
+			if (result != null && !sEdgeUpdater.compareAndSet(this, null, result)) {
+				result = edge;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Most nodes have an edge without own attributes. Thus, the edge is
+	 * created on its first request.
+	 * 
+	 * @return the edge of this node, if it has none. Here: null.
+	 */
+	protected MindMapEdge createEdge() {
+		return null;
 	}
 
 	public void setEdge(MindMapEdge edge) {
@@ -370,7 +487,8 @@ public abstract class NodeAdapter implements MindMapNode {
 	// ///
 
 	public void setStyle(String style) {
-		this.style = style;
+		// only a few different styles exist:
+		this.style = (style != null) ? style.intern() : null;
 	}
 
 	public void setColor(Color color) {
@@ -632,6 +750,9 @@ public abstract class NodeAdapter implements MindMapNode {
 	}
 
 	public int getChildPosition(MindMapNode childNode) {
+		if (children == null) {
+			return -1;
+		}
 		int position = 0;
 		for (ListIterator i = children.listIterator(); i.hasNext(); ++position) {
 			if (((MindMapNode) i.next()) == childNode) {
@@ -653,7 +774,7 @@ public abstract class NodeAdapter implements MindMapNode {
 	 */
 	public ListIterator sortedChildrenUnfolded() {
 		if (children == null)
-			return null;
+			return Collections.EMPTY_LIST.listIterator();
 		LinkedList sorted = new LinkedList(children);
 		/*
 		 * Using this stable sort, we assure that the left nodes came in front
@@ -733,6 +854,9 @@ public abstract class NodeAdapter implements MindMapNode {
 	// // the meaning, at least not to me.
 
 	public int getIndex(TreeNode node) {
+		if (children == null) {
+			return -1;
+		}
 		return children.indexOf((MindMapNode) node); // uses equals()
 	}
 
@@ -791,6 +915,10 @@ public abstract class NodeAdapter implements MindMapNode {
 	public void insert(MutableTreeNode child, int index) {
 		logger.finest("Insert at " + index + " the node " + child);
 		final MindMapNode childNode = (MindMapNode) child;
+		if (children == null) {
+			// grows with the children, most nodes have none:
+			children = new ArrayList(1);
+		}
 		if (index < 0) { // add to the end (used in xml load) (PN)
 			index = getChildCount();
 			children.add(index, child);
@@ -799,7 +927,12 @@ public abstract class NodeAdapter implements MindMapNode {
 			preferredChild = childNode;
 		}
 		child.setParent(this);
-		recursiveCallAddChildren(this, childNode);
+		NodeHookNotifier notifier = getNodeHookNotifier();
+		if (notifier != null) {
+			notifier.nodeAdded(this, childNode);
+		} else {
+			NodeHookNotifier.fireNodeAdded(this, childNode);
+		}
 	}
 
 	public void remove(int index) {
@@ -820,41 +953,26 @@ public abstract class NodeAdapter implements MindMapNode {
 		node.setParent(null);
 		children.remove(node);
 		// call remove child hook after removal.
-		recursiveCallRemoveChildren(this, (MindMapNode) node, this);
-	}
-
-	private void recursiveCallAddChildren(MindMapNode node,
-			MindMapNode addedChild) {
-		// Tell any node hooks that the node is added:
-		if (node instanceof MindMapNode) {
-			for (Object o : ((MindMapNode) node).getActivatedHooks()) {
-				PermanentNodeHook hook = (PermanentNodeHook) o;
-				if (addedChild.getParentNode() == node) {
-					hook.onAddChild(addedChild);
-				}
-				hook.onAddChildren(addedChild);
-			}
+		NodeHookNotifier notifier = getNodeHookNotifier();
+		if (notifier != null) {
+			notifier.nodeRemoved(this, (MindMapNode) node);
+		} else {
+			NodeHookNotifier.fireNodeRemoved(this, (MindMapNode) node, this);
 		}
-		if (!node.isRoot() && node.getParentNode() != null)
-			recursiveCallAddChildren(node.getParentNode(), addedChild);
 	}
 
 	/**
-	 * @param oldDad
-	 *            the last dad node had.
+	 * @return null, if the hooks are told directly.
 	 */
-	private void recursiveCallRemoveChildren(MindMapNode node,
-			MindMapNode removedChild, MindMapNode oldDad) {
-		for (Object o : node.getActivatedHooks()) {
-			PermanentNodeHook hook = (PermanentNodeHook) o;
-			if (removedChild.getParentNode() == node) {
-				hook.onRemoveChild(removedChild);
+	private NodeHookNotifier getNodeHookNotifier() {
+		if (getMapFeedback() instanceof ExtendedMapFeedback) {
+			ActionRegistry registry = ((ExtendedMapFeedback) getMapFeedback())
+					.getActionRegistry();
+			if (registry != null) {
+				return registry.getNodeHookNotifier();
 			}
-			hook.onRemoveChildren(removedChild, oldDad);
 		}
-		if (!node.isRoot() && node.getParentNode() != null)
-			recursiveCallRemoveChildren(node.getParentNode(), removedChild,
-					oldDad);
+		return null;
 	}
 
 	public void removeFromParent() {
@@ -926,7 +1044,12 @@ public abstract class NodeAdapter implements MindMapNode {
 		}
 		if (hook instanceof PermanentNodeHook) {
 			createActivatedHooks();
-			activatedHooks.add(hook);
+			if (activatedHooks.add(hook)) {
+				NodeHookNotifier notifier = getNodeHookNotifier();
+				if (notifier != null) {
+					notifier.hookActivated(this);
+				}
+			}
 		} else {
 			// end of its short life:
 			hook.shutdownMapHook();
@@ -1000,6 +1123,10 @@ public abstract class NodeAdapter implements MindMapNode {
 		createActivatedHooks();
 		if (activatedHooks.contains(hook)) {
 			activatedHooks.remove(hook);
+			NodeHookNotifier notifier = getNodeHookNotifier();
+			if (notifier != null) {
+				notifier.hookDeactivated(this);
+			}
 			if (activatedHooks.size() == 0) {
 				activatedHooks = null;
 			}
@@ -1104,166 +1231,150 @@ public abstract class NodeAdapter implements MindMapNode {
 		return controller.getNodeID(this);
 	}
 
-	public XMLElement save(Writer writer, MindMapLinkRegistry registry,
+	public void save(Writer writer, MindMapLinkRegistry registry,
 			boolean saveInvisible, boolean saveChildren) throws IOException {
-		// pre save event to save all contents of the node:
-		getMapFeedback().firePreSaveEvent(this);
-		XMLElement node = new XMLElement();
-
-		// if (!isNodeClassToBeSaved()) {
-		node.setName(XMLElementAdapter.XML_NODE);
-		// } else {
-		// node.setName(XMLElementAdapter.XML_NODE_CLASS_PREFIX
-		// + this.getClass().getName());
-		// }
-
-		/** fc, 12.6.2005: XML must not contain any zero characters. */
-		String text = this.toString().replace('\0', ' ');
-		if (!HtmlTools.isHtmlNode(text)) {
-			node.setAttribute(XMLElementAdapter.XML_NODE_TEXT, text);
-		} else {
-			// save <content> tag:
-			XMLElement htmlElement = new XMLElement();
-			htmlElement.setName(XMLElementAdapter.XML_NODE_XHTML_CONTENT_TAG);
-			htmlElement.setAttribute(XMLElementAdapter.XML_NODE_XHTML_TYPE_TAG,
-					XMLElementAdapter.XML_NODE_XHTML_TYPE_NODE);
-			htmlElement
-					.setEncodedContent(convertToEncodedContent(getXmlText()));
-			node.addChild(htmlElement);
-		}
-		if (getXmlNoteText() != null) {
-			XMLElement htmlElement = new XMLElement();
-			htmlElement.setName(XMLElementAdapter.XML_NODE_XHTML_CONTENT_TAG);
-			htmlElement.setAttribute(XMLElementAdapter.XML_NODE_XHTML_TYPE_TAG,
-					XMLElementAdapter.XML_NODE_XHTML_TYPE_NOTE);
-			htmlElement
-					.setEncodedContent(convertToEncodedContent(getXmlNoteText()));
-			node.addChild(htmlElement);
-
-		}
-		// ((MindMapEdgeModel)getEdge()).save(doc,node);
-
-		XMLElement edge = (getEdge()).save();
-		if (edge != null) {
-			node.addChild(edge);
-		}
+		save(new MapStreamWriter(writer), registry, saveInvisible, saveChildren);
+	}
 
-		if (getCloud() != null) {
-			XMLElement cloud = (getCloud()).save();
-			node.addChild(cloud);
+	/**
+	 * Writes the node directly to the stream writer. The attributes are written
+	 * in alphabetical order, as the former XMLElement based implementation
+	 * did, so that the files stay the same.
+	 */
+	public void save(MapStreamWriter writer, MindMapLinkRegistry registry,
+			boolean saveInvisible, boolean saveChildren) throws IOException {
+		// pre save event to save all contents of the node:
+		if (writer.isFirePreSaveEvents()) {
+			getMapFeedback().firePreSaveEvent(this);
 		}
 
-		Vector linkVector = registry.getAllLinksFromMe(this);
-		for (Object aLinkVector : linkVector) {
-			if (aLinkVector instanceof ArrowLinkAdapter) {
-				XMLElement arrowLinkElement = ((ArrowLinkAdapter) aLinkVector).save();
-				node.addChild(arrowLinkElement);
-			}
+		// history information, fc, 11.4.2005
+		String createdAt = null;
+		String lastModifiedAt = null;
+		HistoryInformation historyInformation = mHistoryInformation;
+		if (historyInformation == null) {
+			createdAt = Long.toString(mCreatedAt);
+			lastModifiedAt = Long.toString(mLastModifiedAt);
+		} else if (historyInformation != NO_HISTORY_INFORMATION) {
+			createdAt = Long.toString(historyInformation.createdAt);
+			lastModifiedAt = Long.toString(historyInformation.lastModifiedAt);
+		}
+		writer.startElement(XMLElementAdapter.XML_NODE);
+		if (getBackgroundColor() != null) {
+			writer.addAttribute("BACKGROUND_COLOR",
+					Tools.colorToXml(getBackgroundColor()));
 		}
-
-		// virtual link targets:
-		Vector targetVector = registry.getAllLinksIntoMe(this);
-		for (Object aTargetVector : targetVector) {
-			if (aTargetVector instanceof ArrowLinkAdapter) {
-				XMLElement arrowLinkTargetElement = ((ArrowLinkAdapter) aTargetVector).createArrowLinkTarget(registry).save();
-				node.addChild(arrowLinkTargetElement);
-			}
+		if (color != null) {
+			writer.addAttribute("COLOR", Tools.colorToXml(getColor()));
 		}
-
+		writer.addAttribute(XMLElementAdapter.XML_NODE_HISTORY_CREATED_AT,
+				createdAt);
 		if (isFolded()) {
-			node.setAttribute("FOLDED", "true");
+			writer.addAttribute("FOLDED", "true");
 		}
-
-		// fc, 17.12.2003: Remove the left/right bug.
-		// VVV save if and only if parent is root.
-		if (!(isRoot()) && (getParentNode().isRoot())) {
-			node.setAttribute("POSITION", isLeft() ? "left" : "right");
+		// layout
+		if (hGap != HGAP) {
+			writer.addAttribute("HGAP", Integer.toString(hGap));
 		}
-
 		// the id is used, if there is a local hyperlink pointing to me or a
 		// real link.
 		String label = registry.getLabel(this);
 		if (!sSaveOnlyIntrinsicallyNeededIds
 				|| (registry.isTargetOfLocalHyperlinks(label) || (registry
 						.getAllLinksIntoMe(this).size() > 0))) {
-			if (label != null) {
-				node.setAttribute("ID", label);
-			}
+			writer.addAttribute("ID", label);
 		}
-		if (color != null) {
-			node.setAttribute("COLOR", Tools.colorToXml(getColor()));
-		}
-
-		// new background color.
-		if (getBackgroundColor() != null) {
-			node.setAttribute("BACKGROUND_COLOR",
-					Tools.colorToXml(getBackgroundColor()));
+		// link
+		writer.addAttribute("LINK", getLink());
+		writer.addAttribute(XMLElementAdapter.XML_NODE_HISTORY_LAST_MODIFIED_AT,
+				lastModifiedAt);
+		// fc, 17.12.2003: Remove the left/right bug.
+		// VVV save if and only if parent is root.
+		if (!(isRoot()) && (getParentNode().isRoot())) {
+			writer.addAttribute("POSITION", isLeft() ? "left" : "right");
 		}
-
 		if (style != null) {
-			node.setAttribute("STYLE", this.getStyle());
+			writer.addAttribute("STYLE", this.getStyle());
 		}
 		// ^ Here cannot be just getStyle() without super. This is because
 		// getStyle's style depends on folded / unfolded. For example, when
 		// real style is fork and node is folded, getStyle returns
 		// MindMapNode.STYLE_BUBBLE, which is not what we want to save.
 
-		// layout
-		if (vGap != VGAP) {
-			node.setAttribute("VGAP", Integer.toString(vGap));
+		/** fc, 12.6.2005: XML must not contain any zero characters. */
+		String text = this.toString().replace('\0', ' ');
+		boolean isHtml = HtmlTools.isHtmlNode(text);
+		if (!isHtml) {
+			writer.addAttribute(XMLElementAdapter.XML_NODE_TEXT, text);
 		}
-		if (hGap != HGAP) {
-			node.setAttribute("HGAP", Integer.toString(hGap));
+		if (vGap != VGAP) {
+			writer.addAttribute("VGAP", Integer.toString(vGap));
 		}
 		if (shiftY != 0) {
-			node.setAttribute("VSHIFT", Integer.toString(shiftY));
+			writer.addAttribute("VSHIFT", Integer.toString(shiftY));
 		}
-		// link
-		if (getLink() != null) {
-			node.setAttribute("LINK", getLink());
+
+		if (isHtml) {
+			// save <content> tag:
+			saveRichContent(writer, XMLElementAdapter.XML_NODE_XHTML_TYPE_NODE,
+					getXmlText());
+		}
+		if (getXmlNoteText() != null) {
+			saveRichContent(writer, XMLElementAdapter.XML_NODE_XHTML_TYPE_NOTE,
+					getXmlNoteText());
 		}
 
-		// history information, fc, 11.4.2005
-		if (historyInformation != null) {
-			node.setAttribute(XMLElementAdapter.XML_NODE_HISTORY_CREATED_AT,
-					Tools.dateToString(getHistoryInformation().getCreatedAt()));
-			node.setAttribute(
-					XMLElementAdapter.XML_NODE_HISTORY_LAST_MODIFIED_AT, Tools
-							.dateToString(getHistoryInformation()
-									.getLastModifiedAt()));
+		// an edge that wasn't requested has no attributes:
+		if (edge != null) {
+			edge.save(writer);
+		}
+
+		if (getCloud() != null) {
+			getCloud().save(writer);
 		}
-		// font
-		if (font != null) {
-			XMLElement fontElement = new XMLElement();
-			fontElement.setName("font");
 
-			if (font != null) {
-				fontElement.setAttribute("NAME", font.getFamily());
+		List<MindMapLink> linkVector = registry.getAllLinksFromMe(this);
+		for (Object aLinkVector : linkVector) {
+			if (aLinkVector instanceof ArrowLinkAdapter) {
+				((ArrowLinkAdapter) aLinkVector).save(writer);
 			}
-			if (font.getSize() != 0) {
-				fontElement.setAttribute("SIZE",
-						Integer.toString(font.getSize()));
+		}
+
+		// virtual link targets:
+		List<MindMapLink> targetVector = registry.getAllLinksIntoMe(this);
+		for (Object aTargetVector : targetVector) {
+			if (aTargetVector instanceof ArrowLinkAdapter) {
+				((ArrowLinkAdapter) aTargetVector).createArrowLinkTarget(
+						registry).save(writer);
 			}
+		}
+
+		// font
+		if (font != null) {
+			writer.startElement("font");
 			if (isBold()) {
-				fontElement.setAttribute("BOLD", "true");
-			}
-			if (isStrikethrough()) {
-				fontElement.setAttribute("STRIKETHROUGH", "true");
+				writer.addAttribute("BOLD", "true");
 			}
 			if (isItalic()) {
-				fontElement.setAttribute("ITALIC", "true");
+				writer.addAttribute("ITALIC", "true");
+			}
+			writer.addAttribute("NAME", font.getFamily());
+			if (font.getSize() != 0) {
+				writer.addAttribute("SIZE", Integer.toString(font.getSize()));
+			}
+			if (isStrikethrough()) {
+				writer.addAttribute("STRIKETHROUGH", "true");
 			}
 			if (isUnderlined()) {
-				fontElement.setAttribute("UNDERLINE", "true");
+				writer.addAttribute("UNDERLINE", "true");
 			}
-			node.addChild(fontElement);
+			writer.endElement();
 		}
 		for (int i = 0; i < getIcons().size(); ++i) {
-			XMLElement iconElement = new XMLElement();
-			iconElement.setName("icon");
-			iconElement.setAttribute("BUILTIN",
+			writer.startElement("icon");
+			writer.addAttribute("BUILTIN",
 					((MindIcon) getIcons().get(i)).getName());
-			node.addChild(iconElement);
+			writer.endElement();
 		}
 
 		for (Object o : getActivatedHooks()) {
@@ -1274,28 +1385,31 @@ public abstract class NodeAdapter implements MindMapNode {
 			XMLElement hookElement = new XMLElement();
 			hookElement.setName("hook");
 			permHook.save(hookElement);
-			node.addChild(hookElement);
+			writer.writeElement(hookElement);
 		}
 		if (mAttributeVector != null) {
-			for (Attribute aMAttributeVector : mAttributeVector) {
-				XMLElement attributeElement = new XMLElement();
-				attributeElement.setName(XMLElementAdapter.XML_NODE_ATTRIBUTE);
-				Attribute attr = aMAttributeVector;
-				attributeElement.setAttribute("NAME", attr.getName());
-				attributeElement.setAttribute("VALUE", attr.getValue());
-				node.addChild(attributeElement);
+			for (Attribute attr : mAttributeVector) {
+				writer.startElement(XMLElementAdapter.XML_NODE_ATTRIBUTE);
+				writer.addAttribute("NAME", attr.getName());
+				writer.addAttribute("VALUE", attr.getValue());
+				writer.endElement();
 			}
 		}
 
 		if (saveChildren && childrenUnfolded().hasNext()) {
-			node.writeWithoutClosingTag(writer);
+			writer.closeStartTag();
 			// recursive
 			saveChildren(writer, registry, this, saveInvisible);
-			node.writeClosingTag(writer);
-		} else {
-			node.write(writer);
 		}
-		return node;
+		writer.endElement();
+	}
+
+	private void saveRichContent(MapStreamWriter writer, String type,
+			String xmlText) throws IOException {
+		writer.startElement(XMLElementAdapter.XML_NODE_XHTML_CONTENT_TAG);
+		writer.addAttribute(XMLElementAdapter.XML_NODE_XHTML_TYPE_TAG, type);
+		writer.addEncodedContent(convertToEncodedContent(xmlText));
+		writer.endElement();
 	}
 
 	public static String convertToEncodedContent(String xmlText2) {
@@ -1303,8 +1417,9 @@ public abstract class NodeAdapter implements MindMapNode {
 		return HtmlTools.unicodeToHTMLUnicodeEntity(replace, true);
 	}
 
-	private void saveChildren(Writer writer, MindMapLinkRegistry registry,
-			NodeAdapter node, boolean saveHidden) throws IOException {
+	private void saveChildren(MapStreamWriter writer,
+			MindMapLinkRegistry registry, NodeAdapter node, boolean saveHidden)
+			throws IOException {
 		for (ListIterator e = node.childrenUnfolded(); e.hasNext();) {
 			NodeAdapter child = (NodeAdapter) e.next();
 			if (saveHidden || child.isVisible())
@@ -1385,12 +1500,45 @@ public abstract class NodeAdapter implements MindMapNode {
 		return Collections.unmodifiableSortedMap(stateIcons);
 	}
 
+	/**
+	 * Most nodes are never asked for their history information, thus it is
+	 * created and stored on the first request. Until then, the node keeps the
+	 * times only.
+	 */
 	public HistoryInformation getHistoryInformation() {
-		return historyInformation;
+		HistoryInformation historyInformation = mHistoryInformation;
+		if (historyInformation == null) {
+			historyInformation = new HistoryInformation(mCreatedAt,
+					mLastModifiedAt);
+			mHistoryInformation = historyInformation;
+		}
+		return (historyInformation == NO_HISTORY_INFORMATION) ? null
+				: historyInformation;
 	}
 
 	public void setHistoryInformation(HistoryInformation historyInformation) {
-		this.historyInformation = historyInformation;
+		mHistoryInformation = (historyInformation == null) ? NO_HISTORY_INFORMATION
+				: historyInformation;
+	}
+
+	/**
+	 * Sets the times read from a map file, without creating the history
+	 * information.
+	 *
+	 * @return false, if the history information exists already. It has to be
+	 *         changed then.
+	 */
+	boolean setHistoryTimes(Date pCreatedAt, Date pLastModifiedAt) {
+		if (mHistoryInformation != null) {
+			return false;
+		}
+		if (pCreatedAt != null) {
+			mCreatedAt = pCreatedAt.getTime();
+		}
+		if (pLastModifiedAt != null) {
+			mLastModifiedAt = pLastModifiedAt.getTime();
+		}
+		return true;
 	}
 
 	public int getHGap() {
@@ -0,0 +1,230 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import freemind.extensions.PermanentNodeHook;
+import freemind.extensions.UndoEventReceiver;
+import freemind.main.Resources;
+
+/**
+ * Tells the activated {@link PermanentNodeHook}s of a node and of its
+ * ancestors about changed, added and removed nodes.
+ *
+ * During a transaction, the events are collected and delivered when it ends,
+ * once per node and with the final position of the node in the map. Thus, a
+ * paste of many nodes doesn't restyle the ancestors for each of them. A node
+ * that is back under a former parent at the end is neither removed nor added.
+ * As long
+ * as no node has an activated hook, the ancestors aren't visited at all.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class NodeHookNotifier {
+
+	private int mTransactionDepth = 0;
+
+	/**
+	 * The nodes with activated hooks. A node stays here until its last hook
+	 * is deactivated, even if it is removed from the map.
+	 */
+	private final Set<MindMapNode> mHookedNodes = Collections
+			.newSetFromMap(new IdentityHashMap<MindMapNode, Boolean>());
+
+	/**
+	 * Changed node -> true, if only {@link UndoEventReceiver}s are told.
+	 */
+	private LinkedHashMap<MindMapNode, Boolean> mChangedNodes = new LinkedHashMap<>();
+
+	private LinkedHashSet<MindMapNode> mAddedNodes = new LinkedHashSet<>();
+
+	/** Removed node -> its former parents. */
+	private LinkedHashMap<MindMapNode, LinkedHashSet<MindMapNode>> mRemovedNodes = new LinkedHashMap<>();
+
+	public void startTransaction() {
+		mTransactionDepth++;
+	}
+
+	/**
+	 * Delivers the collected events, if the outermost transaction ends.
+	 */
+	public void endTransaction() {
+		if (--mTransactionDepth > 0) {
+			return;
+		}
+		while (!mChangedNodes.isEmpty() || !mAddedNodes.isEmpty()
+				|| !mRemovedNodes.isEmpty()) {
+			// the hooks may start new transactions:
+			LinkedHashMap<MindMapNode, LinkedHashSet<MindMapNode>> removedNodes = mRemovedNodes;
+			LinkedHashSet<MindMapNode> addedNodes = mAddedNodes;
+			LinkedHashMap<MindMapNode, Boolean> changedNodes = mChangedNodes;
+			mRemovedNodes = new LinkedHashMap<>();
+			mAddedNodes = new LinkedHashSet<>();
+			mChangedNodes = new LinkedHashMap<>();
+			HashSet<MindMapNode> movedBack = new HashSet<>();
+			for (Map.Entry<MindMapNode, LinkedHashSet<MindMapNode>> entry : removedNodes
+					.entrySet()) {
+				MindMapNode removedChild = entry.getKey();
+				// if it was added to an old parent again (e.g. moved up), it
+				// is neither removed nor added:
+				if (entry.getValue().contains(removedChild.getParentNode())) {
+					movedBack.add(removedChild);
+					continue;
+				}
+				for (MindMapNode oldDad : entry.getValue()) {
+					try {
+						fireNodeRemoved(oldDad, removedChild, oldDad);
+					} catch (Exception e) {
+						Resources.getInstance().logException(e);
+					}
+				}
+			}
+			for (MindMapNode addedChild : addedNodes) {
+				// if it was removed again, it isn't added:
+				if (addedChild.getParentNode() != null
+						&& !movedBack.contains(addedChild)) {
+					try {
+						fireNodeAdded(addedChild.getParentNode(), addedChild);
+					} catch (Exception e) {
+						Resources.getInstance().logException(e);
+					}
+				}
+			}
+			for (Map.Entry<MindMapNode, Boolean> entry : changedNodes.entrySet()) {
+				try {
+					fireNodeChanged(entry.getKey(), entry.getKey(),
+							entry.getValue());
+				} catch (Exception e) {
+					Resources.getInstance().logException(e);
+				}
+			}
+		}
+	}
+
+	public void hookActivated(MindMapNode pNode) {
+		mHookedNodes.add(pNode);
+	}
+
+	public void hookDeactivated(MindMapNode pNode) {
+		if (pNode.getActivatedHooks().isEmpty()) {
+			mHookedNodes.remove(pNode);
+		}
+	}
+
+	/**
+	 * @param pUndoOnly
+	 *            if true, only the {@link UndoEventReceiver}s are told, as
+	 *            the change is done by an undo.
+	 */
+	public void nodeChanged(MindMapNode pNode, boolean pUndoOnly) {
+		if (mHookedNodes.isEmpty()) {
+			return;
+		}
+		if (mTransactionDepth == 0) {
+			fireNodeChanged(pNode, pNode, pUndoOnly);
+			return;
+		}
+		Boolean undoOnly = mChangedNodes.get(pNode);
+		mChangedNodes.put(pNode, pUndoOnly
+				&& (undoOnly == null || undoOnly.booleanValue()));
+	}
+
+	public void nodeAdded(MindMapNode pParent, MindMapNode pAddedChild) {
+		if (mHookedNodes.isEmpty()) {
+			return;
+		}
+		if (mTransactionDepth == 0) {
+			fireNodeAdded(pParent, pAddedChild);
+			return;
+		}
+		mAddedNodes.add(pAddedChild);
+	}
+
+	public void nodeRemoved(MindMapNode pOldDad, MindMapNode pRemovedChild) {
+		if (mHookedNodes.isEmpty()) {
+			return;
+		}
+		if (mTransactionDepth == 0) {
+			fireNodeRemoved(pOldDad, pRemovedChild, pOldDad);
+			return;
+		}
+		LinkedHashSet<MindMapNode> oldDads = mRemovedNodes.get(pRemovedChild);
+		if (oldDads == null) {
+			oldDads = new LinkedHashSet<>();
+			mRemovedNodes.put(pRemovedChild, oldDads);
+		}
+		oldDads.add(pOldDad);
+	}
+
+	public static void fireNodeChanged(MindMapNode node,
+			MindMapNode changedNode, boolean pUndoOnly) {
+		// Tell any node hooks that the node is changed:
+		for (Object o : node.getActivatedHooks()) {
+			PermanentNodeHook hook = (PermanentNodeHook) o;
+			if ((!pUndoOnly) || hook instanceof UndoEventReceiver) {
+				if (node == changedNode)
+					hook.onUpdateNodeHook();
+				else
+					hook.onUpdateChildrenHook(changedNode);
+			}
+		}
+		if (!node.isRoot() && node.getParentNode() != null)
+			fireNodeChanged(node.getParentNode(), changedNode, pUndoOnly);
+	}
+
+	public static void fireNodeAdded(MindMapNode node, MindMapNode addedChild) {
+		// Tell any node hooks that the node is added:
+		for (Object o : node.getActivatedHooks()) {
+			PermanentNodeHook hook = (PermanentNodeHook) o;
+			if (addedChild.getParentNode() == node) {
+				hook.onAddChild(addedChild);
+			}
+			hook.onAddChildren(addedChild);
+		}
+		if (!node.isRoot() && node.getParentNode() != null)
+			fireNodeAdded(node.getParentNode(), addedChild);
+	}
+
+	/**
+	 * @param oldDad
+	 *            the last dad node had.
+	 */
+	public static void fireNodeRemoved(MindMapNode node,
+			MindMapNode removedChild, MindMapNode oldDad) {
+		for (Object o : node.getActivatedHooks()) {
+			PermanentNodeHook hook = (PermanentNodeHook) o;
+			if (removedChild.getParentNode() == node) {
+				hook.onRemoveChild(removedChild);
+			}
+			hook.onRemoveChildren(removedChild, oldDad);
+		}
+		if (!node.isRoot() && node.getParentNode() != null)
+			fireNodeRemoved(node.getParentNode(), removedChild, oldDad);
+	}
+}
@@ -21,6 +21,7 @@ package freemind.modes;
 
 import java.awt.Font;
 import java.awt.font.TextAttribute;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -236,37 +237,11 @@ public class XMLElementAdapter extends XMLElement {
 				node.addIcon((MindIcon) child.getUserObject(), MindIcon.LAST);
 			} else if (child.getName().equals(XML_NODE_XHTML_CONTENT_TAG)) {
 				String xmlText = ((XMLElement) child).getContent();
-				Object typeAttribute = child
-						.getAttribute(XML_NODE_XHTML_TYPE_TAG);
-				if (typeAttribute == null
-						|| XML_NODE_XHTML_TYPE_NODE.equals(typeAttribute)) {
-					// output:
-					logger.finest("Setting node html content to:" + xmlText);
-					node.setXmlText(xmlText);
-				} else {
-					logger.finest("Setting note html content to:" + xmlText);
-					node.setXmlNoteText(xmlText);
-				}
+				logger.finest("Setting html content to:" + xmlText);
+				setRichContent(node, xmlText,
+						child.getAttribute(XML_NODE_XHTML_TYPE_TAG));
 			} else if (child.getName().equals("hook")) {
-				XMLElement xml = (XMLElement) child/* .getUserObject() */;
-				String loadName = (String) xml.getAttribute("NAME");
-				PermanentNodeHook hook = null;
-				try {
-					// loadName=loadName.replace('/', File.separatorChar);
-					/*
-					 * The next code snippet is an exception. Normally, hooks
-					 * have to be created via the ModeController. DO NOT COPY.
-					 */
-					hook = (PermanentNodeHook) mMapFeedback.createNodeHook(loadName, node);
-					// this is a bad hack. Don't make use of this data unless
-					// you know exactly what you are doing.
-					hook.setNode(node);
-				} catch (Exception e) {
-					freemind.main.Resources.getInstance().logException(e);
-					hook = new PermanentNodeHookSubstituteUnknown(loadName);
-				}
-				hook.loadFrom(xml);
-				node.addHook(hook);
+				addHook(mMapFeedback, node, (XMLElement) child/* .getUserObject() */);
 			}
 			return;
 		}
@@ -300,81 +275,17 @@ public class XMLElementAdapter extends XMLElement {
 		}
 
 		if (userObject instanceof EdgeAdapter) {
-			EdgeAdapter edge = (EdgeAdapter) userObject;
-			switch (name) {
-				case "STYLE":
-					edge.setStyle(sValue);
-					break;
-				case "COLOR":
-					edge.setColor(Tools.xmlToColor(sValue));
-					break;
-				case "WIDTH":
-					if (sValue.equals(EdgeAdapter.EDGE_WIDTH_THIN_STRING)) {
-						edge.setWidth(EdgeAdapter.WIDTH_THIN);
-					} else {
-						edge.setWidth(Integer.parseInt(sValue));
-					}
-					break;
-			}
+			setEdgeAttribute((EdgeAdapter) userObject, name, sValue);
 			return;
 		}
 
 		if (userObject instanceof CloudAdapter) {
-			CloudAdapter cloud = (CloudAdapter) userObject;
-			switch (name) {
-				case "STYLE":
-					cloud.setStyle(sValue);
-					break;
-				case "COLOR":
-					cloud.setColor(Tools.xmlToColor(sValue));
-					break;
-				case "WIDTH":
-					cloud.setWidth(Integer.parseInt(sValue));
-					break;
-			}
+			setCloudAttribute((CloudAdapter) userObject, name, sValue);
 			return;
 		}
 
 		if (userObject instanceof ArrowLinkAdapter) {
-			ArrowLinkAdapter arrowLink = (ArrowLinkAdapter) userObject;
-			switch (name) {
-				case "STYLE":
-					arrowLink.setStyle(sValue);
-					break;
-				case "ID":
-					arrowLink.setUniqueId(sValue);
-					break;
-				case "COLOR":
-					arrowLink.setColor(Tools.xmlToColor(sValue));
-					break;
-				case "DESTINATION":
-					arrowLink.setDestinationLabel(sValue);
-					break;
-				case "REFERENCETEXT":
-					arrowLink.setReferenceText((sValue));
-					break;
-				case "STARTINCLINATION":
-					arrowLink.setStartInclination(Tools.xmlToPoint(sValue));
-					break;
-				case "ENDINCLINATION":
-					arrowLink.setEndInclination(Tools.xmlToPoint(sValue));
-					break;
-				case "STARTARROW":
-					arrowLink.setStartArrow(sValue);
-					break;
-				case "ENDARROW":
-					arrowLink.setEndArrow(sValue);
-					break;
-				case "WIDTH":
-					arrowLink.setWidth(Integer.parseInt(sValue));
-					break;
-			}
-			if (userObject instanceof ArrowLinkTarget) {
-				ArrowLinkTarget arrowLinkTarget = (ArrowLinkTarget) userObject;
-				if (name.equals("SOURCE")) {
-					arrowLinkTarget.setSourceLabel(sValue);
-				}
-			}
+			setArrowLinkAttribute((ArrowLinkAdapter) userObject, name, sValue);
 			return;
 		}
 
@@ -441,23 +352,51 @@ public class XMLElementAdapter extends XMLElement {
 
 	private NodeAdapter setNodeAttribute(String name, String sValue,
 			NodeAdapter node) {
+		if (name.equals(XML_NODE_TEXT)) {
+			logger.finest("Setting node text content to:" + sValue);
+		}
+		setNodeAttribute(name, sValue, node, mIdToTarget);
+		return node;
+	}
+
+	/**
+	 * The nodes of this package keep the times, until their history
+	 * information is requested.
+	 */
+	private static void setHistoryTimes(MindMapNode node, Date pCreatedAt,
+			Date pLastModifiedAt) {
+		if (node instanceof NodeAdapter
+				&& ((NodeAdapter) node).setHistoryTimes(pCreatedAt,
+						pLastModifiedAt)) {
+			return;
+		}
+		if (node.getHistoryInformation() == null) {
+			node.setHistoryInformation(new HistoryInformation());
+		}
+		if (pCreatedAt != null) {
+			node.getHistoryInformation().setCreatedAt(pCreatedAt);
+		}
+		if (pLastModifiedAt != null) {
+			node.getHistoryInformation().setLastModifiedAt(pLastModifiedAt);
+		}
+	}
+
+	/**
+	 * Applies a single attribute of a &lt;node&gt; tag to the given node. Ids
+	 * are not set directly, but annotated in pIdToTarget to be processed
+	 * later by {@link #processUnfinishedLinks(MindMapLinkRegistry)}.
+	 */
+	static void setNodeAttribute(String name, String sValue,
+			NodeAdapter node, HashMap pIdToTarget) {
 		switch (name) {
 			case XML_NODE_TEXT:
-				logger.finest("Setting node text content to:" + sValue);
 				node.setUserObject(sValue);
 				break;
 			case XML_NODE_HISTORY_CREATED_AT:
-				if (node.getHistoryInformation() == null) {
-					node.setHistoryInformation(new HistoryInformation());
-				}
-				node.getHistoryInformation().setCreatedAt(Tools.xmlToDate(sValue));
+				setHistoryTimes(node, Tools.xmlToDate(sValue), null);
 				break;
 			case XML_NODE_HISTORY_LAST_MODIFIED_AT:
-				if (node.getHistoryInformation() == null) {
-					node.setHistoryInformation(new HistoryInformation());
-				}
-				node.getHistoryInformation().setLastModifiedAt(
-						Tools.xmlToDate(sValue));
+				setHistoryTimes(node, null, Tools.xmlToDate(sValue));
 				break;
 			case "FOLDED":
 				if (sValue.equals("true")) {
@@ -487,7 +426,7 @@ public class XMLElementAdapter extends XMLElement {
 			case "ID":
 				// do not set label but annotate in list:
 				// System.out.println("(sValue, node) = " + sValue + ", "+ node);
-				mIdToTarget.put(sValue, node);
+				pIdToTarget.put(sValue, node);
 				break;
 			case "VSHIFT":
 				node.setShiftY(Integer.parseInt(sValue));
@@ -499,7 +438,128 @@ public class XMLElementAdapter extends XMLElement {
 				node.setHGap(Integer.parseInt(sValue));
 				break;
 		}
-		return node;
+	}
+
+	static void setEdgeAttribute(EdgeAdapter edge, String name, String sValue) {
+		switch (name) {
+			case "STYLE":
+				edge.setStyle(sValue);
+				break;
+			case "COLOR":
+				edge.setColor(Tools.xmlToColor(sValue));
+				break;
+			case "WIDTH":
+				if (sValue.equals(EdgeAdapter.EDGE_WIDTH_THIN_STRING)) {
+					edge.setWidth(EdgeAdapter.WIDTH_THIN);
+				} else {
+					edge.setWidth(Integer.parseInt(sValue));
+				}
+				break;
+		}
+	}
+
+	static void setCloudAttribute(CloudAdapter cloud, String name,
+			String sValue) {
+		switch (name) {
+			case "STYLE":
+				cloud.setStyle(sValue);
+				break;
+			case "COLOR":
+				cloud.setColor(Tools.xmlToColor(sValue));
+				break;
+			case "WIDTH":
+				cloud.setWidth(Integer.parseInt(sValue));
+				break;
+		}
+	}
+
+	static void setArrowLinkAttribute(ArrowLinkAdapter arrowLink,
+			String name, String sValue) {
+		switch (name) {
+			case "STYLE":
+				arrowLink.setStyle(sValue);
+				break;
+			case "ID":
+				arrowLink.setUniqueId(sValue);
+				break;
+			case "COLOR":
+				arrowLink.setColor(Tools.xmlToColor(sValue));
+				break;
+			case "DESTINATION":
+				arrowLink.setDestinationLabel(sValue);
+				break;
+			case "REFERENCETEXT":
+				arrowLink.setReferenceText((sValue));
+				break;
+			case "STARTINCLINATION":
+				arrowLink.setStartInclination(Tools.xmlToPoint(sValue));
+				break;
+			case "ENDINCLINATION":
+				arrowLink.setEndInclination(Tools.xmlToPoint(sValue));
+				break;
+			case "STARTARROW":
+				arrowLink.setStartArrow(sValue);
+				break;
+			case "ENDARROW":
+				arrowLink.setEndArrow(sValue);
+				break;
+			case "WIDTH":
+				arrowLink.setWidth(Integer.parseInt(sValue));
+				break;
+		}
+		if (arrowLink instanceof ArrowLinkTarget) {
+			ArrowLinkTarget arrowLinkTarget = (ArrowLinkTarget) arrowLink;
+			if (name.equals("SOURCE")) {
+				arrowLinkTarget.setSourceLabel(sValue);
+			}
+		}
+	}
+
+	static Font createFont(MapFeedback pMapFeedback, String pFontName,
+			int pFontStyle, int pFontSize, boolean pStrikethrough) {
+		Font font = new Font(pFontName, pFontStyle, pFontSize);
+		if (pStrikethrough) {
+			Map attr = font.getAttributes();
+			attr.put(TextAttribute.STRIKETHROUGH, TextAttribute.STRIKETHROUGH_ON);
+			font = new Font(attr);
+		}
+		return pMapFeedback.getFontThroughMap(font);
+	}
+
+	/**
+	 * Sets the content of a &lt;richcontent&gt; tag either as node or as note
+	 * text, depending on its type attribute.
+	 */
+	static void setRichContent(NodeAdapter node, String xmlText,
+			Object typeAttribute) {
+		if (typeAttribute == null
+				|| XML_NODE_XHTML_TYPE_NODE.equals(typeAttribute)) {
+			node.setXmlText(xmlText);
+		} else {
+			node.setXmlNoteText(xmlText);
+		}
+	}
+
+	static void addHook(MapFeedback pMapFeedback, NodeAdapter node,
+			XMLElement xml) {
+		String loadName = (String) xml.getAttribute("NAME");
+		PermanentNodeHook hook = null;
+		try {
+			// loadName=loadName.replace('/', File.separatorChar);
+			/*
+			 * The next code snippet is an exception. Normally, hooks
+			 * have to be created via the ModeController. DO NOT COPY.
+			 */
+			hook = (PermanentNodeHook) pMapFeedback.createNodeHook(loadName, node);
+			// this is a bad hack. Don't make use of this data unless
+			// you know exactly what you are doing.
+			hook.setNode(node);
+		} catch (Exception e) {
+			freemind.main.Resources.getInstance().logException(e);
+			hook = new PermanentNodeHookSubstituteUnknown(loadName);
+		}
+		hook.loadFrom(xml);
+		node.addHook(hook);
 	}
 
 	/**
@@ -525,13 +585,8 @@ public class XMLElementAdapter extends XMLElement {
 			return;
 		}
 		if (getName().equals("font")) {
-			Font font = new Font(fontName, fontStyle, fontSize);
-			if(fontStyleStrikethrough){
-				Map attr = font.getAttributes();
-				attr.put(TextAttribute.STRIKETHROUGH, TextAttribute.STRIKETHROUGH_ON);
-				font = new Font(attr);
-			}
-			userObject = mMapFeedback.getFontThroughMap(font);
+			userObject = createFont(mMapFeedback, fontName, fontStyle,
+					fontSize, fontStyleStrikethrough);
 			return;
 		}
 		/* icons */
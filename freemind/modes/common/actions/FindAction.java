@@ -10,8 +10,9 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
 
 import javax.swing.AbstractAction;
 import javax.swing.ImageIcon;
@@ -31,6 +32,8 @@ import freemind.modes.FreemindAction;
 import freemind.modes.MindMapNode;
 
 public class FindAction extends FreemindAction {
+	private static final int MINIMAL_CHUNK_SIZE = 256;
+	private static final int MAXIMAL_CHUNK_SIZE = 16384;
 	private final ControllerAdapter controller;
 	private ArrayList findNodesUnfoldedByLastFind;
 	private MindMapNode findFromNode;
@@ -49,7 +52,22 @@ public class FindAction extends FreemindAction {
 	}
 
 	private boolean findCaseSensitive;
-	private LinkedList findNodeQueue;
+	/**
+	 * The nodes below the node the last find started from, in the order of
+	 * the search (breadth first). They are compared in chunks, see
+	 * {@link #scanNextChunk(Collection, boolean, boolean)}.
+	 */
+	private ArrayList findNodes = new ArrayList();
+	private int scannedNodes = 0;
+	private int chunkSize = MINIMAL_CHUNK_SIZE;
+	/** The nodes found so far, see {@link #findNext()}. */
+	private ArrayList findHits = new ArrayList();
+	private int nextHit = 0;
+	/**
+	 * Node -> {@link PlainText}. The nodes of the map are searched again and
+	 * again, but most of them don't change in between.
+	 */
+	private final WeakHashMap plainTexts = new WeakHashMap();
 	private JDialog mDialog;
 	private int mResult;
 	private JCheckBox mFindInNotesTooBox;
@@ -198,8 +216,6 @@ public class FindAction extends FreemindAction {
 
 	public boolean find(MindMapNode node, Collection subterms, boolean caseSensitive) {
 		findNodesUnfoldedByLastFind = new ArrayList();
-		LinkedList nodes = new LinkedList();
-		nodes.addFirst(node);
 		findFromNode = node;
 		Collection finalizedSubterms;
 		if (!caseSensitive) {
@@ -210,15 +226,68 @@ public class FindAction extends FreemindAction {
 		} else {
 			finalizedSubterms = subterms;
 		}
-		return find(nodes, finalizedSubterms, caseSensitive);
-	}
-
-	private boolean find(LinkedList nodes,
-			Collection subterms, boolean caseSensitive) {
 		boolean searchInNotesToo = Resources.getInstance().getBoolProperty(
 				FreeMind.RESOURCES_SEARCH_IN_NOTES_TOO);
+		findNodes = new ArrayList();
+		findNodes.add(node);
+		for (int i = 0; i < findNodes.size(); i++) {
+			for (ListIterator it = ((MindMapNode) findNodes.get(i))
+					.childrenUnfolded(); it.hasNext();) {
+				findNodes.add(it.next());
+			}
+		}
+		scannedNodes = 0;
+		chunkSize = MINIMAL_CHUNK_SIZE;
+		findHits = new ArrayList();
+		nextHit = 0;
+		return findNext(finalizedSubterms, caseSensitive, searchInNotesToo);
+	}
 
-		boolean thereWereNodesToBeFolded = !findNodesUnfoldedByLastFind.isEmpty();
+	/**
+	 * Compares the next nodes in parallel and appends the matching ones to
+	 * the hits. The chunks grow, such that the first hit is shown fast and
+	 * large maps are searched with few parallel runs.
+	 */
+	private void scanNextChunk(final Collection pSubterms,
+			final boolean pCaseSensitive, final boolean pSearchInNotesToo) {
+		final int start = scannedNodes;
+		final int end = Math.min(findNodes.size(), start + chunkSize);
+		chunkSize = Math.min(2 * chunkSize, MAXIMAL_CHUNK_SIZE);
+		final PlainText[] texts = new PlainText[end - start];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = (PlainText) plainTexts.get(findNodes.get(start + i));
+		}
+		final boolean[] found = new boolean[texts.length];
+		IntStream.range(0, texts.length).parallel().forEach(i -> {
+			MindMapNode node = (MindMapNode) findNodes.get(start + i);
+			texts[i] = getPlainText(node, texts[i]);
+			found[i] = node.isVisible()
+					&& texts[i].matches(this, pSubterms, pCaseSensitive,
+							pSearchInNotesToo);
+		});
+		for (int i = 0; i < texts.length; i++) {
+			Object node = findNodes.get(start + i);
+			plainTexts.put(node, texts[i]);
+			if (found[i]) {
+				findHits.add(node);
+			}
+		}
+		scannedNodes = end;
+	}
+
+	/**
+	 * @return the cached plain text, if the texts of the node didn't change
+	 *         in between.
+	 */
+	private PlainText getPlainText(MindMapNode pNode, PlainText pCached) {
+		if (pCached != null && pCached.isValid(pNode)) {
+			return pCached;
+		}
+		return new PlainText(pNode);
+	}
+
+	private boolean findNext(Collection subterms, boolean caseSensitive,
+			boolean searchInNotesToo) {
 		if (!findNodesUnfoldedByLastFind.isEmpty()) {
 
 			ListIterator i = findNodesUnfoldedByLastFind
@@ -234,55 +303,112 @@ public class FindAction extends FreemindAction {
 			findNodesUnfoldedByLastFind = new ArrayList();
 		}
 
-		while (!nodes.isEmpty()) {
-			MindMapNode node = (MindMapNode) nodes.removeFirst();
-			for (ListIterator i = node.childrenUnfolded(); i.hasNext();) {
-				nodes.addLast(i.next());
+		while (nextHit < findHits.size() || scannedNodes < findNodes.size()) {
+			if (nextHit == findHits.size()) {
+				scanNextChunk(subterms, caseSensitive, searchInNotesToo);
+				continue;
 			}
-
-			if (!node.isVisible())
+			MindMapNode node = (MindMapNode) findHits.get(nextHit++);
+			// the map may have been changed since the hits were collected:
+			if (!isInMap(node) || !node.isVisible()) {
 				continue;
+			}
+			PlainText text = getPlainText(node,
+					(PlainText) plainTexts.get(node));
+			plainTexts.put(node, text);
+			boolean foundInNotes = false;
+			if (!text.matchesText(this, subterms, caseSensitive)) {
+				if (!searchInNotesToo
+						|| !text.matchesNote(this, subterms, caseSensitive)) {
+					continue;
+				}
+				foundInNotes = true;
+			}
+			controller.displayNode(node, findNodesUnfoldedByLastFind);
+			centerNode(node);
+			if (foundInNotes) {
+				// TODO: Select text in notes window.
+			}
+			this.subterms = subterms;
+			findCaseSensitive = caseSensitive;
+			return true;
+		}
+
+		centerNode(findFromNode);
+		return false;
+	}
 
-			String nodeText = node.toString();
-			nodeText = prepareTextContent(caseSensitive, nodeText);
+	private boolean isInMap(MindMapNode pNode) {
+		MindMapNode root = controller.getMap().getRootNode();
+		while (pNode != null && pNode != root) {
+			pNode = pNode.getParentNode();
+		}
+		return pNode == root;
+	}
 
-			String noteText = node.getNoteText();
-			noteText = prepareTextContent(caseSensitive, noteText);
+	/**
+	 * The text and the note of a node prepared for the search (see
+	 * {@link FindAction#prepareTextContent(boolean, String)}). It is valid as
+	 * long as the node has the same texts, thus edits invalidate it.
+	 */
+	private static class PlainText {
+		private final String mText;
+		private final String mNote;
+		private String mPlainText = null;
+		private String mPlainNote = null;
+		private String mLowerCaseText = null;
+		private String mLowerCaseNote = null;
+
+		PlainText(MindMapNode pNode) {
+			mText = pNode.toString();
+			mNote = pNode.getNoteText();
+		}
 
-			boolean found = true;
-			boolean foundInNotes = false;
-			for (Object subterm1 : subterms) {
-				if (!nodeText.contains((String) subterm1)) {
-					found = false;
-					break;
+		boolean isValid(MindMapNode pNode) {
+			return mText == pNode.toString() && mNote == pNode.getNoteText();
+		}
+
+		boolean matches(FindAction pFind, Collection pSubterms,
+				boolean pCaseSensitive, boolean pSearchInNotesToo) {
+			return matchesText(pFind, pSubterms, pCaseSensitive)
+					|| (pSearchInNotesToo && matchesNote(pFind, pSubterms,
+							pCaseSensitive));
+		}
+
+		boolean matchesText(FindAction pFind, Collection pSubterms,
+				boolean pCaseSensitive) {
+			if (pCaseSensitive) {
+				if (mPlainText == null) {
+					mPlainText = pFind.prepareTextContent(true, mText);
 				}
+			} else if (mLowerCaseText == null) {
+				mLowerCaseText = pFind.prepareTextContent(false, mText);
 			}
+			return containsAll(pCaseSensitive ? mPlainText : mLowerCaseText,
+					pSubterms);
+		}
 
-			if ((!found) && searchInNotesToo) {
-				found = true;
-				for (Object subterm : subterms) {
-					if (!noteText.contains((String) subterm)) {
-						found = false;
-						break;
-					}
+		boolean matchesNote(FindAction pFind, Collection pSubterms,
+				boolean pCaseSensitive) {
+			if (pCaseSensitive) {
+				if (mPlainNote == null) {
+					mPlainNote = pFind.prepareTextContent(true, mNote);
 				}
-				foundInNotes = true;
+			} else if (mLowerCaseNote == null) {
+				mLowerCaseNote = pFind.prepareTextContent(false, mNote);
 			}
-			if (found) {
-				controller.displayNode(node, findNodesUnfoldedByLastFind);
-				centerNode(node);
-				if (foundInNotes) {
-					// TODO: Select text in notes window.
+			return containsAll(pCaseSensitive ? mPlainNote : mLowerCaseNote,
+					pSubterms);
+		}
+
+		private static boolean containsAll(String pText, Collection pSubterms) {
+			for (Object subterm : pSubterms) {
+				if (!pText.contains((String) subterm)) {
+					return false;
 				}
-				this.subterms = subterms;
-				findCaseSensitive = caseSensitive;
-				findNodeQueue = nodes;
-				return true;
 			}
+			return true;
 		}
-
-		centerNode(findFromNode);
-		return false;
 	}
 
 	public String prepareTextContent(boolean caseSensitive, String nodeText) {
@@ -330,9 +456,14 @@ public class FindAction extends FreemindAction {
 		return subterms;
 	}
 
+	/**
+	 * Shows the next of the hits collected by the last find.
+	 */
 	public boolean findNext() {
 		if (subterms != null) {
-			return find(findNodeQueue, subterms, findCaseSensitive);
+			return findNext(subterms, findCaseSensitive, Resources
+					.getInstance().getBoolProperty(
+							FreeMind.RESOURCES_SEARCH_IN_NOTES_TOO));
 		}
 		return false;
 	}
@@ -21,9 +21,12 @@
 package freemind.modes.mindmapmode;
 
 import java.awt.Point;
+import java.io.IOException;
+import java.io.StringWriter;
 
 import freemind.modes.ArrowLinkAdapter;
 import freemind.modes.MapFeedback;
+import freemind.modes.MapStreamWriter;
 import freemind.modes.MindMapNode;
 import freemind.view.mindmapview.MapView;
 import freemind.view.mindmapview.NodeView;
@@ -41,8 +44,14 @@ public class MindMapArrowLinkModel extends ArrowLinkAdapter {
 	}
 
 	public String toString() {
+		StringWriter writer = new StringWriter();
+		try {
+			save(new MapStreamWriter(writer));
+		} catch (IOException e) {
+			freemind.main.Resources.getInstance().logException(e);
+		}
 		return "Source=" + getSource() + ", target=" + getTarget() + ", "
-				+ save().toString();
+				+ writer.toString();
 	}
 
 	/*
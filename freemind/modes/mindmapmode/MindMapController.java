@@ -91,7 +91,6 @@ import freemind.extensions.HookRegistration;
 import freemind.extensions.ModeControllerHook;
 import freemind.extensions.NodeHook;
 import freemind.extensions.PermanentNodeHook;
-import freemind.extensions.UndoEventReceiver;
 import freemind.main.ExampleFileFilter;
 import freemind.main.FixedHTMLWriter;
 import freemind.main.FreeMind;
@@ -178,7 +177,9 @@ import freemind.modes.mindmapmode.actions.UsePlainTextAction;
 import freemind.modes.mindmapmode.actions.UseRichFormattingAction;
 import freemind.modes.mindmapmode.actions.xml.ActionPair;
 import freemind.modes.mindmapmode.actions.xml.ActionRegistry;
+import freemind.modes.mindmapmode.actions.xml.ActionJournal;
 import freemind.modes.mindmapmode.actions.xml.DefaultActionHandler;
+import freemind.modes.mindmapmode.actions.xml.JournalActionHandler;
 import freemind.modes.mindmapmode.actions.xml.UndoActionHandler;
 import freemind.modes.mindmapmode.actions.xml.actors.XmlActorFactory;
 import freemind.modes.mindmapmode.hooks.MindMapHookFactory;
@@ -189,6 +190,7 @@ import freemind.view.MapModule;
 import freemind.view.mindmapview.MainView;
 import freemind.view.mindmapview.MapView;
 import freemind.view.mindmapview.NodeView;
+import freemind.view.mindmapview.TextRenderingCache;
 
 public class MindMapController extends ControllerAdapter implements ExtendedMapFeedback, MapSourceChangedObserver {
 
@@ -472,6 +474,10 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 		redo = new RedoAction(this);
 
 		getActionRegistry().registerHandler(new DefaultActionHandler(getActionRegistry()));
+		// in front of the default handler, thus the actions are journaled
+		// before they are executed:
+		mJournalActionHandler = new JournalActionHandler(this);
+		getActionRegistry().registerHandler(mJournalActionHandler);
 		getActionRegistry().registerUndoHandler(new UndoActionHandler(this, undo, redo));
 
 		cut = new CutAction(this);
@@ -643,8 +649,27 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 			model.setFile(file);
 			model.setFileTime();
 		}
+		mJournalActionHandler.mapRead((MindMapMapModel) model);
 	}
 	
+	protected void mapLoaded() {
+		if (mJournalActionHandler.mapLoaded()) {
+			setSaved(false);
+			getFrame().out(
+					Tools.expandPlaceholders(getText("journal_replayed"),
+							ActionJournal.getJournalFile(getMap().getFile())
+									.getName()));
+		}
+	}
+
+	public boolean save(File file) {
+		boolean result = super.save(file);
+		if (result) {
+			mJournalActionHandler.mapSaved();
+		}
+		return result;
+	}
+
 	MindMapNode loadTree(final File pFile) throws XMLParseException,
 			IOException {
 		return loadTree(new Tools.FileReaderCreator(pFile));
@@ -676,6 +701,8 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 
 	private void createPatterns(List patternsList) throws Exception {
 		mPatternsList = patternsList;
+		// the node texts are rendered again with the new patterns:
+		TextRenderingCache.getInstance().clear();
 		patterns = new ApplyPatternAction[patternsList.size()];
 		for (int i = 0; i < patterns.length; i++) {
 			Pattern actualPattern = (Pattern) patternsList.get(i);
@@ -852,6 +879,7 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 	private Timer mNodeInformationTimer;
 	private NodeInformationTimerAction mNodeInformationTimerAction;
 	private XmlActorFactory mActorFactory;
+	private JournalActionHandler mJournalActionHandler;
 
 	public interface NewNodeCreator {
 		MindMapNode createNode(Object userObject, MindMap map);
@@ -1002,7 +1030,7 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 			HashSet NodeAlreadyVisited = new HashSet();
 			NodeAlreadyVisited.add(link.getSource());
 			NodeAlreadyVisited.add(link.getTarget());
-			Vector links = getMindMapMapModel().getLinkRegistry().getAllLinks(link.getSource());
+			Vector links = new Vector(getMindMapMapModel().getLinkRegistry().getAllLinks(link.getSource()));
 			links.addAll(getMindMapMapModel().getLinkRegistry().getAllLinks(link.getTarget()));
 			for (Object link1 : links) {
 				MindMapArrowLinkModel foreign_link = (MindMapArrowLinkModel) link1;
@@ -1785,24 +1813,8 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 
 	protected void updateNode(MindMapNode node) {
 		super.updateNode(node);
-		recursiveCallUpdateHooks(node, node);
-	}
-
-	private void recursiveCallUpdateHooks(MindMapNode node, MindMapNode changedNode) {
-		// Tell any node hooks that the node is changed:
-		if (node != null) {
-			for (Object o : ((MindMapNode) node).getActivatedHooks()) {
-				PermanentNodeHook hook = (PermanentNodeHook) o;
-				if ((!isUndoAction()) || hook instanceof UndoEventReceiver) {
-					if (node == changedNode)
-						hook.onUpdateNodeHook();
-					else
-						hook.onUpdateChildrenHook(changedNode);
-				}
-			}
-		}
-		if (!node.isRoot() && node.getParentNode() != null)
-			recursiveCallUpdateHooks(node.getParentNode(), changedNode);
+		getActionRegistry().getNodeHookNotifier().nodeChanged(node,
+				isUndoAction());
 	}
 
 	public void doubleClick(MouseEvent e) {
@@ -1863,6 +1875,11 @@ public class MindMapController extends ControllerAdapter implements ExtendedMapF
 		insertNodeInto(newChild, parent, parent.getChildCount());
 	}
 
+	public void insertNodesInto(List newNodes, MindMapNode parent, int index) {
+		setSaved(false);
+		getMap().insertNodesInto(newNodes, parent, index);
+	}
+
 
 
 	public void removeNodeFromParent(MindMapNode selectedNode) {
@@ -54,10 +54,13 @@ import freemind.modes.CloudAdapter;
 import freemind.modes.EdgeAdapter;
 import freemind.modes.MapAdapter;
 import freemind.modes.MapFeedback;
+import freemind.modes.MapSnapshot;
+import freemind.modes.MapStreamWriter;
 import freemind.modes.MindMap;
 import freemind.modes.MindMapLinkRegistry;
 import freemind.modes.MindMapNode;
 import freemind.modes.NodeAdapter;
+import freemind.modes.mindmapmode.actions.xml.ActionJournal;
 
 public class MindMapMapModel extends MapAdapter {
 
@@ -66,6 +69,8 @@ public class MindMapMapModel extends MapAdapter {
 	LockManager lockManager;
 	private MindMapLinkRegistry linkRegistry;
 	private Timer timerForAutomaticSaving;
+	/** If set, the changes since the last save are recorded here. */
+	private volatile ActionJournal mJournal = null;
 
 	//
 	// Constructors
@@ -294,23 +299,50 @@ public class MindMapMapModel extends MapAdapter {
 	 */
 	public void getXml(Writer fileout, boolean saveInvisible,
 			MindMapNode pRootNode) throws IOException {
+		writeXml(fileout, new MapStreamWriter(fileout), saveInvisible,
+				pRootNode);
+		fileout.close();
+	}
+
+	private void writeXml(Writer fileout, MapStreamWriter pStreamWriter,
+			boolean saveInvisible, MindMapNode pRootNode) throws IOException {
 		fileout.write("<map ");
 		fileout.write("version=\"" + FreeMind.XML_VERSION + "\"");
 		fileout.write(">\n");
 		fileout.write("<!-- To view this file, download free mind mapping software FreeMind from http://freemind.sourceforge.net -->\n");
-		pRootNode.save(fileout, this.getLinkRegistry(), saveInvisible, true);
+		((NodeAdapter) pRootNode).save(pStreamWriter, this.getLinkRegistry(),
+				saveInvisible, true);
 		fileout.write("</map>\n");
-		fileout.close();
 	}
 
 	public void getXml(Writer fileout) throws IOException {
 		getXml(fileout, true);
 	}
 
+	/**
+	 * Streams the map into a compressed snapshot in memory. Must be called on
+	 * the event dispatch thread, where the nodes are changed. The snapshot
+	 * can be written to disk from any thread.
+	 */
+	MapSnapshot getSnapshot() throws IOException {
+		MapSnapshot snapshot = new MapSnapshot();
+		getXml(snapshot.getWriter());
+		return snapshot;
+	}
+
 	public void getFilteredXml(Writer fileout) throws IOException {
 		getXml(fileout, false);
 	}
 
+	public void getFilteredXml(MapStreamWriter pWriter) throws IOException {
+		pWriter.startElement("map");
+		pWriter.addAttribute("version", FreeMind.XML_VERSION);
+		pWriter.closeStartTag();
+		((NodeAdapter) getRootNode()).save(pWriter, getLinkRegistry(), false,
+				true);
+		pWriter.endElement();
+	}
+
 	/**
 	 * Attempts to lock the map using a semaphore file
 	 * 
@@ -336,9 +368,21 @@ public class MindMapMapModel extends MapAdapter {
 		return lockingUser;
 	}
 
+	public void setJournal(ActionJournal pJournal) {
+		mJournal = pJournal;
+	}
+
 	/** When a map is closed, this method is called. */
 	public void destroy() {
 		super.destroy();
+		if (mJournal != null) {
+			// the changes are either saved or discarded:
+			try {
+				mJournal.delete();
+			} catch (IOException e) {
+				freemind.main.Resources.getInstance().logException(e);
+			}
+		}
 		lockManager.releaseLock();
 		lockManager.releaseTimer();
 		if (timerForAutomaticSaving != null) {
@@ -545,6 +589,12 @@ public class MindMapMapModel extends MapAdapter {
 			changeState = model.getNumberOfChangesSinceLastSave();
 		}
 
+		/**
+		 * The event dispatch thread streams the map into a compressed
+		 * snapshot (see {@link MindMapMapModel#getSnapshot()}), the thread of
+		 * the timer writes it to the temporary file. The task is not
+		 * rescheduled, thus the temporary files are rotated.
+		 */
 		public void run() {
 			/* Map is dirty enough? */
 			if (model.getNumberOfChangesSinceLastSave() == changeState)
@@ -554,51 +604,93 @@ public class MindMapMapModel extends MapAdapter {
 				/* map was recently saved. */
 				return;
 			}
+			long start = System.currentTimeMillis();
+			ActionJournal journal = model.mJournal;
+			if (journal != null) {
+				// the changes are already in the journal:
+				try {
+					journal.sync();
+					logger.info("Automatic save synced journal "
+							+ journal.getFile() + " in "
+							+ (System.currentTimeMillis() - start) + " ms.");
+				} catch (IOException e) {
+					Resources.getInstance().logException(e);
+				}
+				return;
+			}
+			final MapSnapshot[] snapshot = new MapSnapshot[1];
+			final long[] pauseTime = new long[1];
 			try {
-				cancel();
 				EventQueue.invokeAndWait(() -> {
-                    /* Now, it is dirty, we save it. */
-                    File tempFile;
-                    if (tempFileStack.size() >= numberOfFiles)
-                        tempFile = (File) tempFileStack.remove(0); // pop
-                    else {
-                        try {
-                            tempFile = File.createTempFile(
-                                    "FM_"
-                                            + ((model.toString() == null) ? "unnamed"
-                                                    : model.toString()),
-                                    freemind.main.FreeMindCommon.FREEMIND_FILE_EXTENSION,
-                                    pathToStore);
-                            if (filesShouldBeDeletedAfterShutdown)
-                                tempFile.deleteOnExit();
-                        } catch (Exception e) {
-                            System.err
-                                    .println("Error in automatic MindMapMapModel.save(): "
-                                            + e.getMessage());
-                            Resources.getInstance()
-                                    .logException(e);
-                            return;
-                        }
-                    }
-                    try {
-                        model.saveInternal(tempFile, true /* =internal call */);
-                        model.getMapFeedback()
-                                .out(Resources
-                                        .getInstance()
-                                        .format("automatically_save_message",
-                                                new Object[] { tempFile
-                                                        .toString() }));
-                    } catch (Exception e) {
-                        System.err
-                                .println("Error in automatic MindMapMapModel.save(): "
-                                        + e.getMessage());
-                        Resources.getInstance().logException(
-                                e);
-                    }
-                    tempFileStack.add(tempFile); // add at the back.
-                });
+					long snapshotStart = System.currentTimeMillis();
+					snapshot[0] = takeSnapshot();
+					pauseTime[0] = System.currentTimeMillis() - snapshotStart;
+				});
 			} catch (InterruptedException | InvocationTargetException e) {
 				freemind.main.Resources.getInstance().logException(e);
+				return;
+			}
+			if (snapshot[0] == null) {
+				return;
+			}
+			/* Now, it is dirty, we save it. */
+			File tempFile;
+			if (tempFileStack.size() >= numberOfFiles)
+				tempFile = (File) tempFileStack.remove(0); // pop
+			else {
+				try {
+					tempFile = File.createTempFile(
+							"FM_"
+									+ ((model.toString() == null) ? "unnamed"
+											: model.toString()),
+							freemind.main.FreeMindCommon.FREEMIND_FILE_EXTENSION,
+							pathToStore);
+					if (filesShouldBeDeletedAfterShutdown)
+						tempFile.deleteOnExit();
+				} catch (Exception e) {
+					System.err
+							.println("Error in automatic MindMapMapModel.save(): "
+									+ e.getMessage());
+					Resources.getInstance().logException(e);
+					return;
+				}
+			}
+			try {
+				writeSnapshot(tempFile, snapshot[0]);
+				logger.info("Automatic save to " + tempFile + " took "
+						+ (System.currentTimeMillis() - start)
+						+ " ms, the event dispatch thread was paused for "
+						+ pauseTime[0] + " ms for a snapshot of "
+						+ snapshot[0].getSize() / 1024 + " KB.");
+				final String message = Resources.getInstance().format(
+						"automatically_save_message",
+						new Object[] { tempFile.toString() });
+				EventQueue.invokeLater(() -> model.getMapFeedback().out(message));
+			} catch (Exception e) {
+				System.err.println("Error in automatic MindMapMapModel.save(): "
+						+ e.getMessage());
+				Resources.getInstance().logException(e);
+			}
+			tempFileStack.add(tempFile); // add at the back.
+		}
+
+		private MapSnapshot takeSnapshot() {
+			try {
+				return model.getSnapshot();
+			} catch (IOException e) {
+				Resources.getInstance().logException(e);
+				return null;
+			}
+		}
+
+		private void writeSnapshot(File pFile, MapSnapshot pSnapshot)
+				throws IOException {
+			try (FileOutputStream out = new FileOutputStream(pFile)) {
+				Writer writer = new BufferedWriter(new OutputStreamWriter(out));
+				pSnapshot.writeTo(writer);
+				writer.flush();
+				// the automatic save must survive a crash of the system:
+				out.getFD().sync();
 			}
 		}
 	}
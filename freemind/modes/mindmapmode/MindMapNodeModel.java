@@ -24,11 +24,11 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.ListIterator;
 
 import freemind.main.HtmlTools;
 import freemind.modes.MindMap;
+import freemind.modes.MindMapEdge;
 import freemind.modes.NodeAdapter;
 
 /**
@@ -47,8 +47,10 @@ public class MindMapNodeModel extends NodeAdapter {
 
 	public MindMapNodeModel(Object userObject, MindMap pMap) {
 		super(userObject, pMap);
-		children = new LinkedList();
-		setEdge(new MindMapEdgeModel(this, getMapFeedback()));
+	}
+
+	protected MindMapEdge createEdge() {
+		return new MindMapEdgeModel(this, getMapFeedback());
 	}
 
 	//
@@ -31,6 +31,7 @@ import java.util.logging.Logger;
 
 import javax.swing.Icon;
 
+import freemind.common.XmlActionCopier;
 import freemind.controller.actions.generated.instance.CompoundAction;
 import freemind.controller.actions.generated.instance.XmlAction;
 import freemind.main.Tools;
@@ -43,7 +44,13 @@ public class UndoAction extends AbstractXmlAction {
 	private MindMapController controller;
 	private boolean isUndoAction;
 	protected Vector actionPairList = new Vector();
+	/** The estimated bytes of each entry of the actionPairList. */
+	private Vector<Long> sizeList = new Vector<>();
+	/** The sum of the sizeList. */
+	private long size = 0;
 	private long timeOfLastAdd = 0;
+	/** The bytes of the actions the last copy couldn't estimate. */
+	private long fallbackSize = 0;
 	private boolean actionFrameStarted = false;
 	private static final long TIME_TO_BEGIN_NEW_ACTION = 100;
 	protected static Logger logger;
@@ -83,7 +90,7 @@ public class UndoAction extends AbstractXmlAction {
 		if (actionPairList.size() > 0) {
 			ActionPair pair = (ActionPair) actionPairList.get(0);
 			informUndoPartner(pair);
-			actionPairList.remove(0);
+			removePair(0);
 			undoDoAction(pair);
 		}
 		if (actionPairList.size() == 0) {
@@ -121,8 +128,13 @@ public class UndoAction extends AbstractXmlAction {
 	}
 
 	public void add(ActionPair pair) {
-		XmlAction dcDo = Tools.deepCopy(pair.getDoAction());
-		XmlAction dcUndo = Tools.deepCopy(pair.getUndoAction());
+		// the copies share the strings with the actions, which are not
+		// changed afterwards:
+		XmlActionCopier copier = new XmlActionCopier();
+		XmlAction dcDo = copy(copier, pair.getDoAction());
+		XmlAction dcUndo = copy(copier, pair.getUndoAction());
+		long pairSize = copier.getSize() + fallbackSize;
+		fallbackSize = 0;
 		long currentTime = System.currentTimeMillis();
 		if ((actionPairList.size() > 0)
 				&& (actionFrameStarted || currentTime - timeOfLastAdd < TIME_TO_BEGIN_NEW_ACTION)) {
@@ -136,8 +148,7 @@ public class UndoAction extends AbstractXmlAction {
 				action.addChoice(firstPair.getDoAction());
 				remedia = new CompoundAction();
 				remedia.addChoice(firstPair.getUndoAction());
-				actionPairList.remove(0);
-				actionPairList.add(0, new ActionPair(action, remedia));
+				actionPairList.set(0, new ActionPair(action, remedia));
 				firstPair = (ActionPair) actionPairList.get(0);
 			} else {
 				action = (CompoundAction) firstPair.getDoAction();
@@ -145,20 +156,20 @@ public class UndoAction extends AbstractXmlAction {
 			}
 			action.addChoice(dcDo);
 			remedia.addAtChoice(0, dcUndo);
+			sizeList.set(0, sizeList.get(0) + pairSize);
+			size += pairSize;
 		} else {
 			ActionPair storagePair = new ActionPair(dcDo, dcUndo);
 			actionPairList.add(0, storagePair);
-			// and cut vector, if bigger than given size:
-			int maxEntries = 100;
-			try {
-				maxEntries = Integer.parseInt(controller.getFrame().getProperty("undo_levels"));
-			} catch (NumberFormatException e) {
-				freemind.main.Resources.getInstance().logException(e);
-			}
-			while (actionPairList.size() > maxEntries) {
-				actionPairList.remove(actionPairList.size() - 1); // remove
-																	// last elt
-			}
+			sizeList.add(0, pairSize);
+			size += pairSize;
+		}
+		// and cut vector, if bigger than given size or memory:
+		int maxEntries = getIntProperty("undo_levels", 100);
+		long maxSize = getIntProperty("undo_memory", 50) * 1024L * 1024L;
+		while (actionPairList.size() > maxEntries
+				|| (size > maxSize && actionPairList.size() > 1)) {
+			removePair(actionPairList.size() - 1); // remove last elt
 		}
 		startActionFrame();
 		timeOfLastAdd = currentTime;
@@ -171,8 +182,46 @@ public class UndoAction extends AbstractXmlAction {
 		}
 	}
 
+	/**
+	 * Copies the action. If the copier can't, it is copied via its xml, which
+	 * is estimated as well.
+	 */
+	private XmlAction copy(XmlActionCopier pCopier, XmlAction pAction) {
+		try {
+			return pCopier.copy(pAction);
+		} catch (IllegalArgumentException e) {
+			freemind.main.Resources.getInstance().logException(e);
+			String xml = Tools.marshall(pAction);
+			fallbackSize += 2L * xml.length();
+			return (XmlAction) Tools.unMarshall(xml);
+		}
+	}
+
+	private int getIntProperty(String pKey, int pDefault) {
+		try {
+			return Integer.parseInt(controller.getFrame().getProperty(pKey));
+		} catch (NumberFormatException e) {
+			freemind.main.Resources.getInstance().logException(e);
+			return pDefault;
+		}
+	}
+
+	private void removePair(int pIndex) {
+		actionPairList.remove(pIndex);
+		size -= sizeList.remove(pIndex);
+	}
+
+	/**
+	 * @return the estimated bytes of the stored actions.
+	 */
+	public long getSize() {
+		return size;
+	}
+
 	public void clear() {
 		actionPairList.clear();
+		sizeList.clear();
+		size = 0;
 	}
 
 	public void print() {
@@ -0,0 +1,235 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes.mindmapmode.actions.xml;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Append-only file that stores the xml actions executed since the map was
+ * saved the last time.
+ *
+ * The file consists of a header line with the modification time and the size
+ * of the map file the actions are based on, followed by records:
+ * <ul>
+ * <li><code>I &lt;path&gt; &lt;id&gt;</code>: the node at the path (child
+ * positions separated by commas, "-" for the root) got the id.</li>
+ * <li><code>A &lt;length&gt;</code>, followed by the marshalled action with
+ * the given number of characters and a newline.</li>
+ * </ul>
+ * A record that was not completely written (e.g. due to a crash) ends the
+ * journal.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class ActionJournal {
+
+	public static final String JOURNAL_EXTENSION = ".journal";
+
+	private static final String HEADER = "FreeMind journal 2";
+
+	public interface RecordHandler {
+		void onId(int[] pPath, String pId);
+
+		void onAction(String pXml);
+	}
+
+	private final File mFile;
+	private final File mMapFile;
+	private FileOutputStream mOutputStream;
+	private Writer mWriter;
+	private long mSize;
+
+	/**
+	 * @param pMapFile
+	 *            the saved map the actions are applied to.
+	 */
+	public ActionJournal(File pFile, File pMapFile) {
+		mFile = pFile;
+		mMapFile = pMapFile;
+	}
+
+	public static File getJournalFile(File pMapFile) {
+		return new File(pMapFile.getPath() + JOURNAL_EXTENSION);
+	}
+
+	public File getFile() {
+		return mFile;
+	}
+
+	/**
+	 * @return the approximate size of the journal in characters.
+	 */
+	public synchronized long getSize() {
+		return mSize;
+	}
+
+	public synchronized void appendId(int[] pPath, String pId)
+			throws IOException {
+		StringBuilder record = new StringBuilder("I ");
+		if (pPath.length == 0) {
+			record.append('-');
+		}
+		for (int i = 0; i < pPath.length; i++) {
+			if (i > 0) {
+				record.append(',');
+			}
+			record.append(pPath[i]);
+		}
+		record.append(' ').append(pId).append('\n');
+		write(record.toString());
+	}
+
+	public synchronized void appendAction(String pXml) throws IOException {
+		write("A " + pXml.length() + "\n" + pXml + "\n");
+	}
+
+	private void write(String pRecord) throws IOException {
+		if (mWriter == null) {
+			boolean exists = mFile.exists();
+			mOutputStream = new FileOutputStream(mFile, true);
+			mWriter = new OutputStreamWriter(mOutputStream,
+					StandardCharsets.UTF_8);
+			mSize = exists ? mFile.length() : 0;
+			if (!exists) {
+				mWriter.write(getHeader() + "\n");
+			}
+		}
+		mWriter.write(pRecord);
+		// the operating system has it now, thus it survives a crash of
+		// FreeMind:
+		mWriter.flush();
+		mSize += pRecord.length();
+	}
+
+	/**
+	 * Forces the journal to the disk. Can be called from any thread.
+	 */
+	public synchronized void sync() throws IOException {
+		if (mOutputStream != null) {
+			mOutputStream.getFD().sync();
+		}
+	}
+
+	public synchronized void close() throws IOException {
+		if (mWriter != null) {
+			mWriter.close();
+			mWriter = null;
+			mOutputStream = null;
+		}
+	}
+
+	/** Closes and removes the journal. */
+	public synchronized void delete() throws IOException {
+		close();
+		if (mFile.exists() && !mFile.delete()) {
+			throw new IOException("Can't delete journal " + mFile);
+		}
+		mSize = 0;
+	}
+
+	private String getHeader() {
+		return HEADER + " " + mMapFile.lastModified() + " "
+				+ mMapFile.length();
+	}
+
+	/**
+	 * @return true, if the journal was started on the map file as it is now.
+	 *         Otherwise, the map was changed without the journal (e.g. saved
+	 *         with switched off journal) and the actions don't fit anymore.
+	 */
+	public boolean matchesMapFile() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(mFile), StandardCharsets.UTF_8))) {
+			return getHeader().equals(reader.readLine());
+		}
+	}
+
+	/**
+	 * Reads all complete records of the journal.
+	 *
+	 * @return the number of records read.
+	 */
+	public int read(RecordHandler pHandler) throws IOException {
+		int count = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(mFile), StandardCharsets.UTF_8))) {
+			String header = reader.readLine();
+			if (header == null || !header.startsWith(HEADER + " ")) {
+				throw new IOException("File " + mFile + " is not a journal.");
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith("I ")) {
+					int separator = line.indexOf(' ', 2);
+					if (separator < 0) {
+						break;
+					}
+					pHandler.onId(parsePath(line.substring(2, separator)),
+							line.substring(separator + 1));
+				} else if (line.startsWith("A ")) {
+					int length = Integer.parseInt(line.substring(2));
+					char[] xml = new char[length];
+					int read = 0;
+					while (read < length) {
+						int chars = reader.read(xml, read, length - read);
+						if (chars < 0) {
+							return count;
+						}
+						read += chars;
+					}
+					if (reader.read() != '\n') {
+						// incomplete:
+						return count;
+					}
+					pHandler.onAction(new String(xml));
+				} else {
+					break;
+				}
+				count++;
+			}
+		} catch (NumberFormatException e) {
+			// incomplete record.
+		}
+		return count;
+	}
+
+	private static int[] parsePath(String pPath) {
+		if ("-".equals(pPath)) {
+			return new int[0];
+		}
+		String[] positions = pPath.split(",");
+		int[] path = new int[positions.length];
+		for (int i = 0; i < positions.length; i++) {
+			path[i] = Integer.parseInt(positions[i]);
+		}
+		return path;
+	}
+
+}
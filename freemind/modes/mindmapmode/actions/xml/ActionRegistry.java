@@ -28,6 +28,7 @@ import java.util.Vector;
 
 import freemind.controller.actions.generated.instance.XmlAction;
 import freemind.main.Resources;
+import freemind.modes.NodeHookNotifier;
 import freemind.modes.mindmapmode.actions.xml.ActionFilter.FinalActionFilter;
 import freemind.modes.mindmapmode.actions.xml.ActionFilter.FirstActionFilter;
 
@@ -49,6 +50,8 @@ public class ActionRegistry {
 	/** HashMap of Action class -> actor instance. */
 	private HashMap<Class, ActorXml> registeredActors;
 	private UndoActionHandler undoActionHandler;
+	/** Collects the events of the node hooks during a transaction. */
+	private final NodeHookNotifier mNodeHookNotifier = new NodeHookNotifier();
 	private static java.util.logging.Logger logger = null;
 
 	/**
@@ -114,6 +117,7 @@ public class ActionRegistry {
 	}
 
 	private void startTransaction(String name) {
+		mNodeHookNotifier.startTransaction();
 		for (ActionHandler handler : registeredHandler) {
 			handler.startTransaction(name);
 		}
@@ -123,6 +127,11 @@ public class ActionRegistry {
 		for (ActionHandler handler : registeredHandler) {
 			handler.endTransaction(name);
 		}
+		mNodeHookNotifier.endTransaction();
+	}
+
+	public NodeHookNotifier getNodeHookNotifier() {
+		return mNodeHookNotifier;
 	}
 
 	/**
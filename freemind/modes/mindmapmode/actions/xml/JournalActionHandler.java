@@ -0,0 +1,309 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.modes.mindmapmode.actions.xml;
+
+import java.awt.EventQueue;
+import java.io.File;
+import java.io.IOException;
+import java.util.Vector;
+
+import freemind.controller.actions.generated.instance.XmlAction;
+import freemind.main.FreeMindCommon;
+import freemind.main.Resources;
+import freemind.main.Tools;
+import freemind.modes.MindMapLinkRegistry;
+import freemind.modes.MindMapLinkRegistry.IdRegistrationListener;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapController;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * Records every executed action in an {@link ActionJournal} next to the map
+ * file. When the map is opened and a journal of the same version of the map
+ * file is present (e.g. after a crash), it is replayed. On save and when the
+ * map is closed, the journal is removed (see
+ * {@link MindMapMapModel#destroy()}), and if it becomes too large, the map is
+ * saved. Thus, the automatic save only has to sync the journal instead
+ * of writing the complete map.
+ *
+ * As the actions refer to the nodes by their ids, the ids that are assigned
+ * to existing nodes after the last save are recorded, too. They are collected
+ * from the moment the map is read, as e.g. the hooks and the view assign ids
+ * before the journal is replayed.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class JournalActionHandler implements ActionHandler,
+		IdRegistrationListener {
+
+	private final MindMapController mController;
+	private ActionJournal mJournal = null;
+	/** true, if the map was loaded or saved with switched on journal. */
+	private boolean mRecording = false;
+	/** true, while the journal is replayed. Its ids are recorded already. */
+	private boolean mReplaying = false;
+	private boolean mCompactionScheduled = false;
+	private final Vector<MindMapNode> mNewIdNodes = new Vector<>();
+	private final Vector<String> mNewIds = new Vector<>();
+
+	// Logging:
+	private static java.util.logging.Logger logger;
+
+	public JournalActionHandler(MindMapController pController) {
+		mController = pController;
+		if (logger == null)
+			logger = Resources.getInstance().getLogger(
+					this.getClass().getName());
+	}
+
+	public static boolean isEnabled() {
+		return Resources.getInstance().getBoolProperty(
+				FreeMindCommon.JOURNAL_FOR_AUTOMATIC_SAVE);
+	}
+
+	/**
+	 * To be called when the nodes of the map are read, before the map is
+	 * shown. Starts to collect the ids that are assigned to the nodes.
+	 */
+	public void mapRead(MindMapMapModel pMap) {
+		if (isEnabled() && pMap.getFile() != null && !pMap.isReadOnly()) {
+			collectIds(pMap);
+		}
+	}
+
+	/**
+	 * To be called after the map was loaded. Replays an existing journal, if
+	 * it was started on the current version of the map file, and starts
+	 * recording. A journal that doesn't fit is discarded.
+	 *
+	 * @return true, if actions were replayed (the map is changed then).
+	 */
+	public boolean mapLoaded() {
+		File mapFile = mController.getMap().getFile();
+		if (!isEnabled() || mapFile == null || mController.getMap().isReadOnly()) {
+			return false;
+		}
+		ActionJournal journal = new ActionJournal(
+				ActionJournal.getJournalFile(mapFile), mapFile);
+		int count = 0;
+		if (journal.getFile().exists()) {
+			if (matchesMapFile(journal)) {
+				count = replay(journal);
+			} else {
+				logger.warning("Journal " + journal.getFile()
+						+ " doesn't belong to the map file, discarding it.");
+				mController.getFrame().out(
+						Tools.expandPlaceholders(
+								mController.getText("journal_discarded"),
+								journal.getFile().getName()));
+				deleteJournal(journal);
+			}
+		}
+		mRecording = true;
+		return count > 0;
+	}
+
+	private boolean matchesMapFile(ActionJournal pJournal) {
+		try {
+			return pJournal.matchesMapFile();
+		} catch (IOException e) {
+			Resources.getInstance().logException(e);
+			return false;
+		}
+	}
+
+	/**
+	 * To be called after the map was saved. The journal is not needed any
+	 * more, even if it was written with switched on journal before.
+	 */
+	public void mapSaved() {
+		deleteJournal();
+		if (isEnabled()) {
+			collectIds((MindMapMapModel) mController.getMap());
+			mRecording = true;
+		}
+	}
+
+	private void collectIds(MindMapMapModel pMap) {
+		mNewIdNodes.clear();
+		mNewIds.clear();
+		pMap.getLinkRegistry().setIdRegistrationListener(this);
+	}
+
+	private void deleteJournal() {
+		MindMapMapModel map = (MindMapMapModel) mController.getMap();
+		map.setJournal(null);
+		if (mJournal != null) {
+			deleteJournal(mJournal);
+			mJournal = null;
+		} else if (map.getFile() != null) {
+			// a journal of a former session:
+			deleteJournal(new ActionJournal(ActionJournal.getJournalFile(map
+					.getFile()), map.getFile()));
+		}
+	}
+
+	private void deleteJournal(ActionJournal pJournal) {
+		try {
+			pJournal.delete();
+		} catch (IOException e) {
+			Resources.getInstance().logException(e);
+		}
+	}
+
+	private int replay(ActionJournal pJournal) {
+		final MindMapLinkRegistry registry = mController.getMap()
+				.getLinkRegistry();
+		final ActionRegistry actionRegistry = mController.getActionRegistry();
+		long start = System.currentTimeMillis();
+		int count = 0;
+		mReplaying = true;
+		try {
+			count = pJournal.read(new ActionJournal.RecordHandler() {
+
+				public void onId(int[] pPath, String pId) {
+					MindMapNode node = mController.getRootNode();
+					for (int i = 0; i < pPath.length && node != null; i++) {
+						node = (pPath[i] < node.getChildCount()) ? (MindMapNode) node
+								.getChildAt(pPath[i]) : null;
+					}
+					if (node == null) {
+						return;
+					}
+					String id = registry.getState(node);
+					if (id != null && !id.equals(pId)) {
+						// got another id in this session before the replay:
+						registry.replaceLinkTargetId(node, pId);
+						int index = mNewIdNodes.indexOf(node);
+						if (index >= 0) {
+							mNewIdNodes.remove(index);
+							mNewIds.remove(index);
+						}
+					} else {
+						registry.registerLinkTarget(node, pId);
+					}
+				}
+
+				public void onAction(String pXml) {
+					XmlAction action = mController.unMarshall(pXml);
+					try {
+						actionRegistry.getActor(action).act(action);
+					} catch (Exception e) {
+						Resources.getInstance().logException(e);
+					}
+				}
+			});
+		} catch (IOException e) {
+			Resources.getInstance().logException(e);
+		} finally {
+			mReplaying = false;
+		}
+		logger.info("Replayed " + count + " journal records of "
+				+ pJournal.getFile() + " in "
+				+ (System.currentTimeMillis() - start) + " ms.");
+		mJournal = pJournal;
+		((MindMapMapModel) mController.getMap()).setJournal(mJournal);
+		return count;
+	}
+
+	public void idRegistered(MindMapNode pTarget, String pId) {
+		if (!mReplaying) {
+			mNewIdNodes.add(pTarget);
+			mNewIds.add(pId);
+		}
+	}
+
+	/**
+	 * Called before the action is executed, thus the paths of the nodes with
+	 * new ids are still valid.
+	 */
+	public void executeAction(XmlAction action) {
+		if (!mRecording) {
+			return;
+		}
+		try {
+			if (mJournal == null) {
+				File mapFile = mController.getMap().getFile();
+				mJournal = new ActionJournal(
+						ActionJournal.getJournalFile(mapFile), mapFile);
+				((MindMapMapModel) mController.getMap()).setJournal(mJournal);
+			}
+			for (int i = 0; i < mNewIdNodes.size(); i++) {
+				int[] path = getPath(mNewIdNodes.get(i));
+				if (path != null) {
+					mJournal.appendId(path, mNewIds.get(i));
+				}
+			}
+			mNewIdNodes.clear();
+			mNewIds.clear();
+			mJournal.appendAction(mController.marshall(action));
+		} catch (IOException e) {
+			Resources.getInstance().logException(e);
+			return;
+		}
+		if (!mCompactionScheduled
+				&& mJournal.getSize() > Resources.getInstance().getIntProperty(
+						FreeMindCommon.JOURNAL_COMPACTION_SIZE, 1000000)) {
+			mCompactionScheduled = true;
+			// not inside of the transaction:
+			EventQueue.invokeLater(() -> {
+				mCompactionScheduled = false;
+				File file = mController.getMap().getFile();
+				if (mRecording && file != null) {
+					logger.info("Journal too large, saving the map.");
+					mController.save(file);
+				}
+			});
+		}
+	}
+
+	/**
+	 * @return the child positions from the root to the node or null, if the
+	 *         node is not part of the map.
+	 */
+	private int[] getPath(MindMapNode pNode) {
+		int depth = 0;
+		MindMapNode node = pNode;
+		while (node.getParentNode() != null) {
+			node = node.getParentNode();
+			depth++;
+		}
+		if (node != mController.getRootNode()) {
+			return null;
+		}
+		int[] path = new int[depth];
+		node = pNode;
+		while (node.getParentNode() != null) {
+			MindMapNode parent = node.getParentNode();
+			path[--depth] = parent.getChildPosition(node);
+			node = parent;
+		}
+		return path;
+	}
+
+	public void startTransaction(String name) {
+	}
+
+	public void endTransaction(String name) {
+	}
+
+}
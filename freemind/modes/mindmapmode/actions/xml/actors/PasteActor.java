@@ -233,6 +233,7 @@ public class PasteActor extends XmlActorAdapter {
 				boolean asSibling, boolean isLeft, Transferable t) {
 			// TODO: Does not correctly interpret asSibling.
 			List fileList = (List) TransferData;
+			Vector nodes = new Vector();
 			for (Object aFileList : fileList) {
 				File file = (File) aFileList;
 				MindMapNode node = getExMapFeedback().newNode(file.getName(),
@@ -240,10 +241,9 @@ public class PasteActor extends XmlActorAdapter {
 				node.setLeft(isLeft);
 				node.setLink(Tools.fileToRelativeUrlString(file,
 						getExMapFeedback().getMap().getFile()));
-				insertNodeInto((MindMapNodeModel) node, target, asSibling,
-						isLeft, false);
-				// addUndoAction(node);
+				nodes.add(node);
 			}
+			insertNodesInto(nodes, target, asSibling);
 		}
 
 		public DataFlavor getDataFlavor() {
@@ -263,24 +263,30 @@ public class PasteActor extends XmlActorAdapter {
 					setWaitingCursor(true);
 				}
 				// and now? paste it:
-				String mapContent = MapAdapter.MAP_INITIAL_START
-						+ FreeMind.XML_VERSION + "\"><node TEXT=\"DUMMY\">";
+				StringBuilder mapContent = new StringBuilder(
+						MapAdapter.MAP_INITIAL_START + FreeMind.XML_VERSION
+								+ "\"><node TEXT=\"DUMMY\">");
 				for (String textLine : textLines) {
-					mapContent += textLine;
+					mapContent.append(textLine);
 				}
-				mapContent += "</node></map>";
+				mapContent.append("</node></map>");
 				// logger.info("Pasting " + mapContent);
 				try {
+					// the ids and links of all nodes are registered at once:
 					MindMapNode node = getExMapFeedback().getMap().loadTree(
 									new Tools.StringReaderCreator(
-											mapContent), MapAdapter.sDontAskInstance);
+											mapContent.toString()), MapAdapter.sDontAskInstance);
+					MindMapNode parent = asSibling ? target.getParentNode()
+							: target;
+					Vector importNodes = new Vector();
 					for (ListIterator i = node.childrenUnfolded(); i.hasNext();) {
 						MindMapNodeModel importNode = (MindMapNodeModel) i
 								.next();
-						insertNodeInto(importNode, target, asSibling, isLeft,
-								true);
-						// addUndoAction(importNode);
+						importNode.setParent(parent);
+						importNode.setLeft(isLeft);
+						importNodes.add(importNode);
 					}
+					insertNodesInto(importNodes, target, asSibling);
 					for (ListIterator i = node.childrenUnfolded(); i.hasNext();) {
 						MindMapNodeModel importNode = (MindMapNodeModel) i
 								.next();
@@ -308,17 +314,10 @@ public class PasteActor extends XmlActorAdapter {
 
 	private class DirectHtmlFlavorHandler implements DataFlavorHandler {
 
-		private NodeCreator mNodeCreator;
+		private final NodeCreator mNodeCreator;
 
 		/**
-		 * @param pNodeCreator the nodeCreator to set
-		 */
-		public void setNodeCreator(NodeCreator pNodeCreator) {
-			mNodeCreator = pNodeCreator;
-		}
-
-		/**
-		 * 
+		 * The nodes are created detached and inserted at once afterwards.
 		 */
 		private DirectHtmlFlavorHandler() {
 			mNodeCreator = new NodeCreator() {
@@ -327,29 +326,35 @@ public class PasteActor extends XmlActorAdapter {
 					public MindMapNode createChild(MindMapNode pParent) {
 						MindMapNode node = getExMapFeedback().newNode("",
 								getExMapFeedback().getMap());
-						insertNodeInto(node, pParent);
-						node.setParent(pParent);
-						getExMapFeedback().nodeChanged(pParent);
+						pParent.insert(node, pParent.getChildCount());
 						return node;
 					}
 
 					@Override
 					public void setText(String pText, MindMapNode pNode) {
 						pNode.setText(pText);
-						getExMapFeedback().nodeChanged(pNode);
 					}
 
 					@Override
 					public void setLink(String pLink, MindMapNode pNode) {
 						pNode.setLink(pLink);
-						getExMapFeedback().nodeChanged(pNode);
 					}};
 		}
 
 		public void paste(Object transferData, MindMapNode target,
 				boolean asSibling, boolean isLeft, Transferable t)
 				throws UnsupportedFlavorException, IOException {
-			String textFromClipboard = (String) transferData;
+			setWaitingCursor(true);
+			MindMapNode nodes = createNodes((String) transferData);
+			insertNodesInto(getChildren(nodes), target, false);
+			setWaitingCursor(false);
+		}
+
+		/**
+		 * @return a detached node whose children are the new nodes.
+		 */
+		private MindMapNode createNodes(String transferData) {
+			String textFromClipboard = transferData;
 			// workaround for java decoding bug
 			// http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=6740877
 			textFromClipboard = textFromClipboard.replace((char) 65533, ' ');
@@ -360,7 +365,6 @@ public class PasteActor extends XmlActorAdapter {
 			// ^ This outputs transfer data to standard output. I don't know
 			// why.
 			// { Alternative pasting of HTML
-			setWaitingCursor(true);
 			logger.finer("directHtmlFlavor (original): " + textFromClipboard);
 			textFromClipboard = textFromClipboard
 					.replaceAll("(?i)(?s)<meta[^>]*>", "")
@@ -384,10 +388,12 @@ public class PasteActor extends XmlActorAdapter {
 					replaceAll("(?i)(?s)</?o[^>]*>", "");
 			textFromClipboard = "<html><body>"+textFromClipboard + "</body></html>"; 
 			logger.finer("directHtmlFlavor: " + textFromClipboard);
+			MindMapNodeModel parent = new MindMapNodeModel(
+					getExMapFeedback().getMap());
 			if (Resources.getInstance().getBoolProperty(
 					FreeMind.RESOUCES_PASTE_HTML_STRUCTURE)) {
 				HtmlTools.getInstance().insertHtmlIntoNodes(textFromClipboard,
-						target, mNodeCreator);
+						parent, mNodeCreator);
 			} else {
 				if (Tools.safeEquals(
 						getExMapFeedback().getProperty(
@@ -411,10 +417,9 @@ public class PasteActor extends XmlActorAdapter {
 					}
 				}
 	
-				insertNodeInto(node, target);
-				// addUndoAction(node);
+				parent.insert(node, 0);
 			}
-			setWaitingCursor(false);
+			return parent;
 		}
 
 		public DataFlavor getDataFlavor() {
@@ -670,7 +675,23 @@ public class PasteActor extends XmlActorAdapter {
 	 *            TODO
 	 */
 	private MindMapNode pasteStringWithoutRedisplay(Transferable t,
-			MindMapNode parent, boolean asSibling, boolean isLeft)
+			MindMapNode target, boolean asSibling, boolean isLeft)
+			throws UnsupportedFlavorException, IOException {
+		// the lines are added to a detached node and inserted at once:
+		MindMapNodeModel parent = new MindMapNodeModel(getExMapFeedback()
+				.getMap());
+		MindMapNode pastedNode = createNodesFromText(t, parent, isLeft);
+		insertNodesInto(getChildren(parent), target, asSibling);
+		return pastedNode;
+	}
+
+	/**
+	 * Creates the nodes of the pasted text as descendants of the parent, see
+	 * {@link #pasteStringWithoutRedisplay(Transferable, MindMapNode, boolean, boolean)}
+	 * . The map isn't informed.
+	 */
+	private MindMapNode createNodesFromText(Transferable t,
+			MindMapNode parent, boolean isLeft)
 			throws UnsupportedFlavorException, IOException {
 
 		String textFromClipboard = (String) t
@@ -683,17 +704,6 @@ public class PasteActor extends XmlActorAdapter {
 			setWaitingCursor(true);
 		}
 
-		MindMapNode realParent = null;
-		if (asSibling) {
-			// When pasting as sibling, we use virtual node as parent. When the
-			// pasting to
-			// virtual node is completed, we insert the children of that virtual
-			// node to
-			// the parent of real parent.
-			realParent = parent;
-			parent = new MindMapNodeModel(getExMapFeedback().getMap());
-		}
-
 		ArrayList parentNodes = new ArrayList();
 		ArrayList parentNodesDepths = new ArrayList();
 
@@ -787,7 +797,7 @@ public class PasteActor extends XmlActorAdapter {
 					}
 					MindMapNode target = (MindMapNode) parentNodes.get(j);
 					node.setLeft(isLeft);
-					insertNodeInto(node, target);
+					target.insert(node, target.getChildCount());
 					parentNodes.add(node);
 					parentNodesDepths.add(depth);
 					break;
@@ -804,6 +814,29 @@ public class PasteActor extends XmlActorAdapter {
 		return pastedNode;
 	}
 
+	/**
+	 * Inserts the new nodes with a single event.
+	 */
+	private void insertNodesInto(List nodes, MindMapNode target,
+			boolean asSibling) {
+		if (asSibling) {
+			MindMapNode parent = target.getParentNode();
+			getExMapFeedback().insertNodesInto(nodes, parent,
+					parent.getChildPosition(target));
+		} else {
+			getExMapFeedback().insertNodesInto(nodes, target,
+					target.getChildCount());
+		}
+	}
+
+	private Vector getChildren(MindMapNode node) {
+		Vector children = new Vector();
+		for (ListIterator i = node.childrenUnfolded(); i.hasNext();) {
+			children.add(i.next());
+		}
+		return children;
+	}
+
 	/**
      */
 	private void insertNodeInto(MindMapNodeModel node, MindMapNode parent, int i) {
@@ -931,7 +964,7 @@ public class PasteActor extends XmlActorAdapter {
 		// create a new node for testing purposes.
 		MindMapNodeModel parent = new MindMapNodeModel(
 				getExMapFeedback().getMap());
-		pasteStringWithoutRedisplay(t, parent, false, false);
+		createNodesFromText(t, parent, false);
 		final int childCount = parent.getChildCount();
 		return childCount;
 	}
@@ -946,39 +979,11 @@ public class PasteActor extends XmlActorAdapter {
 	 */
 	public int determineAmountOfNewNodes(Transferable t)
 			throws UnsupportedFlavorException, IOException {
-		// create a new node for testing purposes.
-		MindMapNodeModel parent = new MindMapNodeModel(
-				getExMapFeedback().getMap());
-		parent.setText("ROOT");
 		DirectHtmlFlavorHandler handler = new DirectHtmlFlavorHandler();
-		// creator, that only creates dummy nodes.
-		handler.setNodeCreator(new NodeCreator() {
-
-			@Override
-			public MindMapNode createChild(MindMapNode pParent) {
-				try {
-					MindMapNodeModel newNode = new MindMapNodeModel("",
-							getExMapFeedback().getMap());
-					pParent.insert(newNode, pParent.getChildCount());
-					newNode.setParent(pParent);
-					return newNode;
-				} catch (Exception e) {
-					freemind.main.Resources.getInstance().logException(e);
-				}
-				return null;
-			}
-
-			@Override
-			public void setText(String pText, MindMapNode pNode) {
-				pNode.setText(pText);
-			}
-
-			@Override
-			public void setLink(String pLink, MindMapNode pNode) {
-			}});
-		handler.paste(t.getTransferData(handler.getDataFlavor()), parent, false, true, t);
-		final int childCount = parent.getChildCount();
-		return childCount;
+		// the nodes are created, but not inserted:
+		return handler.createNodes(
+				(String) t.getTransferData(handler.getDataFlavor()))
+				.getChildCount();
 	}
 
 	private Transferable getTransferable(TransferableContent trans) {
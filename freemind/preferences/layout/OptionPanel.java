@@ -556,6 +556,13 @@ public class OptionPanel implements TextTranslator {
 		controls.add(new StringProperty("path_to_automatic_saves.tooltip",
 				"path_to_automatic_saves")); // freemind_home
 
+		controls.add(new BooleanProperty(
+				"journal_for_automatic_save.tooltip",
+				FreeMindCommon.JOURNAL_FOR_AUTOMATIC_SAVE)); // false
+
+		controls.add(new StringProperty("journal_compaction_size.tooltip",
+				FreeMindCommon.JOURNAL_COMPACTION_SIZE)); // 1000000
+
 		controls.add(new NextLineProperty());
 		controls.add(new SeparatorProperty("save"));
 
@@ -1246,6 +1253,8 @@ public class OptionPanel implements TextTranslator {
 		controls.add(new SeparatorProperty("undo"));
 		controls.add(new NumberProperty("undo_levels.tooltip", "undo_levels",
 				2, 1000, 1));
+		controls.add(new NumberProperty("undo_memory.tooltip", "undo_memory",
+				1, 1000, 1));
 
 		/***********************************************************************
 		 * Browser/external apps
@@ -34,6 +34,7 @@ import java.awt.geom.PathIterator;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
+import freemind.main.Tools;
 import freemind.modes.MindMapArrowLink;
 
 // end Convex Hull
@@ -46,6 +47,13 @@ public class ArrowLinkView {
 	protected NodeView source, target;
 	protected int iterativeLevel;
 	protected CubicCurve2D arrowLinkCurve;
+	/* geometry of the last updateGeometry(), in map coordinates. */
+	private boolean mGeometryValid = false;
+	private double mZoom;
+	private Point mStartInclination, mEndInclination;
+	private Point mSourcePoint, mSourceControlPoint, mTargetPoint,
+			mTargetControlPoint;
+	private Rectangle mPaintBounds = new Rectangle();
 	static final Stroke DEF_STROKE = new BasicStroke(1);
 
 	/* Note, that source and target are nodeviews and not nodemodels!. */
@@ -63,24 +71,53 @@ public class ArrowLinkView {
 	}
 
 	/**
-	 * \param iterativeLevel describes the n-th nested arrowLink that is to be
-	 * painted.
+	 * @return true, if the curve was calculated after the last layout and the
+	 *         inclinations and the zoom didn't change since.
 	 */
-	public void paint(Graphics graphics) {
-		if (!isSourceVisible() && !isTargetVisible())
+	public boolean isGeometryValid() {
+		return mGeometryValid
+				&& getZoom() == mZoom
+				&& Tools.safeEquals(mStartInclination,
+						arrowLinkModel.getStartInclination())
+				&& Tools.safeEquals(mEndInclination,
+						arrowLinkModel.getEndInclination());
+	}
+
+	/** To be called, if the nodes may have moved. */
+	public void invalidateGeometry() {
+		mGeometryValid = false;
+	}
+
+	/**
+	 * @return the area painted by this link (curve, control points and
+	 *         arrows). Calculates the geometry, if necessary.
+	 */
+	public Rectangle getPaintBounds() {
+		if (!isGeometryValid()) {
+			updateGeometry();
+		}
+		return mPaintBounds;
+	}
+
+	/**
+	 * Calculates the curve and its control points in map coordinates.
+	 */
+	public void updateGeometry() {
+		mGeometryValid = true;
+		mZoom = getZoom();
+		mSourcePoint = null;
+		mSourceControlPoint = null;
+		mTargetPoint = null;
+		mTargetControlPoint = null;
+		mPaintBounds = new Rectangle();
+		if (!isSourceVisible() && !isTargetVisible()) {
+			arrowLinkCurve = null;
+			storeInclinations();
 			return;
+		}
 		Point p1 = null, p2 = null, p3 = null, p4 = null;
 		boolean targetIsLeft = false;
 		boolean sourceIsLeft = false;
-		Graphics2D g = (Graphics2D) graphics.create();
-		g.setColor(getColor());
-		/* set stroke. */
-		g.setStroke(getStroke());
-		// if one of the nodes is not present then draw a dashed line:
-		if (!isSourceVisible() || !isTargetVisible())
-			g.setStroke(new BasicStroke(getWidth(), BasicStroke.CAP_ROUND,
-					BasicStroke.JOIN_ROUND, 0, new float[] { 0, 3, 0, 3 }, 0));
-
 		// determine, whether destination exists:
 		if (isSourceVisible()) {
 			p1 = source.getLinkPoint(arrowLinkModel.getStartInclination());
@@ -108,6 +145,7 @@ public class ArrowLinkView {
 				p2 = target.getLinkPoint(arrowLinkModel.getEndInclination());
 			}
 		}
+		storeInclinations();
 
 		arrowLinkCurve = new CubicCurve2D.Double();
 		if (p1 != null) {
@@ -132,22 +170,61 @@ public class ArrowLinkView {
 				arrowLinkCurve.setCurve(p2, p4, p2, p4);
 			}
 		}
-
 		if (p1 != null && p2 != null) {
 			arrowLinkCurve.setCurve(p1, p3, p4, p2);
+		}
+		mSourcePoint = p1;
+		mSourceControlPoint = p3;
+		mTargetPoint = p2;
+		mTargetControlPoint = p4;
+		// the curve bounds contain the control points. Add the arrows and
+		// the stroke:
+		mPaintBounds = arrowLinkCurve.getBounds();
+		int margin = (int) Math.ceil(10 * getZoom()) + getRealWidth() + 1;
+		mPaintBounds.grow(margin, margin);
+	}
+
+	private void storeInclinations() {
+		Point start = arrowLinkModel.getStartInclination();
+		Point end = arrowLinkModel.getEndInclination();
+		mStartInclination = (start == null) ? null : new Point(start);
+		mEndInclination = (end == null) ? null : new Point(end);
+	}
+
+	/**
+	 * Paints the link. The geometry is only calculated, if it isn't valid any
+	 * more.
+	 */
+	public void paint(Graphics graphics) {
+		if (!isGeometryValid()) {
+			updateGeometry();
+		}
+		if (arrowLinkCurve == null)
+			return;
+		Point p1 = mSourcePoint, p2 = mTargetPoint, p3 = mSourceControlPoint, p4 = mTargetControlPoint;
+		Graphics2D g = (Graphics2D) graphics.create();
+		g.setColor(getColor());
+		/* set stroke. */
+		g.setStroke(getStroke());
+		// if one of the nodes is not present then draw a dashed line:
+		if (p1 == null || p2 == null)
+			g.setStroke(new BasicStroke(getWidth(), BasicStroke.CAP_ROUND,
+					BasicStroke.JOIN_ROUND, 0, new float[] { 0, 3, 0, 3 }, 0));
+
+		if (p1 != null && p2 != null) {
 			g.draw(arrowLinkCurve);
 			// arrow source:
 		}
-		if (isSourceVisible() && !arrowLinkModel.getStartArrow().equals("None")) {
+		if (p1 != null && !arrowLinkModel.getStartArrow().equals("None")) {
 			paintArrow(p1, p3, g);
 		}
 		// arrow target:
-		if (isTargetVisible() && !arrowLinkModel.getEndArrow().equals("None")) {
+		if (p2 != null && !arrowLinkModel.getEndArrow().equals("None")) {
 			paintArrow(p2, p4, g);
 		}
 		// Control Points
-		if (arrowLinkModel.getShowControlPointsFlag() || !isSourceVisible()
-				|| !isTargetVisible()) {
+		if (arrowLinkModel.getShowControlPointsFlag() || p1 == null
+				|| p2 == null) {
 			g.setStroke(new BasicStroke(getWidth(), BasicStroke.CAP_ROUND,
 					BasicStroke.JOIN_ROUND, 0, new float[] { 0, 3, 0, 3 }, 0));
 			if (p1 != null) {
@@ -157,6 +234,7 @@ public class ArrowLinkView {
 				g.drawLine(p2.x, p2.y, p4.x, p4.y);
 			}
 		}
+		g.dispose();
 	}
 
 	/**
@@ -214,7 +292,7 @@ public class ArrowLinkView {
 	}
 
 	/** MAXIMAL_RECTANGLE_SIZE_FOR_COLLISION_DETECTION describes itself. */
-	private final int MAXIMAL_RECTANGLE_SIZE_FOR_COLLISION_DETECTION = 16;
+	static final int MAXIMAL_RECTANGLE_SIZE_FOR_COLLISION_DETECTION = 16;
 
 	/**
 	 * Determines, whether or not a given point p is in an epsilon-neighbourhood
@@ -241,10 +319,9 @@ public class ArrowLinkView {
 				if (rec.intersectsLine(oldCoordinateX, oldCoordinateY,
 						coordinates[0], coordinates[1]))
 					return true;
-				/*
-				 * this case needs the same action as the next case, thus no
-				 * "break"
-				 */
+				oldCoordinateX = coordinates[0];
+				oldCoordinateY = coordinates[1];
+				break;
 			case PathIterator.SEG_MOVETO:
 				oldCoordinateX = coordinates[0];
 				oldCoordinateY = coordinates[1];
@@ -0,0 +1,92 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.view.mindmapview;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Uniform grid over the map that stores the arrow link views by their bounds.
+ * Thus, a mouse position has only to be tested against the links passing the
+ * grid cell it is in.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+class ArrowLinkViewIndex {
+
+	private static final int CELL_SIZE = 256;
+
+	/** cell key (see {@link #getKey(int, int)}) -> links in this cell. */
+	private final HashMap<Long, ArrayList<ArrowLinkView>> mCells = new HashMap<>();
+
+	public void clear() {
+		mCells.clear();
+	}
+
+	/**
+	 * Adds the view to every cell its bounds intersect.
+	 */
+	public void add(ArrowLinkView pView, Rectangle pBounds) {
+		if (pBounds.isEmpty()) {
+			return;
+		}
+		int minX = getCell(pBounds.x);
+		int maxX = getCell(pBounds.x + pBounds.width);
+		int minY = getCell(pBounds.y);
+		int maxY = getCell(pBounds.y + pBounds.height);
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				Long key = getKey(x, y);
+				ArrayList<ArrowLinkView> views = mCells.get(key);
+				if (views == null) {
+					views = new ArrayList<>(2);
+					mCells.put(key, views);
+				}
+				views.add(pView);
+			}
+		}
+	}
+
+	/**
+	 * @return the views whose bounds may contain the point.
+	 */
+	public List<ArrowLinkView> get(Point pPoint) {
+		ArrayList<ArrowLinkView> views = mCells.get(getKey(getCell(pPoint.x),
+				getCell(pPoint.y)));
+		if (views == null) {
+			return Collections.emptyList();
+		}
+		return views;
+	}
+
+	private static int getCell(int pCoordinate) {
+		return Math.floorDiv(pCoordinate, CELL_SIZE);
+	}
+
+	private static Long getKey(int pCellX, int pCellY) {
+		return ((long) pCellX << 32) | (pCellY & 0xffffffffL);
+	}
+}
@@ -22,6 +22,7 @@ package freemind.view.mindmapview;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -31,6 +32,7 @@ import java.awt.geom.AffineTransform;
 import javax.swing.Icon;
 import javax.swing.JLabel;
 import javax.swing.SwingUtilities;
+import javax.swing.plaf.basic.BasicHTML;
 
 import freemind.main.HtmlTools;
 import freemind.main.Tools;
@@ -45,6 +47,7 @@ public abstract class MainView extends JLabel {
 			Integer.MAX_VALUE);
 	private static java.util.logging.Logger logger = null;
 	private static final int MIN_HOR_NODE_SIZE = 10;
+	private static final String HTML_DISABLE = "html.disable";
 
 	int getZoomedFoldingSymbolHalfWidth() {
 		return getNodeView().getZoomedFoldingSymbolHalfWidth();
@@ -69,6 +72,40 @@ public abstract class MainView extends JLabel {
 		return maximumSize;
 	}
 
+	public void setText(final String pText) {
+		updateHtmlView(() -> super.setText(pText));
+	}
+
+	public void setFont(final Font pFont) {
+		updateHtmlView(() -> super.setFont(pFont));
+	}
+
+	public void setForeground(final Color pFg) {
+		updateHtmlView(() -> super.setForeground(pFg));
+	}
+
+	public void updateUI() {
+		updateHtmlView(() -> super.updateUI());
+	}
+
+	/**
+	 * The html view is taken from the {@link TextRenderingCache} instead of
+	 * being parsed by the label ui after each change.
+	 */
+	private void updateHtmlView(Runnable pChange) {
+		// the ui must neither parse the text nor detach a cached view from its
+		// parent (see BasicHTML.updateRenderer):
+		putClientProperty(BasicHTML.propertyKey, null);
+		putClientProperty(HTML_DISABLE, Boolean.TRUE);
+		pChange.run();
+		putClientProperty(HTML_DISABLE, null);
+		String text = getText();
+		if (BasicHTML.isHTMLString(text)) {
+			putClientProperty(BasicHTML.propertyKey, TextRenderingCache
+					.getInstance().getView(this, text));
+		}
+	}
+
 	private boolean isPainting;
 
 	public NodeView getNodeView() {
@@ -36,7 +36,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Timer;
 import java.util.TimerTask;
@@ -48,6 +50,7 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JViewport;
 import javax.swing.KeyStroke;
+import javax.swing.event.ChangeListener;
 
 import freemind.controller.Controller;
 import freemind.controller.NodeKeyListener;
@@ -98,7 +101,26 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
     private static Stroke standardSelectionStroke;
     private static FreemindPropertyListener propertyChangeListener;
 
-    private Vector mArrowLinkViews = new Vector();
+    /**
+     * Arrow link model -> view. The views keep their geometry until the next
+     * layout, the set of links is collected again after each layout, too.
+     */
+    private LinkedHashMap<MindMapArrowLink, ArrowLinkView> mArrowLinkViews = new LinkedHashMap<>();
+    private boolean mArrowLinkViewsValid = false;
+    /** Spatial index for {@link #detectCollision(Point)}. */
+    private final ArrowLinkViewIndex mArrowLinkViewIndex = new ArrowLinkViewIndex();
+    private boolean mArrowLinkViewIndexValid = false;
+    /**
+     * Nodes near the visible area that have their folding button and motion
+     * listener view, see {@link #updateDecorations()}.
+     */
+    private HashSet<NodeView> mDecoratedViews = new HashSet<>();
+    private boolean mDecorationUpdateScheduled = false;
+    /** Motion listener views of nodes that were scrolled out of sight. */
+    private final ArrayList<NodeMotionListenerView> mMotionListenerViewPool = new ArrayList<>();
+    private final ChangeListener mViewportListener = pE -> scheduleDecorationUpdate();
+    /** Decorations are created for nodes in this distance to the visible area. */
+    private static final int DECORATION_MARGIN = 300;
     private Point rootContentLocation;
     private NodeView nodeToBeVisible = null;
 
@@ -365,6 +387,11 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
                 case FreeMindCommon.RESOURCE_ANTIALIAS:
                     setAntiAlias(newValue);
                     break;
+                case "defaultfont":
+                case "defaultfontstyle":
+                case "defaultfontsize":
+                    TextRenderingCache.getInstance().clear();
+                    break;
             }
         };
 		Controller.addPropertyChangeListener(propertyChangeListener);
@@ -1197,13 +1224,10 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
 	}
 
 	public void paintChildren(Graphics graphics) {
-		HashMap labels = new HashMap();
-		mArrowLinkViews = new Vector();
-		collectLabels(rootView, labels);
 		super.paintChildren(graphics);
 		Graphics2D graphics2d = (Graphics2D) graphics;
 		Object renderingHint = setEdgesRenderingHint(graphics2d);
-		paintLinks(rootView, graphics2d, labels, null);
+		paintLinks(graphics2d);
 		Tools.restoreAntialiasing(graphics2d, renderingHint);
 		paintSelecteds(graphics2d);
 	}
@@ -1240,65 +1264,196 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
 				content.getHeight() + 2 * arcWidth, 15, 15);
 	}
 
-	/** collect all existing labels in the current map. */
-	protected void collectLabels(NodeView source, HashMap labels) {
-		// check for existing registry:
-		if (getModel().getLinkRegistry() == null)
-			return;
-		// apply own label:
-		String label = getModel().getLinkRegistry().getLabel(source.getModel());
-		if (label != null)
-			labels.put(label, source);
-        for (Object o : source.getChildrenViews()) {
-            NodeView target = (NodeView) o;
-            collectLabels(target, labels);
-        }
+	/**
+	 * Called after each layout, as the nodes may have moved and nodes may be
+	 * shown or hidden.
+	 */
+	void invalidateArrowLinkViews() {
+		mArrowLinkViewsValid = false;
 	}
 
-	protected void paintLinks(NodeView source, Graphics2D graphics,
-			HashMap labels, HashSet /* MindMapLink s */LinkAlreadyVisited) {
+	/**
+	 * Paints the arrow links whose bounds intersect the clip. Only the links of
+	 * views that were moved or changed are calculated again.
+	 */
+	protected void paintLinks(Graphics2D graphics) {
 		// check for existing registry:
 		if (getModel().getLinkRegistry() == null)
 			return;
-		if (LinkAlreadyVisited == null)
-			LinkAlreadyVisited = new HashSet();
-		// references first
-		// logger.fine("Searching for links of " +
-		// source.getModel().toString());
-		// paint own labels:
-		Vector vec = getModel().getLinkRegistry()
-				.getAllLinks(source.getModel());
-        for (Object aVec : vec) {
-            MindMapLink ref = (MindMapLink) aVec;
-            if (LinkAlreadyVisited.add(ref)) {
-                // determine type of link
-                if (ref instanceof MindMapArrowLink) {
-                    ArrowLinkView arrowLink = new ArrowLinkView(
-                            (MindMapArrowLink) ref,
-                            getNodeView(ref.getSource()),
-                            getNodeView(ref.getTarget()));
-                    arrowLink.paint(graphics);
-                    mArrowLinkViews.add(arrowLink);
-                }
-            }
-        }
-        for (Object o : source.getChildrenViews()) {
-            NodeView target = (NodeView) o;
-            paintLinks(target, graphics, labels, LinkAlreadyVisited);
-        }
+		if (!mArrowLinkViewsValid) {
+			updateArrowLinkViews();
+		}
+		Rectangle clip = graphics.getClipBounds();
+		for (ArrowLinkView arrowLink : mArrowLinkViews.values()) {
+			if (!arrowLink.isGeometryValid()) {
+				arrowLink.updateGeometry();
+				mArrowLinkViewIndexValid = false;
+			}
+			if (clip == null || clip.intersects(arrowLink.getPaintBounds())) {
+				arrowLink.paint(graphics);
+			}
+		}
+	}
+
+	/**
+	 * Collects the links of all visible nodes. Views of links whose nodes
+	 * still have the same views are reused.
+	 */
+	private void updateArrowLinkViews() {
+		LinkedHashMap<MindMapArrowLink, ArrowLinkView> oldViews = mArrowLinkViews;
+		mArrowLinkViews = new LinkedHashMap<>();
+		collectArrowLinkViews(rootView, oldViews);
+		mArrowLinkViewsValid = true;
+		mArrowLinkViewIndexValid = false;
+	}
+
+	private void collectArrowLinkViews(NodeView source,
+			HashMap<MindMapArrowLink, ArrowLinkView> oldViews) {
+		for (MindMapLink ref : getModel().getLinkRegistry().getAllLinks(
+				source.getModel())) {
+			// determine type of link
+			if (!(ref instanceof MindMapArrowLink)
+					|| mArrowLinkViews.containsKey(ref)) {
+				continue;
+			}
+			NodeView sourceView = getNodeView(ref.getSource());
+			NodeView targetView = getNodeView(ref.getTarget());
+			ArrowLinkView arrowLink = oldViews.get(ref);
+			if (arrowLink != null && arrowLink.source == sourceView
+					&& arrowLink.target == targetView) {
+				arrowLink.invalidateGeometry();
+			} else {
+				arrowLink = new ArrowLinkView((MindMapArrowLink) ref,
+						sourceView, targetView);
+			}
+			mArrowLinkViews.put((MindMapArrowLink) ref, arrowLink);
+		}
+		for (Object o : source.getChildrenViews()) {
+			NodeView target = (NodeView) o;
+			collectArrowLinkViews(target, oldViews);
+		}
 	}
 
 	public MindMapArrowLink detectCollision(Point p) {
-		if (mArrowLinkViews == null)
-			return null;
-        for (Object mArrowLinkView : mArrowLinkViews) {
-            ArrowLinkView arrowView = (ArrowLinkView) mArrowLinkView;
-            if (arrowView.detectCollision(p))
-                return arrowView.getModel();
-        }
+		if (!mArrowLinkViewIndexValid) {
+			mArrowLinkViewIndex.clear();
+			for (ArrowLinkView arrowView : mArrowLinkViews.values()) {
+				// only links that were painted:
+				if (arrowView.arrowLinkCurve != null) {
+					Rectangle bounds = arrowView.getBounds();
+					int side = ArrowLinkView.MAXIMAL_RECTANGLE_SIZE_FOR_COLLISION_DETECTION;
+					bounds.grow(side, side);
+					mArrowLinkViewIndex.add(arrowView, bounds);
+				}
+			}
+			mArrowLinkViewIndexValid = true;
+		}
+		for (ArrowLinkView arrowView : mArrowLinkViewIndex.get(p)) {
+			if (arrowView.detectCollision(p))
+				return arrowView.getModel();
+		}
 		return null;
 	}
 
+	/*****************************************************************
+	 ** D E C O R A T I O N S **
+	 *****************************************************************/
+
+	public void addNotify() {
+		super.addNotify();
+		if (getParent() instanceof JViewport) {
+			((JViewport) getParent()).addChangeListener(mViewportListener);
+		}
+	}
+
+	public void removeNotify() {
+		if (getParent() instanceof JViewport) {
+			((JViewport) getParent()).removeChangeListener(mViewportListener);
+		}
+		super.removeNotify();
+	}
+
+	/**
+	 * Called after each layout and scrolling. The decorations are created
+	 * later, as adding components invalidates the map again.
+	 */
+	void scheduleDecorationUpdate() {
+		// without a viewport, only the printing needs them:
+		if (mDecorationUpdateScheduled || !(getParent() instanceof JViewport)) {
+			return;
+		}
+		mDecorationUpdateScheduled = true;
+		EventQueue.invokeLater(() -> {
+			mDecorationUpdateScheduled = false;
+			updateDecorations();
+		});
+	}
+
+	/**
+	 * Creates the folding buttons and motion listener views of the nodes near
+	 * the visible area and removes them from the other nodes. Thus, a large
+	 * map has much less components. While printing, all nodes are decorated.
+	 */
+	void updateDecorations() {
+		if (rootView == null) {
+			return;
+		}
+		Rectangle area = null;
+		if (!isPrinting && getParent() instanceof JViewport) {
+			area = ((JViewport) getParent()).getViewRect();
+			area.grow(DECORATION_MARGIN, DECORATION_MARGIN);
+		}
+		HashSet<NodeView> decoratedViews = new HashSet<>();
+		collectViewsToDecorate(rootView, area, decoratedViews);
+		for (NodeView view : mDecoratedViews) {
+			if (!decoratedViews.contains(view)) {
+				view.setDecorated(false);
+			}
+		}
+		for (NodeView view : decoratedViews) {
+			view.setDecorated(true);
+		}
+		mDecoratedViews = decoratedViews;
+	}
+
+	/**
+	 * @param pArea
+	 *            in the coordinates of the parent of the view, null for all
+	 *            views. As the children are inside of the bounds of their
+	 *            parent, only the branches intersecting the area are visited.
+	 */
+	private void collectViewsToDecorate(NodeView pView, Rectangle pArea,
+			HashSet<NodeView> pViews) {
+		Rectangle childArea = null;
+		if (pArea != null) {
+			if (!pView.getBounds().intersects(pArea)) {
+				return;
+			}
+			childArea = new Rectangle(pArea);
+			childArea.translate(-pView.getX(), -pView.getY());
+		}
+		pViews.add(pView);
+		for (Object o : pView.getChildrenViews()) {
+			collectViewsToDecorate((NodeView) o, childArea, pViews);
+		}
+	}
+
+	NodeMotionListenerView obtainMotionListenerView(NodeView pView) {
+		if (mMotionListenerViewPool.isEmpty()) {
+			return new NodeMotionListenerView(pView);
+		}
+		NodeMotionListenerView view = mMotionListenerViewPool
+				.remove(mMotionListenerViewPool.size() - 1);
+		view.setMovedView(pView);
+		view.setVisible(pView.isVisible());
+		return view;
+	}
+
+	void releaseMotionListenerView(NodeMotionListenerView pView) {
+		pView.setMovedView(null);
+		mMotionListenerViewPool.add(pView);
+	}
+
 	/**
 	 * Call preparePrinting() before printing and endPrinting() after printing
 	 * to minimize calculation efforts
@@ -1306,6 +1461,9 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
 	public void preparePrinting() {
 		if (!isPrinting) {
 			isPrinting = true;
+			// all folding buttons are printed:
+			updateDecorations();
+			validate();
             repaintSelecteds();
 			if (printOnWhiteBackground) {
 				background = getBackground();
@@ -1339,6 +1497,7 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
 			}
 
             repaintSelecteds();
+			scheduleDecorationUpdate();
 		} else {
 			logger.warning("Called endPrinting although isPrinting is false.");
 		}
@@ -1426,8 +1585,7 @@ public class MapView extends JPanel implements ViewAbstraction, Printable, Autos
 		innerBounds.x += getRoot().getX();
 		innerBounds.y += getRoot().getY();
 		final Rectangle maxBounds = new Rectangle(0, 0, getWidth(), getHeight());
-        for (Object mArrowLinkView : mArrowLinkViews) {
-            ArrowLinkView arrowView = (ArrowLinkView) mArrowLinkView;
+        for (ArrowLinkView arrowView : mArrowLinkViews.values()) {
             final CubicCurve2D arrowLinkCurve = arrowView.arrowLinkCurve;
             if (arrowLinkCurve == null) {
                 continue;
@@ -64,6 +64,8 @@ public class MindMapLayout implements LayoutManager {
 				component.validate();
 			}
 		}
+		mapView.invalidateArrowLinkViews();
+		mapView.scheduleDecorationUpdate();
 	}
 
 	//
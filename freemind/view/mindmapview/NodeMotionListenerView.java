@@ -64,6 +64,12 @@ public class NodeMotionListenerView extends JComponent {
 		return movedView;
 	}
 
+	/** Motion listener views are reused for other nodes when scrolling. */
+	void setMovedView(NodeView pMovedView) {
+		movedView = pMovedView;
+		isMouseEntered = false;
+	}
+
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
 		if (isMouseEntered()) {
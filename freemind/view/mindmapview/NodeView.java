@@ -113,6 +113,8 @@ public class NodeView extends JComponent implements TreeModelListener {
 	static final int SPACE_AROUND = 50;
 
 	private NodeFoldingComponent mFoldingListener;
+	/** true, if the folding button and the motion listener view are present. */
+	private boolean mDecorated = false;
 
 	protected NodeView(MindMapNode model, int position, MapView map,
 			Container parent) {
@@ -146,7 +148,7 @@ public class NodeView extends JComponent implements TreeModelListener {
 	}
 
 	protected void addFoldingListener() {
-		if(mFoldingListener == null && getModel().hasVisibleChilds() && !getModel().isRoot()) {
+		if(mDecorated && mFoldingListener == null && getModel().hasVisibleChilds() && !getModel().isRoot()) {
 			mFoldingListener = new NodeFoldingComponent(this);
 			add(mFoldingListener, getComponentCount()-1);
 
@@ -190,21 +192,43 @@ public class NodeView extends JComponent implements TreeModelListener {
 		mainView.addMouseMotionListener(this.mapView.getNodeMouseMotionListener());
 		addDragListener(mapView.getNodeDragListener());
 		addDropListener(mapView.getNodeDropListener());
-		if (!model.isRoot() && "true".equals(mapView.getViewFeedback().getProperty(FreeMindMain.ENABLE_NODE_MOVEMENT))) {
-			motionListenerView = new NodeMotionListenerView(this);
-			add(motionListenerView);
-		}
+	}
 
+	/**
+	 * The decorations are the components that are only needed to interact
+	 * with the node: the folding button and the motion listener view. The map
+	 * creates them only for nodes near the visible area (see
+	 * {@link MapView#updateDecorations()}).
+	 */
+	void setDecorated(boolean pDecorated) {
+		if (mDecorated == pDecorated) {
+			return;
+		}
+		mDecorated = pDecorated;
+		if (pDecorated) {
+			addFoldingListener();
+			if (!model.isRoot() && "true".equals(mapView.getViewFeedback().getProperty(FreeMindMain.ENABLE_NODE_MOVEMENT))) {
+				motionListenerView = mapView.obtainMotionListenerView(this);
+				add(motionListenerView);
+			}
+		} else {
+			removeMotionListenerView();
+			removeFoldingListener();
+		}
 	}
 
-	protected void removeFromMap() {
-		setFocusCycleRoot(false);
-		getParent().remove(this);
+	private void removeMotionListenerView() {
 		if (motionListenerView != null) {
 			remove(motionListenerView);
+			mapView.releaseMotionListenerView(motionListenerView);
 			motionListenerView = null;
 		}
-		removeFoldingListener();
+	}
+
+	protected void removeFromMap() {
+		setFocusCycleRoot(false);
+		getParent().remove(this);
+		setDecorated(false);
 		ToolTipManager.sharedInstance().unregisterComponent(mainView);
 	}
 
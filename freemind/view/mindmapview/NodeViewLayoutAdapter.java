@@ -30,6 +30,12 @@ import freemind.main.Tools;
 import freemind.modes.MindMapNode;
 
 /**
+ * The node views are laid out during the Swing validation, in the event
+ * dispatch thread, as the positions depend on the preferred sizes of the
+ * realized contents. A layout computed from the model alone, off the event
+ * dispatch thread, would have to replace these layout managers of the nested
+ * node views, thus the exporters use the laid out map view, too.
+ *
  * @author foltin
  * @date 11.07.2013
  */
@@ -0,0 +1,163 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.view.mindmapview;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.plaf.basic.BasicHTML;
+import javax.swing.text.View;
+
+import freemind.main.Resources;
+import freemind.main.Tools;
+
+/**
+ * Keeps the parsed html views of the node texts, such that a node whose view
+ * is updated (zoom, unfolding, selection) doesn't parse its html text again.
+ * The views are rendered unzoomed (see {@link MainView#paint}) and remember
+ * their preferred size, thus the key is text, font and color only. The least
+ * recently used views are removed, if there are more than
+ * "text_rendering_cache_size". Must only be used on the event dispatch thread.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class TextRenderingCache {
+
+	private static final String TEXT_RENDERING_CACHE_SIZE = "text_rendering_cache_size";
+
+	private static TextRenderingCache sInstance = null;
+
+	private static java.util.logging.Logger logger = null;
+
+	private static class Key {
+		final String text;
+		final Font font;
+		final Color color;
+
+		Key(String pText, Font pFont, Color pColor) {
+			text = pText;
+			font = pFont;
+			color = pColor;
+		}
+
+		public boolean equals(Object pObj) {
+			if (!(pObj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) pObj;
+			return text.equals(other.text) && Tools.safeEquals(font, other.font)
+					&& Tools.safeEquals(color, other.color);
+		}
+
+		public int hashCode() {
+			return text.hashCode() * 31
+					+ (font == null ? 0 : font.hashCode()) * 17
+					+ (color == null ? 0 : color.hashCode());
+		}
+	}
+
+	private final LinkedHashMap<Key, View> mViews;
+
+	/**
+	 * The views are created for this label and not for the node that shows
+	 * it, as the cache must not keep closed maps.
+	 */
+	private final JLabel mHost = new JLabel();
+
+	private int mHits = 0;
+
+	private int mMisses = 0;
+
+	public static TextRenderingCache getInstance() {
+		if (sInstance == null) {
+			sInstance = new TextRenderingCache(Resources.getInstance()
+					.getIntProperty(TEXT_RENDERING_CACHE_SIZE, 2000));
+		}
+		return sInstance;
+	}
+
+	public TextRenderingCache(final int pMaximalSize) {
+		if (logger == null) {
+			logger = Resources.getInstance().getLogger(
+					this.getClass().getName());
+		}
+		mViews = new LinkedHashMap<Key, View>(16, 0.75f, true) {
+			protected boolean removeEldestEntry(Map.Entry<Key, View> pEldest) {
+				return size() > pMaximalSize;
+			}
+		};
+	}
+
+	/**
+	 * @return the view that renders the text in the font and color of the
+	 *         component or null, if the text is not html.
+	 */
+	public View getView(JComponent pComponent, String pText) {
+		if (pText == null || !BasicHTML.isHTMLString(pText)) {
+			return null;
+		}
+		if (pText.contains("<img")) {
+			// images are loaded asynchronously and repaint their own component.
+			return BasicHTML.createHTMLView(pComponent, pText);
+		}
+		Key key = new Key(pText, pComponent.getFont(),
+				pComponent.getForeground());
+		View view = mViews.get(key);
+		if (view != null && view.getView(0).getParent() == view) {
+			mHits++;
+			return view;
+		}
+		mMisses++;
+		mHost.setFont(key.font);
+		mHost.setForeground(key.color);
+		view = BasicHTML.createHTMLView(mHost, pText);
+		mViews.put(key, view);
+		return view;
+	}
+
+	/**
+	 * Must be called, if the rendering of texts changes without a change of
+	 * the font and color of the nodes (e.g. the default font or the html
+	 * head).
+	 */
+	public void clear() {
+		logger.fine("Clearing text rendering cache: " + mViews.size()
+				+ " views, " + mHits + " hits, " + mMisses + " misses.");
+		mViews.clear();
+	}
+
+	public int getSize() {
+		return mViews.size();
+	}
+
+	public int getHits() {
+		return mHits;
+	}
+
+	public int getMisses() {
+		return mMisses;
+	}
+}
@@ -0,0 +1,302 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package freemind.view.mindmapview;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Vector;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * An image of an area of a map view that is painted on demand, band by band,
+ * into a buffer of a fixed size. Image writers that read the image row by row
+ * (like the png one) thus need a constant amount of memory, regardless of the
+ * size of the map.
+ *
+ * As the view is painted while the image is read, it must be used in the
+ * event dispatch thread and the view has to be prepared for printing (see
+ * {@link MapView#preparePrinting()}).
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class TiledMapImage implements RenderedImage {
+
+	/** Default size of the band buffer: 4M pixels, i.e. 16MB. */
+	public static final int BUFFER_PIXELS = 1 << 22;
+
+	/** Edge length of the tiles of a tile pyramid. */
+	public static final int TILE_SIZE = 256;
+
+	private final MapView mView;
+
+	/** The painted area in view coordinates. */
+	private final Rectangle mArea;
+
+	private final double mScale;
+
+	private final int mWidth;
+
+	private final int mHeight;
+
+	private final BufferedImage mBand;
+
+	/** The first image row that is painted into mBand, -1 if none. */
+	private int mBandY = -1;
+
+	/**
+	 * @param pArea
+	 *            the part of the view to be painted, usually
+	 *            {@link MapView#getInnerBounds()}.
+	 * @param pScale
+	 *            the factor between image pixels and view coordinates.
+	 * @param pBufferPixels
+	 *            the maximal number of pixels of the band buffer. A band has
+	 *            at least one row.
+	 */
+	public TiledMapImage(MapView pView, Rectangle pArea, double pScale,
+			int pBufferPixels) {
+		mView = pView;
+		mArea = new Rectangle(pArea);
+		mScale = pScale;
+		mWidth = Math.max(1, (int) Math.ceil(pArea.width * pScale));
+		mHeight = Math.max(1, (int) Math.ceil(pArea.height * pScale));
+		int bandHeight = Math.min(mHeight,
+				Math.max(1, pBufferPixels / mWidth));
+		mBand = new BufferedImage(mWidth, bandHeight,
+				BufferedImage.TYPE_INT_RGB);
+	}
+
+	public TiledMapImage(MapView pView, Rectangle pArea) {
+		this(pView, pArea, 1d, BUFFER_PIXELS);
+	}
+
+	/**
+	 * Paints the part of the image starting at the given image coordinates
+	 * into the target image.
+	 */
+	private void paint(BufferedImage pTarget, int pX, int pY) {
+		Graphics2D g = pTarget.createGraphics();
+		try {
+			g.setColor(mView.getBackground());
+			g.fillRect(0, 0, pTarget.getWidth(), pTarget.getHeight());
+			g.clipRect(0, 0, Math.min(pTarget.getWidth(), mWidth - pX),
+					Math.min(pTarget.getHeight(), mHeight - pY));
+			g.translate(-pX, -pY);
+			g.scale(mScale, mScale);
+			g.translate(-mArea.x, -mArea.y);
+			mView.print(g);
+		} finally {
+			g.dispose();
+		}
+	}
+
+	/**
+	 * Makes sure that the given row is in the band buffer.
+	 */
+	private void paintBand(int pY) {
+		if (mBandY >= 0 && pY >= mBandY && pY < mBandY + mBand.getHeight()) {
+			return;
+		}
+		mBandY = (pY / mBand.getHeight()) * mBand.getHeight();
+		paint(mBand, 0, mBandY);
+	}
+
+	public Raster getData(Rectangle pRect) {
+		WritableRaster raster = mBand.getRaster()
+				.createCompatibleWritableRaster(pRect.width, pRect.height)
+				.createWritableTranslatedChild(pRect.x, pRect.y);
+		return copyData(raster);
+	}
+
+	public Raster getData() {
+		return getData(new Rectangle(0, 0, mWidth, mHeight));
+	}
+
+	public WritableRaster copyData(WritableRaster pRaster) {
+		if (pRaster == null) {
+			return (WritableRaster) getData();
+		}
+		Rectangle rect = pRaster.getBounds().intersection(
+				new Rectangle(0, 0, mWidth, mHeight));
+		int y = rect.y;
+		while (y < rect.y + rect.height) {
+			paintBand(y);
+			int rows = Math.min(rect.y + rect.height,
+					mBandY + mBand.getHeight()) - y;
+			Object data = mBand.getRaster().getDataElements(rect.x, y - mBandY,
+					rect.width, rows, null);
+			pRaster.setDataElements(rect.x, y, rect.width, rows, data);
+			y += rows;
+		}
+		return pRaster;
+	}
+
+	public Raster getTile(int pTileX, int pTileY) {
+		int y = pTileY * getTileHeight();
+		return getData(new Rectangle(0, y, mWidth, Math.min(getTileHeight(),
+				mHeight - y)));
+	}
+
+	/**
+	 * Writes the image as png. The png writer reads the image row by row.
+	 */
+	public void writePng(OutputStream pOutput) throws IOException {
+		Iterator writers = ImageIO.getImageWritersByFormatName("png");
+		if (!writers.hasNext()) {
+			throw new IOException("No png image writer found.");
+		}
+		ImageWriter writer = (ImageWriter) writers.next();
+		ImageOutputStream imageOutput = ImageIO
+				.createImageOutputStream(pOutput);
+		try {
+			writer.setOutput(imageOutput);
+			writer.write(this);
+		} finally {
+			writer.dispose();
+			imageOutput.close();
+		}
+	}
+
+	/**
+	 * Writes the area of the view as a pyramid of png tiles of
+	 * {@link #TILE_SIZE} pixels into the directory: the tile in column x and
+	 * row y of the zoom level z is written to "z/x_y.png". The last level has
+	 * the original size, each level before has half of the size of its
+	 * successor and level 0 consists of a single tile.
+	 *
+	 * @return the number of the last level.
+	 */
+	public static int writeTilePyramid(MapView pView, Rectangle pArea,
+			File pDirectory) throws IOException {
+		int size = Math.max(pArea.width, pArea.height);
+		int maxLevel = 0;
+		while ((size + (1 << maxLevel) - 1) >> maxLevel > TILE_SIZE) {
+			maxLevel++;
+		}
+		BufferedImage tile = new BufferedImage(TILE_SIZE, TILE_SIZE,
+				BufferedImage.TYPE_INT_RGB);
+		for (int level = 0; level <= maxLevel; level++) {
+			// the tiles are painted directly, the band buffer isn't needed:
+			TiledMapImage image = new TiledMapImage(pView, pArea,
+					1d / (1 << (maxLevel - level)), 1);
+			File levelDirectory = new File(pDirectory, Integer.toString(level));
+			if (!levelDirectory.isDirectory() && !levelDirectory.mkdirs()) {
+				throw new IOException("Can't create directory "
+						+ levelDirectory);
+			}
+			for (int y = 0; y < image.getHeight(); y += TILE_SIZE) {
+				for (int x = 0; x < image.getWidth(); x += TILE_SIZE) {
+					image.paint(tile, x, y);
+					BufferedImage part = tile.getSubimage(0, 0,
+							Math.min(TILE_SIZE, image.getWidth() - x),
+							Math.min(TILE_SIZE, image.getHeight() - y));
+					ImageIO.write(part, "png", new File(levelDirectory, x
+							/ TILE_SIZE + "_" + y / TILE_SIZE + ".png"));
+				}
+			}
+		}
+		return maxLevel;
+	}
+
+	public Vector getSources() {
+		return null;
+	}
+
+	public Object getProperty(String pName) {
+		return Image.UndefinedProperty;
+	}
+
+	public String[] getPropertyNames() {
+		return null;
+	}
+
+	public ColorModel getColorModel() {
+		return mBand.getColorModel();
+	}
+
+	public SampleModel getSampleModel() {
+		return mBand.getSampleModel();
+	}
+
+	public int getWidth() {
+		return mWidth;
+	}
+
+	public int getHeight() {
+		return mHeight;
+	}
+
+	public int getMinX() {
+		return 0;
+	}
+
+	public int getMinY() {
+		return 0;
+	}
+
+	public int getNumXTiles() {
+		return 1;
+	}
+
+	public int getNumYTiles() {
+		return (mHeight + getTileHeight() - 1) / getTileHeight();
+	}
+
+	public int getMinTileX() {
+		return 0;
+	}
+
+	public int getMinTileY() {
+		return 0;
+	}
+
+	public int getTileWidth() {
+		return mWidth;
+	}
+
+	public int getTileHeight() {
+		return mBand.getHeight();
+	}
+
+	public int getTileGridXOffset() {
+		return 0;
+	}
+
+	public int getTileGridYOffset() {
+		return 0;
+	}
+
+}
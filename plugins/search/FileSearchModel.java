@@ -1,223 +1,574 @@
 package plugins.search;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.Version;
+import org.xmlpull.mxp1.MXParser;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import plugins.search.Search.SearchResult;
 
 /**
- * This terminal application creates an Apache Lucene index in a folder and adds
- * files into this index based on the input of the user.
+ * Keeps an Apache Lucene index of the nodes of mind map files on disk. Every
+ * node is a document with its text, note, attributes and ID. Every map has an
+ * additional document with its modification time, such that only the maps
+ * that changed since the last search are indexed again. The index is updated
+ * by a background thread, see {@link #refresh(File...)}. The nodes of the open
+ * maps are updated on every change, see {@link SearchIndexUpdater}. The index
+ * stays open until all of its users released it, see {@link #release()}.
  */
 public class FileSearchModel {
 
 	public static final String FREEMIND_FILENAME_SUFFIX = ".mm";
 
 	private enum FileAttribute {
-		filename, path, contents
+		filename, path, id, text, note, attributes, contents, type, modified, map, uid
 	}
 
+	private static final String TYPE_FILE = "file";
+
+	private static final String TYPE_NODE = "node";
+
+	/**
+	 * Nodes of open maps, see {@link SearchIndexUpdater}. They are only kept
+	 * as long as the map is open.
+	 */
+	private static final String TYPE_OPEN = "open";
+
+	private static final int MAX_HITS = 1000;
+
 	private static StandardAnalyzer analyzer = new StandardAnalyzer(
 			Version.LUCENE_46);
 
-	private ArrayList<File> queue = new ArrayList<File>();
+	/**
+	 * Index directory -> model, as only one writer may be open per index.
+	 */
+	private static HashMap<File, FileSearchModel> sModels = new HashMap<File, FileSearchModel>();
+
+	private final File mIndexDirectory;
+
+	/** Number of {@link #getInstance(File, Logger)} calls without release. */
+	private int mUsers = 0;
+
+	private final IndexWriter mWriter;
+
+	private final SearcherManager mSearcherManager;
 
 	/**
-	 * 
-	 * @param querystring
-	 * @param hitsPerPage
-	 * @param searcher
-	 * @param q
-	 * @param index
-	 * @return
-	 * @throws ParseException
-	 * @throws IOException
+	 * Path -> modification time of the indexed maps. Only used by the worker
+	 * thread.
 	 */
-	public TopDocs doSearch(Query q, int hitsPerPage, IndexSearcher searcher)
-			throws ParseException, IOException {
-		TopScoreDocCollector collector = TopScoreDocCollector.create(
-				hitsPerPage, true);
-		searcher.search(q, collector);
-		TopDocs topDocs = collector.topDocs();
-		return topDocs;
+	private final HashMap<String, Long> mModified = new HashMap<String, Long>();
+
+	private final ExecutorService mWorker = Executors
+			.newSingleThreadExecutor(new ThreadFactory() {
+				public Thread newThread(Runnable pRunnable) {
+					Thread thread = new Thread(pRunnable, "Search index");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	private Logger _logger = null;
+
+	public static synchronized FileSearchModel getInstance(
+			File pIndexDirectory, Logger logger) throws IOException {
+		File directory = pIndexDirectory.getAbsoluteFile();
+		FileSearchModel model = sModels.get(directory);
+		if (model != null && model.mUsers == 0) {
+			// released, the writer must be closed before it is opened again.
+			model.awaitClosed();
+			model = null;
+		}
+		if (model == null) {
+			model = new FileSearchModel(directory, logger);
+			sModels.put(directory, model);
+		}
+		model.mUsers++;
+		return model;
 	}
 
-	protected Query getQuery(String querystring) throws ParseException {
-		// the "title" arg specifies the default field to use
-		// when no field is explicitly specified in the query.
-		Query q = new QueryParser(Version.LUCENE_46,
-				FileAttribute.contents.name(), analyzer).parse(querystring);
-		return q;
+	/**
+	 * Is called once for every {@link #getInstance(File, Logger)}, when the
+	 * model is not needed anymore. After the last release, the pending
+	 * updates are finished and the index is closed.
+	 *
+	 * @return the closing of the index or null, if it is still used.
+	 */
+	public Future<?> release() {
+		synchronized (FileSearchModel.class) {
+			if (--mUsers > 0) {
+				return null;
+			}
+		}
+		Future<?> close = mWorker.submit(new Callable<Object>() {
+			public Object call() throws Exception {
+				try {
+					mSearcherManager.close();
+					// the nodes of open maps are not kept:
+					mWriter.deleteDocuments(new Term(FileAttribute.type
+							.name(), TYPE_OPEN));
+				} finally {
+					mWriter.close();
+				}
+				_logger.info("Closed search index " + mIndexDirectory);
+				return null;
+			}
+		});
+		mWorker.shutdown();
+		return close;
 	}
 
-	protected IndexSearcher getSearcher(Directory index) throws IOException {
-		DirectoryReader reader = DirectoryReader.open(index);
-		IndexSearcher searcher = new IndexSearcher(reader);
-		return searcher;
+	private void awaitClosed() throws IOException {
+		try {
+			mWorker.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			throw new IOException(e);
+		}
 	}
 
 	/**
 	 * Constructor
-	 * 
+	 *
 	 */
-	FileSearchModel(Logger logger) {
+	private FileSearchModel(File pIndexDirectory, Logger logger)
+			throws IOException {
 		this._logger = logger;
+		mIndexDirectory = pIndexDirectory;
+		pIndexDirectory.mkdirs();
+		IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_46,
+				analyzer);
+		config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+		mWriter = new IndexWriter(FSDirectory.open(pIndexDirectory), config);
+		// open maps of the last session:
+		mWriter.deleteDocuments(new Term(FileAttribute.type.name(), TYPE_OPEN));
+		mSearcherManager = new SearcherManager(mWriter, true, null);
+		readModificationTimes();
+		_logger.info("Opened search index " + pIndexDirectory + " with "
+				+ mModified.size() + " maps.");
 	}
 
-	private Logger _logger = null;
+	private void readModificationTimes() throws IOException {
+		IndexSearcher searcher = mSearcherManager.acquire();
+		try {
+			TopDocs files = searcher.search(new TermQuery(new Term(
+					FileAttribute.type.name(), TYPE_FILE)), Math.max(1,
+					searcher.getIndexReader().maxDoc()));
+			for (ScoreDoc scoreDoc : files.scoreDocs) {
+				Document d = searcher.doc(scoreDoc.doc);
+				mModified.put(getPath(d), d.getField(
+						FileAttribute.modified.name()).numericValue()
+						.longValue());
+			}
+		} finally {
+			mSearcherManager.release(searcher);
+		}
+	}
 
 	/**
-	 * Indexes a file or directory
-	 * 
-	 * @param fileName
-	 *            the name of a text file or a folder we wish to add to the
-	 *            index
-	 * @return
-	 * @throws java.io.IOException
-	 *             when exception
+	 * Brings the index of the given maps and directories up to date in the
+	 * background.
+	 *
+	 * @return the number of maps that were indexed again or removed.
 	 */
-	public Directory indexFileOrDirectory(String... fileName)
-			throws IOException {
-		Directory index = new RAMDirectory();
-		IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_46,
-				analyzer);
-		IndexWriter writer = new IndexWriter(index, config);
+	public Future<Integer> refresh(final File... pFiles) {
+		return mWorker.submit(new Callable<Integer>() {
+			public Integer call() throws Exception {
+				return update(pFiles);
+			}
+		});
+	}
 
-		for (int i = 0; i < fileName.length; i++) {
-			indexFileOrDirectoryCore(fileName[i], writer);
+	private int update(File[] pFiles) throws IOException {
+		int changed = 0;
+		for (File file : pFiles) {
+			if (file == null) {
+				// map not saved yet.
+				continue;
+			}
+			file = file.getAbsoluteFile();
+			ArrayList<File> mapFiles = new ArrayList<File>();
+			addFiles(file, mapFiles);
+			HashSet<String> found = new HashSet<String>();
+			for (File mapFile : mapFiles) {
+				String path = mapFile.getPath();
+				found.add(path);
+				long modified = mapFile.lastModified();
+				Long indexed = mModified.get(path);
+				if (indexed == null || indexed.longValue() != modified) {
+					indexFile(mapFile, modified);
+					changed++;
+				}
+			}
+			// remove the maps that don't exist anymore:
+			String root = file.getPath();
+			for (Iterator<String> it = mModified.keySet().iterator(); it
+					.hasNext();) {
+				String path = it.next();
+				if (!found.contains(path)
+						&& (path.equals(root) || path.startsWith(root
+								+ File.separator))) {
+					mWriter.deleteDocuments(getFileDocuments(path));
+					it.remove();
+					_logger.info("Removed: " + path);
+					changed++;
+				}
+			}
+		}
+		if (changed > 0) {
+			mWriter.commit();
+			mSearcherManager.maybeRefresh();
 		}
-		// ===================================================
-		// after adding, we always have to call the
-		// closeIndex, otherwise the index is not created
-		// ===================================================
-		writer.close();
+		_logger.fine(changed + " maps indexed.");
+		return changed;
+	}
 
-		return index;
+	private void indexFile(File pFile, long pModified) throws IOException {
+		String path = pFile.getPath();
+		mWriter.deleteDocuments(getFileDocuments(path));
+		Reader reader = new BufferedReader(new FileReader(pFile));
+		try {
+			XmlPullParser parser = new MXParser();
+			parser.setInput(reader);
+			parser.defineEntityReplacementText("nbsp", " ");
+			int nodes = 0;
+			while (parser.next() != XmlPullParser.END_DOCUMENT) {
+				if (parser.getEventType() == XmlPullParser.START_TAG
+						&& "node".equals(parser.getName())) {
+					nodes += indexNode(parser, pFile);
+				}
+			}
+			_logger.info("Added: " + pFile + " with " + nodes + " nodes.");
+		} catch (XmlPullParserException e) {
+			_logger.warning("Could not add: " + pFile + ": " + e.getMessage());
+			mWriter.deleteDocuments(getFileDocuments(path));
+		} finally {
+			reader.close();
+		}
+		// also for unreadable maps, such that they are only tried again after
+		// a change.
+		Document doc = new Document();
+		doc.add(new StringField(FileAttribute.type.name(), TYPE_FILE,
+				Field.Store.NO));
+		doc.add(new StringField(FileAttribute.path.name(), path,
+				Field.Store.YES));
+		doc.add(new StoredField(FileAttribute.modified.name(), pModified));
+		mWriter.addDocument(doc);
+		mModified.put(path, pModified);
 	}
 
-	public Directory indexFileOrDirectory(File... fileName) throws IOException {
-		Directory index = new RAMDirectory();
-		IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_46,
-				analyzer);
-		IndexWriter writer = new IndexWriter(index, config);
+	/**
+	 * @return the documents of the map file with its nodes, but not those of
+	 *         the open map with this file.
+	 */
+	private Query getFileDocuments(String pPath) {
+		BooleanQuery types = new BooleanQuery();
+		types.add(new TermQuery(new Term(FileAttribute.type.name(), TYPE_FILE)),
+				Occur.SHOULD);
+		types.add(new TermQuery(new Term(FileAttribute.type.name(), TYPE_NODE)),
+				Occur.SHOULD);
+		BooleanQuery query = new BooleanQuery();
+		query.add(new TermQuery(new Term(FileAttribute.path.name(), pPath)),
+				Occur.MUST);
+		query.add(types, Occur.MUST);
+		return query;
+	}
 
-		for (int i = 0; i < fileName.length; i++) {
-			indexFileOrDirectoryCore(fileName[i], writer);
+	/**
+	 * Precondition: the parser is at the start tag of the node.
+	 * Postcondition: it is at its end tag.
+	 *
+	 * @return the number of indexed nodes.
+	 */
+	private int indexNode(XmlPullParser pParser, File pFile)
+			throws XmlPullParserException, IOException {
+		String id = getAttribute(pParser, "ID");
+		String text = getAttribute(pParser, "TEXT");
+		String note = "";
+		StringBuilder attributes = new StringBuilder();
+		int nodes = 1;
+		while (pParser.nextTag() == XmlPullParser.START_TAG) {
+			String name = pParser.getName();
+			if ("node".equals(name)) {
+				nodes += indexNode(pParser, pFile);
+			} else if ("richcontent".equals(name)) {
+				String type = getAttribute(pParser, "TYPE");
+				String content = readText(pParser);
+				if ("NOTE".equals(type)) {
+					note = content;
+				} else if ("NODE".equals(type)) {
+					text = content;
+				}
+			} else {
+				if ("attribute".equals(name)) {
+					attributes.append(getAttribute(pParser, "NAME"))
+							.append(' ')
+							.append(getAttribute(pParser, "VALUE"))
+							.append('\n');
+				}
+				readText(pParser);
+			}
 		}
-		// ===================================================
-		// after adding, we always have to call the
-		// closeIndex, otherwise the index is not created
-		// ===================================================
-		writer.close();
+		mWriter.addDocument(createNodeDocument(TYPE_NODE, pFile.getPath(),
+				pFile.getName(), id, text, note, attributes.toString()));
+		return nodes;
+	}
 
-		return index;
+	private static Document createNodeDocument(String pType, String pPath,
+			String pFileName, String pId, String pText, String pNote,
+			String pAttributes) {
+		String text = pText == null ? "" : pText;
+		Document doc = new Document();
+		doc.add(new StringField(FileAttribute.type.name(), pType,
+				Field.Store.NO));
+		doc.add(new StringField(FileAttribute.path.name(), pPath,
+				Field.Store.YES));
+		doc.add(new StringField(FileAttribute.filename.name(), pFileName,
+				Field.Store.YES));
+		doc.add(new StringField(FileAttribute.id.name(),
+				pId == null ? "" : pId, Field.Store.YES));
+		doc.add(new TextField(FileAttribute.text.name(), text, Field.Store.YES));
+		doc.add(new TextField(FileAttribute.note.name(), pNote, Field.Store.NO));
+		doc.add(new TextField(FileAttribute.attributes.name(), pAttributes,
+				Field.Store.NO));
+		doc.add(new TextField(FileAttribute.contents.name(), text + "\n"
+				+ pNote + "\n" + pAttributes, Field.Store.NO));
+		return doc;
 	}
 
 	/**
-	 * Indexes a file or directory
-	 * 
-	 * @param fileName
-	 *            the name of a text file or a folder we wish to add to the
-	 *            index
-	 * @return
-	 * @throws java.io.IOException
-	 *             when exception
+	 * @param pKey
+	 *            identifies the open map in the index.
+	 * @param pPath
+	 *            the file of the map or an empty string, if it wasn't saved
+	 *            yet.
 	 */
-	public Directory indexFileOrDirectory(String fileName) throws IOException {
-		return indexFileOrDirectory(new String[] { fileName });
+	static Document createOpenNodeDocument(String pKey, String pPath,
+			String pMapName, String pId, String pText, String pNote,
+			String pAttributes) {
+		Document doc = createNodeDocument(TYPE_OPEN, pPath, pMapName, pId,
+				pText, pNote, pAttributes);
+		doc.add(new StringField(FileAttribute.map.name(), pKey,
+				Field.Store.NO));
+		doc.add(new StringField(FileAttribute.uid.name(), getUid(pKey, pId),
+				Field.Store.NO));
+		return doc;
 	}
 
-	public Directory indexFileOrDirectory(File fileName) throws IOException {
-		return indexFileOrDirectory(new File[] { fileName });
+	private static String getUid(String pKey, String pId) {
+		return pKey + "#" + pId;
 	}
 
 	/**
-	 * 
-	 * @param fileName
-	 * @param writer
-	 * @return
-	 * @throws IOException
+	 * Changes the nodes of an open map in the background. The changes are
+	 * visible to the next search (near real time), but not committed, as the
+	 * nodes of open maps are not kept.
+	 *
+	 * @param pReplace
+	 *            if true, all nodes of the map are removed first.
+	 * @param pDocuments
+	 *            created by
+	 *            {@link #createOpenNodeDocument(String, String, String, String, String, String, String)}
+	 *            for new and changed nodes.
+	 * @param pRemovedIds
+	 *            the IDs of the removed nodes.
 	 */
-	private int indexFileOrDirectoryCore(String fileName, IndexWriter writer)
-			throws IOException {
-		// ===================================================
-		// gets the list of files in a folder (if user has submitted
-		// the name of a folder) or gets a single file name (is user
-		// has submitted only the file name)
-		// ===================================================
-		File file = new File(fileName);
-		if(!file.exists()) {
-			throw new FileNotFoundException("Can't open " + fileName);
+	Future<?> updateOpenMap(final String pKey, final boolean pReplace,
+			final List<Document> pDocuments, final Collection<String> pRemovedIds) {
+		return mWorker.submit(new Callable<Object>() {
+			public Object call() throws Exception {
+				if (pReplace) {
+					mWriter.deleteDocuments(new Term(FileAttribute.map.name(),
+							pKey));
+				}
+				for (String id : pRemovedIds) {
+					mWriter.deleteDocuments(new Term(FileAttribute.uid.name(),
+							getUid(pKey, id)));
+				}
+				for (Document doc : pDocuments) {
+					if (pReplace) {
+						mWriter.addDocument(doc);
+					} else {
+						mWriter.updateDocument(new Term(FileAttribute.uid
+								.name(), doc.get(FileAttribute.uid.name())),
+								doc);
+					}
+				}
+				mSearcherManager.maybeRefresh();
+				_logger.fine("Updated " + pDocuments.size() + " and removed "
+						+ pRemovedIds.size() + " nodes of open map " + pKey);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Runs the task in the background, after the pending updates of the index
+	 * are visible.
+	 */
+	public Future<?> runAfterUpdates(Runnable pTask) {
+		return mWorker.submit(pTask);
+	}
+
+	/**
+	 * Waits until the pending updates of the index are visible.
+	 */
+	public void waitForUpdates() throws IOException {
+		try {
+			runAfterUpdates(new Runnable() {
+				public void run() {
+				}
+			}).get();
+		} catch (InterruptedException e) {
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
 		}
-		addFiles(file);
+	}
 
-		return indexFiles(writer);
+	/**
+	 * Attribute names are case insensitive, as in the map loader.
+	 */
+	private String getAttribute(XmlPullParser pParser, String pName) {
+		for (int i = 0; i < pParser.getAttributeCount(); i++) {
+			if (pName.equalsIgnoreCase(pParser.getAttributeName(i))) {
+				return pParser.getAttributeValue(i);
+			}
+		}
+		return null;
 	}
 
-	private int indexFileOrDirectoryCore(File fileName, IndexWriter writer)
-			throws IOException {
-		// ===================================================
-		// gets the list of files in a folder (if user has submitted
-		// the name of a folder) or gets a single file name (is user
-		// has submitted only the file name)
-		// ===================================================
-		addFiles(fileName);
-
-		return indexFiles(writer);
+	/**
+	 * Skips the current element and returns its text content (the plain text
+	 * of html).
+	 */
+	private String readText(XmlPullParser pParser)
+			throws XmlPullParserException, IOException {
+		StringBuilder content = new StringBuilder();
+		int depth = 1;
+		while (depth > 0) {
+			switch (pParser.next()) {
+			case XmlPullParser.START_TAG:
+				depth++;
+				content.append(' ');
+				break;
+			case XmlPullParser.END_TAG:
+				depth--;
+				break;
+			case XmlPullParser.TEXT:
+				content.append(pParser.getText());
+				break;
+			}
+		}
+		return content.toString().replaceAll("\\s+", " ").trim();
+	}
+
+	protected Query getQuery(String querystring) throws ParseException {
+		// the "contents" arg specifies the default field to use
+		// when no field is explicitly specified in the query.
+		Query q = new QueryParser(Version.LUCENE_46,
+				FileAttribute.contents.name(), analyzer).parse(querystring);
+		return q;
 	}
 
-	public int indexFiles(IndexWriter writer) throws IOException {
-		int originalNumDocs = writer.numDocs();
-		for (File f : queue) {
-			FileReader fr = null;
-			try {
-				Document doc = new Document();
-
-				// ===================================================
-				// add contents of file
-				// ===================================================
-				fr = new FileReader(f);
-				doc.add(new TextField(FileAttribute.contents.name(), fr));
-				doc.add(new StringField(FileAttribute.path.name(), f.getPath(),
-						Field.Store.YES));
-				doc.add(new StringField(FileAttribute.filename.name(), f
-						.getName(), Field.Store.YES));
-
-				writer.addDocument(doc);
-				_logger.info("Added: " + f);
-			} catch (Exception e) {
-				_logger.warning("Could not add: " + f);
-			} finally {
-				fr.close();
+	/**
+	 * Searches the nodes of the given maps and directories as they are in the
+	 * index (see {@link #refresh(File...)}).
+	 */
+	public SearchResult[] search(Search pSearch, String querystring,
+			File... pFiles) throws ParseException, IOException {
+		BooleanQuery scope = new BooleanQuery();
+		for (File file : pFiles) {
+			if (file == null) {
+				continue;
 			}
+			String path = file.getAbsolutePath();
+			scope.add(new TermQuery(new Term(FileAttribute.path.name(), path)),
+					Occur.SHOULD);
+			scope.add(new PrefixQuery(new Term(FileAttribute.path.name(), path
+					+ File.separator)), Occur.SHOULD);
+		}
+		return search(pSearch, querystring, TYPE_NODE, scope);
+	}
+
+	/**
+	 * Searches the nodes of the open maps with the given keys (see
+	 * {@link SearchIndexUpdater#getKey()}).
+	 */
+	public SearchResult[] searchOpenMaps(Search pSearch, String querystring,
+			String... pKeys) throws ParseException, IOException {
+		BooleanQuery scope = new BooleanQuery();
+		for (String key : pKeys) {
+			scope.add(new TermQuery(new Term(FileAttribute.map.name(), key)),
+					Occur.SHOULD);
 		}
+		return search(pSearch, querystring, TYPE_OPEN, scope);
+	}
 
-		int newNumDocs = writer.numDocs();
-		int added = newNumDocs - originalNumDocs;
-		_logger.info(added + " documents added.");
-		queue.clear();
-		return added;
+	private SearchResult[] search(Search pSearch, String querystring,
+			String pType, Query pScope) throws ParseException, IOException {
+		BooleanQuery query = new BooleanQuery();
+		query.add(getQuery(querystring), Occur.MUST);
+		query.add(new TermQuery(new Term(FileAttribute.type.name(), pType)),
+				Occur.MUST);
+		query.add(pScope, Occur.MUST);
+		IndexSearcher searcher = mSearcherManager.acquire();
+		try {
+			ScoreDoc[] hits = searcher.search(query, MAX_HITS).scoreDocs;
+			_logger.fine("Returned: " + hits.length + " results");
+			SearchResult[] results = new SearchResult[hits.length];
+			for (int i = 0; i < hits.length; i++) {
+				Document d = searcher.doc(hits[i].doc);
+				results[i] = pSearch.new SearchResult(i + 1, hits[i].doc,
+						getFilename(d), getPath(d),
+						d.get(FileAttribute.id.name()),
+						d.get(FileAttribute.text.name()), hits[i].score,
+						hits[i].shardIndex);
+			}
+			return results;
+		} finally {
+			mSearcherManager.release(searcher);
+		}
 	}
 
 	public String getPath(Document d) {
@@ -228,30 +579,22 @@ public class FileSearchModel {
 		return d.get(FileAttribute.filename.name());
 	}
 
-	public String[] getFilepathsFromSearchResults(IndexSearcher searcher,
-			TopDocs results) throws IOException {
-		ScoreDoc[] scoreDocs = results.scoreDocs;
-		String[] fileNames = new String[scoreDocs.length];
-		for (int i = 0; i < scoreDocs.length; i++) {
-			ScoreDoc scoreDoc = scoreDocs[i];
-			Document d = searcher.doc(scoreDoc.doc);
-			fileNames[i] = getPath(d);
-		}
-		return fileNames;
-	}
-
 	/**
-	 * 
+	 *
 	 * @param file
 	 */
-	private void addFiles(File file) {
+	private void addFiles(File file, ArrayList<File> pFiles) {
 
 		if (!file.exists()) {
 			_logger.warning(file + " does not exist.");
+			return;
 		}
 		if (file.isDirectory()) {
-			for (File f : file.listFiles()) {
-				addFiles(f);
+			File[] files = file.listFiles();
+			if (files != null) {
+				for (File f : files) {
+					addFiles(f, pFiles);
+				}
 			}
 		} else {
 			String filename = file.getName().toLowerCase();
@@ -259,11 +602,11 @@ public class FileSearchModel {
 			// Only index Mind map files
 			// ===================================================
 			if (filename.endsWith(FREEMIND_FILENAME_SUFFIX)) {
-				queue.add(file);
+				pFiles.add(file);
 			} else {
 				_logger.fine("Skipped " + filename);
 			}
 		}
 	}
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package plugins.search;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javax.swing.JFrame;
@@ -27,6 +28,25 @@ public interface ISearchController {
 	
 	public File[] getFilesOfOpenTabs();
 
+	/**
+	 * Indexes the open maps, if they weren't searched before, see
+	 * {@link SearchIndexUpdater}.
+	 *
+	 * @return the keys of the open maps in the search index or null, if the
+	 *         files of the open maps are searched instead.
+	 */
+	public String[] indexOpenMaps() throws IOException;
+
 	public void openMap(String path);
 
+	/**
+	 * Opens the map and selects the node with the given ID.
+	 */
+	public void openMap(String path, String nodeId);
+
+	/**
+	 * @return the directory of the persistent search index.
+	 */
+	public File getIndexDirectory();
+
 }
@@ -1,72 +1,125 @@
 package plugins.search;
 
+import java.awt.EventQueue;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
-import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.queryparser.classic.ParseException;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.Query;
-import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-
 public class Search {
+	/**
+	 * Receives the results of a search on the event dispatch thread.
+	 */
+	public interface SearchListener {
+		void searchFinished(SearchResult[] pResults);
+
+		void searchFailed(Exception pException);
+	}
+
 	private FileSearchModel indexer;
 	private Logger _logger;
-	private IndexSearcher searcher;
-	private ScoreDoc[] hits;
 
-	public Search(Logger logger) {
+	public Search(Logger logger, File indexDirectory) throws IOException {
 		this._logger = logger;
+		indexer = FileSearchModel.getInstance(indexDirectory, logger);
+	}
+
+	/**
+	 * Starts to update the index of the given maps and directories in the
+	 * background, such that a later search is faster.
+	 */
+	public void refresh(File[] mapsFiles) {
+		indexer.refresh(mapsFiles);
 	}
 
-	public SearchResult[] runSearch(String searchString, File[] mapsFiles)
-			throws IOException, ParseException {
-		indexer = new FileSearchModel(_logger);
+	/**
+	 * Updates the index of the given maps and directories and searches their
+	 * nodes in the background.
+	 */
+	public void runSearch(final String searchString, final File[] mapsFiles,
+			SearchListener pListener) {
 		_logger.fine("runSearch :" + searchString + " in " + mapsFiles);
-		Directory index = indexer.indexFileOrDirectory(mapsFiles);
-
-		searcher = indexer.getSearcher(index);
-		_logger.fine("Run search");
-		Query query = indexer.getQuery(searchString);
-		DirectoryReader reader = DirectoryReader.open(index);
-		TopDocs results = indexer.doSearch(query, reader.numDocs(), searcher);
-
-		hits = results.scoreDocs;
-		_logger.fine("Returned: " + hits.length + " results");
-		SearchResult[] listData = new SearchResult[hits.length];
-		for (int i = 0; i < hits.length; i++) {
-			Document d;
-			try {
-				int docId = hits[i].doc;
-				d = searcher.doc(docId);
-				listData[i] = new SearchResult(i + 1, hits[i].doc,
-						indexer.getFilename(d), indexer.getPath(d),
-						hits[i].score, hits[i].shardIndex);
-				_logger.fine(i + " " + listData[i]);
-			} catch (IOException e) {
-				_logger.warning("Failed:" + e.getMessage());
-				e.printStackTrace();
+		final Future<Integer> refresh = indexer.refresh(mapsFiles);
+		runAfterUpdates(new Callable<SearchResult[]>() {
+			public SearchResult[] call() throws Exception {
+				try {
+					// already done, as it was submitted before.
+					refresh.get();
+				} catch (ExecutionException e) {
+					throw new IOException(e.getCause());
+				}
+				_logger.fine("Run search");
+				return indexer.search(Search.this, searchString, mapsFiles);
 			}
-		}
-		return listData;
+		}, pListener);
+	}
+
+	/**
+	 * Searches the nodes of the open maps with the given keys in the index
+	 * (see {@link SearchIndexUpdater}) in the background.
+	 */
+	public void runSearchInOpenMaps(final String searchString,
+			final String[] mapKeys, SearchListener pListener) {
+		_logger.fine("runSearch :" + searchString + " in open maps");
+		runAfterUpdates(new Callable<SearchResult[]>() {
+			public SearchResult[] call() throws Exception {
+				return indexer.searchOpenMaps(Search.this, searchString,
+						mapKeys);
+			}
+		}, pListener);
+	}
+
+	/**
+	 * Runs the search after the pending updates of the index and hands its
+	 * results to the listener on the event dispatch thread.
+	 */
+	private void runAfterUpdates(final Callable<SearchResult[]> pSearch,
+			final SearchListener pListener) {
+		indexer.runAfterUpdates(new Runnable() {
+			public void run() {
+				try {
+					final SearchResult[] results = pSearch.call();
+					EventQueue.invokeLater(new Runnable() {
+						public void run() {
+							pListener.searchFinished(results);
+						}
+					});
+				} catch (final Exception e) {
+					EventQueue.invokeLater(new Runnable() {
+						public void run() {
+							pListener.searchFailed(e);
+						}
+					});
+				}
+			}
+		});
+	}
+
+	/**
+	 * Releases the index, see {@link FileSearchModel#release()}.
+	 */
+	public void close() {
+		indexer.release();
 	}
 
 	public class SearchResult {
 		private String fileName;
 		private String path;
 		private int docId;
+		private String nodeId;
+		private String text;
 
 		private float score;
 		private int shardIndex;
 		private int rank;
 
 		public SearchResult(int rank, int docId, String fileName, String path,
-				float score, int shardIndex) {
+				String nodeId, String text, float score, int shardIndex) {
 			this.rank = rank;
+			this.nodeId = nodeId;
+			this.text = text;
 			this.fileName = fileName;
 			this.path = path;
 			this.docId = docId;
@@ -75,12 +128,13 @@ public class Search {
 		}
 
 		public String showDetails() {
-			return getPath() + "\n" + getScore();
+			return getPath() + "\n" + getText() + "\n" + getScore();
 		}
 
 		@Override
 		public String toString() {
-			return getRank() + " (" + getScore() + ") " + getFileName();
+			return getRank() + " (" + getScore() + ") " + getFileName() + ": "
+					+ getText();
 		}
 
 		public int getRank() {
@@ -107,5 +161,17 @@ public class Search {
 			return this.path;
 		}
 
+		/**
+		 * @return the ID of the found node or an empty string, if the map
+		 *         doesn't store it.
+		 */
+		public String getNodeId() {
+			return this.nodeId;
+		}
+
+		public String getText() {
+			return this.text;
+		}
+
 	}
 }
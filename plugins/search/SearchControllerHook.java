@@ -21,11 +21,14 @@
 package plugins.search;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
 import java.util.List;
 import java.util.logging.Logger;
 
 import javax.swing.JFrame;
 
+import freemind.main.Tools;
 import freemind.modes.mindmapmode.hooks.MindMapHookAdapter;
 import freemind.view.MapModule;
 
@@ -44,6 +47,8 @@ import freemind.view.MapModule;
 public class SearchControllerHook extends MindMapHookAdapter implements
 		ISearchController {
 
+	private static final String SEARCH_INDEX_DIRECTORY = "search_index";
+
 	/**
 	 */
 	public SearchControllerHook() {
@@ -82,6 +87,29 @@ public class SearchControllerHook extends MindMapHookAdapter implements
 		getController().loadURL(mapModule);
 	}
 
+	public void openMap(String path, String nodeId) {
+		if (nodeId == null || nodeId.length() == 0) {
+			openMap(path);
+			return;
+		}
+		nodeId = SearchIndexUpdater.getNodeId(nodeId);
+		if (path == null || path.length() == 0) {
+			// open map that wasn't saved yet, only found in the current one.
+			openMap("#" + nodeId);
+			return;
+		}
+		try {
+			openMap(Tools.fileToUrl(new File(path)) + "#" + nodeId);
+		} catch (MalformedURLException e) {
+			freemind.main.Resources.getInstance().logException(e);
+		}
+	}
+
+	public File getIndexDirectory() {
+		return new File(getController().getFrame().getFreemindDirectory(),
+				SEARCH_INDEX_DIRECTORY);
+	}
+
 	public File[] getFilesOfOpenTabs() {
 		@SuppressWarnings("unchecked")
 		List<MapModule> maps = getController().getFrame().getController()
@@ -93,6 +121,10 @@ public class SearchControllerHook extends MindMapHookAdapter implements
 		return mapFiles;
 	}
 
+	public String[] indexOpenMaps() throws IOException {
+		return SearchIndexUpdater.indexOpenMaps(getIndexDirectory(), logger);
+	}
+
 	@Override
 	public void setWaitingCursor(boolean waiting) {
 		getController().getFrame().setWaitingCursor(waiting);
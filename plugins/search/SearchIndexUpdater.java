@@ -0,0 +1,396 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package plugins.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.logging.Logger;
+
+import org.apache.lucene.document.Document;
+
+import freemind.controller.actions.generated.instance.CompoundAction;
+import freemind.controller.actions.generated.instance.CutNodeAction;
+import freemind.controller.actions.generated.instance.DeleteNodeAction;
+import freemind.controller.actions.generated.instance.NewNodeAction;
+import freemind.controller.actions.generated.instance.NodeAction;
+import freemind.controller.actions.generated.instance.PasteNodeAction;
+import freemind.controller.actions.generated.instance.RevertXmlAction;
+import freemind.controller.actions.generated.instance.UndoPasteNodeAction;
+import freemind.controller.actions.generated.instance.XmlAction;
+import freemind.extensions.HookRegistration;
+import freemind.main.HtmlTools;
+import freemind.main.Resources;
+import freemind.main.Tools;
+import freemind.modes.ExtendedMapFeedback;
+import freemind.modes.MindMap;
+import freemind.modes.MindMapNode;
+import freemind.modes.ModeController;
+import freemind.modes.attributes.Attribute;
+import freemind.modes.mindmapmode.actions.xml.ActionHandler;
+
+/**
+ * Keeps the nodes of an open map in the search index. The map is indexed
+ * completely when it is searched the first time (see {@link #index()}).
+ * Afterwards, the executed actions mark the changed nodes and at the end of
+ * each transaction, only these are updated in the index. Thus, the open maps
+ * can be searched without saving or reading them again.
+ *
+ * Indexing doesn't change the map: the nodes are indexed with their id, if
+ * they have one. Otherwise, with a key of this updater, that is resolved,
+ * when the node is opened from a search result (see
+ * {@link #getNodeId(String)}).
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class SearchIndexUpdater implements HookRegistration, ActionHandler {
+
+	/** All registered updaters, one per open map. */
+	private static final Vector<SearchIndexUpdater> sUpdaters = new Vector<SearchIndexUpdater>();
+
+	private static int sKeyCounter = 0;
+
+	private int mNodeKeyCounter = 0;
+
+	private final ExtendedMapFeedback mMapFeedback;
+
+	private final MindMap mMap;
+
+	private final Logger logger;
+
+	private final String mKey;
+
+	private FileSearchModel mModel = null;
+
+	/** The file of the map, when it was indexed. */
+	private File mFile = null;
+
+	/** Nodes to be updated or removed at the end of the transaction. */
+	private final HashSet<String> mChangedIds = new HashSet<String>();
+
+	/**
+	 * Nodes to be removed, if they are gone at the end of the transaction ->
+	 * their id in the index (the id is deregistered with the node).
+	 */
+	private final IdentityHashMap<MindMapNode, String> mRemovalCandidates = new IdentityHashMap<MindMapNode, String>();
+
+	/** Nodes without an id -> their key in the index. */
+	private final IdentityHashMap<MindMapNode, String> mNodeKeys = new IdentityHashMap<MindMapNode, String>();
+
+	/** The reverse of {@link #mNodeKeys}. */
+	private final HashMap<String, MindMapNode> mKeyNodes = new HashMap<String, MindMapNode>();
+
+	/** Paste target -> its children before the paste. */
+	private final IdentityHashMap<MindMapNode, Set<MindMapNode>> mChildrenBeforePaste = new IdentityHashMap<MindMapNode, Set<MindMapNode>>();
+
+	private boolean mIndexAgain = false;
+
+	public SearchIndexUpdater(ModeController pController, MindMap pMap) {
+		this((ExtendedMapFeedback) pController, pMap);
+	}
+
+	public SearchIndexUpdater(ExtendedMapFeedback pMapFeedback, MindMap pMap) {
+		mMapFeedback = pMapFeedback;
+		mMap = pMap;
+		logger = Resources.getInstance().getLogger(this.getClass().getName());
+		synchronized (SearchIndexUpdater.class) {
+			mKey = "map" + (++sKeyCounter);
+		}
+	}
+
+	public void register() {
+		sUpdaters.add(this);
+		mMapFeedback.getActionRegistry().registerHandler(this);
+	}
+
+	public void deRegister() {
+		mMapFeedback.getActionRegistry().deregisterHandler(this);
+		sUpdaters.remove(this);
+		if (mModel != null) {
+			List<Document> none = Collections.emptyList();
+			List<String> noIds = Collections.emptyList();
+			mModel.updateOpenMap(mKey, true, none, noIds);
+			mModel.release();
+			mModel = null;
+		}
+	}
+
+	/**
+	 * Indexes all open maps that were not searched before. Each of them keeps
+	 * the index open until the map is closed.
+	 *
+	 * @return the keys of the open maps in the index.
+	 */
+	public static String[] indexOpenMaps(File pIndexDirectory, Logger pLogger)
+			throws IOException {
+		String[] keys = new String[sUpdaters.size()];
+		for (int i = 0; i < keys.length; i++) {
+			SearchIndexUpdater updater = sUpdaters.get(i);
+			if (updater.mModel == null) {
+				updater.mModel = FileSearchModel.getInstance(pIndexDirectory,
+						pLogger);
+				updater.index();
+			}
+			keys[i] = updater.getKey();
+		}
+		return keys;
+	}
+
+	public String getKey() {
+		return mKey;
+	}
+
+	/**
+	 * @param pIndexId
+	 *            the node id of a search result in an open map.
+	 * @return the id of the node to open. A node that was indexed without an
+	 *         id gets one now, as the map is opened with the id.
+	 */
+	public static String getNodeId(String pIndexId) {
+		for (SearchIndexUpdater updater : sUpdaters) {
+			MindMapNode node = updater.mKeyNodes.get(pIndexId);
+			if (node != null) {
+				return updater.mMapFeedback.getNodeID(node);
+			}
+		}
+		return pIndexId;
+	}
+
+	/**
+	 * @return the id of the node, if it had one when it was indexed the first
+	 *         time. Otherwise, a key of this updater.
+	 */
+	private String getIndexId(MindMapNode pNode) {
+		String key = mNodeKeys.get(pNode);
+		if (key != null) {
+			return key;
+		}
+		String id = mMap.getLinkRegistry().getState(pNode);
+		if (id != null) {
+			return id;
+		}
+		key = mKey + "_node" + (++mNodeKeyCounter);
+		mNodeKeys.put(pNode, key);
+		mKeyNodes.put(key, pNode);
+		return key;
+	}
+
+	private void forget(MindMapNode pNode) {
+		String key = mNodeKeys.remove(pNode);
+		if (key != null) {
+			mKeyNodes.remove(key);
+		}
+	}
+
+	private static Set<MindMapNode> createNodeSet() {
+		return Collections
+				.newSetFromMap(new IdentityHashMap<MindMapNode, Boolean>());
+	}
+
+	/**
+	 * Indexes all nodes of the map. Must be called on the event dispatch
+	 * thread, as it reads the nodes.
+	 */
+	private void index() {
+		mFile = mMap.getFile();
+		mNodeKeys.clear();
+		mKeyNodes.clear();
+		ArrayList<Document> documents = new ArrayList<Document>();
+		addDocuments(mMap.getRootNode(), documents);
+		List<String> noIds = Collections.emptyList();
+		mModel.updateOpenMap(mKey, true, documents, noIds);
+		mChangedIds.clear();
+		mRemovalCandidates.clear();
+		mChildrenBeforePaste.clear();
+		mIndexAgain = false;
+		logger.info("Indexed open map " + mKey + " with " + documents.size()
+				+ " nodes.");
+	}
+
+	private void addDocuments(MindMapNode pNode, List<Document> pDocuments) {
+		pDocuments.add(createDocument(pNode));
+		for (Iterator it = pNode.childrenUnfolded(); it.hasNext();) {
+			addDocuments((MindMapNode) it.next(), pDocuments);
+		}
+	}
+
+	private Document createDocument(MindMapNode pNode) {
+		String note = pNode.getNoteText();
+		StringBuilder attributes = new StringBuilder();
+		for (int i = 0; i < pNode.getAttributeTableLength(); i++) {
+			Attribute attribute = pNode.getAttribute(i);
+			attributes.append(attribute.getName()).append(' ')
+					.append(attribute.getValue()).append('\n');
+		}
+		String mapName = (mFile != null) ? mFile.getName() : mMap
+				.getRootNode().getPlainTextContent();
+		return FileSearchModel.createOpenNodeDocument(mKey,
+				(mFile != null) ? mFile.getPath() : "", mapName,
+				getIndexId(pNode), pNode.getPlainTextContent(),
+				(note == null) ? "" : HtmlTools.htmlToPlain(note),
+				attributes.toString());
+	}
+
+	/**
+	 * Is called before the action is executed, as this handler is registered
+	 * after the default one.
+	 */
+	public void executeAction(XmlAction pAction) {
+		if (mModel == null) {
+			return;
+		}
+		if (pAction instanceof CompoundAction) {
+			for (Iterator it = ((CompoundAction) pAction).getListChoiceList()
+					.iterator(); it.hasNext();) {
+				executeAction((XmlAction) it.next());
+			}
+		} else if (pAction instanceof RevertXmlAction) {
+			mIndexAgain = true;
+		} else if (pAction instanceof NewNodeAction) {
+			mChangedIds.add(((NewNodeAction) pAction).getNewId());
+		} else if (pAction instanceof DeleteNodeAction
+				|| pAction instanceof CutNodeAction) {
+			addRemovalCandidates(((NodeAction) pAction).getNode(), false);
+		} else if (pAction instanceof UndoPasteNodeAction) {
+			UndoPasteNodeAction undoPaste = (UndoPasteNodeAction) pAction;
+			addRemovalCandidates(undoPaste.getNode(), undoPaste.getAsSibling());
+		} else if (pAction instanceof PasteNodeAction) {
+			PasteNodeAction paste = (PasteNodeAction) pAction;
+			MindMapNode target = getNode(paste.getNode(), paste.getAsSibling());
+			if (target != null && !mChildrenBeforePaste.containsKey(target)) {
+				Set<MindMapNode> children = createNodeSet();
+				children.addAll(target.getChildren());
+				mChildrenBeforePaste.put(target, children);
+			}
+		} else if (pAction instanceof NodeAction) {
+			mChangedIds.add(((NodeAction) pAction).getNode());
+		}
+	}
+
+	private MindMapNode getNode(String pId, boolean pParent) {
+		MindMapNode node = mMap.getLinkRegistry().getTargetForId(pId);
+		if (node != null && pParent) {
+			node = node.getParentNode();
+		}
+		return node;
+	}
+
+	/**
+	 * The nodes of the subtree are removed from the index, if they are gone
+	 * after the transaction.
+	 */
+	private void addRemovalCandidates(String pId, boolean pParent) {
+		MindMapNode node = getNode(pId, pParent);
+		if (node != null) {
+			Set<MindMapNode> subtree = createNodeSet();
+			addSubtree(node, subtree);
+			for (MindMapNode candidate : subtree) {
+				mRemovalCandidates.put(candidate, getIndexId(candidate));
+			}
+		}
+	}
+
+	private void addSubtree(MindMapNode pNode, Set<MindMapNode> pNodes) {
+		pNodes.add(pNode);
+		for (Iterator it = pNode.childrenUnfolded(); it.hasNext();) {
+			addSubtree((MindMapNode) it.next(), pNodes);
+		}
+	}
+
+	private boolean isInMap(MindMapNode pNode) {
+		MindMapNode root = mMap.getRootNode();
+		while (pNode != null && pNode != root) {
+			pNode = pNode.getParentNode();
+		}
+		return pNode == root;
+	}
+
+	public void startTransaction(String pName) {
+	}
+
+	/**
+	 * Passes the changes of the transaction to the index.
+	 */
+	public void endTransaction(String pName) {
+		if (mModel == null) {
+			return;
+		}
+		if (mIndexAgain || !Tools.safeEquals(mFile, mMap.getFile())) {
+			// reverted or saved under another name.
+			index();
+			return;
+		}
+		Set<MindMapNode> changedNodes = createNodeSet();
+		// the pasted nodes:
+		for (Map.Entry<MindMapNode, Set<MindMapNode>> entry : mChildrenBeforePaste
+				.entrySet()) {
+			for (Iterator it = entry.getKey().getChildren().iterator(); it
+					.hasNext();) {
+				MindMapNode child = (MindMapNode) it.next();
+				if (!entry.getValue().contains(child)) {
+					addSubtree(child, changedNodes);
+				}
+			}
+		}
+		mChildrenBeforePaste.clear();
+		ArrayList<String> removedIds = new ArrayList<String>();
+		for (String id : mChangedIds) {
+			MindMapNode node = mMap.getLinkRegistry().getTargetForId(id);
+			if (node != null) {
+				changedNodes.add(node);
+			} else {
+				removedIds.add(id);
+			}
+		}
+		mChangedIds.clear();
+		for (Map.Entry<MindMapNode, String> entry : mRemovalCandidates
+				.entrySet()) {
+			MindMapNode node = entry.getKey();
+			if (!isInMap(node)) {
+				removedIds.add(entry.getValue());
+				forget(node);
+				changedNodes.remove(node);
+			}
+		}
+		mRemovalCandidates.clear();
+		if (changedNodes.isEmpty() && removedIds.isEmpty()) {
+			return;
+		}
+		ArrayList<Document> documents = new ArrayList<Document>();
+		for (MindMapNode node : changedNodes) {
+			if (isInMap(node)) {
+				documents.add(createDocument(node));
+			}
+		}
+		mModel.updateOpenMap(mKey, false, documents, removedIds);
+	}
+
+}
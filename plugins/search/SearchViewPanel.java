@@ -38,9 +38,11 @@ import javax.swing.event.ListSelectionListener;
 
 import org.apache.lucene.queryparser.classic.ParseException;
 
+import plugins.search.Search.SearchListener;
 import plugins.search.Search.SearchResult;
 
-public class SearchViewPanel extends JDialog implements ListSelectionListener {
+public class SearchViewPanel extends JDialog implements ListSelectionListener,
+		SearchListener {
 
 	/**
 	 * 
@@ -90,6 +92,23 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 				// TODO Auto-generated method stub
 
 			}
+
+			@Override
+			public void openMap(String path, String nodeId) {
+				getLogger(SearchViewPanel.class).info(
+						"Open " + path + "#" + nodeId);
+			}
+
+			@Override
+			public String[] indexOpenMaps() {
+				return null;
+			}
+
+			@Override
+			public File getIndexDirectory() {
+				return new File(System.getProperty("java.io.tmpdir"),
+						"freemind_search_index");
+			}
 		}
 
 		File[] files = new File[] { new File("data/freemind.mm") };
@@ -113,6 +132,7 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 	private static Logger _logger = null;
 
 	private File selectedDirectory;
+	private Search search = null;
 	private JButton btnGoButton = new JButton("Search");
 
 	private JSplitPane splitPane;
@@ -291,6 +311,7 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 					_logger.fine("Cancelled");
 				}
 				updateSelectedFolderField();
+				refreshIndex(selectedDirectory);
 			}
 		});
 		GridBagConstraints gbc_btnChooseDirectoryButton = new GridBagConstraints();
@@ -318,7 +339,43 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 		setSize(width, height);
 		
 		setModal(true);
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		refreshIndex(selectedDirectory);
+	}
+
+	/**
+	 * Releases the index, such that it is closed when no open map needs it.
+	 */
+	@Override
+	public void dispose() {
+		if (search != null) {
+			search.close();
+			search = null;
+		}
+		super.dispose();
+	}
+
+	/**
+	 * Opens the index on first use.
+	 */
+	private Search getSearch() throws IOException {
+		if (search == null) {
+			search = new Search(_logger,
+					searchControllerHook.getIndexDirectory());
+		}
+		return search;
+	}
 
+	/**
+	 * Indexes the changed maps in the background while the user enters the
+	 * search terms.
+	 */
+	private void refreshIndex(File pDirectory) {
+		try {
+			getSearch().refresh(new File[] { pDirectory });
+		} catch (IOException e) {
+			_logger.warning("Failed:" + e.getLocalizedMessage());
+		}
 	}
 
 	public void updateSelectedFolderField() {
@@ -333,13 +390,19 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 		this.btnGoButton.setEnabled(true);
 	}
 
+	/**
+	 * Starts the search in the background, see
+	 * {@link #searchFinished(SearchResult[])}.
+	 */
 	private void runSearch() throws IOException, ParseException {
 		SwingUtilities.getRoot(this).setCursor(
 				Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
 		setMainPanelText("Starting search...");
 
+		boolean started = false;
 		try {
 			File[] mapsFiles;
+			String[] openMapKeys = null;
 			boolean isDirectoryMode = isDirectoryMode();
 			if (isDirectoryMode) {
 				File file = new File(selectedDirectoryField.getText());
@@ -352,23 +415,43 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 				}
 			} else {
 				mapsFiles = this.searchControllerHook.getFilesOfOpenTabs();
+				openMapKeys = this.searchControllerHook.indexOpenMaps();
 			}
 
 			String searchString = this.searchTermsField.getText();
 			setMainPanelText("Searching [" + Arrays.asList(mapsFiles)
 					+ "] for [" + searchString + "]");
 
-			Search search = new Search(_logger);
-
-			Object[] listData = search.runSearch(searchString, mapsFiles);
-			resultsList.setListData(listData);
-			updateScorePanel();
+			if (openMapKeys != null) {
+				getSearch().runSearchInOpenMaps(searchString, openMapKeys,
+						this);
+			} else {
+				getSearch().runSearch(searchString, mapsFiles, this);
+			}
+			started = true;
 		} finally {
-			SwingUtilities.getRoot(this).setCursor(Cursor.getDefaultCursor());
+			if (!started) {
+				SwingUtilities.getRoot(this).setCursor(
+						Cursor.getDefaultCursor());
+			}
 		}
 
 	}
 
+	@Override
+	public void searchFinished(SearchResult[] pResults) {
+		SwingUtilities.getRoot(this).setCursor(Cursor.getDefaultCursor());
+		resultsList.setListData(pResults);
+		updateScorePanel();
+	}
+
+	@Override
+	public void searchFailed(Exception pException) {
+		SwingUtilities.getRoot(this).setCursor(Cursor.getDefaultCursor());
+		_logger.warning("Failed:" + pException.getLocalizedMessage());
+		setMainPanelText("Search failed: " + pException.getLocalizedMessage());
+	}
+
 	public boolean isDirectoryMode() {
 		boolean directoryMode = false;
 		Enumeration<AbstractButton> mode = this.directoryButtonGroup
@@ -390,14 +473,15 @@ public class SearchViewPanel extends JDialog implements ListSelectionListener {
 		updateScorePanel();
 		SearchResult selectedItem = getSelectedItem();
 		if (null != selectedItem) {
-			this.searchControllerHook.openMap(selectedItem.getPath());
+			this.searchControllerHook.openMap(selectedItem.getPath(),
+					selectedItem.getNodeId());
 		}
 	}
 
 	public void updateScorePanel() {
 		SearchResult selectedItem = getSelectedItem();
 		if (null != selectedItem) {
-			setMainPanelText(selectedItem.getPath());
+			setMainPanelText(selectedItem.showDetails());
 		}
 	}
 
@@ -23,11 +23,16 @@
 
 package plugins.svg;
 
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
 import java.awt.print.PageFormat;
 import java.awt.print.Paper;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -35,13 +40,9 @@ import java.util.Vector;
 
 import javax.swing.JOptionPane;
 
-import org.apache.batik.svggen.SVGGraphics2D;
-import org.apache.batik.transcoder.TranscoderInput;
-import org.apache.batik.transcoder.TranscoderOutput;
-import org.apache.batik.transcoder.TranscodingHints.Key;
+import org.apache.fop.svg.PDFDocumentGraphics2D;
 import org.apache.fop.svg.PDFTranscoder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import org.apache.xmlgraphics.java2d.GraphicContext;
 
 import freemind.controller.Controller;
 import freemind.main.Tools;
@@ -53,7 +54,30 @@ import freemind.view.mindmapview.MapView;
  * 
  */
 public class ExportPdf extends ExportVectorGraphic {
+	/** Svg and the transcoder assume 96 pixels per inch. */
+	private static final float POINTS_PER_PIXEL = 72f / 96f;
+	/** Maximal page size in points. */
+	private static final double MAX_PAGE_SIZE = 19200 * POINTS_PER_PIXEL;
 	ExportPdfPapers papers = new ExportPdfPapers();
+	private boolean mFitToPage = true;
+
+	/**
+	 * The text is painted as shapes, like the svg fonts of the transcoded
+	 * documents.
+	 */
+	private static class PdfPages extends PDFDocumentGraphics2D {
+		PdfPages() {
+			super(true);
+		}
+
+		/**
+		 * The graphics created for the page need the state of the page, thus
+		 * the page is started before.
+		 */
+		void beginPage() {
+			preparePainting();
+		}
+	}
 
 	public void startupMapHook() {
 		super.startupMapHook();
@@ -126,6 +150,7 @@ public class ExportPdf extends ExportVectorGraphic {
 
 		// get user input for format
 		int orientation = dialog.getOrientation();
+		mFitToPage = dialog.isFitToPage();
 		String format = dialog.getFormat();
 		logger.info("Paper format=" + format);
 
@@ -163,54 +188,110 @@ public class ExportPdf extends ExportVectorGraphic {
 		return exportAsPdf(nodeExport, selectedNode, chosenFile, null);
 	}
 
+	/**
+	 * @param pTranscoderHints
+	 *            only the page size ({@link PDFTranscoder#KEY_WIDTH} and
+	 *            {@link PDFTranscoder#KEY_HEIGHT} in pixels) is used. If it
+	 *            is missing, the page has the size of the map.
+	 */
 	public boolean exportAsPdf(boolean nodeExport, MindMapNode selectedNode,
 			File chosenFile, HashMap pTranscoderHints) throws Exception {
 		MapView view = getController().getView();
 		if (view == null)
 			return false;
 
-		SVGGraphics2D g2d;
-		if (nodeExport) {
-			g2d = fillSVGGraphics2D(view, selectedNode);
-		} else {
-			g2d = fillSVGGraphics2D(view);
+		float pageWidth = 0;
+		float pageHeight = 0;
+		if (pTranscoderHints != null
+				&& pTranscoderHints.get(PDFTranscoder.KEY_WIDTH) != null
+				&& pTranscoderHints.get(PDFTranscoder.KEY_HEIGHT) != null) {
+			pageWidth = ((Float) pTranscoderHints.get(PDFTranscoder.KEY_WIDTH))
+					.floatValue() * POINTS_PER_PIXEL;
+			pageHeight = ((Float) pTranscoderHints
+					.get(PDFTranscoder.KEY_HEIGHT)).floatValue()
+					* POINTS_PER_PIXEL;
 		}
+		final FileOutputStream ostream = new FileOutputStream(chosenFile);
+		try {
+			writePdf(view, nodeExport ? selectedNode : null,
+					new BufferedOutputStream(ostream), pageWidth, pageHeight,
+					mFitToPage);
+		} finally {
+			ostream.close();
+		}
+		return true;
+	}
 
-		PDFTranscoder pdfTranscoder = new PDFTranscoder();
-		/*
-		 * according to
-		 * https://sourceforge.net/tracker/?func=detail&atid=107118&
-		 * aid=1921334&group_id=7118
-		 * 
-		 * Submitted By: Frank Spangenberg (f_spangenberg) Summary: Large mind
-		 * maps produce invalid PDF
-		 */
-		pdfTranscoder.addTranscodingHint(PDFTranscoder.KEY_MAX_HEIGHT,
-				new Float(19200));
-		pdfTranscoder.addTranscodingHint(PDFTranscoder.KEY_MAX_WIDTH,
-				new Float(19200));
-		if (pTranscoderHints != null) {
-			for (Iterator it = pTranscoderHints.keySet().iterator(); it
-					.hasNext();) {
-				Key key = (Key) it.next();
-				pdfTranscoder
-						.addTranscodingHint(key, pTranscoderHints.get(key));
+	/**
+	 * Paints the map directly into a pdf document, without creating an svg
+	 * document first. The pages are written one after the other.
+	 *
+	 * @param pNode
+	 *            if null, the complete map is written.
+	 * @param pPageWidth
+	 *            in points. If it is 0, the page gets the size of the map.
+	 * @param pFitToPage
+	 *            if set, the map is scaled to fit on one page. Otherwise, the
+	 *            map is split into pages in its original size.
+	 * @return the number of pages.
+	 */
+	public static int writePdf(MapView view, MindMapNode pNode,
+			OutputStream pOutput, float pPageWidth, float pPageHeight,
+			boolean pFitToPage) throws IOException {
+		try {
+			view.preparePrinting();
+			Rectangle bounds = getExportBounds(view, pNode);
+			double scale = POINTS_PER_PIXEL;
+			if (pPageWidth <= 0 || pPageHeight <= 0) {
+				// Large mind maps produce invalid PDF otherwise, see
+				// https://sourceforge.net/tracker/?func=detail&atid=107118&aid=1921334&group_id=7118
+				scale = Math.min(scale, MAX_PAGE_SIZE
+						/ Math.max(bounds.width, bounds.height));
+				pPageWidth = (float) Math.ceil(bounds.width * scale);
+				pPageHeight = (float) Math.ceil(bounds.height * scale);
+				pFitToPage = true;
+			} else if (pFitToPage) {
+				scale = Math.min(pPageWidth / bounds.width, pPageHeight
+						/ bounds.height);
+			}
+			// the part of the map on one page in view coordinates:
+			double partWidth = pPageWidth / scale;
+			double partHeight = pPageHeight / scale;
+			int columns = pFitToPage ? 1 : (int) Math.ceil(bounds.width
+					/ partWidth);
+			int rows = pFitToPage ? 1 : (int) Math.ceil(bounds.height
+					/ partHeight);
+			PdfPages pdf = new PdfPages();
+			pdf.setGraphicContext(new GraphicContext());
+			pdf.setupDocument(pOutput, (int) Math.ceil(pPageWidth),
+					(int) Math.ceil(pPageHeight));
+			for (int row = 0; row < rows; row++) {
+				for (int column = 0; column < columns; column++) {
+					if (row > 0 || column > 0) {
+						pdf.nextPage();
+					}
+					pdf.beginPage();
+					Graphics2D g = (Graphics2D) pdf.create();
+					if (pFitToPage) {
+						// centered:
+						g.translate((pPageWidth - bounds.width * scale) / 2,
+								(pPageHeight - bounds.height * scale) / 2);
+					}
+					g.scale(scale, scale);
+					g.translate(-bounds.x - column * partWidth, -bounds.y - row
+							* partHeight);
+					g.clip(new Rectangle2D.Double(bounds.x + column
+							* partWidth, bounds.y + row * partHeight,
+							partWidth, partHeight));
+					paintExport(view, pNode, g);
+					g.dispose();
+				}
 			}
+			pdf.finish();
+			return rows * columns;
+		} finally {
+			view.endPrinting();
 		}
-		/* end patch */
-		Document doc = g2d.getDOMFactory();
-		Element rootE = doc.getDocumentElement();
-		g2d.getRoot(rootE);
-		TranscoderInput input = new TranscoderInput(doc);
-		final FileOutputStream ostream = new FileOutputStream(chosenFile);
-		final BufferedOutputStream bufStream = new BufferedOutputStream(ostream);
-		TranscoderOutput output = new TranscoderOutput(bufStream);
-		// save the image
-		pdfTranscoder.transcode(input, output);
-		// flush and close the stream then exit
-		ostream.flush();
-		ostream.close();
-		return true;
 	}
 
 }
\ No newline at end of file
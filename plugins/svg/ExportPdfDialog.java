@@ -15,6 +15,7 @@ import javax.swing.AbstractAction;
 import javax.swing.BorderFactory;
 import javax.swing.ButtonGroup;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
@@ -40,6 +41,8 @@ public class ExportPdfDialog extends JDialog {
 
 	private static final String PROP_PDF_PAGE_ORIENTATION = "pdf_page_orientation";
 
+	private static final String PROP_PDF_FIT_TO_PAGE = "pdf_fit_to_page";
+
 	/**
 	 * Chosen format
 	 */
@@ -60,6 +63,11 @@ public class ExportPdfDialog extends JDialog {
 	 */
 	private int orientation;
 
+	/**
+	 * map on one page or split into pages
+	 */
+	private boolean fitToPage = true;
+
 	private JComboBox listBox;
 
 	private JRadioButton birdButtonLandscape;
@@ -68,6 +76,8 @@ public class ExportPdfDialog extends JDialog {
 
 	private ButtonGroup group;
 
+	private JCheckBox fitToPageBox;
+
 	private boolean mResult = true;
 
 	/**
@@ -91,6 +101,15 @@ public class ExportPdfDialog extends JDialog {
 		this.orientation = orientation;
 	}
 
+	/**
+	 * 
+	 * @return true, if the map is scaled to fit on one page, false, if it is
+	 *         split into pages in its original size.
+	 */
+	public boolean isFitToPage() {
+		return fitToPage;
+	}
+
 	/**
 	 * Constructor
 	 * 
@@ -112,7 +131,7 @@ public class ExportPdfDialog extends JDialog {
 		this.setModal(true);
 		this.setTitle(controller.getResourceString("ExportPdfDialog.PDF_Export_Settings"));
 
-		this.setPreferredSize(new Dimension(400, 150));
+		this.setPreferredSize(new Dimension(400, 175));
 		// Page size
 		JLabel labelPaper = new JLabel(controller.getResourceString("ExportPdfDialog.Size_"));
 		java.util.Arrays.sort(formatsCollection);
@@ -132,6 +151,10 @@ public class ExportPdfDialog extends JDialog {
 		group.add(birdButtonLandscape);
 		group.add(birdButtonPortrait);
 
+		// Pages
+		fitToPageBox = new JCheckBox(controller.getResourceString("ExportPdfDialog.Fit_to_page"));
+		fitToPageBox.setSelected(true);
+
 		// ok button
 		JButton jOKButton = new JButton();
 		jOKButton.setPreferredSize(new Dimension(100, 20));
@@ -161,6 +184,11 @@ public class ExportPdfDialog extends JDialog {
 		panel1.add(labelPaper, c);
 		c.gridx = 1;
 		panel1.add(listBox, c);
+		c.gridx = 0;
+		c.gridy = 1;
+		c.gridwidth = 2;
+		panel1.add(fitToPageBox, c);
+		c.gridwidth = 1;
 		panel2.add(birdButtonLandscape);
 		panel2.add(birdButtonPortrait);
 
@@ -218,6 +246,13 @@ public class ExportPdfDialog extends JDialog {
 			listBox.setSelectedItem(storedFormat);
 		}
 
+		// pages
+		String storedFitToPage = controller.getProperty(PROP_PDF_FIT_TO_PAGE);
+		if (storedFitToPage != null) // property found
+		{
+			fitToPageBox.setSelected(Tools.safeEquals(storedFitToPage, "true"));
+		}
+
 	}
 
 	/**
@@ -232,6 +267,10 @@ public class ExportPdfDialog extends JDialog {
 
 		// page format
 		controller.setProperty(PROP_PDF_PAGE_FORMAT, format);
+
+		// pages
+		controller.setProperty(PROP_PDF_FIT_TO_PAGE, fitToPage ? "true"
+				: "false");
 	}
 
 	/**
@@ -245,6 +284,7 @@ public class ExportPdfDialog extends JDialog {
 		} else {
 			orientation = PageFormat.PORTRAIT;
 		}
+		fitToPage = fitToPageBox.isSelected();
 
 		storeDefaults();
 		this.setVisible(false);
@@ -30,8 +30,6 @@ import java.io.OutputStreamWriter;
 
 import javax.swing.JOptionPane;
 
-import org.apache.batik.svggen.SVGGraphics2D;
-
 import freemind.view.mindmapview.MapView;
 
 /**
@@ -54,14 +52,14 @@ public class ExportSvg extends ExportVectorGraphic {
 
 			getController().getFrame().setWaitingCursor(true);
 
-			SVGGraphics2D g2d = fillSVGGraphics2D(view);
 			FileOutputStream bos = new FileOutputStream(chosenFile);
 			final BufferedOutputStream bufStream = new BufferedOutputStream(bos);
 			OutputStreamWriter osw = new OutputStreamWriter(bufStream, "UTF-8");
-			g2d.stream(osw);
-			osw.flush();
-			bos.flush();
-			bos.close();
+			try {
+				writeSvg(view, null, osw);
+			} finally {
+				osw.close();
+			}
 		} catch (Exception e) {
 			freemind.main.Resources.getInstance().logException(e);
 			JOptionPane.showMessageDialog(getController().getFrame()
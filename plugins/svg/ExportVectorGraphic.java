@@ -26,12 +26,15 @@ package plugins.svg;
 //import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.util.Iterator;
 
 import javax.xml.transform.Result;
@@ -63,18 +66,25 @@ public class ExportVectorGraphic extends ExportHook {
 	/**
 	 */
 	protected SVGGraphics2D fillSVGGraphics2D(MapView view) {
-		// NodeAdapter root = (NodeAdapter) getController().getMap().getRoot();
+		return fillSVGGraphics2D(view, null);
+	}
+
+	/**
+	 * @param pNode
+	 *            if null, the complete map is painted.
+	 */
+	protected SVGGraphics2D fillSVGGraphics2D(MapView view, MindMapNode pNode) {
 		SVGGraphics2D g2d = createSvgGraphics2D();
 		try {
 			view.preparePrinting();
-			Rectangle innerBounds = view.getInnerBounds();
+			Rectangle innerBounds = getExportBounds(view, pNode);
 			g2d.setSVGCanvasSize(new Dimension(innerBounds.width,
 					innerBounds.height));
 			g2d.translate(-innerBounds.x, -innerBounds.y);
 			//
 			// Generate SVG content
 			//
-			view.print(g2d);
+			paintExport(view, pNode, g2d);
 		} finally {
 			view.endPrinting();
 		}
@@ -85,41 +95,80 @@ public class ExportVectorGraphic extends ExportHook {
 		return g2d;
 	}
 
-	protected SVGGraphics2D fillSVGGraphics2D(MapView view, MindMapNode pNode) {
-		SVGGraphics2D g2d = createSvgGraphics2D();
+	/**
+	 * Writes the map as svg. In contrast to
+	 * {@link #fillSVGGraphics2D(MapView, MindMapNode)}, the elements are
+	 * written while the map is painted, see {@link StreamingSVGGraphics2D}.
+	 *
+	 * @param pNode
+	 *            if null, the complete map is written.
+	 */
+	public static void writeSvg(MapView view, MindMapNode pNode, Writer pWriter)
+			throws IOException {
+		StreamingSVGGraphics2D g2d = new StreamingSVGGraphics2D(
+				createGeneratorContext(), pWriter);
+		setRenderingHints(g2d);
 		try {
 			view.preparePrinting();
-			Rectangle innerBounds = null;
-			
-			for (Iterator it = view.getViewers(pNode).iterator(); it.hasNext();) {
-				NodeView nodeView = (NodeView) it.next();
-				if (innerBounds == null) {
-					innerBounds = nodeView.getInnerBounds();
-				} else {
-					innerBounds.add(nodeView.getInnerBounds());
-				}
-			}
+			Rectangle innerBounds = getExportBounds(view, pNode);
 			g2d.setSVGCanvasSize(new Dimension(innerBounds.width,
 					innerBounds.height));
+			g2d.startDocument();
 			g2d.translate(-innerBounds.x, -innerBounds.y);
-			//
-			// Generate SVG content
-			//
-			for (Iterator it = view.getViewers(pNode).iterator(); it.hasNext();) {
-				NodeView nodeView = (NodeView) it.next();
-				nodeView.print(g2d);
-			}
+			paintExport(view, pNode, g2d);
 		} finally {
 			view.endPrinting();
 		}
-		// g2d.setColor(Color.BLACK);
-		// g2d.setStroke(new BasicStroke(3));
-		// g2d.drawRect(innerBounds.x, innerBounds.y, innerBounds.width - 2,
-		// innerBounds.height - 2);
-		return g2d;
+		g2d.endDocument();
+	}
+
+	/**
+	 * Must be called between {@link MapView#preparePrinting()} and
+	 * {@link MapView#endPrinting()}.
+	 *
+	 * @param pNode
+	 *            if null, the bounds of the complete map are returned.
+	 * @return the area that is painted by
+	 *         {@link #paintExport(MapView, MindMapNode, Graphics2D)}.
+	 */
+	protected static Rectangle getExportBounds(MapView view, MindMapNode pNode) {
+		if (pNode == null) {
+			return view.getInnerBounds();
+		}
+		Rectangle innerBounds = null;
+		for (Iterator it = view.getViewers(pNode).iterator(); it.hasNext();) {
+			NodeView nodeView = (NodeView) it.next();
+			if (innerBounds == null) {
+				innerBounds = nodeView.getInnerBounds();
+			} else {
+				innerBounds.add(nodeView.getInnerBounds());
+			}
+		}
+		return innerBounds;
+	}
+
+	/**
+	 * Paints the map or, if pNode is given, its branch.
+	 */
+	protected static void paintExport(MapView view, MindMapNode pNode,
+			Graphics2D g2d) {
+		if (pNode == null) {
+			view.print(g2d);
+			return;
+		}
+		for (Iterator it = view.getViewers(pNode).iterator(); it.hasNext();) {
+			NodeView nodeView = (NodeView) it.next();
+			nodeView.print(g2d);
+		}
 	}
 
 	public SVGGraphics2D createSvgGraphics2D() {
+		SVGGraphics2D g2d = new SVGGraphics2D(createGeneratorContext(), false);
+		setRenderingHints(g2d);
+		return g2d;
+	}
+
+	private static SVGGeneratorContext createGeneratorContext() {
 		DOMImplementation impl = GenericDOMImplementation
 				.getDOMImplementation();
 		String namespaceURI = SVGConstants.SVG_NAMESPACE_URI;
@@ -130,15 +179,16 @@ public class ExportVectorGraphic extends ExportHook {
 		defaults.setFont(new Font("Arial", Font.PLAIN, 12));
 		ctx.setGraphicContextDefaults(defaults);
 		ctx.setPrecision(12);
+		return ctx;
+	}
 
-		SVGGraphics2D g2d = new SVGGraphics2D(ctx, false);
+	private static void setRenderingHints(SVGGraphics2D g2d) {
 		// This prevents the
 		// "null incompatible with text-specific antialiasing enable key" error
 		g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
 				RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT);
 		g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 				RenderingHints.VALUE_ANTIALIAS_DEFAULT);
-		return g2d;
 	}
 
 	public void transForm(Source xmlSource, InputStream xsltStream,
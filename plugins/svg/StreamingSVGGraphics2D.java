@@ -0,0 +1,169 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package plugins.svg;
+
+import java.awt.Graphics;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.apache.batik.svggen.SVGGeneratorContext;
+import org.apache.batik.svggen.SVGGraphics2D;
+import org.apache.batik.util.SVGConstants;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+
+import freemind.main.HtmlTools;
+
+/**
+ * An {@link SVGGraphics2D} that writes the generated elements while the map
+ * is painted, instead of keeping the complete document in memory. After a
+ * number of graphics created by {@link #create()} (e.g. the ones of the node
+ * views) are disposed, the top level group is written and a new one is
+ * started. The definitions (clip paths, fonts, ...) are written at the end,
+ * as svg allows references to later elements.
+ *
+ * Usage: {@link #startDocument()}, paint, {@link #endDocument()}.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class StreamingSVGGraphics2D extends SVGGraphics2D {
+
+	/** The top level group is written after this many disposed graphics. */
+	private static final int FLUSH_INTERVAL = 256;
+
+	/**
+	 * The state shared by all graphics created from the first one.
+	 */
+	private static class Output {
+		private final Writer mWriter;
+		private IOException mException = null;
+		private int mDisposed = 0;
+
+		Output(Writer pWriter) {
+			mWriter = pWriter;
+		}
+	}
+
+	private final Output mOutput;
+
+	public StreamingSVGGraphics2D(SVGGeneratorContext pContext, Writer pWriter) {
+		super(pContext, false);
+		mOutput = new Output(pWriter);
+	}
+
+	private StreamingSVGGraphics2D(StreamingSVGGraphics2D pGraphics) {
+		super(pGraphics);
+		mOutput = pGraphics.mOutput;
+	}
+
+	public Graphics create() {
+		return new StreamingSVGGraphics2D(this);
+	}
+
+	public void dispose() {
+		super.dispose();
+		if (++mOutput.mDisposed % FLUSH_INTERVAL == 0) {
+			flush();
+		}
+	}
+
+	/**
+	 * Writes the xml declaration and the start tag of the svg element.
+	 */
+	public void startDocument() throws IOException {
+		Element root = getDOMFactory().createElementNS(
+				SVGConstants.SVG_NAMESPACE_URI, SVGConstants.SVG_SVG_TAG);
+		root.setAttributeNS(null, "xmlns", SVGConstants.SVG_NAMESPACE_URI);
+		root.setAttributeNS(null, "xmlns:" + SVGConstants.XLINK_PREFIX,
+				SVGConstants.XLINK_NAMESPACE_URI);
+		getDOMTreeManager().applyDefaultRenderingStyle(root);
+		if (getSVGCanvasSize() != null) {
+			root.setAttributeNS(null, SVGConstants.SVG_WIDTH_ATTRIBUTE,
+					String.valueOf(getSVGCanvasSize().width));
+			root.setAttributeNS(null, SVGConstants.SVG_HEIGHT_ATTRIBUTE,
+					String.valueOf(getSVGCanvasSize().height));
+		}
+		Writer writer = mOutput.mWriter;
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<svg");
+		NamedNodeMap attributes = root.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			writer.write("\n     " + attribute.getName() + "=\""
+					+ HtmlTools.toXMLEscapedText(attribute.getValue()) + "\"");
+		}
+		writer.write(">\n");
+	}
+
+	/**
+	 * Writes the rest of the elements, the definitions and the end tag.
+	 */
+	public void endDocument() throws IOException {
+		flush();
+		if (mOutput.mException != null) {
+			throw mOutput.mException;
+		}
+		write(getDOMTreeManager().getGenericDefinitions());
+		// contains all definitions:
+		write(getTopLevelGroup(true));
+		mOutput.mWriter.write("\n</svg>\n");
+		mOutput.mWriter.flush();
+	}
+
+	/**
+	 * Writes the top level group and starts a new one.
+	 */
+	private void flush() {
+		if (mOutput.mException != null) {
+			return;
+		}
+		Element group = getTopLevelGroup(false);
+		if (!group.hasChildNodes()) {
+			return;
+		}
+		try {
+			write(group);
+		} catch (IOException e) {
+			mOutput.mException = e;
+		}
+	}
+
+	/**
+	 * Writes the element without the xml declaration and the doctype that
+	 * {@link #stream(Element, Writer, boolean, boolean)} adds.
+	 */
+	private void write(Element pElement) throws IOException {
+		StringWriter writer = new StringWriter();
+		stream(pElement, writer, false, false);
+		StringBuffer xml = writer.getBuffer();
+		int start = 0;
+		while (start + 1 < xml.length()
+				&& !(xml.charAt(start) == '<' && Character.isLetter(xml
+						.charAt(start + 1)))) {
+			start++;
+		}
+		mOutput.mWriter.write(xml.substring(start));
+		mOutput.mWriter.write('\n');
+	}
+
+}
@@ -0,0 +1,195 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Vector;
+
+import freemind.controller.actions.generated.instance.EditNodeAction;
+import freemind.main.FreeMindCommon;
+import freemind.main.Resources;
+import freemind.main.Tools;
+import freemind.modes.MapAdapter;
+import freemind.modes.MindMapLinkRegistry;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+import freemind.modes.mindmapmode.actions.xml.ActionJournal;
+import freemind.modes.mindmapmode.actions.xml.JournalActionHandler;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class ActionJournalTests extends MindMapControllerTestBase {
+
+	private File mFile;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mFile = File.createTempFile("journal_test", ".mm");
+		mFile.delete();
+	}
+
+	protected void tearDown() throws Exception {
+		Resources.getInstance().getProperties()
+				.remove(FreeMindCommon.JOURNAL_FOR_AUTOMATIC_SAVE);
+		ActionJournal.getJournalFile(mFile).delete();
+		mFile.delete();
+		super.tearDown();
+	}
+
+	public void testRecordsAreReadBack() throws Exception {
+		ActionJournal journal = new ActionJournal(
+				ActionJournal.getJournalFile(mFile), mFile);
+		EditNodeAction action = new EditNodeAction();
+		action.setNode("ID_1");
+		action.setText("multi\nline & <special> text äöü");
+		String xml = Tools.marshall(action);
+		journal.appendId(new int[] { 0, 3, 1 }, "ID_1");
+		journal.appendAction(xml);
+		journal.appendId(new int[0], "ID_root");
+		journal.close();
+		// append after reopening:
+		journal.appendAction(xml);
+		journal.sync();
+		journal.close();
+
+		Vector records = read(journal);
+		assertEquals(Arrays.asList("0,3,1=ID_1", xml, "=ID_root", xml),
+				records);
+		EditNodeAction readAction = (EditNodeAction) Tools
+				.unMarshall((String) records.get(1));
+		assertEquals(action.getText(), readAction.getText());
+	}
+
+	public void testIncompleteRecordIsIgnored() throws Exception {
+		File file = ActionJournal.getJournalFile(mFile);
+		ActionJournal journal = new ActionJournal(file, mFile);
+		journal.appendAction("<first/>");
+		journal.appendAction("<second_action/>");
+		journal.close();
+		// simulate a crash while writing the second action:
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		raf.setLength(file.length() - 5);
+		raf.close();
+		assertEquals(Arrays.asList("<first/>"), read(journal));
+	}
+
+	public void testDelete() throws Exception {
+		ActionJournal journal = new ActionJournal(
+				ActionJournal.getJournalFile(mFile), mFile);
+		journal.appendAction("<action/>");
+		assertTrue(journal.getFile().exists());
+		assertTrue(journal.getSize() > 0);
+		journal.delete();
+		assertFalse(journal.getFile().exists());
+	}
+
+	public void testJournalOfAnotherVersionOfTheMap() throws Exception {
+		writeMap("<map version=\"1.1.0\"><node TEXT=\"a\"/></map>");
+		ActionJournal journal = new ActionJournal(
+				ActionJournal.getJournalFile(mFile), mFile);
+		journal.appendAction("<action/>");
+		journal.close();
+		assertTrue(journal.matchesMapFile());
+		// saved without the journal:
+		writeMap("<map version=\"1.1.0\"><node TEXT=\"ab\"/></map>");
+		mFile.setLastModified(mFile.lastModified() + 2000);
+		assertFalse(journal.matchesMapFile());
+	}
+
+	/**
+	 * A node that gets its id while the map is shown, before the recording
+	 * starts, is found when the journal is replayed. Even if the node gets
+	 * another id before the replay.
+	 */
+	public void testReplayOfAnIdAssignedBeforeTheRecording() throws Exception {
+		Resources.getInstance().getProperties()
+				.setProperty(FreeMindCommon.JOURNAL_FOR_AUTOMATIC_SAVE, "true");
+		writeMap("<map version=\"1.1.0\"><node TEXT=\"Root\">"
+				+ "<node TEXT=\"a\"/><node TEXT=\"b\"/></node></map>");
+		JournalActionHandler handler = openMap();
+		MindMapNode b = (MindMapNode) mMap.getRootNode().getChildAt(1);
+		String id = mMap.getLinkRegistry().registerLinkTarget(b, "ID_shown");
+		assertFalse(handler.mapLoaded());
+		mController.setNodeText(b, "changed");
+		mController.getActionRegistry().deregisterHandler(handler);
+
+		// after a crash:
+		handler = openMap();
+		MindMapLinkRegistry registry = mMap.getLinkRegistry();
+		b = (MindMapNode) mMap.getRootNode().getChildAt(1);
+		registry.registerLinkTarget(b, "ID_shown_again");
+		assertTrue(handler.mapLoaded());
+		assertEquals("changed", b.getText());
+		assertEquals(id, registry.getState(b));
+		assertSame(b, registry.getTargetForId(id));
+		assertNull(registry.getTargetForId("ID_shown_again"));
+		mController.getActionRegistry().deregisterHandler(handler);
+	}
+
+	/**
+	 * Reads the map file like the controller does, with a new journal
+	 * handler.
+	 */
+	private JournalActionHandler openMap() throws Exception {
+		mMap = new MindMapMapModel(mController);
+		mController.setModel(mMap);
+		mMap.setRoot(mMap.loadTree(new Tools.FileReaderCreator(mFile),
+				MapAdapter.sDontAskInstance));
+		mMap.setFile(mFile);
+		JournalActionHandler handler = new JournalActionHandler(mController);
+		mController.getActionRegistry().registerHandler(handler);
+		handler.mapRead(mMap);
+		return handler;
+	}
+
+	private void writeMap(String pXml) throws Exception {
+		FileWriter writer = new FileWriter(mFile);
+		writer.write(pXml);
+		writer.close();
+	}
+
+	private Vector read(ActionJournal pJournal) throws Exception {
+		final Vector records = new Vector();
+		pJournal.read(new ActionJournal.RecordHandler() {
+
+			public void onId(int[] pPath, String pId) {
+				StringBuilder path = new StringBuilder();
+				for (int i = 0; i < pPath.length; i++) {
+					if (i > 0) {
+						path.append(',');
+					}
+					path.append(pPath[i]);
+				}
+				records.add(path + "=" + pId);
+			}
+
+			public void onAction(String pXml) {
+				records.add(pXml);
+			}
+		});
+		return records;
+	}
+}
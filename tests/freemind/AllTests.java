@@ -51,6 +51,24 @@ public class AllTests {
 		suite.addTest(new TestSuite(LastOpenedTests.class));
 		suite.addTest(new TestSuite(StandaloneMapTests.class));
 		suite.addTest(new TestSuite(CalendarMarkingTests.class));
+		suite.addTest(new TestSuite(MapStreamLoaderTests.class));
+		suite.addTest(new TestSuite(MapStreamWriterTests.class));
+		suite.addTest(new TestSuite(ActionJournalTests.class));
+		suite.addTest(new TestSuite(MindMapLinkRegistryTests.class));
+		suite.addTest(new TestSuite(ArrowLinkViewTests.class));
+		suite.addTest(new TestSuite(MapViewDecorationTests.class));
+		suite.addTest(new TestSuite(TextRenderingCacheTests.class));
+		suite.addTest(new TestSuite(DefaultFilterTests.class));
+		suite.addTest(new TestSuite(FindActionTests.class));
+		suite.addTest(new TestSuite(SearchIndexTests.class));
+		suite.addTest(new TestSuite(MapXmlReaderTests.class));
+		suite.addTest(new TestSuite(TiledMapImageTests.class));
+		suite.addTest(new TestSuite(VectorExportTests.class));
+		suite.addTest(new TestSuite(ClipboardTests.class));
+		suite.addTest(new TestSuite(NodeMemoryTests.class));
+		suite.addTest(new TestSuite(NodeHookNotifierTests.class));
+		suite.addTest(new TestSuite(HierarchicalIconsTests.class));
+		suite.addTest(new TestSuite(UndoHistoryTests.class));
 		// $JUnit-END$
 		return suite;
 	}
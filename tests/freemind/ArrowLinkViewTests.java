@@ -0,0 +1,134 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.util.HashSet;
+
+import javax.swing.JPanel;
+
+import freemind.modes.MindMapArrowLink;
+import freemind.view.mindmapview.IndependantMapViewCreator;
+import freemind.view.mindmapview.MapView;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class ArrowLinkViewTests extends FreeMindTestBase {
+
+	private static final int NODES = 60;
+
+	private File mFile;
+
+	private MapView mMapView;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		System.setProperty("java.awt.headless", "true");
+		mFile = File.createTempFile("arrow_links", ".mm");
+		FileWriter writer = new FileWriter(mFile);
+		writer.write("<map version=\"1.0.1\">\n<node ID=\"node_0\" TEXT=\"Root\">\n");
+		for (int i = 1; i < NODES; i++) {
+			writer.write("<node ID=\"node_" + i + "\" TEXT=\"Node " + i + "\">\n");
+			if (i > 1) {
+				writer.write("<arrowlink DESTINATION=\"node_" + (i - 1)
+						+ "\" ID=\"link_" + i + "\"/>\n");
+			}
+			writer.write("</node>\n");
+		}
+		writer.write("</node>\n</map>\n");
+		writer.close();
+		JPanel parent = new JPanel();
+		parent.setBounds(new Rectangle(0, 0, 400, 600));
+		IndependantMapViewCreator creator = new IndependantMapViewCreator();
+		mMapView = creator.createMapViewForFile(mFile.getPath(), parent,
+				mFreeMindMain);
+		mMapView.doLayout();
+	}
+
+	protected void tearDown() throws Exception {
+		mFile.delete();
+		super.tearDown();
+	}
+
+	public void testCollisionAfterPaint() throws Exception {
+		Rectangle bounds = mMapView.getBounds();
+		// nothing painted, yet:
+		assertNull(detectAny(bounds));
+		paint(bounds);
+		HashSet<MindMapArrowLink> found = new HashSet<>();
+		for (int x = 0; x < bounds.width; x += 4) {
+			for (int y = 0; y < bounds.height; y += 4) {
+				MindMapArrowLink link = mMapView.detectCollision(new Point(x, y));
+				if (link != null) {
+					found.add(link);
+				}
+			}
+		}
+		// neighbouring links overlap, thus not every link is hit:
+		assertTrue("Found " + found.size(), found.size() > NODES / 2);
+		// far away from all links:
+		assertNull(mMapView.detectCollision(new Point(-10000, -10000)));
+	}
+
+	public void testPaintOfClipOnly() throws Exception {
+		Rectangle bounds = mMapView.getBounds();
+		paint(bounds);
+		MindMapArrowLink link = detectAny(bounds);
+		assertNotNull(link);
+		// painting a small part keeps the other links:
+		paint(new Rectangle(0, 0, 10, 10));
+		assertSame(link, detectAny(bounds));
+		// after a layout, the geometry is calculated again:
+		mMapView.doLayout();
+		paint(bounds);
+		assertSame(link, detectAny(bounds));
+	}
+
+	private void paint(Rectangle pClip) {
+		BufferedImage image = new BufferedImage(Math.max(1, pClip.width),
+				Math.max(1, pClip.height), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		g.translate(-pClip.x, -pClip.y);
+		g.clipRect(pClip.x, pClip.y, pClip.width, pClip.height);
+		mMapView.paint(g);
+		g.dispose();
+	}
+
+	private MindMapArrowLink detectAny(Rectangle pBounds) {
+		for (int x = 0; x < pBounds.width; x += 4) {
+			for (int y = 0; y < pBounds.height; y += 4) {
+				MindMapArrowLink link = mMapView
+						.detectCollision(new Point(x, y));
+				if (link != null) {
+					return link;
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -2,6 +2,7 @@ package tests.freemind;
 
 import java.text.DateFormat;
 import java.util.Calendar;
+import java.util.HashSet;
 import java.util.Set;
 
 import accessories.plugins.time.CalendarMarkingEvaluator;
@@ -244,5 +245,123 @@ public class CalendarMarkingTests extends FreeMindTestBase {
 		Set<Calendar> nEntries = ev.getAtLeastTheFirstNEntries(10);
 		assertTrue(nEntries.size() >= 10);
 	}
-}
 
+	private static final String[] REPEAT_TYPES = new String[] {
+			CalendarMarking.NEVER, CalendarMarking.DAILY,
+			CalendarMarking.WEEKLY, CalendarMarking.WEEKLY_EVERY_NTH_DAY,
+			CalendarMarking.MONTHLY, CalendarMarking.MONTHLY_EVERY_NTH_DAY,
+			CalendarMarking.MONTHLY_EVERY_NTH_WEEK, CalendarMarking.YEARLY,
+			CalendarMarking.YEARLY_EVERY_NTH_DAY,
+			CalendarMarking.YEARLY_EVERY_NTH_WEEK,
+			CalendarMarking.YEARLY_EVERY_NTH_MONTH };
+
+	/**
+	 * Compares the marked days of the month index with the occurrences that
+	 * are walked one after the other.
+	 */
+	public void testIndexedMarkingsAreTheWalkedOnes() throws Exception {
+		for (int type = 0; type < REPEAT_TYPES.length; type++) {
+			for (int each = 1; each <= 3; each++) {
+				Calendar start = Calendar.getInstance();
+				start.set(2015, Calendar.MARCH, 3 + 5 * type + each, 14, 30, 0);
+				Calendar end = (Calendar) start.clone();
+				end.add(Calendar.DAY_OF_YEAR, 500 + 97 * each);
+				CalendarMarkings markings = createMarkings(REPEAT_TYPES[type],
+						start.getTimeInMillis(), end.getTimeInMillis(), each,
+						each + 1, 1);
+				Set<String> walked = new HashSet<>();
+				for (Calendar day : new CalendarMarkingEvaluator(markings)
+						.getAtLeastTheFirstNEntries(1000)) {
+					walked.add(getDay(day));
+				}
+				CalendarMarkingEvaluator ev = new CalendarMarkingEvaluator(
+						markings);
+				Calendar day = Calendar.getInstance();
+				day.set(2014, Calendar.DECEMBER, 1, 9, 0, 0);
+				for (int i = 0; i < 1000; i++) {
+					assertEquals(REPEAT_TYPES[type] + " each " + each + " at "
+							+ getDay(day), walked.contains(getDay(day)),
+							ev.isMarked(day) != null);
+					day.add(Calendar.DAY_OF_YEAR, 1);
+				}
+			}
+		}
+	}
+
+	public void testFirstMarkingWinsAndChangeMarkingsClearsTheIndex()
+			throws Exception {
+		Calendar start = Calendar.getInstance();
+		start.set(2015, Calendar.JULY, 5, 0, 0, 0);
+		CalendarMarkings markings = createMarkings(CalendarMarking.WEEKLY,
+				start.getTimeInMillis(), 0, 1, 0, 1);
+		CalendarMarkings daily = createMarkings(CalendarMarking.DAILY,
+				start.getTimeInMillis(), 0, 1, 0, 1);
+		markings.addCalendarMarking(daily.getCalendarMarking(0));
+		CalendarMarkingEvaluator ev = new CalendarMarkingEvaluator(markings);
+		Calendar day = (Calendar) start.clone();
+		day.add(Calendar.WEEK_OF_YEAR, 52 * 10);
+		assertSame(markings.getCalendarMarking(0), ev.isMarked(day));
+		day.add(Calendar.DAY_OF_YEAR, 1);
+		assertSame(markings.getCalendarMarking(1), ev.isMarked(day));
+		ev.changeMarkings(createMarkings(CalendarMarking.NEVER,
+				start.getTimeInMillis(), 0, 1, 0, 1));
+		assertNull(ev.isMarked(day));
+	}
+
+	/**
+	 * Prints the time of the month flips of a day chooser with long running
+	 * markings.
+	 */
+	public void testMonthFlipBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		Calendar start = Calendar.getInstance();
+		start.set(2000, Calendar.JANUARY, 1, 8, 0, 0);
+		CalendarMarkings markings = new CalendarMarkings();
+		for (int i = 0; i < 40; i++) {
+			CalendarMarkings single = createMarkings(REPEAT_TYPES[1 + i
+					% (REPEAT_TYPES.length - 1)], start.getTimeInMillis(), 0,
+					1 + i % 3, 1 + i % 5, i);
+			markings.addCalendarMarking(single.getCalendarMarking(0));
+		}
+		CalendarMarkingEvaluator ev = new CalendarMarkingEvaluator(markings);
+		long time = System.currentTimeMillis();
+		Calendar month = Calendar.getInstance();
+		month.set(2026, Calendar.JANUARY, 1, 0, 0, 0);
+		int marked = 0;
+		for (int flip = 0; flip < 24; flip++) {
+			// the 42 days shown by the day chooser:
+			Calendar day = (Calendar) month.clone();
+			day.add(Calendar.DAY_OF_YEAR, -7);
+			for (int i = 0; i < 42; i++) {
+				if (ev.isMarked(day) != null) {
+					marked++;
+				}
+				day.add(Calendar.DAY_OF_YEAR, 1);
+			}
+			month.add(Calendar.MONTH, 1);
+		}
+		time = System.currentTimeMillis() - time;
+		assertTrue(marked > 0);
+		System.out.println("24 month flips with " + markings.sizeCalendarMarkingList()
+				+ " markings since 2000: " + time + " ms.");
+	}
+
+	private CalendarMarkings createMarkings(String pRepeatType,
+			long pStartDate, long pEndDate, int pRepeatEachNOccurence,
+			int pFirstOccurence, int pName) throws Exception {
+		return (CalendarMarkings) XmlBindingTools.getInstance().unMarshall(
+				"<calendar_markings><calendar_marking name='m" + pName
+						+ "' color='#ff69b5' start_date='" + pStartDate
+						+ "' end_date='" + pEndDate + "' repeat_type='"
+						+ pRepeatType + "' repeat_each_n_occurence='"
+						+ pRepeatEachNOccurence + "' first_occurence='"
+						+ pFirstOccurence + "'/></calendar_markings>");
+	}
+
+	private String getDay(Calendar pDay) {
+		return pDay.get(Calendar.YEAR) + "-" + pDay.get(Calendar.MONTH) + "-"
+				+ pDay.get(Calendar.DAY_OF_MONTH);
+	}
+}
@@ -0,0 +1,246 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Vector;
+
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+
+import freemind.controller.MindMapNodesSelection;
+import freemind.extensions.NodeHook;
+import freemind.modes.MindMapNode;
+import freemind.modes.ModeController;
+import freemind.modes.mindmapmode.MindMapController;
+import freemind.modes.mindmapmode.MindMapMode;
+import freemind.modes.mindmapmode.actions.xml.actors.PasteActor;
+import freemind.view.mindmapview.MapView;
+
+/**
+ * Compares the lazily created flavors of a copy with the ones created from
+ * the nodes directly and checks that pasted nodes are inserted at once.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class ClipboardTests extends MindMapControllerTestBase {
+
+	private static final int BENCHMARK_NODES = 20000;
+
+	private static final int BENCHMARK_LINES = 3000;
+
+	private int mInsertEvents = 0;
+
+	private int mCreatedHooks = 0;
+
+	protected MindMapController createController(MindMapMode pMode) {
+		return new TestMindMapController(pMode) {
+			public NodeHook createNodeHook(String pHookName, MindMapNode pNode) {
+				mCreatedHooks++;
+				return super.createNodeHook(pHookName, pNode);
+			}
+		};
+	}
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mMap.addTreeModelListener(new TreeModelListener() {
+			public void treeNodesInserted(TreeModelEvent pEvent) {
+				mInsertEvents++;
+			}
+
+			public void treeNodesChanged(TreeModelEvent pEvent) {
+			}
+
+			public void treeNodesRemoved(TreeModelEvent pEvent) {
+			}
+
+			public void treeStructureChanged(TreeModelEvent pEvent) {
+			}
+		});
+	}
+
+	public void testFlavorsOfTheCopiedNodes() throws Exception {
+		load("<node TEXT=\"Root\">"
+				+ "<node TEXT=\"a\" COLOR=\"#ff0000\" LINK=\"http://freemind.sourceforge.net\">"
+				+ "<hook NAME=\"tests/freemind/UnknownHook\"/>"
+				+ "<node TEXT=\"a &amp; b\"/></node>"
+				+ "<node TEXT=\"b\"><richcontent TYPE=\"NODE\"><html><body>"
+				+ "<p>rich <b>text</b></p></body></html></richcontent>"
+				+ "<node TEXT=\"c\" FOLDED=\"true\"><node TEXT=\"d\"/></node>"
+				+ "</node></node>");
+		MindMapNode root = mMap.getRootNode();
+		List nodes = Arrays.asList(root.getChildAt(0), root.getChildAt(1));
+		String plainText = mMap.getAsPlainText(nodes);
+		String rtf = mMap.getAsRTF(nodes);
+		String html = mMap.getAsHTML(nodes);
+		// the unknown hook is saved, when it is activated:
+		MindMapNode a = (MindMapNode) root.getChildAt(0);
+		a.invokeHook((NodeHook) a.getHooks().get(0));
+		mCreatedHooks = 0;
+		Transferable copy = mController.copy(nodes, false);
+		// the map is changed before the flavors are requested:
+		((MindMapNode) root.getChildAt(0)).setText("changed");
+		assertTrue(copy.isDataFlavorSupported(DataFlavor.stringFlavor));
+		assertEquals(plainText, copy.getTransferData(DataFlavor.stringFlavor));
+		assertEquals(rtf, read((InputStream) copy
+				.getTransferData(MindMapNodesSelection.rtfFlavor)));
+		assertEquals(html,
+				copy.getTransferData(MindMapNodesSelection.htmlFlavor));
+		// created only once:
+		assertSame(copy.getTransferData(DataFlavor.stringFlavor),
+				copy.getTransferData(DataFlavor.stringFlavor));
+		String nodesFlavor = (String) copy
+				.getTransferData(MindMapNodesSelection.mindMapNodesFlavor);
+		assertTrue(nodesFlavor.indexOf(ModeController.NODESEPARATOR) > 0);
+		assertTrue(nodesFlavor.indexOf("TEXT=\"a &amp; b\"") > 0);
+		assertTrue(nodesFlavor.indexOf("TEXT=\"a\"") > 0);
+		assertTrue(nodesFlavor.indexOf("changed") < 0);
+		assertTrue(nodesFlavor.indexOf("tests/freemind/UnknownHook") > 0);
+		// the flavors are read without the controller:
+		assertEquals(0, mCreatedHooks);
+	}
+
+	public void testPastedTextIsInsertedAtOnce() throws Exception {
+		load("<node TEXT=\"Root\"><node TEXT=\"z\"/></node>");
+		MindMapNode root = mMap.getRootNode();
+		MindMapNode z = (MindMapNode) root.getChildAt(0);
+		paste(new StringSelection("a\n  b\n    c\n  d\ne\n"), z, false);
+		assertEquals(1, mInsertEvents);
+		assertEquals("[a, e]", getChildren(z));
+		MindMapNode a = (MindMapNode) z.getChildAt(0);
+		assertEquals("[b, d]", getChildren(a));
+		assertEquals("[c]", getChildren((MindMapNode) a.getChildAt(0)));
+		assertSame(a, ((MindMapNode) a.getChildAt(1)).getParentNode());
+		// as sibling, in front of the target:
+		paste(new StringSelection("x\ny"), z, true);
+		assertEquals(2, mInsertEvents);
+		assertEquals("[x, y, z]", getChildren(root));
+		// copied nodes:
+		paste(mController.copy(Arrays.asList(a, z.getChildAt(1)), false), root,
+				false);
+		assertEquals(3, mInsertEvents);
+		assertEquals("[x, y, z, a, e]", getChildren(root));
+		assertEquals("[b, d]", getChildren((MindMapNode) root.getChildAt(3)));
+	}
+
+	/**
+	 * Prints the time of a paste of indented text into a map with a view
+	 * and of the insertion of the same nodes one by one.
+	 */
+	public void testPasteBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		load("<node TEXT=\"Root\"><node TEXT=\"one\"/><node TEXT=\"two\"/></node>");
+		MapView view = new MapView(mMap, mController);
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < BENCHMARK_LINES; i++) {
+			text.append("                ".substring(0, 2 * (i % 8)));
+			text.append("Line " + i + "\n");
+		}
+		MindMapNode one = (MindMapNode) mMap.getRootNode().getChildAt(0);
+		long time = System.currentTimeMillis();
+		for (int i = 0; i < BENCHMARK_LINES; i++) {
+			MindMapNode parent = one;
+			for (int depth = 0; depth < i % 8; depth++) {
+				parent = (MindMapNode) parent.getChildAt(parent
+						.getChildCount() - 1);
+			}
+			mMap.insertNodeInto(mController.newNode("Line " + i, mMap),
+					parent, parent.getChildCount());
+		}
+		long oneByOne = System.currentTimeMillis() - time;
+		MindMapNode two = (MindMapNode) mMap.getRootNode().getChildAt(1);
+		time = System.currentTimeMillis();
+		paste(new StringSelection(text.toString()), two, false);
+		time = System.currentTimeMillis() - time;
+		assertEquals(one.getChildCount(), two.getChildCount());
+		assertNotNull(view.getNodeView((MindMapNode) two.getChildAt(0)));
+		System.out.println("Paste of " + BENCHMARK_LINES + " lines: "
+				+ time + " ms, inserted one by one " + oneByOne + " ms.");
+	}
+
+	/**
+	 * Prints the time of a copy of a large branch and of the requests of its
+	 * flavors.
+	 */
+	public void testCopyBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		StringBuilder xml = new StringBuilder("<node TEXT=\"Root\"><node TEXT=\"Branch\">");
+		for (int i = 0; i < BENCHMARK_NODES; i++) {
+			xml.append("<node TEXT=\"Node " + i + "\" COLOR=\"#00"
+					+ (10 + i % 90) + "00\"/>");
+		}
+		xml.append("</node></node>");
+		load(xml.toString());
+		List nodes = Arrays.asList(mMap.getRootNode().getChildAt(0));
+		long time = System.currentTimeMillis();
+		mMap.getAsPlainText(nodes);
+		mMap.getAsRTF(nodes);
+		mMap.getAsHTML(nodes);
+		long allFlavors = System.currentTimeMillis() - time;
+		time = System.currentTimeMillis();
+		Transferable copy = mController.copy(nodes, false);
+		long copyTime = System.currentTimeMillis() - time;
+		time = System.currentTimeMillis();
+		copy.getTransferData(MindMapNodesSelection.mindMapNodesFlavor);
+		copy.getTransferData(DataFlavor.stringFlavor);
+		long plainTime = System.currentTimeMillis() - time;
+		System.out.println("Copy of " + BENCHMARK_NODES + " nodes: "
+				+ copyTime + " ms, the text, rtf and html flavors took "
+				+ allFlavors + " ms before, pasting as plain text " + plainTime
+				+ " ms.");
+	}
+
+	private void paste(Transferable pTransferable, MindMapNode pTarget,
+			boolean pAsSibling) {
+		PasteActor actor = new PasteActor(mController);
+		actor.act(actor.getPasteNodeAction(pTransferable,
+				new PasteActor.NodeCoordinate(pTarget, pAsSibling, false), null));
+	}
+
+	private String getChildren(MindMapNode pNode) {
+		Vector texts = new Vector();
+		for (ListIterator i = pNode.childrenUnfolded(); i.hasNext();) {
+			texts.add(i.next().toString());
+		}
+		return texts.toString();
+	}
+
+	private String read(InputStream pStream) throws Exception {
+		StringBuilder result = new StringBuilder();
+		int character;
+		while ((character = pStream.read()) != -1) {
+			result.append((char) character);
+		}
+		return result.toString();
+	}
+}
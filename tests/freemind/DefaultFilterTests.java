@@ -0,0 +1,214 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.util.Iterator;
+
+import javax.swing.JComponent;
+
+import freemind.controller.Controller;
+import freemind.controller.filter.DefaultFilter;
+import freemind.controller.filter.FilterInfo;
+import freemind.controller.filter.condition.Condition;
+import freemind.controller.filter.condition.ConditionFactory;
+import freemind.controller.filter.condition.ConditionNotSatisfiedDecorator;
+import freemind.main.Tools;
+import freemind.main.XMLElement;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapAdapter;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class DefaultFilterTests extends FreeMindTestBase {
+
+	private static final int BRANCHES = 100;
+
+	private static final int BENCHMARK_BRANCHES = 2000;
+
+	private static final int FILTER_RUNS = 20;
+
+	private MindMapMapModel mMap;
+
+	private ConditionFactory mConditionFactory;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		mMap = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(mMap);
+		mConditionFactory = new ConditionFactory();
+	}
+
+	public void testContainsIgnoreCase() throws Exception {
+		load(BRANCHES);
+		Condition condition = mConditionFactory.createCondition(
+				mConditionFactory.getAttributeConditionNames()[0],
+				mConditionFactory.getNodeConditionNames()[0], "LEAF 7", true);
+		checkFilter(condition);
+		MindMapNode leaf = (MindMapNode) mMap.getRootNode().getChildAt(7)
+				.getChildAt(0);
+		assertTrue(condition.checkNode(null, leaf));
+		// the cached lower case text is updated:
+		leaf.setText("Changed");
+		assertFalse(condition.checkNode(null, leaf));
+		assertTrue(condition.checkNode(null, (MindMapNode) mMap.getRootNode()
+				.getChildAt(7).getChildAt(1)));
+	}
+
+	public void testCompare() throws Exception {
+		load(BRANCHES);
+		// >= 50:
+		Condition condition = mConditionFactory.createCondition(
+				mConditionFactory.getAttributeConditionNames()[0],
+				mConditionFactory.getNodeConditionNames()[4], "50", false);
+		checkFilter(condition);
+		MindMapNode branch = (MindMapNode) mMap.getRootNode().getChildAt(60);
+		MindMapNode number = (MindMapNode) branch.getChildAt(2);
+		assertEquals("60", number.getText());
+		assertTrue(condition.checkNode(null, number));
+		assertFalse(condition.checkNode(null, branch));
+		number.setText(" 4.5e1");
+		assertFalse(condition.checkNode(null, number));
+		number.setText("50.0");
+		assertTrue(condition.checkNode(null, number));
+		// not a number:
+		Condition textCondition = mConditionFactory.createCondition(
+				mConditionFactory.getAttributeConditionNames()[0],
+				mConditionFactory.getNodeConditionNames()[1], "branch 1", true);
+		assertTrue(textCondition.checkNode(null, (MindMapNode) mMap
+				.getRootNode().getChildAt(1)));
+	}
+
+	/**
+	 * Conditions that read the views are only checked on the calling thread,
+	 * also inside of a negation.
+	 */
+	public void testViewDependentConditionIsCheckedSequentially()
+			throws Exception {
+		load(BRANCHES);
+		final Thread caller = Thread.currentThread();
+		final boolean[] otherThread = new boolean[] { false };
+		Condition viewCondition = new Condition() {
+			public boolean checkNode(Controller c, MindMapNode node) {
+				if (Thread.currentThread() != caller) {
+					otherThread[0] = true;
+				}
+				return node.getText().endsWith("7");
+			}
+
+			public boolean isViewDependent() {
+				return true;
+			}
+
+			public JComponent getListCellRendererComponent() {
+				return null;
+			}
+
+			public void save(XMLElement element) {
+			}
+		};
+		checkFilter(new ConditionNotSatisfiedDecorator(viewCondition));
+		checkFilter(viewCondition);
+		assertFalse(otherThread[0]);
+	}
+
+	/**
+	 * Prints the time of a filter run on a large map.
+	 */
+	public void testFilterBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		load(BENCHMARK_BRANCHES);
+		Condition condition = mConditionFactory.createCondition(
+				mConditionFactory.getAttributeConditionNames()[0],
+				mConditionFactory.getNodeConditionNames()[0], "leaf 77", true);
+		DefaultFilter filter = new DefaultFilter(condition, true, false);
+		for (int i = 0; i < FILTER_RUNS; i++) {
+			filter.applyFilter(null, mMap.getRootNode());
+		}
+		long time = System.nanoTime();
+		for (int i = 0; i < FILTER_RUNS; i++) {
+			filter.applyFilter(null, mMap.getRootNode());
+		}
+		time = (System.nanoTime() - time) / FILTER_RUNS / 1000;
+		System.out.println("Filtering " + BENCHMARK_BRANCHES * 11
+				+ " nodes: " + time + " us.");
+		checkFilter(condition);
+	}
+
+	/**
+	 * Compares the filter results with those of the sequential algorithm.
+	 */
+	private void checkFilter(Condition pCondition) {
+		DefaultFilter filter = new DefaultFilter(pCondition, true, true);
+		MindMapNode root = mMap.getRootNode();
+		filter.applyFilter(null, root);
+		int matched = 0;
+		for (Iterator it = root.childrenUnfolded(); it.hasNext();) {
+			matched += check(pCondition, (MindMapNode) it.next());
+		}
+		assertTrue(matched > 0);
+	}
+
+	/**
+	 * @return the number of matched nodes.
+	 */
+	private int check(Condition pCondition, MindMapNode pNode) {
+		boolean satisfied = pCondition.checkNode(null, pNode);
+		int matched = satisfied ? 1 : 0;
+		int descendantsMatched = 0;
+		for (Iterator it = pNode.childrenUnfolded(); it.hasNext();) {
+			descendantsMatched += check(pCondition, (MindMapNode) it.next());
+		}
+		FilterInfo info = pNode.getFilterInfo();
+		assertEquals(pNode.getText(), satisfied, info.isMatched());
+		assertEquals(pNode.getText(), descendantsMatched > 0,
+				info.isAncestor());
+		return matched + descendantsMatched;
+	}
+
+	/**
+	 * Each branch has ten children, one of them is its number.
+	 */
+	private void load(int pBranches) throws Exception {
+		StringBuilder xml = new StringBuilder();
+		xml.append("<map version=\"1.1.0\">\n<node TEXT=\"Root\">\n");
+		for (int i = 0; i < pBranches; i++) {
+			xml.append("<node TEXT=\"Branch " + i + "\">\n");
+			for (int j = 0; j < 10; j++) {
+				xml.append("<node TEXT=\""
+						+ (j == 2 ? Integer.toString(i) : "Leaf " + (i * 10 + j))
+						+ "\"/>\n");
+			}
+			xml.append("</node>\n");
+		}
+		xml.append("</node>\n</map>\n");
+		MindMapNode root = mMap.loadTree(
+				new Tools.StringReaderCreator(xml.toString()),
+				MapAdapter.sDontAskInstance);
+		mMap.setRoot(root);
+	}
+}
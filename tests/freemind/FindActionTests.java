@@ -0,0 +1,155 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Vector;
+
+import freemind.main.FreeMind;
+import freemind.main.Resources;
+import freemind.modes.MindMapNode;
+import freemind.modes.common.actions.FindAction;
+import freemind.modes.mindmapmode.MindMapController;
+import freemind.modes.mindmapmode.MindMapMode;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class FindActionTests extends MindMapControllerTestBase {
+
+	private static final int BENCHMARK_NODES = 20000;
+
+	private static final int BENCHMARK_FINDS = 50;
+
+	private FindAction mFind;
+
+	private Vector mCentered = new Vector();
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mFind = new FindAction(mController);
+		Resources.getInstance().getProperties()
+				.setProperty(FreeMind.RESOURCES_SEARCH_IN_NOTES_TOO, "true");
+	}
+
+	protected MindMapController createController(MindMapMode pMode) {
+		return new TestMindMapController(pMode) {
+			public void centerNode(MindMapNode pNode) {
+				mCentered.add(pNode);
+			}
+		};
+	}
+
+	public void testHitsInBreadthFirstOrder() throws Exception {
+		load("<node TEXT=\"Root\">"
+				+ "<node TEXT=\"a Apple\"><node TEXT=\"c apple pie\"/></node>"
+				+ "<node TEXT=\"b\"><richcontent TYPE=\"NODE\"><html><body>"
+				+ "<p>an <b>APPLE</b> &amp; more</p></body></html></richcontent>"
+				+ "<node TEXT=\"d\"><richcontent TYPE=\"NOTE\"><html><body>"
+				+ "<p>note with apple</p></body></html></richcontent></node>"
+				+ "</node></node>");
+		MindMapNode root = mMap.getRootNode();
+		MindMapNode a = (MindMapNode) root.getChildAt(0);
+		MindMapNode b = (MindMapNode) root.getChildAt(1);
+		MindMapNode c = (MindMapNode) a.getChildAt(0);
+		MindMapNode d = (MindMapNode) b.getChildAt(0);
+		assertTrue(mFind.find(root, Arrays.asList("apple"), false));
+		assertTrue(mFind.findNext());
+		assertTrue(mFind.findNext());
+		assertTrue(mFind.findNext());
+		assertFalse(mFind.findNext());
+		assertEquals(Arrays.asList(a, b, c, d, root), mCentered);
+		// case sensitive and more than one term:
+		mCentered.clear();
+		assertTrue(mFind.find(root, Arrays.asList("APPLE", "more"), true));
+		assertFalse(mFind.findNext());
+		assertEquals(Arrays.asList(b, root), mCentered);
+	}
+
+	public void testEditsAreFound() throws Exception {
+		load("<node TEXT=\"Base\"><node TEXT=\"one\"/><node TEXT=\"two\"/>"
+				+ "<node TEXT=\"three\"/></node>");
+		MindMapNode root = mMap.getRootNode();
+		assertTrue(mFind.find(root, Arrays.asList("t"), false));
+		// the next hit doesn't match anymore:
+		((MindMapNode) root.getChildAt(2)).setText("changed");
+		assertFalse(mFind.findNext());
+		assertEquals(Arrays.asList("two", "Base"), getCenteredTexts());
+		// the cached text is replaced:
+		mCentered.clear();
+		((MindMapNode) root.getChildAt(0)).setText("<html><body>t</body></html>");
+		assertTrue(mFind.find(root, Arrays.asList("t"), false));
+		assertTrue(mFind.findNext());
+		assertEquals(Arrays.asList("<html><body>t</body></html>", "two"),
+				getCenteredTexts());
+		// removed nodes are skipped:
+		mCentered.clear();
+		assertTrue(mFind.find(root, Arrays.asList("t"), false));
+		mMap.removeNodeFromParent((MindMapNode) root.getChildAt(1));
+		assertFalse(mFind.findNext());
+	}
+
+	/**
+	 * Prints the time of a find and the following find next calls on a map
+	 * with html nodes.
+	 */
+	public void testFindBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		StringBuilder xml = new StringBuilder("<node TEXT=\"Root\">");
+		for (int i = 0; i < BENCHMARK_NODES; i++) {
+			xml.append("<node><richcontent TYPE=\"NODE\"><html><body><p>Node <b>"
+					+ i + "</b> with some <i>formatted</i> text</p></body></html>"
+					+ "</richcontent></node>");
+		}
+		xml.append("</node>");
+		load(xml.toString());
+		MindMapNode root = mMap.getRootNode();
+		Collection subterms = Arrays.asList("node 1", "formatted");
+		long time = System.nanoTime();
+		assertTrue(mFind.find(root, subterms, false));
+		long first = System.nanoTime() - time;
+		time = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_FINDS; i++) {
+			assertTrue(mFind.findNext());
+		}
+		time = System.nanoTime() - time;
+		System.out.println("Find in " + BENCHMARK_NODES + " html nodes: "
+				+ first / 1000000 + "ms, " + BENCHMARK_FINDS + " find next: "
+				+ time / 1000 + "us.");
+		// again, with the cached texts:
+		time = System.nanoTime();
+		assertTrue(mFind.find(root, subterms, false));
+		System.out.println("Find again: " + (System.nanoTime() - time)
+				/ 1000000 + "ms.");
+	}
+
+	private Vector getCenteredTexts() {
+		Vector texts = new Vector();
+		for (Object node : mCentered) {
+			texts.add(node.toString());
+		}
+		return texts;
+	}
+}
@@ -51,6 +51,14 @@ public class FreeMindTestBase extends TestCase {
 	public FreeMindMainMock getFrame() {
 		return mFreeMindMain;
 	}
+
+	/**
+	 * The benchmarks use large maps and print their timings, thus they only
+	 * run, if the system property freemind.benchmarks is set to true.
+	 */
+	protected static boolean isBenchmarkEnabled() {
+		return Boolean.getBoolean("freemind.benchmarks");
+	}
 }
 
 // private static java.util.logging.Logger logger =
@@ -0,0 +1,236 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+import accessories.plugins.HierarchicalIcons;
+import freemind.main.Tools;
+import freemind.modes.MindIcon;
+import freemind.modes.MindMapNode;
+import freemind.modes.NodeHookNotifier;
+import freemind.modes.mindmapmode.actions.xml.actors.XmlActorFactory;
+import freemind.view.mindmapview.MultipleImage;
+
+/**
+ * Compares the icons shown by {@link HierarchicalIcons} with the ones of the
+ * descendants after changes of the map.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class HierarchicalIconsTests extends MindMapControllerTestBase {
+
+	private static final String HOOK_NAME = "accessories/plugins/HierarchicalIcons.properties";
+
+	private static final String[] ICONS = new String[] { "idea", "yes",
+			"button_ok", "flag", "help" };
+
+	/** Children per node of the benchmark map. */
+	private static final int BENCHMARK_FAN_OUT = 4;
+
+	private static final int BENCHMARK_DEPTH = 7;
+
+	private static final int BENCHMARK_EDITS = 1000;
+
+	private XmlActorFactory mActors;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mActors = mController.getActorFactory();
+	}
+
+	public void testShownIconsFollowTheChanges() throws Exception {
+		load("<node TEXT=\"Root\">"
+				+ "<node TEXT=\"a\"><icon BUILTIN=\"idea\"/>"
+				+ "<node TEXT=\"b\"><node TEXT=\"c\"><icon BUILTIN=\"yes\"/>"
+				+ "<icon BUILTIN=\"idea\"/></node></node>"
+				+ "<node TEXT=\"d\"><icon BUILTIN=\"flag\"/></node></node>"
+				+ "<node TEXT=\"e\"><node TEXT=\"f\"><icon BUILTIN=\"yes\"/>"
+				+ "<icon BUILTIN=\"idea\"/></node></node></node>");
+		HierarchicalIcons hook = addHook();
+		MindMapNode root = mMap.getRootNode();
+		MindMapNode a = (MindMapNode) root.getChildAt(0);
+		MindMapNode b = (MindMapNode) a.getChildAt(0);
+		MindMapNode e = (MindMapNode) root.getChildAt(1);
+		checkShownIcons();
+		assertEquals(3, getImage(root).getImageCount());
+		assertEquals(2, getImage(a).getImageCount());
+		assertNull(getImage((MindMapNode) a.getChildAt(1)));
+		// the same icons share the image:
+		assertSame(getImage(b), getImage(e));
+		mActors.getAddIconActor().addIcon(e, MindIcon.factory("help"));
+		checkShownIcons();
+		mActors.getRemoveIconActor().removeLastIcon(a);
+		checkShownIcons();
+		mActors.getAddIconActor().addIcon(b, MindIcon.factory("flag"));
+		checkShownIcons();
+		mMap.removeNodeFromParent((MindMapNode) a.getChildAt(1));
+		checkShownIcons();
+		// a move inside of a transaction:
+		NodeHookNotifier notifier = mController.getActionRegistry()
+				.getNodeHookNotifier();
+		notifier.startTransaction();
+		mMap.removeNodeFromParent(b);
+		mMap.insertNodeInto(b, e, 0);
+		mActors.getAddIconActor().addIcon(b, MindIcon.factory("button_ok"));
+		notifier.endTransaction();
+		checkShownIcons();
+		MindMapNode g = mController.newNode("g", mMap);
+		g.addIcon(MindIcon.factory("help"), 0);
+		mMap.insertNodeInto(g, a, 0);
+		checkShownIcons();
+		mActors.getRemoveAllIconsActor().removeAllIcons(e);
+		checkShownIcons();
+		root.removeHook(hook);
+		assertNull(getImage(root));
+		assertNull(getImage(e));
+	}
+
+	/**
+	 * Moving a node up or down removes and inserts it in one transaction. Its
+	 * icons are still counted once in the ancestors.
+	 */
+	public void testMovedNodesKeepTheIcons() throws Exception {
+		load("<node TEXT=\"Root\"><node TEXT=\"a\">"
+				+ "<node TEXT=\"b\"><icon BUILTIN=\"idea\"/></node>"
+				+ "<node TEXT=\"c\"><icon BUILTIN=\"yes\"/></node>"
+				+ "<node TEXT=\"d\"/></node></node>");
+		addHook();
+		MindMapNode a = (MindMapNode) mMap.getRootNode().getChildAt(0);
+		MindMapNode b = (MindMapNode) a.getChildAt(0);
+		checkShownIcons();
+		mActors.getNodeUpActor().moveNodes(b,
+				Tools.getVectorWithSingleElement(b), 1);
+		assertSame(b, a.getChildAt(1));
+		checkShownIcons();
+		mActors.getNodeUpActor().moveNodes(b,
+				Tools.getVectorWithSingleElement(b), -1);
+		assertSame(b, a.getChildAt(0));
+		checkShownIcons();
+		// the icon was counted once only:
+		mActors.getRemoveIconActor().removeLastIcon(b);
+		checkShownIcons();
+	}
+
+	/**
+	 * Prints the time of the start of the plugin on a large map and of
+	 * single icon changes.
+	 */
+	public void testHierarchicalIconsBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		StringBuilder xml = new StringBuilder();
+		int[] count = new int[] { 0 };
+		appendNodes(xml, BENCHMARK_DEPTH, count);
+		load(xml.toString());
+		long time = System.currentTimeMillis();
+		addHook();
+		time = System.currentTimeMillis() - time;
+		MindMapNode leaf = mMap.getRootNode();
+		while (leaf.getChildCount() > 0) {
+			leaf = (MindMapNode) leaf.getChildAt(leaf.getChildCount() - 1);
+		}
+		long editTime = System.currentTimeMillis();
+		for (int i = 0; i < BENCHMARK_EDITS; i++) {
+			mActors.getAddIconActor().addIcon(leaf, MindIcon.factory("clanbomber"));
+			mActors.getRemoveIconActor().removeLastIcon(leaf);
+		}
+		editTime = System.currentTimeMillis() - editTime;
+		checkShownIcons();
+		System.out.println("Hierarchical icons for " + count[0] + " nodes: "
+				+ time + " ms, " + 2 * BENCHMARK_EDITS
+				+ " icon changes of a leaf " + editTime + " ms.");
+	}
+
+	private void appendNodes(StringBuilder pXml, int pDepth, int[] pCount) {
+		pXml.append("<node TEXT=\"Node " + pCount[0] + "\">");
+		if (pCount[0] % 3 == 0) {
+			pXml.append("<icon BUILTIN=\"" + ICONS[pCount[0] % ICONS.length]
+					+ "\"/>");
+		}
+		pCount[0]++;
+		if (pDepth > 0) {
+			for (int i = 0; i < BENCHMARK_FAN_OUT; i++) {
+				appendNodes(pXml, pDepth - 1, pCount);
+			}
+		}
+		pXml.append("</node>");
+	}
+
+	/**
+	 * Checks that each node shows the icons of its descendants it hasn't
+	 * itself and that nodes with the same icons share the image.
+	 */
+	private void checkShownIcons() {
+		checkShownIcons(mMap.getRootNode(), new HashMap<String, MultipleImage>());
+	}
+
+	private TreeSet<String> checkShownIcons(MindMapNode pNode,
+			HashMap<String, MultipleImage> pImages) {
+		TreeSet<String> descendantIcons = new TreeSet<>();
+		for (Iterator i = pNode.childrenUnfolded(); i.hasNext();) {
+			MindMapNode child = (MindMapNode) i.next();
+			descendantIcons.addAll(checkShownIcons(child, pImages));
+			descendantIcons.addAll(getIcons(child));
+		}
+		TreeSet<String> shownIcons = new TreeSet<>(descendantIcons);
+		shownIcons.removeAll(getIcons(pNode));
+		MultipleImage image = getImage(pNode);
+		if (shownIcons.isEmpty()) {
+			assertNull(pNode.toString(), image);
+		} else {
+			assertNotNull(pNode.toString(), image);
+			assertEquals(pNode.toString(), shownIcons.size(),
+					image.getImageCount());
+			String key = shownIcons.toString();
+			if (pImages.containsKey(key)) {
+				assertSame(pImages.get(key), image);
+			}
+			pImages.put(key, image);
+		}
+		return descendantIcons;
+	}
+
+	private TreeSet<String> getIcons(MindMapNode pNode) {
+		TreeSet<String> icons = new TreeSet<>();
+		for (Iterator i = pNode.getIcons().iterator(); i.hasNext();) {
+			icons.add(((MindIcon) i.next()).getName());
+		}
+		return icons;
+	}
+
+	private MultipleImage getImage(MindMapNode pNode) {
+		return (MultipleImage) pNode.getStateIcons().get(HOOK_NAME);
+	}
+
+	private HierarchicalIcons addHook() {
+		HierarchicalIcons hook = new HierarchicalIcons();
+		hook.setController(mController);
+		hook.setName(HOOK_NAME);
+		mMap.getRootNode().addHook(hook);
+		mMap.getRootNode().invokeHook(hook);
+		return hook;
+	}
+}
@@ -25,15 +25,33 @@ import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.swing.text.ChangedCharSetException;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
 
 import tests.freemind.findreplace.TestMindMapNode;
 
 import com.lightdev.app.shtm.SHTMLPanel;
 
+import freemind.main.HtmlToXhtmlConverter;
 import freemind.main.HtmlTools;
 import freemind.main.HtmlTools.NodeCreator;
 import freemind.main.Tools;
 import freemind.main.Tools.IntHolder;
+import freemind.main.XHTMLWriter;
 import freemind.main.XMLElement;
 import freemind.modes.ExtendedMapFeedbackImpl;
 import freemind.modes.MindMapNode;
@@ -607,5 +625,194 @@ public class HtmlConversionTests extends FreeMindTestBase {
 		// this is one less, as the determine... strips the html header and uses its own.
 		assertEquals(9, actor.determineAmountOfNewNodes(new HtmlTransfer(testHtml3)));
 	}
-	
+
+	public void testLazyNodeTexts() throws Exception {
+		MindMapNodeModel node = new MindMapNodeModel(new MindMapMock("</map>"));
+		String xhtml = "<html>\n  <head>\n    \n  </head>\n  <body>\n    a<br />b\n  </body>\n</html>\n";
+		node.setXmlText(xhtml);
+		assertEquals(xhtml, node.getXmlText());
+		assertEquals(HtmlTools.getInstance().toHtml(xhtml), node.getText());
+		assertEquals(HtmlTools.getInstance().toHtml(xhtml).toLowerCase(),
+				node.getLowerCaseText());
+		node.setText(node.getText());
+		assertEquals(xhtml, node.getXmlText());
+		assertSame(node.getXmlText(), node.getXmlText());
+		node.setText(null);
+		assertNull(node.getXmlText());
+		assertEquals("", node.getText());
+	}
+
+	public void testDirectXhtmlConversion() throws Exception {
+		assertEquals("<html><body><p align=\"center\">a&#160;b &#228; &amp; &lt;"
+				+ "&gt;<br /><img src=\"a?b&amp;c\" /></p></body></html>",
+				HtmlToXhtmlConverter.convert("<HTML><body><p align=center>"
+						+ "a&nbsp;b \u00e4 & &lt;><br><img src='a?b&amp;c'></p>"
+						+ "</body></html>"));
+		// not nested properly:
+		assertNull(HtmlToXhtmlConverter.convert("<html><br>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><body><p>a</body></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><body><p>a<p>b</p></body></html>"));
+		// unknown entities, attributes without values, comments, ...:
+		assertNull(HtmlToXhtmlConverter.convert("<html><body>&auml;</body></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><body><td nowrap>a</td></body></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><body><p a=\"1\" a=\"2\">a</p></body></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><body><!-- a --></body></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("<html><head><style>p {}</style></head></html>"));
+		assertNull(HtmlToXhtmlConverter.convert("a<html><body></body></html>"));
+		for (String html : getHtmlCorpus()) {
+			String expected = convertWithXhtmlWriter(html);
+			if (expected == null) {
+				continue;
+			}
+			String direct = HtmlToXhtmlConverter.convert(html);
+			if (direct != null) {
+				assertTrue(direct, HtmlTools.getInstance().isWellformedXml(direct));
+				assertEquals(getContent(expected), getContent(direct));
+			}
+			// the html written by the editor is converted to the same xhtml:
+			String editorHtml = HtmlTools.getInstance().toHtml(expected);
+			direct = HtmlToXhtmlConverter.convert(editorHtml);
+			if (direct != null) {
+				assertEquals(expected, direct);
+			} else {
+				// style sheets and comments aren't converted directly:
+				assertTrue(editorHtml, editorHtml.indexOf("<style") >= 0
+						|| editorHtml.indexOf("<!--") >= 0);
+			}
+		}
+	}
+
+	/**
+	 * Prints the time of the conversion of the corpus to xhtml with the
+	 * {@link XHTMLWriter} and directly.
+	 */
+	public void testXhtmlConversionBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		ArrayList<String> corpus = new ArrayList<>();
+		for (String html : getHtmlCorpus()) {
+			String xhtml = convertWithXhtmlWriter(html);
+			if (xhtml != null) {
+				corpus.add(html);
+				corpus.add(HtmlTools.getInstance().toHtml(xhtml));
+			}
+		}
+		ArrayList<String> direct = new ArrayList<>();
+		for (String html : corpus) {
+			if (HtmlToXhtmlConverter.convert(html) != null) {
+				direct.add(html);
+			}
+		}
+		long[] all = benchmarkXhtmlConversion(corpus);
+		long[] directOnly = benchmarkXhtmlConversion(direct);
+		System.out.println("200 xhtml conversions of " + corpus.size()
+				+ " texts: XHTMLWriter " + all[0] + " ms, now " + all[1]
+				+ " ms. Of the " + direct.size()
+				+ " texts converted directly: XHTMLWriter " + directOnly[0]
+				+ " ms, now " + directOnly[1] + " ms.");
+	}
+
+	/**
+	 * @return the times of 200 conversions with the {@link XHTMLWriter} and
+	 *         with {@link HtmlTools#toXhtml(String)}.
+	 */
+	private long[] benchmarkXhtmlConversion(ArrayList<String> pCorpus)
+			throws Exception {
+		long time = System.currentTimeMillis();
+		for (int i = 0; i < 200; i++) {
+			for (String html : pCorpus) {
+				String xhtml = convertWithXhtmlWriter(html);
+				HtmlTools.getInstance().isWellformedXml(xhtml);
+			}
+		}
+		long writerTime = System.currentTimeMillis() - time;
+		time = System.currentTimeMillis();
+		for (int i = 0; i < 200; i++) {
+			for (String html : pCorpus) {
+				HtmlTools.getInstance().toXhtml(html);
+			}
+		}
+		return new long[] { writerTime, System.currentTimeMillis() - time };
+	}
+
+	private ArrayList<String> getHtmlCorpus() throws Exception {
+		ArrayList<String> corpus = new ArrayList<>();
+		corpus.add(getInputStringWithManySpaces(HtmlTools.SP));
+		corpus.add(getInputStringWithManySpaces(" "));
+		corpus.add(testHtml2);
+		corpus.add(testHtml3);
+		corpus.add("<html><br>");
+		corpus.add("<html><head></head><body><p style=\"margin-top: 0\" align=\"center\">"
+				+ "<b>x</b> <font color=\"#ff0000\" size=\"2\">y</font>"
+				+ "<a href=\"http://a?b=1&amp;c=2\">l</a></p>"
+				+ "<ul><li>\u00e4\u20ac&nbsp;&quot;q&quot;</li></ul></body></html>");
+		corpus.add("<html><body><table border=\"0\"><tr><td>x</td><td>y<br>z</td>"
+				+ "</tr></table><img src=\"a.png\"></body></html>");
+		String map = new String(Files.readAllBytes(Paths
+				.get("tests/freemind/testmap.mm")), StandardCharsets.UTF_8);
+		Matcher matcher = Pattern.compile("(?s)<richcontent[^>]*>\\s*(.*?)</richcontent>")
+				.matcher(map);
+		while (matcher.find()) {
+			corpus.add(HtmlTools.getInstance().toHtml(matcher.group(1)));
+		}
+		return corpus;
+	}
+
+	/**
+	 * @return null, if the html declares a charset, like
+	 *         {@link HtmlTools#toXhtml(String)} did before in this case.
+	 */
+	private String convertWithXhtmlWriter(String pHtml) throws Exception {
+		StringWriter writer = new StringWriter();
+		try {
+			XHTMLWriter.html2xhtml(new StringReader(pHtml), writer);
+		} catch (ChangedCharSetException e) {
+			return null;
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * @return the elements with their sorted attributes and the texts with
+	 *         collapsed whitespace.
+	 */
+	private String getContent(String pXhtml) throws Exception {
+		Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new InputSource(new StringReader(pXhtml)))
+				.getDocumentElement();
+		StringBuilder content = new StringBuilder();
+		addContent(root, content);
+		return content.toString();
+	}
+
+	private void addContent(Node pNode, StringBuilder pContent) {
+		if (pNode instanceof Element) {
+			StringBuilder children = new StringBuilder();
+			for (Node child = pNode.getFirstChild(); child != null; child = child
+					.getNextSibling()) {
+				addContent(child, children);
+			}
+			NamedNodeMap attributes = pNode.getAttributes();
+			if (children.length() == 0 && attributes.getLength() == 0
+					&& pNode.getNodeName().matches("p|head")) {
+				// the XHTMLWriter removes empty paragraphs and adds a head.
+				return;
+			}
+			pContent.append('<').append(pNode.getNodeName());
+			ArrayList<String> sorted = new ArrayList<>();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				sorted.add(attributes.item(i).toString());
+			}
+			Collections.sort(sorted);
+			pContent.append(sorted).append('>').append(children);
+			pContent.append("</").append(pNode.getNodeName()).append('>');
+		} else if (pNode.getNodeType() == Node.TEXT_NODE) {
+			String text = pNode.getNodeValue().replaceAll("[ \\t\\r\\n]+", " ")
+					.trim();
+			if (text.length() > 0) {
+				pContent.append(text).append('|');
+			}
+		}
+	}
 }
@@ -0,0 +1,241 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+
+import freemind.main.Tools;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapStreamLoader;
+import freemind.modes.MindMapNode;
+import freemind.modes.XMLElementAdapter;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * Compares the streaming map loader with the XMLElement based one.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapStreamLoaderTests extends FreeMindTestBase {
+
+	private static final String TESTMAP_MM = "tests/freemind/testmap.mm";
+
+	private static final int BENCHMARK_NODES = 20000;
+
+	private interface Loader {
+		MindMapNode load(MindMapMapModel pMap, String pXml) throws Exception;
+	}
+
+	private static final Loader XML_ELEMENT_LOADER = (pMap, pXml) -> {
+		XMLElementAdapter adapter = new XMLElementAdapter(
+				pMap.getMapFeedback());
+		adapter.parseFromReader(new StringReader(pXml));
+		adapter.processUnfinishedLinks(pMap.getLinkRegistry());
+		return adapter.getMapChild();
+	};
+
+	private static final Loader STREAM_LOADER = (pMap, pXml) -> {
+		MapStreamLoader loader = new MapStreamLoader(pMap.getMapFeedback(),
+				new HashMap());
+		MindMapNode root = loader.load(new StringReader(pXml));
+		loader.processUnfinishedLinks(pMap.getLinkRegistry());
+		return root;
+	};
+
+	public void testTestmapIsLoadedIdentically() throws Exception {
+		String xml = Tools.getFile(new java.io.File(TESTMAP_MM));
+		assertEquals(loadAndSave(XML_ELEMENT_LOADER, xml),
+				loadAndSave(STREAM_LOADER, xml));
+	}
+
+	public void testGeneratedMapIsLoadedIdentically() throws Exception {
+		String xml = createLargeMap(500);
+		String expected = loadAndSave(XML_ELEMENT_LOADER, xml);
+		assertEquals(expected, loadAndSave(STREAM_LOADER, xml));
+		// the links must have survived:
+		assertTrue(expected.contains("<arrowlink"));
+		assertTrue(expected.contains("<linktarget") || expected.contains("ID=\"node_"));
+	}
+
+	public void testSingleNodeIsLoaded() throws Exception {
+		String xml = "<node TEXT=\"single\"><node TEXT=\"child\"/></node>";
+		MindMapMapModel map = createMap();
+		MindMapNode node = STREAM_LOADER.load(map, xml);
+		assertEquals("single", node.getText());
+		assertEquals(1, node.getChildCount());
+	}
+
+	/**
+	 * Text directly inside of node elements (e.g. of hand edited maps) is
+	 * ignored, as by the XMLElement based loader. Text between child
+	 * elements, which that loader rejected, is ignored, too.
+	 */
+	public void testStrayTextIsIgnored() throws Exception {
+		String xml = "<map version=\"1.0.1\">"
+				+ "<node CREATED=\"1\" MODIFIED=\"1\" TEXT=\"Root\">"
+				+ "<node CREATED=\"1\" MODIFIED=\"1\" TEXT=\"child\">stray text"
+				+ "</node></node></map>";
+		String expected = loadAndSave(XML_ELEMENT_LOADER, xml);
+		assertTrue(expected.contains("TEXT=\"child\""));
+		assertEquals(expected, loadAndSave(STREAM_LOADER, xml));
+		String mixed = "<map version=\"1.0.1\">text"
+				+ "<node CREATED=\"1\" MODIFIED=\"1\" TEXT=\"Root\">"
+				+ "more<node CREATED=\"1\" MODIFIED=\"1\" TEXT=\"child\">"
+				+ "stray text</node>end</node>"
+				+ "</map>";
+		assertEquals(expected, loadAndSave(STREAM_LOADER, mixed));
+	}
+
+	/**
+	 * Prints load time and peak heap of both loaders.
+	 */
+	public void testLoadBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		String xml = createLargeMap(BENCHMARK_NODES);
+		// warm up:
+		benchmark(XML_ELEMENT_LOADER, xml);
+		benchmark(STREAM_LOADER, xml);
+		long[] old = benchmark(XML_ELEMENT_LOADER, xml);
+		long[] streamed = benchmark(STREAM_LOADER, xml);
+		System.out.println("Loading " + BENCHMARK_NODES + " nodes ("
+				+ xml.length() / 1024 + " KB): XMLElementAdapter " + old[0]
+				+ " ms, peak heap " + old[1] / 1024 / 1024
+				+ " MB, allocated " + old[2] / 1024 / 1024
+				+ " MB; MapStreamLoader " + streamed[0] + " ms, peak heap "
+				+ streamed[1] / 1024 / 1024 + " MB, allocated "
+				+ streamed[2] / 1024 / 1024 + " MB.");
+	}
+
+	/**
+	 * @return time in ms, peak heap and allocated bytes.
+	 */
+	private long[] benchmark(Loader pLoader, String pXml) throws Exception {
+		MindMapMapModel map = createMap();
+		System.gc();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			pool.resetPeakUsage();
+		}
+		long allocatedBefore = getAllocatedBytes();
+		long start = System.currentTimeMillis();
+		MindMapNode root = pLoader.load(map, pXml);
+		long time = System.currentTimeMillis() - start;
+		long allocated = getAllocatedBytes() - allocatedBefore;
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		assertNotNull(root);
+		return new long[] { time, peak, allocated };
+	}
+
+	protected static long getAllocatedBytes() {
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threadBean)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+	private MindMapMapModel createMap() {
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel map = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(map);
+		return map;
+	}
+
+	private String loadAndSave(Loader pLoader, String pXml) throws Exception {
+		MindMapMapModel map = createMap();
+		map.setRoot(pLoader.load(map, pXml));
+		return getXml(map);
+	}
+
+	protected static String getXml(MindMapMapModel pMap) throws IOException {
+		StringWriter writer = new StringWriter();
+		pMap.getXml(writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Creates a map with pNodeCount nodes containing all kinds of node
+	 * decorations, html texts and notes and arrow links.
+	 */
+	protected static String createLargeMap(int pNodeCount) {
+		StringBuilder xml = new StringBuilder();
+		xml.append("<map version=\"1.0.1\">\n");
+		xml.append("<node CREATED=\"1160462630102\" ID=\"node_0\" MODIFIED=\"1160462667140\" TEXT=\"Root\">\n");
+		int created = 1;
+		int perBranch = 10;
+		while (created < pNodeCount) {
+			int branch = created;
+			xml.append("<node CREATED=\"1160462630102\" ID=\"node_" + created
+					+ "\" MODIFIED=\"1160462667140\" POSITION=\""
+					+ ((branch % 2 == 0) ? "left" : "right")
+					+ "\" TEXT=\"Branch " + branch + " &amp; &lt;more&gt;\">\n");
+			xml.append("<edge COLOR=\"#808080\" STYLE=\"bezier\" WIDTH=\"thin\"/>\n");
+			xml.append("<cloud COLOR=\"#f0f0f0\"/>\n");
+			created++;
+			for (int i = 0; i < perBranch && created < pNodeCount; i++, created++) {
+				xml.append("<node CREATED=\"1160462630102\" FOLDED=\""
+						+ (i % 3 == 0) + "\" ID=\"node_" + created
+						+ "\" MODIFIED=\"1160462667140\"");
+				if (i % 4 == 0) {
+					xml.append(">\n<richcontent TYPE=\"NODE\"><html>\n  <head>\n  </head>\n  <body>\n    <p>\n      <b>Html</b> node "
+							+ created + " &#228;&amp;<br/>\n    </p>\n  </body>\n</html>\n</richcontent>\n");
+				} else {
+					xml.append(" TEXT=\"Node " + created + " with a &#xe4;&#xa;second line\">\n");
+				}
+				if (i % 5 == 0) {
+					xml.append("<richcontent TYPE=\"NOTE\"><html>\n  <head>\n  </head>\n  <body>\n    <p>\n      Note "
+							+ created + "\n    </p>\n  </body>\n</html>\n</richcontent>\n");
+				}
+				if (i % 3 == 1) {
+					xml.append("<font BOLD=\"true\" NAME=\"SansSerif\" SIZE=\"12\"/>\n");
+					xml.append("<icon BUILTIN=\"idea\"/>\n");
+					xml.append("<attribute NAME=\"key\" VALUE=\"value " + i
+							+ "\"/>\n");
+				}
+				if (i == 7 && created > 20) {
+					xml.append("<arrowlink DESTINATION=\"node_"
+							+ (created - 20) + "\" ENDARROW=\"Default\" ID=\"link_"
+							+ created + "\" STARTARROW=\"None\"/>\n");
+				}
+				xml.append("</node>\n");
+			}
+			xml.append("</node>\n");
+		}
+		xml.append("</node>\n");
+		xml.append("</map>\n");
+		return xml.toString();
+	}
+}
@@ -0,0 +1,123 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.io.File;
+import java.io.StringWriter;
+
+import freemind.main.Tools;
+import freemind.main.XMLElement;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapAdapter;
+import freemind.modes.MapSnapshot;
+import freemind.modes.MapStreamWriter;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * Checks that the streaming map writer produces the same files as the former
+ * XMLElement based one. The *_saved.mm files were written by the XMLElement
+ * based implementation.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapStreamWriterTests extends FreeMindTestBase {
+
+	private static final int BENCHMARK_NODES = 20000;
+
+	public void testTestmapIsSavedAsBefore() throws Exception {
+		String xml = Tools.getFile(new File("tests/freemind/testmap.mm"));
+		assertEquals(
+				Tools.getFile(new File("tests/freemind/testmap_saved.mm")),
+				loadAndSave(xml));
+	}
+
+	public void testGeneratedMapIsSavedAsBefore() throws Exception {
+		String xml = MapStreamLoaderTests.createLargeMap(300);
+		assertEquals(
+				Tools.getFile(new File("tests/freemind/generated_saved.mm")),
+				loadAndSave(xml));
+	}
+
+	public void testLargeMapRoundTrip() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		String saved = loadAndSave(MapStreamLoaderTests
+				.createLargeMap(BENCHMARK_NODES));
+		long start = System.currentTimeMillis();
+		String savedAgain = loadAndSave(saved);
+		System.out.println("Loading and saving " + BENCHMARK_NODES
+				+ " nodes took " + (System.currentTimeMillis() - start)
+				+ " ms.");
+		assertEquals(saved, savedAgain);
+	}
+
+	/**
+	 * The compressed snapshot of the automatic save gives the saved xml and
+	 * can be read more than once.
+	 */
+	public void testSnapshotIsTheSavedXml() throws Exception {
+		MindMapMapModel map = load(MapStreamLoaderTests.createLargeMap(300));
+		String expected = MapStreamLoaderTests.getXml(map);
+		MapSnapshot snapshot = new MapSnapshot();
+		map.getXml(snapshot.getWriter());
+		for (int i = 0; i < 2; i++) {
+			StringWriter writer = new StringWriter();
+			snapshot.writeTo(writer);
+			assertEquals(expected, writer.toString());
+		}
+		assertTrue(snapshot.getSize() < expected.length() / 3);
+	}
+
+	public void testEncodingIsTheSameAsXMLElement() throws Exception {
+		String value = "plain <tag> & \"quoted\" 'single'\nä€\t~";
+		XMLElement element = new XMLElement();
+		element.setName("test");
+		element.setAttribute("B", value);
+		element.setAttribute("A", "first");
+		StringWriter expected = new StringWriter();
+		element.write(expected);
+
+		StringWriter actual = new StringWriter();
+		MapStreamWriter writer = new MapStreamWriter(actual);
+		writer.startElement("test");
+		writer.addAttribute("A", "first");
+		writer.addAttribute("B", value);
+		writer.endElement();
+		assertEquals(expected.toString(), actual.toString());
+	}
+
+	private String loadAndSave(String pXml) throws Exception {
+		return MapStreamLoaderTests.getXml(load(pXml));
+	}
+
+	private MindMapMapModel load(String pXml) throws Exception {
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel map = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(map);
+		MindMapNode root = map.loadTree(new Tools.StringReaderCreator(pXml),
+				MapAdapter.sDontAskInstance);
+		map.setRoot(root);
+		return map;
+	}
+}
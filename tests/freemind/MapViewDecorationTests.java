@@ -0,0 +1,118 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Point;
+import java.io.File;
+import java.io.FileWriter;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import freemind.view.mindmapview.IndependantMapViewCreator;
+import freemind.view.mindmapview.MapView;
+import freemind.view.mindmapview.NodeFoldingComponent;
+
+/**
+ * The folding buttons are only created for nodes near the visible area.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapViewDecorationTests extends FreeMindTestBase {
+
+	private static final int BRANCHES = 300;
+
+	private File mFile;
+
+	private MapView mMapView;
+
+	private MapView.ScrollPane mScrollPane;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		System.setProperty("java.awt.headless", "true");
+		mFile = File.createTempFile("decorations", ".mm");
+		FileWriter writer = new FileWriter(mFile);
+		writer.write("<map version=\"1.1.0\">\n<node TEXT=\"Root\">\n");
+		for (int i = 0; i < BRANCHES; i++) {
+			writer.write("<node TEXT=\"Branch " + i
+					+ "\">\n<node TEXT=\"Leaf\"/>\n</node>\n");
+		}
+		writer.write("</node>\n</map>\n");
+		writer.close();
+		IndependantMapViewCreator creator = new IndependantMapViewCreator();
+		mMapView = creator.createMapViewForFile(mFile.getPath(), new JPanel(),
+				mFreeMindMain);
+		mScrollPane = new MapView.ScrollPane();
+		mScrollPane.setBounds(0, 0, 400, 300);
+		mScrollPane.setViewportView(mMapView);
+		mScrollPane.addNotify();
+		layout();
+	}
+
+	protected void tearDown() throws Exception {
+		mFile.delete();
+		super.tearDown();
+	}
+
+	public void testOnlyVisibleNodesAreDecorated() throws Exception {
+		int visible = countFoldingComponents(mMapView);
+		assertTrue("Decorated " + visible, visible > 0);
+		assertTrue("Decorated " + visible, visible < BRANCHES / 2);
+		// scrolling to the end decorates other nodes:
+		SwingUtilities.invokeAndWait(() -> mScrollPane.getViewport()
+				.setViewPosition(new Point(0, mMapView.getHeight() - 300)));
+		layout();
+		assertTrue(countFoldingComponents(mMapView) < BRANCHES / 2);
+		// printing needs all:
+		SwingUtilities.invokeAndWait(() -> mMapView.preparePrinting());
+		assertEquals(BRANCHES, countFoldingComponents(mMapView));
+		SwingUtilities.invokeAndWait(() -> mMapView.endPrinting());
+		layout();
+		assertTrue(countFoldingComponents(mMapView) < BRANCHES / 2);
+	}
+
+	/**
+	 * Validates the scroll pane and waits for the decorations that are
+	 * updated afterwards.
+	 */
+	private void layout() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			SwingUtilities.invokeAndWait(() -> mScrollPane.validate());
+		}
+	}
+
+	private int countFoldingComponents(Container pContainer) {
+		int count = 0;
+		for (Component component : pContainer.getComponents()) {
+			if (component instanceof NodeFoldingComponent) {
+				count++;
+			}
+			if (component instanceof Container) {
+				count += countFoldingComponents((Container) component);
+			}
+		}
+		return count;
+	}
+}
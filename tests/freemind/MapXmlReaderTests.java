@@ -0,0 +1,189 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Font;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import freemind.main.Tools;
+import freemind.modes.ExtendedMapFeedbackAdapter;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapAdapter;
+import freemind.modes.MapXmlReader;
+import freemind.modes.MindMap;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+import freemind.modes.mindmapmode.MindMapNodeModel;
+
+/**
+ * Checks that transformations of the SAX events of a map give the same results
+ * as the ones of the filtered xml.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MapXmlReaderTests extends FreeMindTestBase {
+
+	private static final String COMMENT = "<!-- To view this file, download free mind mapping software FreeMind from http://freemind.sourceforge.net -->\n";
+
+	private static final int BENCHMARK_NODES = 20000;
+
+	private MindMapMapModel mMap;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		mMap = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(mMap);
+	}
+
+	public void testTestmapEventsAreTheSame() throws Exception {
+		load(Tools.getFile(new File("tests/freemind/testmap.mm")));
+		Transformer identity = TransformerFactory.newInstance()
+				.newTransformer();
+		assertEquals(transform(identity, getXmlSource()),
+				transform(identity, MapXmlReader.createSource(mMap, null)));
+	}
+
+	public void testHtmlExportIsTheSame() throws Exception {
+		load(Tools.getFile(new File("tests/freemind/testmap.mm")));
+		Transformer html = getHtmlTransformer();
+		assertEquals(transform(html, getXmlSource()),
+				transform(html, MapXmlReader.createSource(mMap, null)));
+	}
+
+	public void testCancel() throws Exception {
+		load(MapStreamLoaderTests.createLargeMap(100));
+		final int[] nodes = new int[1];
+		Source source = MapXmlReader.createSource(mMap,
+				() -> ++nodes[0] == 10);
+		String html = "";
+		try {
+			// xalan reports the error to its error listener only:
+			html = transform(getHtmlTransformer(), source);
+		} catch (Exception e) {
+			// the export is canceled
+		}
+		assertEquals(10, nodes[0]);
+		assertTrue(html.length() < transform(getHtmlTransformer(),
+				MapXmlReader.createSource(mMap, null)).length());
+	}
+
+	/**
+	 * The map is read outside of the event dispatch thread, thus the nodes
+	 * must not fire pre save events to the editors.
+	 */
+	public void testNoPreSaveEvents() throws Exception {
+		final int[] events = new int[1];
+		ExtendedMapFeedbackAdapter mapFeedback = new ExtendedMapFeedbackAdapter() {
+			public MindMap getMap() {
+				return mMap;
+			}
+
+			public MindMapNode newNode(Object pUserObject, MindMap pMap) {
+				return new MindMapNodeModel(pUserObject, pMap);
+			}
+
+			public Font getDefaultFont() {
+				return new Font("SansSerif", 0, 12);
+			}
+
+			public void firePreSaveEvent(MindMapNode pNode) {
+				events[0]++;
+			}
+		};
+		mMap = new MindMapMapModel(mapFeedback);
+		load(MapStreamLoaderTests.createLargeMap(100));
+		getXmlSource();
+		assertTrue(events[0] > 0);
+		events[0] = 0;
+		transform(TransformerFactory.newInstance().newTransformer(),
+				MapXmlReader.createSource(mMap, null));
+		assertEquals(0, events[0]);
+	}
+
+	/**
+	 * Prints the time of the html export of a large map with and without the
+	 * intermediate string.
+	 */
+	public void testExportBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		load(MapStreamLoaderTests.createLargeMap(BENCHMARK_NODES));
+		Transformer html = getHtmlTransformer();
+		// warm up:
+		transform(html, MapXmlReader.createSource(mMap, null));
+		long time = System.nanoTime();
+		String expected = transform(html, getXmlSource());
+		long stringTime = System.nanoTime() - time;
+		time = System.nanoTime();
+		String actual = transform(html, MapXmlReader.createSource(mMap, null));
+		time = System.nanoTime() - time;
+		System.out.println("Html export of " + BENCHMARK_NODES
+				+ " nodes: via string " + stringTime / 1000000
+				+ " ms, via SAX events " + time / 1000000 + " ms.");
+		assertEquals(expected, actual);
+	}
+
+	private Transformer getHtmlTransformer() throws Exception {
+		Transformer transformer = TransformerFactory.newInstance()
+				.newTransformer(
+						new StreamSource(new File("accessories/toxhtml.xsl")));
+		transformer.setParameter("destination_dir", "test_files/");
+		transformer.setParameter("area_code", "");
+		transformer.setParameter("folding_type", "html_export_fold_all");
+		return transformer;
+	}
+
+	/**
+	 * @return the filtered xml without the comment, as the SAX events don't
+	 *         contain it.
+	 */
+	private Source getXmlSource() throws Exception {
+		StringWriter writer = new StringWriter();
+		mMap.getFilteredXml(writer);
+		String xml = writer.toString();
+		assertTrue(xml.contains(COMMENT));
+		return new StreamSource(new StringReader(xml.replace(COMMENT, "")));
+	}
+
+	private String transform(Transformer pTransformer, Source pSource)
+			throws Exception {
+		StringWriter writer = new StringWriter();
+		pTransformer.transform(pSource, new StreamResult(writer));
+		return writer.toString();
+	}
+
+	private void load(String pXml) throws Exception {
+		MindMapNode root = mMap.loadTree(new Tools.StringReaderCreator(pXml),
+				MapAdapter.sDontAskInstance);
+		mMap.setRoot(root);
+	}
+}
@@ -0,0 +1,116 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import freemind.controller.Controller;
+import freemind.main.Tools;
+import freemind.modes.MapAdapter;
+import freemind.modes.MindMapNode;
+import freemind.modes.ModeController;
+import freemind.modes.mindmapmode.MindMapController;
+import freemind.modes.mindmapmode.MindMapMapModel;
+import freemind.modes.mindmapmode.MindMapMode;
+import freemind.modes.mindmapmode.actions.xml.DefaultActionHandler;
+import freemind.modes.mindmapmode.actions.xml.actors.XmlActorFactory;
+
+/**
+ * Base of the tests that need a mind map controller with a map, but without
+ * a frame and a view.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MindMapControllerTestBase extends FreeMindTestBase {
+
+	/**
+	 * Only the actors, without menus, undo and view.
+	 */
+	protected static class TestMindMapController extends MindMapController {
+		private XmlActorFactory mActorFactory;
+
+		public TestMindMapController(MindMapMode pMode) {
+			super(pMode);
+		}
+
+		protected void init() {
+			getActionRegistry().registerHandler(
+					new DefaultActionHandler(getActionRegistry()));
+			mActorFactory = new XmlActorFactory(this);
+		}
+
+		public XmlActorFactory getActorFactory() {
+			return mActorFactory;
+		}
+
+		public boolean isUndoAction() {
+			return false;
+		}
+
+		public void setSaved(boolean pIsClean) {
+			// no title without a frame.
+			getMap().setSaved(pIsClean);
+		}
+
+		public void removeNodeFromParent(MindMapNode pNode) {
+			// no view to deselect the node in.
+			getMap().removeNodeFromParent(pNode);
+		}
+	}
+
+	protected MindMapController mController;
+
+	protected MindMapMapModel mMap;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		Controller controller = new Controller(mFreeMindMain);
+		controller.initialization();
+		MindMapMode mode = new MindMapMode() {
+			public ModeController createModeController() {
+				return createController(this);
+			};
+		};
+		mode.init(controller);
+		mController = (MindMapController) mode.createModeController();
+		mMap = new MindMapMapModel(mController);
+		mController.setModel(mMap);
+	}
+
+	/**
+	 * Override to change the behaviour of the controller.
+	 */
+	protected MindMapController createController(MindMapMode pMode) {
+		return new TestMindMapController(pMode);
+	}
+
+	/**
+	 * Replaces the nodes of the map.
+	 *
+	 * @param pNodes
+	 *            the xml of the root node.
+	 */
+	protected void load(String pNodes) throws Exception {
+		MindMapNode root = mMap.loadTree(new Tools.StringReaderCreator(
+				"<map version=\"1.1.0\">" + pNodes + "</map>"),
+				MapAdapter.sDontAskInstance);
+		mMap.setRoot(root);
+	}
+}
@@ -0,0 +1,186 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.util.Iterator;
+import java.util.List;
+
+import freemind.main.Tools;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapAdapter;
+import freemind.modes.MindMapLink;
+import freemind.modes.MindMapLinkRegistry;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class MindMapLinkRegistryTests extends FreeMindTestBase {
+
+	private static final int BENCHMARK_NODES = 5000;
+
+	private static final int LINK_DISTANCE = 20;
+
+	private static final int REPAINTS = 200;
+
+	private static final int SAVES = 40;
+
+	private ExtendedMapFeedbackImpl mMapFeedback;
+
+	private MindMapMapModel mMap;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mMapFeedback = new ExtendedMapFeedbackImpl();
+		mMap = new MindMapMapModel(mMapFeedback);
+		mMapFeedback.setMap(mMap);
+	}
+
+	public void testLinkLookup() throws Exception {
+		load(100);
+		MindMapLinkRegistry registry = mMap.getLinkRegistry();
+		MindMapNode source = registry.getTargetForId("node_50");
+		MindMapNode target = registry.getTargetForId("node_30");
+		List<MindMapLink> from = registry.getAllLinksFromMe(source);
+		assertEquals(1, from.size());
+		assertSame(target, from.get(0).getTarget());
+		// node_50 is target of node_70, node_30 of node_50:
+		assertEquals(1, registry.getAllLinksIntoMe(source).size());
+		assertEquals(2, registry.getAllLinks(source).size());
+		assertEquals(2, registry.getAllLinks(target).size());
+		assertSame(source, registry.getAllSources(target).get(0));
+		try {
+			from.clear();
+			fail("Must be unmodifiable.");
+		} catch (UnsupportedOperationException e) {
+		}
+		// no links:
+		assertEquals(0, registry.getAllLinksIntoMe(
+				registry.getTargetForId("node_99")).size());
+		assertEquals(0, registry.getAllLinksFromMe(
+				registry.getTargetForId("node_5")).size());
+		assertEquals(1, registry.getAllLinks(
+				registry.getTargetForId("node_5")).size());
+	}
+
+	public void testDeregistration() throws Exception {
+		load(100);
+		MindMapLinkRegistry registry = mMap.getLinkRegistry();
+		MindMapNode source = registry.getTargetForId("node_50");
+		MindMapNode target = registry.getTargetForId("node_30");
+		MindMapLink link = registry.getAllLinksFromMe(source).get(0);
+		mMapFeedback.removeReference(link);
+		assertEquals(0, registry.getAllLinksFromMe(source).size());
+		assertEquals(0, registry.getAllLinksIntoMe(target).size());
+		assertNull(registry.getLinkForId(link.getUniqueId()));
+		// removing a node removes all its links:
+		MindMapLink incoming = registry.getAllLinksIntoMe(source).get(0);
+		registry.deregisterLinkTarget(source);
+		assertEquals(0, registry.getAllLinksFromMe(incoming.getSource())
+				.size());
+		assertNull(registry.getTargetForId("node_50"));
+	}
+
+	/**
+	 * Prints the cost of the registry lookups done by a repaint (all links of
+	 * every node) and by saving the map.
+	 */
+	public void testLinkBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		load(BENCHMARK_NODES);
+		MindMapLinkRegistry registry = mMap.getLinkRegistry();
+		// warm up:
+		for (int i = 0; i < 20; i++) {
+			repaint(registry, mMap.getRootNode());
+			MapStreamLoaderTests.getXml(mMap);
+		}
+		long allocated = MapStreamLoaderTests.getAllocatedBytes();
+		long start = System.nanoTime();
+		int links = 0;
+		for (int i = 0; i < REPAINTS; i++) {
+			links = repaint(registry, mMap.getRootNode());
+		}
+		long repaintTime = (System.nanoTime() - start) / REPAINTS / 1000;
+		long repaintAllocated = (MapStreamLoaderTests.getAllocatedBytes() - allocated)
+				/ REPAINTS / 1024;
+		start = System.nanoTime();
+		for (int i = 0; i < SAVES; i++) {
+			MapStreamLoaderTests.getXml(mMap);
+		}
+		long saveTime = (System.nanoTime() - start) / SAVES / 1000000;
+		System.out.println("Map with " + BENCHMARK_NODES + " nodes and "
+				+ links / 2 + " arrow links: repaint lookups " + repaintTime
+				+ " us (" + repaintAllocated + " KB allocated), save "
+				+ saveTime + " ms.");
+		// every link is found at its source and at its target:
+		assertEquals(2 * (BENCHMARK_NODES - LINK_DISTANCE), links);
+	}
+
+	/**
+	 * Does the lookups of MapView.paintLinks.
+	 *
+	 * @return the number of links found.
+	 */
+	private int repaint(MindMapLinkRegistry pRegistry, MindMapNode pNode) {
+		int links = pRegistry.getAllLinks(pNode).size();
+		for (Iterator it = pNode.childrenUnfolded(); it.hasNext();) {
+			links += repaint(pRegistry, (MindMapNode) it.next());
+		}
+		return links;
+	}
+
+	/**
+	 * Loads a map in which every node links to the node
+	 * {@link #LINK_DISTANCE} nodes before.
+	 */
+	private void load(int pNodeCount) throws Exception {
+		StringBuilder xml = new StringBuilder();
+		xml.append("<map version=\"1.0.1\">\n<node ID=\"node_0\" TEXT=\"Root\">\n");
+		for (int i = 1; i < pNodeCount; i++) {
+			if (i % 10 == 1) {
+				if (i > 1) {
+					xml.append("</node>\n");
+				}
+				xml.append("<node ID=\"node_" + i + "\" TEXT=\"Branch\">\n");
+			} else {
+				xml.append("<node ID=\"node_" + i + "\" TEXT=\"Node " + i
+						+ "\">\n");
+			}
+			if (i >= LINK_DISTANCE) {
+				xml.append("<arrowlink DESTINATION=\"node_"
+						+ (i - LINK_DISTANCE) + "\" ID=\"link_" + i
+						+ "\"/>\n");
+			}
+			if (i % 10 != 1) {
+				xml.append("</node>\n");
+			}
+		}
+		xml.append("</node>\n</node>\n</map>\n");
+		MindMapNode root = mMap.loadTree(
+				new Tools.StringReaderCreator(xml.toString()),
+				MapAdapter.sDontAskInstance);
+		mMap.setRoot(root);
+	}
+}
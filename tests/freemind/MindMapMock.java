@@ -44,6 +44,7 @@ import freemind.modes.CloudAdapter;
 import freemind.modes.EdgeAdapter;
 import freemind.modes.MapFeedback;
 import freemind.modes.MapFeedbackAdapter;
+import freemind.modes.MapStreamWriter;
 import freemind.modes.MindMap;
 import freemind.modes.MindMapLinkRegistry;
 import freemind.modes.MindMapNode;
@@ -106,6 +107,11 @@ public class MindMapMock implements MindMap {
 		fileout.close();
 	}
 
+	@Override
+	public void getFilteredXml(MapStreamWriter pWriter) throws IOException {
+		pWriter.addEncodedContent(mapXmlString);
+	}
+
 	@Override
 	public String getRestorable() {
 		return null;
@@ -332,6 +338,15 @@ public class MindMapMock implements MindMap {
 		
 	}
 
+	/* (non-Javadoc)
+	 * @see freemind.modes.MindMap#insertNodesInto(java.util.List, freemind.modes.MindMapNode, int)
+	 */
+	@Override
+	public void insertNodesInto(List pNodes, MindMapNode pParentNode,
+			int pIndex) {
+		
+	}
+
 	/* (non-Javadoc)
 	 * @see freemind.modes.MindMap#removeNodeFromParent(freemind.modes.MindMapNode)
 	 */
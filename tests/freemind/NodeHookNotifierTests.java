@@ -0,0 +1,220 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Color;
+import java.util.HashSet;
+import java.util.Vector;
+
+import freemind.extensions.PermanentNodeHookAdapter;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MindMapNode;
+import freemind.modes.NodeAdapter;
+import freemind.modes.NodeHookNotifier;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * Checks that the events of the node hooks are collected during a
+ * transaction and delivered once per node.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class NodeHookNotifierTests extends MindMapControllerTestBase {
+
+	private static final int BENCHMARK_NODES = 2000;
+
+	private NodeHookNotifier mNotifier;
+
+	/**
+	 * Records the events it gets.
+	 */
+	private static class RecordingHook extends PermanentNodeHookAdapter {
+		private final Vector<String> mEvents = new Vector<>();
+
+		public void onUpdateNodeHook() {
+			mEvents.add("updated " + getNode());
+		}
+
+		public void onUpdateChildrenHook(MindMapNode pUpdatedNode) {
+			mEvents.add("updated child " + pUpdatedNode);
+		}
+
+		public void onAddChildren(MindMapNode pAddedChild) {
+			mEvents.add("added " + pAddedChild);
+		}
+
+		public void onRemoveChildren(MindMapNode pOldChildNode,
+				MindMapNode pOldDad) {
+			mEvents.add("removed " + pOldChildNode + " from " + pOldDad);
+		}
+	}
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mNotifier = mController.getActionRegistry().getNodeHookNotifier();
+	}
+
+	public void testEventsOfATransactionAreDeliveredOncePerNode()
+			throws Exception {
+		load("<node TEXT=\"Root\"><node TEXT=\"a\"><node TEXT=\"b\"/></node>"
+				+ "<node TEXT=\"z\"/></node>");
+		RecordingHook hook = addHook(mMap.getRootNode());
+		MindMapNode a = (MindMapNode) mMap.getRootNode().getChildAt(0);
+		MindMapNode b = (MindMapNode) a.getChildAt(0);
+		MindMapNode z = (MindMapNode) mMap.getRootNode().getChildAt(1);
+		mNotifier.startTransaction();
+		mController.setNodeColor(a, Color.red);
+		mController.setNodeColor(a, Color.blue);
+		mController.setNodeText(b, "c");
+		mController.setNodeColor(b, Color.red);
+		MindMapNode removed = mController.newNode("removed", mMap);
+		mMap.insertNodeInto(removed, z, 0);
+		mMap.removeNodeFromParent(removed);
+		mMap.insertNodeInto(mController.newNode("added", mMap), z, 0);
+		// a move:
+		mMap.removeNodeFromParent(b);
+		mMap.insertNodeInto(b, z, 1);
+		// a move up, back under the old parent:
+		mMap.removeNodeFromParent(z);
+		mMap.insertNodeInto(z, mMap.getRootNode(), 0);
+		assertEquals(0, hook.mEvents.size());
+		mNotifier.endTransaction();
+		assertEquals(new HashSet<>(hook.mEvents).size(), hook.mEvents.size());
+		assertTrue(hook.mEvents.contains("updated child a"));
+		assertTrue(hook.mEvents.contains("updated child c"));
+		assertTrue(hook.mEvents.contains("removed removed from z"));
+		assertFalse(hook.mEvents.contains("added removed"));
+		assertTrue(hook.mEvents.contains("added added"));
+		assertTrue(hook.mEvents.contains("removed c from a"));
+		assertTrue(hook.mEvents.contains("added c"));
+		assertTrue(hook.mEvents.indexOf("removed c from a") < hook.mEvents
+				.indexOf("added c"));
+		assertFalse(hook.mEvents.contains("removed z from Root"));
+		assertFalse(hook.mEvents.contains("added z"));
+	}
+
+	public void testEventsOutsideOfATransactionAreDeliveredDirectly()
+			throws Exception {
+		load("<node TEXT=\"Root\"><node TEXT=\"a\"/></node>");
+		RecordingHook hook = addHook(mMap.getRootNode());
+		MindMapNode a = (MindMapNode) mMap.getRootNode().getChildAt(0);
+		mMap.insertNodeInto(mController.newNode("b", mMap), a, 0);
+		assertEquals("[added b]", hook.mEvents.toString());
+		// a transaction of its own:
+		mController.setNodeColor(a, Color.red);
+		assertEquals("[added b, updated child a]", hook.mEvents.toString());
+		mController.setNodeColor(mMap.getRootNode(), Color.red);
+		assertEquals("[added b, updated child a, updated Root]",
+				hook.mEvents.toString());
+	}
+
+	/**
+	 * The hooks of the other nodes still get their events, after a node with
+	 * hooks was deleted or removed from the map.
+	 */
+	public void testEventsAfterAHookedNodeIsDeleted() throws Exception {
+		load("<node TEXT=\"Root\"><node TEXT=\"a\"><node TEXT=\"a1\"/></node>"
+				+ "<node TEXT=\"b\"><node TEXT=\"b1\"/></node>"
+				+ "<node TEXT=\"c\"/></node>");
+		MindMapNode root = mMap.getRootNode();
+		MindMapNode a = (MindMapNode) root.getChildAt(0);
+		MindMapNode b = (MindMapNode) root.getChildAt(1);
+		MindMapNode b1 = (MindMapNode) b.getChildAt(0);
+		MindMapNode c = (MindMapNode) root.getChildAt(2);
+		addHook(a);
+		addHook((MindMapNode) a.getChildAt(0));
+		RecordingHook hook = addHook(b);
+		mController.getActorFactory().getDeleteChildActor().deleteNode(a);
+		assertTrue(a.getActivatedHooks().isEmpty());
+		mController.setNodeColor(b1, Color.red);
+		assertEquals("[updated child b1]", hook.mEvents.toString());
+		// removed without deactivating its hooks, and deactivated afterwards:
+		RecordingHook removedHook = addHook(c);
+		mMap.removeNodeFromParent(c);
+		c.removeHook(removedHook);
+		mController.setNodeColor(b1, Color.blue);
+		assertEquals("[updated child b1, updated child b1]",
+				hook.mEvents.toString());
+		// hooked in another map and moved into this one:
+		ExtendedMapFeedbackImpl otherFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel otherMap = new MindMapMapModel(otherFeedback);
+		otherFeedback.setMap(otherMap);
+		NodeAdapter moved = (NodeAdapter) otherFeedback.newNode("moved",
+				otherMap);
+		RecordingHook movedHook = addHook(moved);
+		moved.setMap(mMap);
+		mMap.insertNodeInto(moved, root, 0);
+		moved.removeHook(movedHook);
+		mController.setNodeColor(b1, Color.green);
+		assertEquals(3, hook.mEvents.size());
+	}
+
+	/**
+	 * Prints the time and the number of hook events of changes of many nodes
+	 * inside of one transaction and in transactions of their own.
+	 */
+	public void testTransactionBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		StringBuilder xml = new StringBuilder("<node TEXT=\"Root\"><node TEXT=\"Branch\">");
+		for (int i = 0; i < BENCHMARK_NODES; i++) {
+			xml.append("<node TEXT=\"Node " + i + "\"/>");
+		}
+		xml.append("</node></node>");
+		load(xml.toString());
+		RecordingHook hook = addHook(mMap.getRootNode());
+		MindMapNode branch = (MindMapNode) mMap.getRootNode().getChildAt(0);
+		long time = System.currentTimeMillis();
+		changeChildren(branch, Color.red);
+		long single = System.currentTimeMillis() - time;
+		int singleEvents = hook.mEvents.size();
+		hook.mEvents.clear();
+		time = System.currentTimeMillis();
+		mNotifier.startTransaction();
+		changeChildren(branch, Color.blue);
+		mNotifier.endTransaction();
+		time = System.currentTimeMillis() - time;
+		assertEquals(BENCHMARK_NODES, hook.mEvents.size());
+		System.out.println("Changing " + BENCHMARK_NODES
+				+ " nodes twice in one transaction: " + time + " ms, "
+				+ hook.mEvents.size() + " hook events; one by one " + single
+				+ " ms, " + singleEvents + " hook events.");
+	}
+
+	private void changeChildren(MindMapNode pParent, Color pColor) {
+		for (int i = 0; i < pParent.getChildCount(); i++) {
+			MindMapNode child = (MindMapNode) pParent.getChildAt(i);
+			mController.setNodeColor(child, pColor);
+			mController.setNodeText(child, child.getText() + "'");
+		}
+	}
+
+	private RecordingHook addHook(MindMapNode pNode) {
+		RecordingHook hook = new RecordingHook();
+		hook.setName(RecordingHook.class.getName());
+		hook.setController(mController);
+		pNode.addHook(hook);
+		pNode.invokeHook(hook);
+		return hook;
+	}
+}
@@ -0,0 +1,183 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Date;
+import java.util.HashMap;
+
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.HistoryInformation;
+import freemind.modes.MapStreamLoader;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * Measures the heap needed per node of generated maps.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class NodeMemoryTests extends FreeMindTestBase {
+
+	private static final int BENCHMARK_NODES = 50000;
+
+	public void testLoadedNodesShareTheirAttributes() throws Exception {
+		MindMapMapModel map = createMap();
+		MindMapNode root = load(map, createPlainMap(100));
+		MindMapNode first = (MindMapNode) root.getChildAt(0).getChildAt(0);
+		MindMapNode second = (MindMapNode) root.getChildAt(0).getChildAt(7);
+		assertEquals(first.getColor(), second.getColor());
+		assertSame(first.getColor(), second.getColor());
+		assertSame(first.getStyle(), second.getStyle());
+		assertSame(((MindMapNode) root.getChildAt(0)).getEdge().getStyle(),
+				((MindMapNode) root.getChildAt(1)).getEdge().getStyle());
+		assertEquals(1160462630102l, first.getHistoryInformation()
+				.getCreatedAt().getTime());
+		assertEquals(1160462667140l, first.getHistoryInformation()
+				.getLastModifiedAt().getTime());
+		// changes of the history are kept:
+		first.getHistoryInformation().setLastModifiedAt(new java.util.Date(42));
+		assertEquals(42, first.getHistoryInformation().getLastModifiedAt()
+				.getTime());
+		// the edge of a node without an edge element inherits:
+		assertEquals(((MindMapNode) root.getChildAt(0)).getEdge().getStyle(),
+				first.getEdge().getStyle());
+		map.setRoot(root);
+		String xml = MapStreamLoaderTests.getXml(map);
+		assertTrue(xml.indexOf("MODIFIED=\"42\"") > 0);
+		// an edge is only saved, if it has attributes:
+		assertEquals(countOccurrences(createPlainMap(100), "<edge"),
+				countOccurrences(xml, "<edge"));
+	}
+
+	/**
+	 * The history information is created once and kept, also when it is set
+	 * to null.
+	 */
+	public void testHistoryInformationIsStored() throws Exception {
+		MindMapMapModel map = createMap();
+		MindMapNode root = load(map, createPlainMap(10));
+		MindMapNode node = (MindMapNode) root.getChildAt(0);
+		HistoryInformation history = node.getHistoryInformation();
+		assertSame(history, node.getHistoryInformation());
+		history.setCreatedAt(new Date(17));
+		assertEquals(17, node.getHistoryInformation().getCreatedAt().getTime());
+		node.setHistoryInformation(null);
+		assertNull(node.getHistoryInformation());
+		map.setRoot(root);
+		String xml = MapStreamLoaderTests.getXml(map);
+		assertEquals(countOccurrences(xml, "<node") - 1,
+				countOccurrences(xml, "CREATED="));
+		node.setHistoryInformation(history);
+		assertSame(history, node.getHistoryInformation());
+	}
+
+	/**
+	 * Prints the heap per node of generated maps.
+	 */
+	public void testHeapPerNode() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		// warm up:
+		measure(createPlainMap(1000));
+		System.out.println("Heap per node: plain map "
+				+ measure(createPlainMap(BENCHMARK_NODES))
+				+ " bytes, decorated map "
+				+ measure(MapStreamLoaderTests.createLargeMap(BENCHMARK_NODES))
+				+ " bytes.");
+	}
+
+	/**
+	 * @return the bytes of the live heap per node of the loaded map.
+	 */
+	private long measure(String pXml) throws Exception {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		MindMapMapModel map = createMap();
+		memory.gc();
+		long before = memory.getHeapMemoryUsage().getUsed();
+		MindMapNode root = load(map, pXml);
+		memory.gc();
+		long after = memory.getHeapMemoryUsage().getUsed();
+		int count = countNodes(root);
+		assertTrue(count >= BENCHMARK_NODES || count < 2000);
+		return (after - before) / count;
+	}
+
+	private int countNodes(MindMapNode pNode) {
+		int count = 1;
+		for (int i = 0; i < pNode.getChildCount(); i++) {
+			count += countNodes((MindMapNode) pNode.getChildAt(i));
+		}
+		return count;
+	}
+
+	private int countOccurrences(String pText, String pPart) {
+		int count = 0;
+		for (int index = pText.indexOf(pPart); index >= 0; index = pText
+				.indexOf(pPart, index + 1)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a map of plain text nodes with colors and styles, as most
+	 * large maps consist of.
+	 */
+	private String createPlainMap(int pNodeCount) {
+		StringBuilder xml = new StringBuilder("<map version=\"1.0.1\">\n");
+		xml.append("<node CREATED=\"1160462630102\" MODIFIED=\"1160462667140\" TEXT=\"Root\">\n");
+		int created = 1;
+		while (created < pNodeCount) {
+			xml.append("<node CREATED=\"1160462630102\" MODIFIED=\"1160462667140\" POSITION=\"right\" TEXT=\"Branch "
+					+ created + "\">\n");
+			xml.append("<edge COLOR=\"#808080\" STYLE=\"bezier\" WIDTH=\"thin\"/>\n");
+			created++;
+			for (int i = 0; i < 20 && created < pNodeCount; i++, created++) {
+				xml.append("<node COLOR=\"#990000\" CREATED=\"1160462630102\" MODIFIED=\"1160462667140\" STYLE=\"fork\" TEXT=\"Node "
+						+ created + "\"/>\n");
+			}
+			xml.append("</node>\n");
+		}
+		xml.append("</node>\n</map>\n");
+		return xml.toString();
+	}
+
+	private MindMapNode load(MindMapMapModel pMap, String pXml)
+			throws Exception {
+		MapStreamLoader loader = new MapStreamLoader(pMap.getMapFeedback(),
+				new HashMap());
+		MindMapNode root = loader.load(new StringReader(pXml));
+		loader.processUnfinishedLinks(pMap.getLinkRegistry());
+		return root;
+	}
+
+	private MindMapMapModel createMap() {
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel map = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(map);
+		return map;
+	}
+}
@@ -0,0 +1,192 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.logging.Logger;
+
+import plugins.search.FileSearchModel;
+import plugins.search.Search;
+import plugins.search.Search.SearchResult;
+import plugins.search.SearchIndexUpdater;
+import freemind.main.Tools;
+import freemind.modes.ExtendedMapFeedbackImpl;
+import freemind.modes.MapAdapter;
+import freemind.modes.MindMapLinkRegistry;
+import freemind.modes.MindMapNode;
+import freemind.modes.mindmapmode.MindMapMapModel;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class SearchIndexTests extends FreeMindTestBase {
+
+	private File mDirectory;
+
+	private File mMapFile;
+
+	private File mIndexDirectory;
+
+	private Logger mLogger;
+
+	private FileSearchModel mModel;
+
+	private Search mSearch;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		mDirectory = createTempDirectory("search_maps");
+		mIndexDirectory = createTempDirectory("search_index");
+		mMapFile = new File(mDirectory, "map.mm");
+		writeMap(mMapFile, "Saved");
+		mLogger = Logger.getLogger(SearchIndexTests.class.getName());
+		mModel = FileSearchModel.getInstance(mIndexDirectory, mLogger);
+		mSearch = new Search(mLogger, mIndexDirectory);
+	}
+
+	protected void tearDown() throws Exception {
+		mSearch.close();
+		mModel.release().get();
+		delete(mDirectory);
+		delete(mIndexDirectory);
+		super.tearDown();
+	}
+
+	/**
+	 * The nodes of an open map are kept, when its file is indexed again.
+	 */
+	public void testReindexDirectoryWithOpenMap() throws Exception {
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel map = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(map);
+		MindMapNode root = map.loadTree(new Tools.StringReaderCreator(
+				getMapXml("Unsaved")), MapAdapter.sDontAskInstance);
+		map.setRoot(root);
+		map.setFile(mMapFile);
+		SearchIndexUpdater updater = new SearchIndexUpdater(mapFeedback, map);
+		updater.register();
+		try {
+			String[] keys = SearchIndexUpdater.indexOpenMaps(mIndexDirectory,
+					mLogger);
+			mModel.refresh(mDirectory).get();
+			checkOpenMap(keys);
+			assertEquals(1, mModel.search(mSearch, "saved", mDirectory).length);
+			// changed on disk:
+			writeMap(mMapFile, "Changed");
+			mMapFile.setLastModified(mMapFile.lastModified() + 2000);
+			mModel.refresh(mDirectory).get();
+			checkOpenMap(keys);
+			assertEquals(1,
+					mModel.search(mSearch, "changed", mDirectory).length);
+			// removed on disk:
+			mMapFile.delete();
+			mModel.refresh(mDirectory).get();
+			checkOpenMap(keys);
+			assertEquals(0,
+					mModel.search(mSearch, "changed", mDirectory).length);
+		} finally {
+			updater.deRegister();
+		}
+	}
+
+	/**
+	 * Indexing and updating the index don't give ids to the nodes. A node
+	 * gets one, when it is opened from a search result.
+	 */
+	public void testIndexingAssignsNoIds() throws Exception {
+		ExtendedMapFeedbackImpl mapFeedback = new ExtendedMapFeedbackImpl();
+		MindMapMapModel map = new MindMapMapModel(mapFeedback);
+		mapFeedback.setMap(map);
+		MindMapNode root = map.loadTree(new Tools.StringReaderCreator(
+				"<map version=\"1.1.0\"><node TEXT=\"Root\">"
+						+ "<node TEXT=\"apple\"/><node TEXT=\"pear\"/>"
+						+ "</node></map>"), MapAdapter.sDontAskInstance);
+		map.setRoot(root);
+		MindMapNode apple = (MindMapNode) root.getChildAt(0);
+		MindMapNode pear = (MindMapNode) root.getChildAt(1);
+		MindMapLinkRegistry registry = map.getLinkRegistry();
+		SearchIndexUpdater updater = new SearchIndexUpdater(mapFeedback, map);
+		updater.register();
+		try {
+			String[] keys = SearchIndexUpdater.indexOpenMaps(mIndexDirectory,
+					mLogger);
+			mModel.waitForUpdates();
+			SearchResult[] results = mModel.searchOpenMaps(mSearch, "pear",
+					keys);
+			assertEquals(1, results.length);
+			assertNull(registry.getState(root));
+			assertNull(registry.getState(pear));
+			// the edit gives an id to the node, but it keeps its key:
+			mapFeedback.setNodeText(pear, "pears");
+			mModel.waitForUpdates();
+			assertEquals(0, mModel.searchOpenMaps(mSearch, "pear", keys).length);
+			results = mModel.searchOpenMaps(mSearch, "pears", keys);
+			assertEquals(1, results.length);
+			mapFeedback.deleteNode(apple);
+			mModel.waitForUpdates();
+			assertEquals(0,
+					mModel.searchOpenMaps(mSearch, "apple", keys).length);
+			assertNull(registry.getState(root));
+			String id = SearchIndexUpdater.getNodeId(results[0].getNodeId());
+			assertSame(pear, registry.getTargetForId(id));
+		} finally {
+			updater.deRegister();
+		}
+	}
+
+	private void checkOpenMap(String[] pKeys) throws Exception {
+		mModel.waitForUpdates();
+		assertEquals(1, mModel.searchOpenMaps(mSearch, "unsaved", pKeys).length);
+	}
+
+	private String getMapXml(String pText) {
+		return "<map version=\"1.1.0\">\n<node ID=\"ID_1\" TEXT=\"" + pText
+				+ "\"/>\n</map>\n";
+	}
+
+	private void writeMap(File pFile, String pText) throws Exception {
+		FileWriter writer = new FileWriter(pFile);
+		try {
+			writer.write(getMapXml(pText));
+		} finally {
+			writer.close();
+		}
+	}
+
+	private File createTempDirectory(String pPrefix) throws Exception {
+		File directory = File.createTempFile(pPrefix, "");
+		directory.delete();
+		directory.mkdirs();
+		return directory;
+	}
+
+	private void delete(File pFile) {
+		File[] files = pFile.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				delete(file);
+			}
+		}
+		pFile.delete();
+	}
+}
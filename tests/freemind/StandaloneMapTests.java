@@ -26,7 +26,7 @@ import java.awt.Point;
 import java.awt.datatransfer.StringSelection;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.util.Vector;
+import java.util.List;
 
 import freemind.controller.actions.generated.instance.Pattern;
 import freemind.main.FreeMind;
@@ -207,9 +207,9 @@ public class StandaloneMapTests extends FreeMindTestBase {
 //		assertTrue(firstChild.isUnderlined());
 		// arrow links
 		mapFeedback.addLink(subChild1, subChild2);
-		Vector<MindMapLink> mapLinks = mapFeedback.getMap().getLinkRegistry().getAllLinksFromMe(subChild1);
+		List<MindMapLink> mapLinks = mapFeedback.getMap().getLinkRegistry().getAllLinksFromMe(subChild1);
 		assertEquals(1, mapLinks.size());
-		MindMapArrowLink mapLink = (MindMapArrowLink) mapLinks.firstElement();
+		MindMapArrowLink mapLink = (MindMapArrowLink) mapLinks.get(0);
 		assertEquals(subChild2, mapLink.getTarget());
 		Point startPoint = new Point(40,50);
 		Point endPoint = new Point(-10,-20);
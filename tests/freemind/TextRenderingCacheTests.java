@@ -0,0 +1,111 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Rectangle;
+import java.io.File;
+import java.io.FileWriter;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.text.View;
+
+import freemind.view.mindmapview.IndependantMapViewCreator;
+import freemind.view.mindmapview.MapView;
+import freemind.view.mindmapview.TextRenderingCache;
+
+/**
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class TextRenderingCacheTests extends FreeMindTestBase {
+
+	private static final String HTML = "<html><body><p>Some <b>bold</b> text</p></body></html>";
+
+	private static final int BENCHMARK_NODES = 1000;
+
+	public void testCacheAndEviction() throws Exception {
+		TextRenderingCache cache = new TextRenderingCache(2);
+		JLabel label = new JLabel();
+		assertNull(cache.getView(label, "plain"));
+		View view = cache.getView(label, HTML);
+		assertNotNull(view);
+		assertSame(view, cache.getView(label, HTML));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		// other font, other view:
+		label.setFont(label.getFont().deriveFont(Font.ITALIC));
+		View italicView = cache.getView(label, HTML);
+		assertNotSame(view, italicView);
+		// the same size as the view parsed by the label:
+		label.setText(HTML);
+		assertEquals(label.getPreferredSize().width, (int) italicView
+				.getPreferredSpan(View.X_AXIS));
+		label.setForeground(Color.RED);
+		cache.getView(label, HTML);
+		// least recently used view is removed:
+		assertEquals(2, cache.getSize());
+		assertNotSame(view, cache.getView(new JLabel(), HTML));
+		cache.clear();
+		assertEquals(0, cache.getSize());
+	}
+
+	/**
+	 * Zooming a map with html nodes takes the views from the cache.
+	 */
+	public void testZoomOfHtmlMap() throws Exception {
+		System.setProperty("java.awt.headless", "true");
+		File file = File.createTempFile("html_nodes", ".mm");
+		FileWriter writer = new FileWriter(file);
+		writer.write("<map version=\"1.1.0\">\n<node TEXT=\"Root\">\n");
+		for (int i = 0; i < BENCHMARK_NODES; i++) {
+			writer.write("<node><richcontent TYPE=\"NODE\"><html><body><p>Node <b>"
+					+ (i % 50) + "</b></p><ul><li>with</li><li>a list</li></ul>"
+					+ "</body></html></richcontent></node>\n");
+		}
+		writer.write("</node>\n</map>\n");
+		writer.close();
+		JPanel parent = new JPanel();
+		parent.setBounds(new Rectangle(0, 0, 400, 600));
+		IndependantMapViewCreator creator = new IndependantMapViewCreator();
+		MapView mapView = creator.createMapViewForFile(file.getPath(), parent,
+				mFreeMindMain);
+		mapView.doLayout();
+		Dimension size = mapView.getRoot().getSize();
+		TextRenderingCache cache = TextRenderingCache.getInstance();
+		int misses = cache.getMisses();
+		long time = System.nanoTime();
+		mapView.setZoom(2f);
+		mapView.doLayout();
+		mapView.setZoom(1f);
+		mapView.doLayout();
+		time = System.nanoTime() - time;
+		System.out.println("Zooming " + BENCHMARK_NODES + " html nodes: "
+				+ time / 1000000 + "ms, " + cache.getHits() + " hits, "
+				+ cache.getMisses() + " misses.");
+		assertEquals(misses, cache.getMisses());
+		assertEquals(size, mapView.getRoot().getSize());
+		file.delete();
+	}
+}
@@ -0,0 +1,230 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+import javax.swing.JPanel;
+
+import freemind.view.mindmapview.IndependantMapViewCreator;
+import freemind.view.mindmapview.MapView;
+import freemind.view.mindmapview.TiledMapImage;
+
+/**
+ * Compares the band wise painted map images with the ones painted at once.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class TiledMapImageTests extends FreeMindTestBase {
+
+	private static final String TESTMAP_MM = "tests/freemind/testmap.mm";
+
+	private static final int BENCHMARK_NODES = 2000;
+
+	/**
+	 * Anti-aliased shapes cut by a band border differ slightly from the ones
+	 * painted at once.
+	 */
+	private static final int TOLERANCE = 16;
+
+	private MapView mView;
+
+	private File mTemporaryMap = null;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		System.setProperty("java.awt.headless", "true");
+	}
+
+	protected void tearDown() throws Exception {
+		if (mView != null) {
+			mView.endPrinting();
+		}
+		if (mTemporaryMap != null) {
+			mTemporaryMap.delete();
+		}
+		super.tearDown();
+	}
+
+	public void testBandsAreTheSame() throws Exception {
+		createView(TESTMAP_MM);
+		Rectangle area = mView.getInnerBounds();
+		BufferedImage expected = paintAtOnce(area);
+		// small bands of 7 rows:
+		TiledMapImage image = new TiledMapImage(mView, area, 1d,
+				area.width * 7);
+		assertEquals(7, image.getTileHeight());
+		assertSameImage(expected, image.getData());
+		// row by row, like the png writer:
+		for (int y = 0; y < image.getHeight(); y++) {
+			Rectangle row = new Rectangle(0, y, area.width, 1);
+			assertSameImage(expected.getData(row), image.getData(row));
+		}
+		// the written png:
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		image.writePng(out);
+		BufferedImage read = ImageIO.read(new ByteArrayInputStream(out
+				.toByteArray()));
+		assertSameImage(expected, read.getData());
+	}
+
+	public void testTilePyramid() throws Exception {
+		createView(TESTMAP_MM);
+		Rectangle area = mView.getInnerBounds();
+		File directory = File.createTempFile("tiles", "");
+		directory.delete();
+		try {
+			int maxLevel = TiledMapImage.writeTilePyramid(mView, area,
+					directory);
+			assertTrue(maxLevel > 0);
+			BufferedImage overview = ImageIO.read(new File(directory,
+					"0/0_0.png"));
+			assertTrue(overview.getWidth() <= TiledMapImage.TILE_SIZE);
+			assertTrue(overview.getHeight() <= TiledMapImage.TILE_SIZE);
+			assertFalse(new File(directory, "0/1_0.png").exists());
+			assertFalse(new File(directory, "0/0_1.png").exists());
+			// the tiles of the last level have the original size:
+			BufferedImage expected = paintAtOnce(area);
+			int columns = (area.width + TiledMapImage.TILE_SIZE - 1)
+					/ TiledMapImage.TILE_SIZE;
+			int rows = (area.height + TiledMapImage.TILE_SIZE - 1)
+					/ TiledMapImage.TILE_SIZE;
+			for (int x = 0; x < columns; x++) {
+				for (int y = 0; y < rows; y++) {
+					BufferedImage tile = ImageIO.read(new File(directory,
+							maxLevel + "/" + x + "_" + y + ".png"));
+					Rectangle part = new Rectangle(x * TiledMapImage.TILE_SIZE,
+							y * TiledMapImage.TILE_SIZE, tile.getWidth(),
+							tile.getHeight());
+					assertSameImage(expected.getData(part), tile.getData());
+				}
+			}
+			assertFalse(new File(directory, maxLevel + "/" + columns + "_0.png")
+					.exists());
+		} finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Prints time and buffer size of the png export of a large map.
+	 */
+	public void testPngBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		mTemporaryMap = File.createTempFile("large", ".mm");
+		FileWriter writer = new FileWriter(mTemporaryMap);
+		// the mock doesn't provide the icons:
+		writer.write(MapStreamLoaderTests.createLargeMap(BENCHMARK_NODES)
+				.replace("<icon BUILTIN=\"idea\"/>", ""));
+		writer.close();
+		createView(mTemporaryMap.getPath());
+		Rectangle area = mView.getInnerBounds();
+		long time = System.currentTimeMillis();
+		BufferedImage full = paintAtOnce(area);
+		ImageIO.write(full, "png", new ByteArrayOutputStream());
+		long fullTime = System.currentTimeMillis() - time;
+		full = null;
+		time = System.currentTimeMillis();
+		TiledMapImage image = new TiledMapImage(mView, area);
+		image.writePng(new ByteArrayOutputStream());
+		time = System.currentTimeMillis() - time;
+		System.out.println("Png export of " + BENCHMARK_NODES + " nodes ("
+				+ area.width + "x" + area.height + " pixels): at once "
+				+ fullTime + " ms with " + (long) area.width * area.height * 4
+				/ 1024 + " KB image, in bands " + time + " ms with "
+				+ (long) area.width * image.getTileHeight() * 4 / 1024
+				+ " KB buffer.");
+	}
+
+	private void createView(String pFile) throws Exception {
+		JPanel parent = new JPanel();
+		parent.setBounds(new Rectangle(0, 0, 400, 600));
+		mView = new IndependantMapViewCreator().createMapViewForFile(pFile,
+				parent, mFreeMindMain);
+		mView.getRoot().getMainView().doLayout();
+		parent.doLayout();
+		parent.validate();
+		mView.preparePrinting();
+	}
+
+	/**
+	 * Paints the area like {@link freemind.extensions.ExportHook} did before.
+	 */
+	private BufferedImage paintAtOnce(Rectangle pArea) {
+		BufferedImage image = new BufferedImage(mView.getWidth(),
+				mView.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setColor(mView.getBackground());
+		g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		g.clipRect(pArea.x, pArea.y, pArea.width, pArea.height);
+		mView.print(g);
+		g.dispose();
+		// a copy, as the raster of a sub image has the size of its parent:
+		BufferedImage result = new BufferedImage(pArea.width, pArea.height,
+				BufferedImage.TYPE_INT_RGB);
+		g = result.createGraphics();
+		g.drawImage(image.getSubimage(pArea.x, pArea.y, pArea.width,
+				pArea.height), 0, 0, null);
+		g.dispose();
+		return result;
+	}
+
+	private void assertSameImage(BufferedImage pExpected, Raster pActual) {
+		assertSameImage(pExpected.getData(), pActual);
+	}
+
+	private void assertSameImage(Raster pExpected, Raster pActual) {
+		assertEquals(pExpected.getWidth(), pActual.getWidth());
+		assertEquals(pExpected.getHeight(), pActual.getHeight());
+		int[] expected = pExpected.getPixels(pExpected.getMinX(),
+				pExpected.getMinY(), pExpected.getWidth(),
+				pExpected.getHeight(), (int[]) null);
+		int[] actual = pActual.getPixels(pActual.getMinX(), pActual.getMinY(),
+				pActual.getWidth(), pActual.getHeight(), (int[]) null);
+		for (int i = 0; i < expected.length; i++) {
+			if (Math.abs(expected[i] - actual[i]) > TOLERANCE) {
+				fail("Pixel " + i / pExpected.getNumBands() + " differs.");
+			}
+		}
+	}
+
+	private void delete(File pFile) throws IOException {
+		File[] children = pFile.listFiles();
+		if (children != null) {
+			for (int i = 0; i < children.length; i++) {
+				delete(children[i]);
+			}
+		}
+		pFile.delete();
+	}
+}
@@ -34,6 +34,7 @@ import java.util.Vector;
 
 import freemind.main.FreeMindSecurityManager;
 import freemind.main.HtmlTools;
+import freemind.main.InvalidXmlCharacterFilterReader;
 import freemind.main.Tools;
 import freemind.modes.MapAdapter;
 import freemind.modes.mindmapmode.MindMapController;
@@ -44,6 +45,10 @@ import freemind.modes.mindmapmode.MindMapController;
  */
 public class ToolsTests extends FreeMindTestBase {
 
+	private static final int UPDATE_BENCHMARK_NODES = 5000;
+
+	private static final int UPDATE_BENCHMARK_MAPS = 20;
+
 	/**
 	 * 
 	 */
@@ -234,6 +239,76 @@ public class ToolsTests extends FreeMindTestBase {
 				output.trim());
 	}
 
+	public void testUpdateErrorIsThrownByReader() throws Exception {
+		Reader updateReader = Tools.getUpdateReader(new StringReader(
+				"<map version=\"0.9.0\"><node TEXT=\"unclosed\">"),
+				MapAdapter.FREEMIND_VERSION_UPDATER_XSLT);
+		try {
+			while (updateReader.read() != -1) {
+			}
+			fail("The transformation error must be thrown.");
+		} catch (IOException e) {
+			// expected
+		}
+		updateReader.close();
+	}
+
+	/**
+	 * Prints the time of updating old maps. The updater script is compiled
+	 * once only.
+	 */
+	public void testUpdateBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		StringBuilder input = new StringBuilder("<map version=\"0.9.0\">"
+				+ "<node TEXT=\"Root\">");
+		for (int i = 0; i < UPDATE_BENCHMARK_NODES; i++) {
+			input.append("<node ID=\"ID_" + i + "\" TEXT=\"Node " + i
+					+ "\"/>");
+		}
+		input.append("</node></map>");
+		String expected = null;
+		long time = System.nanoTime();
+		for (int i = 0; i < UPDATE_BENCHMARK_MAPS; i++) {
+			String output = Tools.getFile(Tools.getUpdateReader(
+					new StringReader(input.toString()),
+					MapAdapter.FREEMIND_VERSION_UPDATER_XSLT));
+			if (expected == null) {
+				expected = output;
+			}
+			assertEquals(expected, output);
+		}
+		time = System.nanoTime() - time;
+		System.out.println("Updating " + UPDATE_BENCHMARK_MAPS + " maps with "
+				+ UPDATE_BENCHMARK_NODES + " nodes: " + time / 1000000
+				+ " ms.");
+		assertTrue(expected.contains("TEXT=\"Node " + (UPDATE_BENCHMARK_NODES - 1)));
+	}
+
+	public void testInvalidXmlCharacterFilterReader() throws Exception {
+		StringBuilder input = new StringBuilder();
+		StringBuilder expected = new StringBuilder();
+		// the entities are split by the buffer boundaries:
+		for (int i = 0; i < 3000; i++) {
+			input.append("ab&#x1f;c&#32;\u0001d&amp;&#x0001B;");
+			expected.append("abc&#32;d&amp;");
+		}
+		input.append("e&#x41");
+		expected.append("e&#x41;");
+		Reader reader = new InvalidXmlCharacterFilterReader(new StringReader(
+				input.toString()));
+		StringBuilder result = new StringBuilder();
+		char[] buffer = new char[7];
+		int read;
+		while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+			result.append(buffer, 0, read);
+		}
+		assertEquals(expected.toString(), result.toString());
+		assertEquals(expected.toString(),
+				HtmlTools.removeInvalidXmlCharacters(input.toString()));
+	}
+
 	public static void main(String[] args) {
 		junit.textui.TestRunner.run(ToolsTests.class);
 	}
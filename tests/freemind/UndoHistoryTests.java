@@ -0,0 +1,149 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import freemind.common.XmlActionCopier;
+import freemind.controller.actions.generated.instance.CompoundAction;
+import freemind.controller.actions.generated.instance.EditNoteToNodeAction;
+import freemind.controller.actions.generated.instance.PasteNodeAction;
+import freemind.controller.actions.generated.instance.TransferableContent;
+import freemind.controller.actions.generated.instance.UndoPasteNodeAction;
+import freemind.controller.actions.generated.instance.XmlAction;
+import freemind.main.Tools;
+import freemind.modes.mindmapmode.MindMapController;
+import freemind.modes.mindmapmode.actions.UndoAction;
+import freemind.modes.mindmapmode.actions.xml.ActionPair;
+
+/**
+ * Checks the copies of the undo history and that it is bounded by the
+ * configured memory.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class UndoHistoryTests extends MindMapControllerTestBase {
+
+	private static final int BENCHMARK_COPIES = 2000;
+
+	/** More than the time in which the undo action gathers the actions. */
+	private static final long NEW_ACTION_DELAY = 150;
+
+	/**
+	 * Shows its entries.
+	 */
+	private static class TestUndoAction extends UndoAction {
+		TestUndoAction(MindMapController pController) {
+			super(pController);
+		}
+
+		int getEntryCount() {
+			return actionPairList.size();
+		}
+	}
+
+	public void testCopiesAreIndependentOfTheOriginal() throws Exception {
+		CompoundAction original = new CompoundAction();
+		original.addChoice(createPaste(10));
+		EditNoteToNodeAction note = new EditNoteToNodeAction();
+		note.setNode("ID_1");
+		note.setText("<html>note</html>");
+		original.addChoice(note);
+		XmlActionCopier copier = new XmlActionCopier();
+		CompoundAction copy = (CompoundAction) copier.copy(original);
+		assertNotSame(original, copy);
+		assertNotSame(original.getChoice(0), copy.getChoice(0));
+		assertEquals(Tools.marshall(original), Tools.marshall(copy));
+		assertTrue(copier.getSize() > 0);
+		copy.addChoice(new CompoundAction());
+		((EditNoteToNodeAction) copy.getChoice(1)).setText("changed");
+		assertEquals(2, original.sizeChoiceList());
+		assertEquals("<html>note</html>", note.getText());
+		assertEquals(Tools.marshall(copy),
+				Tools.marshall(Tools.deepCopy(copy)));
+	}
+
+	public void testHistoryIsBoundedByItsMemory() throws Exception {
+		mFreeMindMain.getProperties().setProperty("undo_levels", "100");
+		mFreeMindMain.getProperties().setProperty("undo_memory", "1");
+		TestUndoAction undo = new TestUndoAction(mController);
+		// about 400 kilobytes each:
+		for (int i = 0; i < 5; i++) {
+			undo.add(new ActionPair(createPaste(200000), new UndoPasteNodeAction()));
+			Thread.sleep(NEW_ACTION_DELAY);
+		}
+		assertEquals(2, undo.getEntryCount());
+		assertTrue(undo.getSize() <= 1024 * 1024);
+		// the small actions are kept:
+		mFreeMindMain.getProperties().setProperty("undo_memory", "50");
+		for (int i = 0; i < 5; i++) {
+			undo.add(new ActionPair(createPaste(10), new UndoPasteNodeAction()));
+			Thread.sleep(NEW_ACTION_DELAY);
+		}
+		assertEquals(7, undo.getEntryCount());
+		mFreeMindMain.getProperties().setProperty("undo_levels", "3");
+		undo.add(new ActionPair(createPaste(10), new UndoPasteNodeAction()));
+		assertEquals(3, undo.getEntryCount());
+		// gathered in one entry:
+		long size = undo.getSize();
+		undo.add(new ActionPair(createPaste(10), new UndoPasteNodeAction()));
+		assertEquals(3, undo.getEntryCount());
+		assertTrue(undo.getSize() > size);
+		undo.clear();
+		assertEquals(0, undo.getSize());
+	}
+
+	/**
+	 * Prints the time of the copies of a paste via its xml and field by field.
+	 */
+	public void testCopyBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		XmlAction paste = createPaste(5000);
+		long time = System.currentTimeMillis();
+		for (int i = 0; i < BENCHMARK_COPIES; i++) {
+			Tools.unMarshall(Tools.marshall(paste));
+		}
+		time = System.currentTimeMillis() - time;
+		long copyTime = System.currentTimeMillis();
+		for (int i = 0; i < BENCHMARK_COPIES; i++) {
+			new XmlActionCopier().copy(paste);
+		}
+		copyTime = System.currentTimeMillis() - copyTime;
+		System.out.println("Copying " + BENCHMARK_COPIES
+				+ " pastes via xml: " + time + " ms, field by field: "
+				+ copyTime + " ms.");
+	}
+
+	private PasteNodeAction createPaste(int pLength) {
+		StringBuilder text = new StringBuilder();
+		while (text.length() < pLength) {
+			text.append("<node TEXT=\"x\"/>");
+		}
+		TransferableContent content = new TransferableContent();
+		content.setTransferable(text.toString());
+		content.setTransferableAsPlainText("x");
+		PasteNodeAction paste = new PasteNodeAction();
+		paste.setNode("ID_1");
+		paste.setTransferableContent(content);
+		return paste;
+	}
+}
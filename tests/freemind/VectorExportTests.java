@@ -0,0 +1,346 @@
+/*FreeMind - A Program for creating and viewing Mindmaps
+ *Copyright (C) 2000-2026 Joerg Mueller, Daniel Polansky, Christian Foltin, Dimitri Polivaev and others.
+ *
+ *See COPYING for Details
+ *
+ *This program is free software; you can redistribute it and/or
+ *modify it under the terms of the GNU General Public License
+ *as published by the Free Software Foundation; either version 2
+ *of the License, or (at your option) any later version.
+ *
+ *This program is distributed in the hope that it will be useful,
+ *but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *GNU General Public License for more details.
+ *
+ *You should have received a copy of the GNU General Public License
+ *along with this program; if not, write to the Free Software
+ *Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package tests.freemind;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+
+import javax.swing.JPanel;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.batik.svggen.SVGGraphics2D;
+import org.apache.batik.transcoder.TranscoderInput;
+import org.apache.batik.transcoder.TranscoderOutput;
+import org.apache.fop.svg.PDFTranscoder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import freemind.view.mindmapview.IndependantMapViewCreator;
+import freemind.view.mindmapview.MapView;
+import plugins.svg.ExportPdf;
+import plugins.svg.ExportSvg;
+import plugins.svg.ExportVectorGraphic;
+
+/**
+ * Compares the streamed svg and pdf exports with the ones via the svg
+ * document.
+ *
+ * @author foltin
+ * @date 18.10.2026
+ */
+public class VectorExportTests extends FreeMindTestBase {
+
+	private static final String TESTMAP_MM = "tests/freemind/testmap.mm";
+
+	private static final int BENCHMARK_NODES = 2000;
+
+	/** Milliseconds between two measurements of the live heap. */
+	private static final long SAMPLE_INTERVAL = 200;
+
+	/** A4 in points. */
+	private static final float A4_WIDTH = 595;
+
+	private static final float A4_HEIGHT = 842;
+
+	private MapView mView;
+
+	private File mTemporaryMap = null;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		System.setProperty("java.awt.headless", "true");
+	}
+
+	protected void tearDown() throws Exception {
+		if (mTemporaryMap != null) {
+			mTemporaryMap.delete();
+		}
+		super.tearDown();
+	}
+
+	public void testStreamedSvgHasTheSameElements() throws Exception {
+		createView(TESTMAP_MM);
+		String expected = createSvgDocument();
+		StringWriter writer = new StringWriter();
+		ExportVectorGraphic.writeSvg(mView, null, writer);
+		String actual = writer.toString();
+		assertTrue(actual.startsWith("<?xml"));
+		assertEquals(getPaintedElements(expected), getPaintedElements(actual));
+		Element expectedRoot = parse(expected).getDocumentElement();
+		Element actualRoot = parse(actual).getDocumentElement();
+		assertEquals(expectedRoot.getAttribute("width"),
+				actualRoot.getAttribute("width"));
+		assertEquals(expectedRoot.getAttribute("height"),
+				actualRoot.getAttribute("height"));
+		assertEquals(expectedRoot.getAttribute("style"),
+				actualRoot.getAttribute("style"));
+	}
+
+	public void testPdfPages() throws Exception {
+		createView(TESTMAP_MM);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(1, ExportPdf.writePdf(mView, null, out, A4_WIDTH,
+				A4_HEIGHT, true));
+		String pdf = out.toString("ISO-8859-1");
+		assertTrue(pdf.startsWith("%PDF"));
+		assertEquals(1, countPages(pdf));
+		// the map in its original size doesn't fit on a quarter of a page:
+		out = new ByteArrayOutputStream();
+		int pages = ExportPdf.writePdf(mView, null, out, A4_WIDTH / 4,
+				A4_HEIGHT / 4, false);
+		assertTrue(pages > 1);
+		assertEquals(pages, countPages(out.toString("ISO-8859-1")));
+		// page of the size of the map:
+		out = new ByteArrayOutputStream();
+		assertEquals(1, ExportPdf.writePdf(mView, null, out, 0, 0, false));
+	}
+
+	/**
+	 * Prints time and peak live heap of the svg and pdf exports of a large map.
+	 */
+	public void testExportBenchmark() throws Exception {
+		if (!isBenchmarkEnabled()) {
+			return;
+		}
+		mTemporaryMap = File.createTempFile("large", ".mm");
+		FileWriter writer = new FileWriter(mTemporaryMap);
+		// the mock doesn't provide the icons:
+		writer.write(MapStreamLoaderTests.createLargeMap(BENCHMARK_NODES)
+				.replace("<icon BUILTIN=\"idea\"/>", ""));
+		writer.close();
+		createView(mTemporaryMap.getPath());
+		// warm up:
+		createSvgDocument();
+		ExportVectorGraphic.writeSvg(mView, null, new StringWriter());
+		long[] oldSvg = benchmark(new Runnable() {
+			public void run() {
+				createSvgDocument();
+			}
+		});
+		long[] newSvg = benchmark(new Runnable() {
+			public void run() {
+				try {
+					ExportVectorGraphic.writeSvg(mView, null,
+							new NullWriter());
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		long[] oldPdf = benchmark(new Runnable() {
+			public void run() {
+				try {
+					transcodePdf();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		long[] newPdf = benchmark(new Runnable() {
+			public void run() {
+				try {
+					ExportPdf.writePdf(mView, null, new NullOutputStream(),
+							A4_WIDTH, A4_HEIGHT, true);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		System.out.println("Export of " + BENCHMARK_NODES + " nodes: svg via "
+				+ "document " + oldSvg[0] + " ms, live heap " + oldSvg[1]
+				/ 1024 / 1024 + " MB; streamed " + newSvg[0]
+				+ " ms, live heap " + newSvg[1] / 1024 / 1024
+				+ " MB. Pdf via transcoder " + oldPdf[0] + " ms, live heap "
+				+ oldPdf[1] / 1024 / 1024 + " MB; direct " + newPdf[0]
+				+ " ms, live heap " + newPdf[1] / 1024 / 1024 + " MB.");
+	}
+
+	/**
+	 * @return time in ms and peak of the live heap. The heap is measured in
+	 *         a second run, as the sampling slows down the export.
+	 */
+	private long[] benchmark(Runnable pExport) throws InterruptedException {
+		System.gc();
+		long start = System.currentTimeMillis();
+		pExport.run();
+		long time = System.currentTimeMillis() - start;
+		final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		memory.gc();
+		final long base = memory.getHeapMemoryUsage().getUsed();
+		final long[] peak = new long[] { 0 };
+		final boolean[] running = new boolean[] { true };
+		Thread sampler = new Thread() {
+			public void run() {
+				while (running[0]) {
+					memory.gc();
+					peak[0] = Math.max(peak[0], memory.getHeapMemoryUsage()
+							.getUsed() - base);
+					try {
+						sleep(SAMPLE_INTERVAL);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		};
+		sampler.start();
+		pExport.run();
+		running[0] = false;
+		sampler.join();
+		return new long[] { time, peak[0] };
+	}
+
+	private void createView(String pFile) throws Exception {
+		JPanel parent = new JPanel();
+		parent.setBounds(new Rectangle(0, 0, 400, 600));
+		mView = new IndependantMapViewCreator().createMapViewForFile(pFile,
+				parent, mFreeMindMain);
+		mView.getRoot().getMainView().doLayout();
+		parent.doLayout();
+		parent.validate();
+	}
+
+	/**
+	 * Paints the map into an svg document like the export did before.
+	 */
+	private SVGGraphics2D fillSvgGraphics() {
+		SVGGraphics2D g2d = new ExportSvg().createSvgGraphics2D();
+		try {
+			mView.preparePrinting();
+			Rectangle innerBounds = mView.getInnerBounds();
+			g2d.setSVGCanvasSize(new Dimension(innerBounds.width,
+					innerBounds.height));
+			g2d.translate(-innerBounds.x, -innerBounds.y);
+			mView.print(g2d);
+		} finally {
+			mView.endPrinting();
+		}
+		return g2d;
+	}
+
+	private String createSvgDocument() {
+		try {
+			StringWriter writer = new StringWriter();
+			fillSvgGraphics().stream(writer);
+			return writer.toString();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void transcodePdf() throws Exception {
+		SVGGraphics2D g2d = fillSvgGraphics();
+		PDFTranscoder pdfTranscoder = new PDFTranscoder();
+		pdfTranscoder.addTranscodingHint(PDFTranscoder.KEY_WIDTH, Float.valueOf(
+				A4_WIDTH / 0.75f));
+		pdfTranscoder.addTranscodingHint(PDFTranscoder.KEY_HEIGHT, Float.valueOf(
+				A4_HEIGHT / 0.75f));
+		Document doc = g2d.getDOMFactory();
+		g2d.getRoot(doc.getDocumentElement());
+		pdfTranscoder.transcode(new TranscoderInput(doc),
+				new TranscoderOutput(new NullOutputStream()));
+	}
+
+	private int countPages(String pPdf) {
+		int count = 0;
+		int index = 0;
+		while ((index = pPdf.indexOf("/Type /Page\n", index)) >= 0) {
+			count++;
+			index++;
+		}
+		return count;
+	}
+
+	private Document parse(String pSvg) throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		// without the svg dtd:
+		factory.setFeature(
+				"http://apache.org/xml/features/nonvalidating/load-external-dtd",
+				false);
+		return factory.newDocumentBuilder().parse(
+				new InputSource(new StringReader(pSvg)));
+	}
+
+	/**
+	 * @return the elements apart from groups and definitions with their
+	 *         attributes and texts in document order.
+	 */
+	private ArrayList<String> getPaintedElements(String pSvg) throws Exception {
+		ArrayList<String> elements = new ArrayList<String>();
+		addPaintedElements(parse(pSvg).getDocumentElement(), elements);
+		return elements;
+	}
+
+	private void addPaintedElements(Element pElement,
+			ArrayList<String> pElements) {
+		String name = pElement.getLocalName();
+		if ("defs".equals(name)) {
+			return;
+		}
+		if (!"g".equals(name) && !"svg".equals(name)) {
+			StringBuilder description = new StringBuilder(name);
+			NamedNodeMap attributes = pElement.getAttributes();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				description.append(' ').append(attributes.item(i));
+			}
+			description.append(' ').append(pElement.getTextContent());
+			pElements.add(description.toString());
+			return;
+		}
+		for (Node child = pElement.getFirstChild(); child != null; child = child
+				.getNextSibling()) {
+			if (child instanceof Element) {
+				addPaintedElements((Element) child, pElements);
+			}
+		}
+	}
+
+	private static class NullWriter extends java.io.Writer {
+		public void write(char[] pBuffer, int pOffset, int pLength) {
+		}
+
+		public void flush() {
+		}
+
+		public void close() {
+		}
+	}
+
+	private static class NullOutputStream extends java.io.OutputStream {
+		public void write(int pByte) {
+		}
+
+		public void write(byte[] pBuffer, int pOffset, int pLength) {
+		}
+	}
+}
@@ -42,7 +42,6 @@ import javax.swing.tree.TreePath;
 import freemind.controller.filter.FilterInfo;
 import freemind.extensions.NodeHook;
 import freemind.extensions.PermanentNodeHook;
-import freemind.main.XMLElement;
 import freemind.modes.HistoryInformation;
 import freemind.modes.MapFeedback;
 import freemind.modes.MindIcon;
@@ -63,6 +62,10 @@ public final class TestMindMapNode implements MindMapNode {
 		return text;
 	}
 
+	public String getLowerCaseText() {
+		return text.toLowerCase();
+	}
+
 	public void setText(String text) {
 		this.text = text;
 	}
@@ -302,9 +305,8 @@ public final class TestMindMapNode implements MindMapNode {
 		return null;
 	}
 
-	public XMLElement save(Writer writer, MindMapLinkRegistry registry,
+	public void save(Writer writer, MindMapLinkRegistry registry,
 			boolean saveHidden, boolean saveChildren) throws IOException {
-		return null;
 	}
 
 	public Map getStateIcons() {
@@ -0,0 +1,2102 @@
+<map version="1.1.0">
+<!-- To view this file, download free mind mapping software FreeMind from http://freemind.sourceforge.net -->
+<node CREATED="1160462630102" ID="node_0" MODIFIED="1160462667140" TEXT="Root">
+<node CREATED="1160462630102" ID="node_1" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 1 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_2" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 2 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 2
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_3" MODIFIED="1160462667140" TEXT="Node 3 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_4" MODIFIED="1160462667140" TEXT="Node 4 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_5" MODIFIED="1160462667140" TEXT="Node 5 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_6" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 6 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_7" MODIFIED="1160462667140" TEXT="Node 7 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 7
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_8" MODIFIED="1160462667140" TEXT="Node 8 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_9" MODIFIED="1160462667140" TEXT="Node 9 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_10" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 10 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_11" MODIFIED="1160462667140" TEXT="Node 11 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_11" ENDARROW="Default" ID="link_31" SOURCE="node_31" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_12" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 12 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_13" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 13 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 13
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_14" MODIFIED="1160462667140" TEXT="Node 14 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_15" MODIFIED="1160462667140" TEXT="Node 15 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_16" MODIFIED="1160462667140" TEXT="Node 16 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_17" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 17 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_18" MODIFIED="1160462667140" TEXT="Node 18 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 18
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_19" MODIFIED="1160462667140" TEXT="Node 19 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_20" MODIFIED="1160462667140" TEXT="Node 20 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_21" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 21 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_22" MODIFIED="1160462667140" TEXT="Node 22 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_22" ENDARROW="Default" ID="link_42" SOURCE="node_42" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_23" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 23 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_24" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 24 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 24
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_25" MODIFIED="1160462667140" TEXT="Node 25 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_26" MODIFIED="1160462667140" TEXT="Node 26 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_27" MODIFIED="1160462667140" TEXT="Node 27 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_28" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 28 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_29" MODIFIED="1160462667140" TEXT="Node 29 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 29
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_30" MODIFIED="1160462667140" TEXT="Node 30 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_31" MODIFIED="1160462667140" TEXT="Node 31 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_11" ENDARROW="Default" ID="link_31" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_32" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 32 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_33" MODIFIED="1160462667140" TEXT="Node 33 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_33" ENDARROW="Default" ID="link_53" SOURCE="node_53" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_34" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 34 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_35" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 35 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 35
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_36" MODIFIED="1160462667140" TEXT="Node 36 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_37" MODIFIED="1160462667140" TEXT="Node 37 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_38" MODIFIED="1160462667140" TEXT="Node 38 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_39" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 39 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_40" MODIFIED="1160462667140" TEXT="Node 40 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 40
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_41" MODIFIED="1160462667140" TEXT="Node 41 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_42" MODIFIED="1160462667140" TEXT="Node 42 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_22" ENDARROW="Default" ID="link_42" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_43" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 43 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_44" MODIFIED="1160462667140" TEXT="Node 44 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_44" ENDARROW="Default" ID="link_64" SOURCE="node_64" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_45" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 45 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_46" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 46 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 46
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_47" MODIFIED="1160462667140" TEXT="Node 47 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_48" MODIFIED="1160462667140" TEXT="Node 48 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_49" MODIFIED="1160462667140" TEXT="Node 49 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_50" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 50 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_51" MODIFIED="1160462667140" TEXT="Node 51 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 51
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_52" MODIFIED="1160462667140" TEXT="Node 52 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_53" MODIFIED="1160462667140" TEXT="Node 53 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_33" ENDARROW="Default" ID="link_53" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_54" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 54 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_55" MODIFIED="1160462667140" TEXT="Node 55 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_55" ENDARROW="Default" ID="link_75" SOURCE="node_75" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_56" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 56 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_57" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 57 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 57
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_58" MODIFIED="1160462667140" TEXT="Node 58 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_59" MODIFIED="1160462667140" TEXT="Node 59 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_60" MODIFIED="1160462667140" TEXT="Node 60 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_61" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 61 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_62" MODIFIED="1160462667140" TEXT="Node 62 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 62
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_63" MODIFIED="1160462667140" TEXT="Node 63 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_64" MODIFIED="1160462667140" TEXT="Node 64 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_44" ENDARROW="Default" ID="link_64" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_65" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 65 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_66" MODIFIED="1160462667140" TEXT="Node 66 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_66" ENDARROW="Default" ID="link_86" SOURCE="node_86" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_67" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 67 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_68" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 68 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 68
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_69" MODIFIED="1160462667140" TEXT="Node 69 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_70" MODIFIED="1160462667140" TEXT="Node 70 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_71" MODIFIED="1160462667140" TEXT="Node 71 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_72" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 72 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_73" MODIFIED="1160462667140" TEXT="Node 73 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 73
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_74" MODIFIED="1160462667140" TEXT="Node 74 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_75" MODIFIED="1160462667140" TEXT="Node 75 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_55" ENDARROW="Default" ID="link_75" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_76" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 76 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_77" MODIFIED="1160462667140" TEXT="Node 77 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_77" ENDARROW="Default" ID="link_97" SOURCE="node_97" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_78" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 78 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_79" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 79 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 79
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_80" MODIFIED="1160462667140" TEXT="Node 80 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_81" MODIFIED="1160462667140" TEXT="Node 81 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_82" MODIFIED="1160462667140" TEXT="Node 82 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_83" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 83 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_84" MODIFIED="1160462667140" TEXT="Node 84 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 84
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_85" MODIFIED="1160462667140" TEXT="Node 85 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_86" MODIFIED="1160462667140" TEXT="Node 86 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_66" ENDARROW="Default" ID="link_86" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_87" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 87 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_88" MODIFIED="1160462667140" TEXT="Node 88 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_88" ENDARROW="Default" ID="link_108" SOURCE="node_108" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_89" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 89 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_90" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 90 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 90
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_91" MODIFIED="1160462667140" TEXT="Node 91 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_92" MODIFIED="1160462667140" TEXT="Node 92 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_93" MODIFIED="1160462667140" TEXT="Node 93 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_94" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 94 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_95" MODIFIED="1160462667140" TEXT="Node 95 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 95
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_96" MODIFIED="1160462667140" TEXT="Node 96 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_97" MODIFIED="1160462667140" TEXT="Node 97 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_77" ENDARROW="Default" ID="link_97" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_98" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 98 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_99" MODIFIED="1160462667140" TEXT="Node 99 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_99" ENDARROW="Default" ID="link_119" SOURCE="node_119" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_100" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 100 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_101" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 101 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 101
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_102" MODIFIED="1160462667140" TEXT="Node 102 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_103" MODIFIED="1160462667140" TEXT="Node 103 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_104" MODIFIED="1160462667140" TEXT="Node 104 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_105" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 105 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_106" MODIFIED="1160462667140" TEXT="Node 106 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 106
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_107" MODIFIED="1160462667140" TEXT="Node 107 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_108" MODIFIED="1160462667140" TEXT="Node 108 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_88" ENDARROW="Default" ID="link_108" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_109" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 109 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_110" MODIFIED="1160462667140" TEXT="Node 110 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_110" ENDARROW="Default" ID="link_130" SOURCE="node_130" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_111" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 111 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_112" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 112 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 112
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_113" MODIFIED="1160462667140" TEXT="Node 113 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_114" MODIFIED="1160462667140" TEXT="Node 114 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_115" MODIFIED="1160462667140" TEXT="Node 115 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_116" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 116 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_117" MODIFIED="1160462667140" TEXT="Node 117 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 117
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_118" MODIFIED="1160462667140" TEXT="Node 118 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_119" MODIFIED="1160462667140" TEXT="Node 119 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_99" ENDARROW="Default" ID="link_119" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_120" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 120 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_121" MODIFIED="1160462667140" TEXT="Node 121 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_121" ENDARROW="Default" ID="link_141" SOURCE="node_141" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_122" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 122 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_123" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 123 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 123
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_124" MODIFIED="1160462667140" TEXT="Node 124 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_125" MODIFIED="1160462667140" TEXT="Node 125 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_126" MODIFIED="1160462667140" TEXT="Node 126 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_127" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 127 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_128" MODIFIED="1160462667140" TEXT="Node 128 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 128
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_129" MODIFIED="1160462667140" TEXT="Node 129 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_130" MODIFIED="1160462667140" TEXT="Node 130 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_110" ENDARROW="Default" ID="link_130" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_131" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 131 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_132" MODIFIED="1160462667140" TEXT="Node 132 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_132" ENDARROW="Default" ID="link_152" SOURCE="node_152" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_133" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 133 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_134" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 134 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 134
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_135" MODIFIED="1160462667140" TEXT="Node 135 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_136" MODIFIED="1160462667140" TEXT="Node 136 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_137" MODIFIED="1160462667140" TEXT="Node 137 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_138" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 138 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_139" MODIFIED="1160462667140" TEXT="Node 139 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 139
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_140" MODIFIED="1160462667140" TEXT="Node 140 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_141" MODIFIED="1160462667140" TEXT="Node 141 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_121" ENDARROW="Default" ID="link_141" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_142" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 142 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_143" MODIFIED="1160462667140" TEXT="Node 143 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_143" ENDARROW="Default" ID="link_163" SOURCE="node_163" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_144" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 144 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_145" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 145 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 145
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_146" MODIFIED="1160462667140" TEXT="Node 146 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_147" MODIFIED="1160462667140" TEXT="Node 147 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_148" MODIFIED="1160462667140" TEXT="Node 148 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_149" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 149 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_150" MODIFIED="1160462667140" TEXT="Node 150 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 150
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_151" MODIFIED="1160462667140" TEXT="Node 151 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_152" MODIFIED="1160462667140" TEXT="Node 152 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_132" ENDARROW="Default" ID="link_152" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_153" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 153 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_154" MODIFIED="1160462667140" TEXT="Node 154 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_154" ENDARROW="Default" ID="link_174" SOURCE="node_174" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_155" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 155 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_156" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 156 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 156
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_157" MODIFIED="1160462667140" TEXT="Node 157 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_158" MODIFIED="1160462667140" TEXT="Node 158 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_159" MODIFIED="1160462667140" TEXT="Node 159 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_160" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 160 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_161" MODIFIED="1160462667140" TEXT="Node 161 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 161
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_162" MODIFIED="1160462667140" TEXT="Node 162 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_163" MODIFIED="1160462667140" TEXT="Node 163 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_143" ENDARROW="Default" ID="link_163" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_164" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 164 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_165" MODIFIED="1160462667140" TEXT="Node 165 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_165" ENDARROW="Default" ID="link_185" SOURCE="node_185" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_166" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 166 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_167" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 167 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 167
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_168" MODIFIED="1160462667140" TEXT="Node 168 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_169" MODIFIED="1160462667140" TEXT="Node 169 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_170" MODIFIED="1160462667140" TEXT="Node 170 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_171" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 171 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_172" MODIFIED="1160462667140" TEXT="Node 172 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 172
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_173" MODIFIED="1160462667140" TEXT="Node 173 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_174" MODIFIED="1160462667140" TEXT="Node 174 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_154" ENDARROW="Default" ID="link_174" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_175" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 175 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_176" MODIFIED="1160462667140" TEXT="Node 176 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_176" ENDARROW="Default" ID="link_196" SOURCE="node_196" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_177" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 177 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_178" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 178 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 178
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_179" MODIFIED="1160462667140" TEXT="Node 179 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_180" MODIFIED="1160462667140" TEXT="Node 180 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_181" MODIFIED="1160462667140" TEXT="Node 181 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_182" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 182 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_183" MODIFIED="1160462667140" TEXT="Node 183 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 183
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_184" MODIFIED="1160462667140" TEXT="Node 184 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_185" MODIFIED="1160462667140" TEXT="Node 185 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_165" ENDARROW="Default" ID="link_185" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_186" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 186 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_187" MODIFIED="1160462667140" TEXT="Node 187 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_187" ENDARROW="Default" ID="link_207" SOURCE="node_207" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_188" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 188 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_189" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 189 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 189
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_190" MODIFIED="1160462667140" TEXT="Node 190 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_191" MODIFIED="1160462667140" TEXT="Node 191 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_192" MODIFIED="1160462667140" TEXT="Node 192 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_193" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 193 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_194" MODIFIED="1160462667140" TEXT="Node 194 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 194
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_195" MODIFIED="1160462667140" TEXT="Node 195 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_196" MODIFIED="1160462667140" TEXT="Node 196 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_176" ENDARROW="Default" ID="link_196" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_197" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 197 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_198" MODIFIED="1160462667140" TEXT="Node 198 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_198" ENDARROW="Default" ID="link_218" SOURCE="node_218" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_199" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 199 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_200" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 200 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 200
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_201" MODIFIED="1160462667140" TEXT="Node 201 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_202" MODIFIED="1160462667140" TEXT="Node 202 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_203" MODIFIED="1160462667140" TEXT="Node 203 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_204" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 204 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_205" MODIFIED="1160462667140" TEXT="Node 205 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 205
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_206" MODIFIED="1160462667140" TEXT="Node 206 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_207" MODIFIED="1160462667140" TEXT="Node 207 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_187" ENDARROW="Default" ID="link_207" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_208" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 208 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_209" MODIFIED="1160462667140" TEXT="Node 209 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_209" ENDARROW="Default" ID="link_229" SOURCE="node_229" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_210" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 210 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_211" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 211 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 211
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_212" MODIFIED="1160462667140" TEXT="Node 212 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_213" MODIFIED="1160462667140" TEXT="Node 213 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_214" MODIFIED="1160462667140" TEXT="Node 214 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_215" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 215 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_216" MODIFIED="1160462667140" TEXT="Node 216 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 216
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_217" MODIFIED="1160462667140" TEXT="Node 217 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_218" MODIFIED="1160462667140" TEXT="Node 218 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_198" ENDARROW="Default" ID="link_218" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_219" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 219 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_220" MODIFIED="1160462667140" TEXT="Node 220 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_220" ENDARROW="Default" ID="link_240" SOURCE="node_240" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_221" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 221 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_222" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 222 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 222
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_223" MODIFIED="1160462667140" TEXT="Node 223 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_224" MODIFIED="1160462667140" TEXT="Node 224 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_225" MODIFIED="1160462667140" TEXT="Node 225 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_226" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 226 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_227" MODIFIED="1160462667140" TEXT="Node 227 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 227
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_228" MODIFIED="1160462667140" TEXT="Node 228 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_229" MODIFIED="1160462667140" TEXT="Node 229 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_209" ENDARROW="Default" ID="link_229" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_230" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 230 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_231" MODIFIED="1160462667140" TEXT="Node 231 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_231" ENDARROW="Default" ID="link_251" SOURCE="node_251" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_232" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 232 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_233" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 233 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 233
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_234" MODIFIED="1160462667140" TEXT="Node 234 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_235" MODIFIED="1160462667140" TEXT="Node 235 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_236" MODIFIED="1160462667140" TEXT="Node 236 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_237" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 237 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_238" MODIFIED="1160462667140" TEXT="Node 238 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 238
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_239" MODIFIED="1160462667140" TEXT="Node 239 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_240" MODIFIED="1160462667140" TEXT="Node 240 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_220" ENDARROW="Default" ID="link_240" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_241" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 241 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_242" MODIFIED="1160462667140" TEXT="Node 242 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_242" ENDARROW="Default" ID="link_262" SOURCE="node_262" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_243" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 243 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_244" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 244 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 244
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_245" MODIFIED="1160462667140" TEXT="Node 245 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_246" MODIFIED="1160462667140" TEXT="Node 246 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_247" MODIFIED="1160462667140" TEXT="Node 247 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_248" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 248 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_249" MODIFIED="1160462667140" TEXT="Node 249 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 249
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_250" MODIFIED="1160462667140" TEXT="Node 250 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_251" MODIFIED="1160462667140" TEXT="Node 251 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_231" ENDARROW="Default" ID="link_251" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_252" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 252 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_253" MODIFIED="1160462667140" TEXT="Node 253 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_253" ENDARROW="Default" ID="link_273" SOURCE="node_273" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_254" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 254 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_255" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 255 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 255
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_256" MODIFIED="1160462667140" TEXT="Node 256 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_257" MODIFIED="1160462667140" TEXT="Node 257 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_258" MODIFIED="1160462667140" TEXT="Node 258 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_259" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 259 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_260" MODIFIED="1160462667140" TEXT="Node 260 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 260
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_261" MODIFIED="1160462667140" TEXT="Node 261 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_262" MODIFIED="1160462667140" TEXT="Node 262 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_242" ENDARROW="Default" ID="link_262" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_263" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 263 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_264" MODIFIED="1160462667140" TEXT="Node 264 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_264" ENDARROW="Default" ID="link_284" SOURCE="node_284" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_265" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 265 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_266" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 266 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 266
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_267" MODIFIED="1160462667140" TEXT="Node 267 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_268" MODIFIED="1160462667140" TEXT="Node 268 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_269" MODIFIED="1160462667140" TEXT="Node 269 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_270" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 270 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_271" MODIFIED="1160462667140" TEXT="Node 271 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 271
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_272" MODIFIED="1160462667140" TEXT="Node 272 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_273" MODIFIED="1160462667140" TEXT="Node 273 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_253" ENDARROW="Default" ID="link_273" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_274" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 274 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_275" MODIFIED="1160462667140" TEXT="Node 275 with a &#xe4;&#xa;second line">
+<linktarget COLOR="#b0b0b0" DESTINATION="node_275" ENDARROW="Default" ID="link_295" SOURCE="node_295" STARTARROW="None"/>
+</node>
+</node>
+<node CREATED="1160462630102" ID="node_276" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 276 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_277" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 277 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 277
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_278" MODIFIED="1160462667140" TEXT="Node 278 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_279" MODIFIED="1160462667140" TEXT="Node 279 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_280" MODIFIED="1160462667140" TEXT="Node 280 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_281" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 281 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_282" MODIFIED="1160462667140" TEXT="Node 282 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 282
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_283" MODIFIED="1160462667140" TEXT="Node 283 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_284" MODIFIED="1160462667140" TEXT="Node 284 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_264" ENDARROW="Default" ID="link_284" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_285" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 285 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_286" MODIFIED="1160462667140" TEXT="Node 286 with a &#xe4;&#xa;second line"/>
+</node>
+<node CREATED="1160462630102" ID="node_287" MODIFIED="1160462667140" POSITION="right" TEXT="Branch 287 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_288" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 288 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 288
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" ID="node_289" MODIFIED="1160462667140" TEXT="Node 289 with a &#xe4;&#xa;second line">
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 1"/>
+</node>
+<node CREATED="1160462630102" ID="node_290" MODIFIED="1160462667140" TEXT="Node 290 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_291" MODIFIED="1160462667140" TEXT="Node 291 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_292" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 292 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 4"/>
+</node>
+<node CREATED="1160462630102" ID="node_293" MODIFIED="1160462667140" TEXT="Node 293 with a &#xe4;&#xa;second line">
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 293
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_294" MODIFIED="1160462667140" TEXT="Node 294 with a &#xe4;&#xa;second line"/>
+<node CREATED="1160462630102" ID="node_295" MODIFIED="1160462667140" TEXT="Node 295 with a &#xe4;&#xa;second line">
+<arrowlink DESTINATION="node_275" ENDARROW="Default" ID="link_295" STARTARROW="None"/>
+<font BOLD="true" NAME="SansSerif" SIZE="12"/>
+<icon BUILTIN="idea"/>
+<attribute NAME="key" VALUE="value 7"/>
+</node>
+<node CREATED="1160462630102" ID="node_296" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 296 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+</node>
+<node CREATED="1160462630102" FOLDED="true" ID="node_297" MODIFIED="1160462667140" TEXT="Node 297 with a &#xe4;&#xa;second line"/>
+</node>
+<node CREATED="1160462630102" ID="node_298" MODIFIED="1160462667140" POSITION="left" TEXT="Branch 298 &amp; &lt;more&gt;">
+<edge COLOR="#808080" STYLE="bezier" WIDTH="thin"/>
+<cloud COLOR="#f0f0f0"/>
+<node CREATED="1160462630102" FOLDED="true" ID="node_299" MODIFIED="1160462667140">
+<richcontent TYPE="NODE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      <b>Html</b> node 299 &#xe4;&amp;<br/>
+    </p>
+  </body>
+</html></richcontent>
+<richcontent TYPE="NOTE"><html>
+  <head>
+  </head>
+  <body>
+    <p>
+      Note 299
+    </p>
+  </body>
+</html></richcontent>
+</node>
+</node>
+</node>
+</map>